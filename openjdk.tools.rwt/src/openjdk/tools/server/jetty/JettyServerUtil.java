@@ -23,6 +23,7 @@ import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.util.resource.PathResource;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.rap.rwt.engine.RWTResourceServlet;
 import org.eclipse.rap.rwt.engine.RWTServlet;
 import org.eclipse.rap.rwt.engine.RWTServletContextListener;
 
@@ -47,8 +48,9 @@ public class JettyServerUtil {
         contextHandler.setBaseResource(new PathResource(Paths.get(System.getProperty("java.io.tmpdir") + System.getProperty("file.separator") + UUID.randomUUID().toString())));
         contextHandler.setInitParameter("org.eclipse.rap.applicationConfiguration", rwt_application_class.getCanonicalName());
         contextHandler.setEventListeners(new RWTServletContextListener[]{ new RWTServletContextListener() });
-        contextHandler.addServlet(RWTServlet.class, "/");
-        contextHandler.addServlet(DefaultServlet.class, "/rwt-resources/*");        
+        // async support lets server push requests wait without holding a container thread
+        contextHandler.addServlet(RWTServlet.class, "/").setAsyncSupported(true);
+        contextHandler.addServlet(RWTResourceServlet.class, "/rwt-resources/*");
         if(public_files_source_dir != null) {
         	ServletHolder holderHome = new ServletHolder("public", DefaultServlet.class);
 	        holderHome.setInitParameter("resourceBase",public_files_source_dir);
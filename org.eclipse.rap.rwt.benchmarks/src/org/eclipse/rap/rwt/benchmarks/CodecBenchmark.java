@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.rap.rwt.benchmarks.ImageCorpus.Entry;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+
+/**
+ * Measures the throughput and the allocation rate of the SWT image codecs in
+ * <code>org.eclipse.swt.internal.image</code>, with <code>javax.imageio</code> as a reference.
+ * Every image of the corpus is decoded with <code>ImageData(InputStream)</code> and encoded
+ * with <code>ImageLoader.save</code> in its own format.
+ * <p>
+ * Usage: <code>CodecBenchmark [-time &lt;seconds&gt;] [-corpus &lt;directory&gt;]
+ * [-format &lt;name&gt;] [-noimageio]</code>
+ * </p>
+ * <p>
+ * Each benchmark is warmed up for the given time before it is measured for the same time. The
+ * results are operations per second and allocated bytes per operation of the benchmark thread.
+ * Run with a fixed heap (-Xms equal to -Xmx) to get comparable results.
+ * </p>
+ */
+public final class CodecBenchmark {
+
+  private final long durationNanos;
+  private final ThreadMXBean threadBean;
+  private volatile int sink;
+
+  private CodecBenchmark( long durationMillis ) {
+    durationNanos = durationMillis * 1000000L;
+    threadBean = ManagementFactory.getThreadMXBean();
+  }
+
+  public static void main( String[] args ) throws IOException {
+    long duration = 2000;
+    File corpusDirectory = null;
+    String format = null;
+    boolean imageio = true;
+    for( int i = 0; i < args.length; i++ ) {
+      if( "-time".equals( args[ i ] ) && i + 1 < args.length ) {
+        duration = Long.parseLong( args[ ++i ] ) * 1000;
+      } else if( "-corpus".equals( args[ i ] ) && i + 1 < args.length ) {
+        corpusDirectory = new File( args[ ++i ] );
+      } else if( "-format".equals( args[ i ] ) && i + 1 < args.length ) {
+        format = args[ ++i ].toLowerCase( Locale.ENGLISH );
+      } else if( "-noimageio".equals( args[ i ] ) ) {
+        imageio = false;
+      } else {
+        throw new IllegalArgumentException( "Unknown argument: " + args[ i ] );
+      }
+    }
+    List<Entry> corpus = corpusDirectory == null
+                       ? ImageCorpus.generate()
+                       : ImageCorpus.load( corpusDirectory );
+    new CodecBenchmark( duration ).run( corpus, format, imageio );
+  }
+
+  private void run( List<Entry> corpus, String format, boolean imageio ) {
+    System.out.println( String.format( "%-30s %-8s %-10s %12s %14s",
+                                       "image",
+                                       "codec",
+                                       "operation",
+                                       "ops/s",
+                                       "bytes/op" ) );
+    for( Entry entry : corpus ) {
+      String formatName = ImageCorpus.getFormatName( entry.format );
+      if( format == null || format.equals( formatName ) ) {
+        String name = entry.name + "." + formatName;
+        ImageData imageData = new ImageData( new ByteArrayInputStream( entry.bytes ) );
+        measure( name, "swt", "decode", createSwtDecode( entry ) );
+        measure( name, "swt", "encode", createSwtEncode( entry, imageData ) );
+        if( imageio && ImageIO.getImageReadersByFormatName( formatName ).hasNext() ) {
+          BufferedImage image = readImageIO( entry );
+          measure( name, "imageio", "decode", createImageIODecode( entry ) );
+          if( image != null && ImageIO.getImageWritersByFormatName( formatName ).hasNext() ) {
+            measure( name, "imageio", "encode", createImageIOEncode( formatName, image ) );
+          }
+        }
+      }
+    }
+  }
+
+  private void measure( String name, String codec, String operation, Operation benchmark ) {
+    try {
+      execute( benchmark, durationNanos );
+      long allocatedBefore = getAllocatedBytes();
+      long start = System.nanoTime();
+      long count = execute( benchmark, durationNanos );
+      long elapsed = System.nanoTime() - start;
+      long allocated = getAllocatedBytes() - allocatedBefore;
+      double throughput = count * 1000000000.0 / elapsed;
+      String allocation = allocatedBefore < 0 ? "n/a" : Long.toString( allocated / count );
+      System.out.println( String.format( Locale.ENGLISH,
+                                         "%-30s %-8s %-10s %12.1f %14s",
+                                         name,
+                                         codec,
+                                         operation,
+                                         Double.valueOf( throughput ),
+                                         allocation ) );
+    } catch( Exception exception ) {
+      System.out.println( String.format( "%-30s %-8s %-10s failed: %s",
+                                         name,
+                                         codec,
+                                         operation,
+                                         exception ) );
+    }
+  }
+
+  private long execute( Operation operation, long duration ) throws Exception {
+    long count = 0;
+    long end = System.nanoTime() + duration;
+    do {
+      sink += operation.run();
+      count++;
+    } while( System.nanoTime() < end );
+    return count;
+  }
+
+  private long getAllocatedBytes() {
+    if( threadBean instanceof com.sun.management.ThreadMXBean ) {
+      com.sun.management.ThreadMXBean bean = ( com.sun.management.ThreadMXBean )threadBean;
+      return bean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+    }
+    return -1;
+  }
+
+  private static Operation createSwtDecode( final Entry entry ) {
+    return new Operation() {
+      @Override
+      public int run() {
+        ImageData imageData = new ImageData( new ByteArrayInputStream( entry.bytes ) );
+        return imageData.width;
+      }
+    };
+  }
+
+  private static Operation createSwtEncode( final Entry entry, final ImageData imageData ) {
+    return new Operation() {
+      @Override
+      public int run() {
+        ImageLoader loader = new ImageLoader();
+        loader.data = new ImageData[] { imageData };
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        loader.save( stream, entry.format );
+        return stream.size();
+      }
+    };
+  }
+
+  private static Operation createImageIODecode( final Entry entry ) {
+    return new Operation() {
+      @Override
+      public int run() throws IOException {
+        BufferedImage image = ImageIO.read( new ByteArrayInputStream( entry.bytes ) );
+        return image == null ? 0 : image.getWidth();
+      }
+    };
+  }
+
+  private static Operation createImageIOEncode( final String format, final BufferedImage image ) {
+    return new Operation() {
+      @Override
+      public int run() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ImageIO.write( image, format, stream );
+        return stream.size();
+      }
+    };
+  }
+
+  private static BufferedImage readImageIO( Entry entry ) {
+    try {
+      return ImageIO.read( new ByteArrayInputStream( entry.bytes ) );
+    } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+      return null;
+    }
+  }
+
+  private interface Operation {
+    int run() throws Exception;
+  }
+
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+
+/**
+ * The images that are run through the codecs. The built-in corpus is generated, so that the
+ * results do not depend on files that are not part of the repository. It covers the kinds of
+ * images that RAP applications typically register: small icons with alpha, indexed images and
+ * large photo-like images. A directory with real images can be used instead.
+ */
+final class ImageCorpus {
+
+  static final class Entry {
+
+    final String name;
+    final int format;
+    final byte[] bytes;
+
+    Entry( String name, int format, byte[] bytes ) {
+      this.name = name;
+      this.format = format;
+      this.bytes = bytes;
+    }
+
+  }
+
+  private ImageCorpus() {
+    // prevent instantiation
+  }
+
+  static List<Entry> generate() {
+    List<Entry> result = new ArrayList<>();
+    ImageData icon = createTrueColor( 32, 32, true );
+    ImageData indexed = createIndexed( 256, 256 );
+    ImageData photo = createTrueColor( 1024, 768, false );
+    add( result, "icon-32x32", icon, SWT.IMAGE_PNG );
+    add( result, "icon-32x32", icon, SWT.IMAGE_ICO );
+    add( result, "indexed-256x256", indexed, SWT.IMAGE_PNG );
+    add( result, "indexed-256x256", indexed, SWT.IMAGE_GIF );
+    add( result, "indexed-256x256", indexed, SWT.IMAGE_BMP_RLE );
+    add( result, "photo-1024x768", photo, SWT.IMAGE_JPEG );
+    add( result, "photo-1024x768", photo, SWT.IMAGE_PNG );
+    add( result, "photo-1024x768", photo, SWT.IMAGE_BMP );
+    return result;
+  }
+
+  static List<Entry> load( File directory ) throws IOException {
+    List<Entry> result = new ArrayList<>();
+    File[] files = directory.listFiles();
+    if( files == null ) {
+      throw new IOException( "Not a directory: " + directory );
+    }
+    Arrays.sort( files );
+    for( File file : files ) {
+      int format = getFormat( file.getName() );
+      if( format != SWT.IMAGE_UNDEFINED ) {
+        result.add( new Entry( file.getName(), format, Files.readAllBytes( file.toPath() ) ) );
+      }
+    }
+    return result;
+  }
+
+  static String getFormatName( int format ) {
+    switch( format ) {
+      case SWT.IMAGE_BMP:
+      case SWT.IMAGE_BMP_RLE:
+        return "bmp";
+      case SWT.IMAGE_GIF:
+        return "gif";
+      case SWT.IMAGE_ICO:
+        return "ico";
+      case SWT.IMAGE_JPEG:
+        return "jpeg";
+      case SWT.IMAGE_PNG:
+        return "png";
+      case SWT.IMAGE_TIFF:
+        return "tiff";
+      default:
+        return "unknown";
+    }
+  }
+
+  private static int getFormat( String fileName ) {
+    String name = fileName.toLowerCase( Locale.ENGLISH );
+    if( name.endsWith( ".png" ) ) {
+      return SWT.IMAGE_PNG;
+    } else if( name.endsWith( ".jpg" ) || name.endsWith( ".jpeg" ) ) {
+      return SWT.IMAGE_JPEG;
+    } else if( name.endsWith( ".gif" ) ) {
+      return SWT.IMAGE_GIF;
+    } else if( name.endsWith( ".bmp" ) ) {
+      return SWT.IMAGE_BMP;
+    } else if( name.endsWith( ".ico" ) ) {
+      return SWT.IMAGE_ICO;
+    } else if( name.endsWith( ".tif" ) || name.endsWith( ".tiff" ) ) {
+      return SWT.IMAGE_TIFF;
+    }
+    return SWT.IMAGE_UNDEFINED;
+  }
+
+  private static void add( List<Entry> entries, String name, ImageData imageData, int format ) {
+    ImageLoader loader = new ImageLoader();
+    loader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try {
+      loader.save( stream, format );
+      entries.add( new Entry( name, format, stream.toByteArray() ) );
+    } catch( SWTException exception ) {
+      System.err.println( "Skipped " + name + "." + getFormatName( format ) + ": "
+                          + exception.getMessage() );
+    }
+  }
+
+  private static ImageData createTrueColor( int width, int height, boolean alpha ) {
+    ImageData result = new ImageData( width, height, 24, new PaletteData( 0xFF0000, 0xFF00, 0xFF ) );
+    Random random = new Random( 4711 );
+    for( int y = 0; y < height; y++ ) {
+      for( int x = 0; x < width; x++ ) {
+        // smooth gradients with some noise, similar to photos and rendered charts
+        int red = x * 255 / width;
+        int green = y * 255 / height;
+        int blue = ( ( x + y ) / 2 + random.nextInt( 16 ) ) & 0xFF;
+        result.setPixel( x, y, red << 16 | green << 8 | blue );
+        if( alpha ) {
+          int distance = Math.abs( x - width / 2 ) + Math.abs( y - height / 2 );
+          result.setAlpha( x, y, Math.max( 0, 255 - distance * 255 / width ) );
+        }
+      }
+    }
+    return result;
+  }
+
+  private static ImageData createIndexed( int width, int height ) {
+    RGB[] colors = new RGB[ 256 ];
+    for( int i = 0; i < colors.length; i++ ) {
+      colors[ i ] = new RGB( i, 255 - i, ( i * 7 ) & 0xFF );
+    }
+    ImageData result = new ImageData( width, height, 8, new PaletteData( colors ) );
+    for( int y = 0; y < height; y++ ) {
+      for( int x = 0; x < width; x++ ) {
+        // large uniform areas, as in diagrams and icons
+        result.setPixel( x, y, ( x / 16 + y / 16 * 3 ) & 0xFF );
+      }
+    }
+    return result;
+  }
+
+}
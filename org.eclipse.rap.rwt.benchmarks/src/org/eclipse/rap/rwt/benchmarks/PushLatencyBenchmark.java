@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.resource.Resource;
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.rwt.application.AbstractEntryPoint;
+import org.eclipse.rap.rwt.application.Application;
+import org.eclipse.rap.rwt.application.Application.ServerPushTransport;
+import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.engine.RWTServletContextListener;
+import org.eclipse.rap.rwt.service.ServerPushSession;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+
+
+/**
+ * Measures the push-to-render latency of the server push transports. An embedded Jetty server
+ * runs an application whose background thread updates a label with <code>asyncExec</code> at a
+ * fixed interval. A simulated client waits for the notification on the server push service
+ * handler, sends a UI request and reads the update from the response, like the web client does.
+ * The latency of an update is the time from the <code>asyncExec</code> call until the client
+ * has received the response that renders it.
+ * <p>
+ * Usage: <code>PushLatencyBenchmark [-updates &lt;count&gt;] [-interval &lt;ms&gt;]</code>
+ * </p>
+ * <p>
+ * Every transport is measured with a new server and UI session. Besides the latency, the number
+ * of HTTP requests that the client needed for all updates is reported.
+ * </p>
+ */
+public final class PushLatencyBenchmark {
+
+  private static final String PATH = "/push";
+  private static final String SERVER_PUSH_PARAMS = "servicehandler=org.eclipse.rap.serverpush";
+  private static final String EVENT_STREAM_PARAMS = "&transport=eventstream";
+  private static final Pattern UPDATE = Pattern.compile( "update-(\\d+)" );
+
+  private static volatile int updateCount;
+  private static volatile int updateInterval;
+
+  private PushLatencyBenchmark() {
+    // prevent instantiation
+  }
+
+  public static void main( String[] args ) throws Exception {
+    updateCount = 200;
+    updateInterval = 50;
+    for( int i = 0; i < args.length; i++ ) {
+      if( "-updates".equals( args[ i ] ) && i + 1 < args.length ) {
+        updateCount = Integer.parseInt( args[ ++i ] );
+      } else if( "-interval".equals( args[ i ] ) && i + 1 < args.length ) {
+        updateInterval = Integer.parseInt( args[ ++i ] );
+      } else {
+        throw new IllegalArgumentException( "Unknown argument: " + args[ i ] );
+      }
+    }
+    System.out.println( String.format( "%-14s %8s %9s %10s %10s %10s %10s",
+                                       "transport",
+                                       "updates",
+                                       "requests",
+                                       "mean ms",
+                                       "median ms",
+                                       "p90 ms",
+                                       "max ms" ) );
+    measure( ServerPushTransport.LONG_POLLING, LongPollingConfiguration.class );
+    measure( ServerPushTransport.EVENT_STREAM, EventStreamConfiguration.class );
+  }
+
+  private static void measure( ServerPushTransport transport,
+                               Class<? extends ApplicationConfiguration> configuration )
+    throws Exception
+  {
+    Server server = createServer( configuration );
+    server.start();
+    try {
+      int port = ( ( ServerConnector )server.getConnectors()[ 0 ] ).getLocalPort();
+      Client client = new Client( "http://localhost:" + port + PATH );
+      client.start();
+      if( transport == ServerPushTransport.EVENT_STREAM ) {
+        client.readEventStream();
+      } else {
+        client.pollLong();
+      }
+      print( transport, client );
+    } finally {
+      server.stop();
+    }
+  }
+
+  private static Server createServer( Class<? extends ApplicationConfiguration> configuration )
+    throws IOException
+  {
+    Server server = new Server( 0 );
+    ServletContextHandler context = new ServletContextHandler( ServletContextHandler.SESSIONS );
+    context.setContextPath( "/" );
+    context.setBaseResource( Resource.newResource( Files.createTempDirectory( "rap" ).toFile() ) );
+    String configurationName = configuration.getName();
+    context.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, configurationName );
+    context.addEventListener( new RWTServletContextListener() );
+    context.addServlet( RWTServlet.class, PATH ).setAsyncSupported( true );
+    server.setHandler( context );
+    return server;
+  }
+
+  private static void print( ServerPushTransport transport, Client client ) {
+    long[] latencies = new long[ client.latencies.size() ];
+    long sum = 0;
+    for( int i = 0; i < latencies.length; i++ ) {
+      latencies[ i ] = client.latencies.get( i ).longValue();
+      sum += latencies[ i ];
+    }
+    Arrays.sort( latencies );
+    int count = Math.max( 1, latencies.length );
+    System.out.println( String.format( Locale.ENGLISH,
+                                       "%-14s %8d %9d %10.2f %10.2f %10.2f %10.2f",
+                                       transport.name(),
+                                       Integer.valueOf( latencies.length ),
+                                       Integer.valueOf( client.requests ),
+                                       toMillis( sum / count ),
+                                       toMillis( latencies[ latencies.length / 2 ] ),
+                                       toMillis( latencies[ latencies.length * 9 / 10 ] ),
+                                       toMillis( latencies[ latencies.length - 1 ] ) ) );
+  }
+
+  private static Double toMillis( long nanos ) {
+    return Double.valueOf( nanos / 1000000.0 );
+  }
+
+  public static final class LongPollingConfiguration implements ApplicationConfiguration {
+
+    @Override
+    public void configure( Application application ) {
+      application.setServerPushTransport( ServerPushTransport.LONG_POLLING );
+      application.addEntryPoint( PATH, UpdateEntryPoint.class, null );
+    }
+
+  }
+
+  public static final class EventStreamConfiguration implements ApplicationConfiguration {
+
+    @Override
+    public void configure( Application application ) {
+      application.setServerPushTransport( ServerPushTransport.EVENT_STREAM );
+      application.addEntryPoint( PATH, UpdateEntryPoint.class, null );
+    }
+
+  }
+
+  /*
+   * Sets the label to the time of the asyncExec call, server push is stopped after the last
+   * update.
+   */
+  public static final class UpdateEntryPoint extends AbstractEntryPoint {
+
+    @Override
+    protected void createContents( Composite parent ) {
+      final Label label = new Label( parent, SWT.NONE );
+      final ServerPushSession pushSession = new ServerPushSession();
+      pushSession.start();
+      final Display display = parent.getDisplay();
+      Thread thread = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for( int i = 0; i < updateCount; i++ ) {
+              Thread.sleep( updateInterval );
+              final String text = "update-" + System.nanoTime();
+              display.asyncExec( new Runnable() {
+                @Override
+                public void run() {
+                  label.setText( text );
+                }
+              } );
+            }
+            display.asyncExec( new Runnable() {
+              @Override
+              public void run() {
+                pushSession.stop();
+              }
+            } );
+          } catch( @SuppressWarnings( "unused" ) InterruptedException | SWTException exception ) {
+            // the benchmark is over
+          }
+        }
+      }, "PushLatencyBenchmark updater" );
+      thread.setDaemon( true );
+      thread.start();
+    }
+
+  }
+
+  private static final class Client {
+
+    private final String url;
+    private final List<Long> latencies;
+    private String sessionCookie;
+    private String connectionId;
+    private int requestCounter;
+    private int requests;
+
+    Client( String url ) {
+      this.url = url;
+      latencies = new ArrayList<>();
+    }
+
+    void start() throws IOException {
+      HttpURLConnection connection = open( url );
+      readFully( connection.getInputStream() );
+      String cookie = connection.getHeaderField( "Set-Cookie" );
+      if( cookie != null ) {
+        sessionCookie = cookie.split( ";" )[ 0 ];
+      }
+      sendUIRequest();
+    }
+
+    void pollLong() throws IOException {
+      while( latencies.size() < updateCount ) {
+        HttpURLConnection connection = open( getServerPushUrl() );
+        readFully( connection.getInputStream() );
+        sendUIRequest();
+      }
+    }
+
+    /*
+     * Reads the stream until the server closes it after the last update.
+     */
+    void readEventStream() throws IOException {
+      HttpURLConnection connection = open( getServerPushUrl() + EVENT_STREAM_PARAMS );
+      InputStream input = connection.getInputStream();
+      try {
+        BufferedReader reader
+          = new BufferedReader( new InputStreamReader( input, StandardCharsets.UTF_8 ) );
+        String line = reader.readLine();
+        while( line != null && !line.equals( "event: close" ) ) {
+          if( line.equals( "data: push" ) ) {
+            sendUIRequest();
+          }
+          line = reader.readLine();
+        }
+      } finally {
+        input.close();
+      }
+    }
+
+    private void sendUIRequest() throws IOException {
+      JsonObject head = new JsonObject().add( "requestCounter", requestCounter++ );
+      JsonObject message = new JsonObject()
+        .add( "head", head )
+        .add( "operations", new JsonArray() );
+      String requestUrl = connectionId == null ? url : url + "?cid=" + connectionId;
+      HttpURLConnection connection = open( requestUrl );
+      connection.setDoOutput( true );
+      connection.setRequestProperty( "Content-Type", "application/json; charset=UTF-8" );
+      OutputStream output = connection.getOutputStream();
+      try {
+        output.write( message.toString().getBytes( StandardCharsets.UTF_8 ) );
+      } finally {
+        output.close();
+      }
+      String response = readFully( connection.getInputStream() );
+      long receiveTime = System.nanoTime();
+      Matcher matcher = UPDATE.matcher( response );
+      while( matcher.find() ) {
+        latencies.add( Long.valueOf( receiveTime - Long.parseLong( matcher.group( 1 ) ) ) );
+      }
+      JsonObject responseHead = JsonObject.readFrom( response ).get( "head" ).asObject();
+      JsonValue cid = responseHead.get( "cid" );
+      if( cid != null ) {
+        connectionId = cid.asString();
+      }
+    }
+
+    private String getServerPushUrl() {
+      return url + "?" + SERVER_PUSH_PARAMS + "&cid=" + connectionId;
+    }
+
+    private HttpURLConnection open( String location ) throws IOException {
+      requests++;
+      HttpURLConnection connection = ( HttpURLConnection )new URL( location ).openConnection();
+      if( sessionCookie != null ) {
+        connection.setRequestProperty( "Cookie", sessionCookie );
+      }
+      return connection;
+    }
+
+    private static String readFully( InputStream input ) throws IOException {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      try {
+        byte[] buffer = new byte[ 8192 ];
+        int count = input.read( buffer );
+        while( count != -1 ) {
+          output.write( buffer, 0, count );
+          count = input.read( buffer );
+        }
+      } finally {
+        input.close();
+      }
+      return new String( output.toByteArray(), StandardCharsets.UTF_8 );
+    }
+
+  }
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.benchmarks;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.eclipse.rap.rwt.internal.theme.ThemeManager;
+
+
+/**
+ * Measures the theme initialization of an application start: loading and parsing the theme
+ * definitions, appearances and default style sheets of all themeable widgets and creating the
+ * values of the default and the fallback theme.
+ * <p>
+ * Usage: <code>ThemeBenchmark [-iterations &lt;count&gt;]</code>
+ * </p>
+ * <p>
+ * The first iteration is reported separately, it includes class loading and runs in an
+ * interpreted JVM like a real application start. The following iterations show the steady
+ * state. To compare with a sequential initialization, run with
+ * <code>-Djava.util.concurrent.ForkJoinPool.common.parallelism=1</code>.
+ * </p>
+ */
+public final class ThemeBenchmark {
+
+  private ThemeBenchmark() {
+    // prevent instantiation
+  }
+
+  public static void main( String[] args ) {
+    int iterations = 20;
+    for( int i = 0; i < args.length; i++ ) {
+      if( "-iterations".equals( args[ i ] ) && i + 1 < args.length ) {
+        iterations = Integer.parseInt( args[ ++i ] );
+      } else {
+        throw new IllegalArgumentException( "Unknown argument: " + args[ i ] );
+      }
+    }
+    long first = initializeThemes();
+    long[] times = new long[ Math.max( 1, iterations - 1 ) ];
+    for( int i = 0; i < times.length; i++ ) {
+      times[ i ] = initializeThemes();
+    }
+    Arrays.sort( times );
+    System.out.println( String.format( Locale.ENGLISH,
+                                       "first %.1f ms, median %.1f ms, min %.1f ms",
+                                       Double.valueOf( first / 1000000.0 ),
+                                       Double.valueOf( times[ times.length / 2 ] / 1000000.0 ),
+                                       Double.valueOf( times[ 0 ] / 1000000.0 ) ) );
+  }
+
+  private static long initializeThemes() {
+    long start = System.nanoTime();
+    ThemeManager themeManager = new ThemeManager();
+    themeManager.initialize();
+    themeManager.activate();
+    return System.nanoTime() - start;
+  }
+
+}
@@ -225,8 +225,8 @@ rwt.remote.HandlerRegistry.add(_[394],{factory:function(b){var d=rwt.remote.Hand
 rwt.qx.Class.define("rwt.remote.WidgetManager",{extend:rwt.qx.Object,statics:{getInstance:function(){return rwt.runtime.Singletons.get(rwt.remote.WidgetManager)}},construct:function(){arguments.callee.base.call(this)},members:{dispose:function(b){var a=this.findWidgetById(b);if(a!=null){this.remove(a);if(!a.getDisposed()){this._removeToolTipPopup(a);a.destroy()}}},add:function(c,d,b,a){if(b===true){c.setUserData(_[20],true)}rwt.remote.ObjectRegistry.add(d,c,a)},remove:function(a){var b=this.findIdByWidget(a);rwt.remote.ObjectRegistry.remove(b)},findWidgetById:function(a){return rwt.remote.ObjectRegistry.getObject(a)},findIdByWidget:function(a){return rwt.remote.ObjectRegistry.getId(a)},isControl:function(b){var a=null;if(b!=null){a=b.getUserData(_[20])}return a===true},findControl:function(b){var a=b;while(a!=null&&!this.isControl(a)){a=a.getParent?a.getParent():null}return a},findEnabledControl:function(b){var a=b;while(a!=null&&!(this.isControl(a)&&a.getEnabled())){a=a.getParent?a.getParent():null}return a},setToolTip:function(b,a){rwt.widgets.base.WidgetToolTip.setToolTipText(b,a)},_removeToolTipPopup:function(a){a.setToolTipText(null)}}});
 (function(){namespace(_[134]);var b=false;var a=null;rwt.remote.MessageProcessor={processMessage:function(e,g,c){var f=0;if(typeof c!==_[7]){f=c}if(f===0){rap._.notify("receive",e);this.processHead(e.head)}var d=e.operations||[];while(f<d.length){this.processOperationArray(d[f]);f++;if(b){this._suspendMessageProcessing(e,g,f);return}}rap._.notify("process",e);if(g){g()}},processHead:function(d){var c=rwt.remote.Connection.getInstance();if(d.url){c.setUrl(d.url)}if(d.cid){c.setConnectionId(d.cid)}if(d.redirect){rwt.widgets.Display.getCurrent().setExitConfirmation(null);document.location=d.redirect}},processOperationArray:function(c){var e=c[0];try{switch(e){case _[44]:this._processCreate(c[1],c[2],c[3]);break;case"set":this._processSet(c[1],c[2]);break;case"listen":this._processListen(c[1],c[2]);break;case"call":this._processCall(c[1],c[2],c[3]);break;case _[160]:this._processDestroy(c[1]);break}}catch(d){this._processError(d,c)}},processOperation:function(c){switch(c.action){case _[44]:this._processCreate(c.target,c.type,c.properties);break;case"set":this._processSet(c.target,c.properties);break;case _[160]:this._processDestroy(c.target);break;case"call":this._processCall(c.target,c.method,c.properties);break;case"listen":this._processListen(c.target,c.properties);break}},pauseExecution:function(){b=true},isPaused:function(){return b},continueExecution:function(){b=false;var c=a;a=null;this.processMessage.apply(this,c)},_processCreate:function(d,g,e){var f=rwt.remote.HandlerRegistry.getHandler(g);if(f.service===true){throw new Error("Objects of type "+g+" can not be created")}var c=f.factory(e);this._addTarget(c,d,f);this._processSetImpl(c,f,e)},_processDestroy:function(e){var c=rwt.remote.ObjectRegistry.getEntry(e);if(c){var h=c.handler;var d=c.object;var g=h.getDestroyableChildren?h.getDestroyableChildren(d):null;if(h.destructor instanceof Function){h.destructor(d)}else{if(typeof h.destructor===_[10]){var j=h.destructor;d[j]()}}rwt.remote.ObjectRegistry.remove(e);rwt.remote.RemoteObjectFactory.remove(e);for(var f=0;g!=null&&f<g.length;f++){if(g[f]){this._processDestroy(rwt.remote.ObjectRegistry.getId(g[f]))}}}},_processSet:function(d,e){var c=rwt.remote.ObjectRegistry.getEntry(d);this._processSetImpl(c.object,c.handler,e)},_processSetImpl:function(d,g,f){if(g.isGeneric&&!rwt.util.Objects.isEmpty(f)){d.set(f,{nosync:true})}else{if(f&&g.properties instanceof Array){for(var e=0;e<g.properties.length;e++){var j=g.properties[e];var h=f[j];if(h!==undefined){if(g.propertyHandler&&g.propertyHandler[j]){g.propertyHandler[j].call(window,d,h)}else{var c=this._getSetterName(j);d[c](h)}}}}}},_processCall:function(e,h,f){var c=rwt.remote.ObjectRegistry.getEntry(e);var g=c.handler;var d=c.object;if(g.isGeneric){d[h](f)}else{if(g.methods instanceof Array&&g.methods.indexOf(h)!==-1){if(g.methodHandler&&g.methodHandler[h]){g.methodHandler[h](d,f)}else{d[h](f)}}}},_processListen:function(g,e){var h=rwt.remote.ObjectRegistry.getEntry(g);var j=h.handler;var l=h.object;if(j.events instanceof Array||j.isGeneric){var d=rwt.remote.RemoteObjectFactory.getRemoteObject(l);var k=j.isGeneric?rwt.util.Objects.getKeys(e):j.events;for(var c=0;c<k.length;c++){var f=k[c];if(e[f]===true){d._.listen[f]=true}if(e[f]===false){d._.listen[f]=false}}}if(j.listeners instanceof Array){for(var c=0;c<j.listeners.length;c++){var f=j.listeners[c];if(e[f]===true){this._addListener(j,l,f)}if(e[f]===false){this._removeListener(j,l,f)}}}},_processError:function(e,d){var h;if(e){h=e.message?e.message:e.toString()}else{h="No Error given!"}var g='Operation "'+d[0]+'"';g+=' on target "'+d[1]+'"';var c=rwt.remote.ObjectRegistry.getEntry(d[1]);var f=c?c.object:null;g+=' of type "'+(f&&f.classname?f.classname:f)+'"';g+=" failed:";g+="\n"+h+"\n";g+="Properties: \n"+this._getPropertiesString(d);throw new Error(g)},_getPropertiesString:function(d){var c="";var f;switch(d[0]){case"set":case"listen":f=d[2];break;case _[44]:case"call":f=d[3];break;default:f={};break}for(var e in f){c+=e+" = "+f[e]+"\n"}return c},_addTarget:function(e,c,d){if(e instanceof rwt.widgets.base.Widget){var f=rwt.remote.WidgetManager.getInstance();f.add(e,c,false,d)}else{rwt.remote.ObjectRegistry.add(c,e,d)}},_addListener:function(f,d,e){if(f.listenerHandler&&f.listenerHandler[e]){f.listenerHandler[e](d,true)}else{var c=this._getListenerSetterName(e);d[c](true)}},_removeListener:function(f,d,e){if(f.listenerHandler&&f.listenerHandler[e]){f.listenerHandler[e](d,false)}else{var c=this._getListenerSetterName(e);d[c](false)}},_getSetterName:function(c){return"set"+rwt.util.Strings.toFirstUp(c)},_getListenerSetterName:function(c){return"setHas"+rwt.util.Strings.toFirstUp(c)+"Listener"},_suspendMessageProcessing:function(c,e,d){if(a!=null){throw new Error("A message is already suspended")}a=[c,e,d]}}}());
 namespace(_[134]);rwt.remote.MessageWriter=function(){this._head={};this._operations=[];this._currentSetOperation=null;this._disposed=false};rwt.remote.MessageWriter.prototype={dispose:function(){this._operations=null;this._head=null;this._disposed=true},hasOperations:function(){return this._operations.length>0},createMessage:function(){if(this._disposed){throw new Error("Protocol message writer already disposed!")}var a={head:this._head,operations:this._operations};return JSON.stringify(a)},appendHead:function(b,a){this._head[b]=a},getHead:function(a){return this._head[a]||null},appendSet:function(a,d,c){var b=this._getPropertiesObjectFor(a);b[d]=c},appendNotify:function(b,a,c){this._currentSetOperation=null;this._operations.push(["notify",b,a,c])},appendCall:function(b,a,c){this._currentSetOperation=null;this._operations.push(["call",b,a,c])},_getPropertiesObjectFor:function(a){if(this._currentSetOperation===null||this._currentSetOperation[1]!==a){this._currentSetOperation=["set",a,{}];this._operations.push(this._currentSetOperation)}return this._currentSetOperation[2]}};
-namespace(_[97]);rwt.client.ServerPush=function(){this._retryCount=0;this._active=false;this._running=false};rwt.client.ServerPush.getInstance=function(){return rwt.runtime.Singletons.get(rwt.client.ServerPush)};rwt.client.ServerPush.prototype={setActive:function(a){this._active=a},sendServerPushRequest:function(){if(this._active&&!this._running){this._running=true;this._createRequest().send()}},_createRequest:function(){var a=rwt.remote.Connection.getInstance();var b=new rwt.remote.Request(a.getUrl(),"GET","application/javascript");b.setSuccessHandler(this._handleSuccess,this);b.setErrorHandler(this._handleError,this);b.setData("servicehandler=org.eclipse.rap.serverpush&cid="+a.getConnectionId());return b},_handleSuccess:function(){this._running=false;this._retryCount=0;this._sendUIRequest()},_sendUIRequest:function(){rwt.remote.Connection.getInstance().sendImmediate(true)},_handleError:function(b){this._running=false;if(rwt.remote.Connection.getInstance()._isConnectionError(b.status)){if(this._retryCount<3){var a=1000*this._retryCount++;rwt.client.Timer.once(this.sendServerPushRequest,this,a)}else{this._handleConnectionError()}}else{this._handleServerError(b)}},_handleConnectionError:function(){rwt.remote.Connection.getInstance().sendImmediate(true)},_handleServerError:function(a){var b=a.responseText;if(b&&b.length>0){rwt.runtime.ErrorHandler.showErrorBox(_[517],true,b)}else{rwt.runtime.ErrorHandler.showErrorBox(_[320])}}};
-rwt.remote.HandlerRegistry.add("rwt.client.ServerPush",{factory:function(){return rwt.client.ServerPush.getInstance()},service:true,properties:[_[66]]});
+namespace(_[97]);rwt.client.ServerPush=function(){this._retryCount=0;this._active=false;this._running=false;this._transport="longpolling";this._eventSource=null};rwt.client.ServerPush.getInstance=function(){return rwt.runtime.Singletons.get(rwt.client.ServerPush)};rwt.client.ServerPush.prototype={setActive:function(a){this._active=a;if(!a){this._closeEventSource()}},setTransport:function(a){this._transport=a},sendServerPushRequest:function(){if(this._active&&!this._running){this._running=true;if(this._usesEventStream()){this._openEventSource()}else{this._createRequest().send()}}},_usesEventStream:function(){return this._transport==="eventstream"&&!!window.EventSource},_openEventSource:function(){var a=rwt.remote.Connection.getInstance();var b=a.getUrl();b+=b.indexOf("?")===-1?"?":"&";b+="servicehandler=org.eclipse.rap.serverpush&transport=eventstream";b+="&cid="+a.getConnectionId();this._eventSource=new window.EventSource(b);this._eventSource.onopen=rwt.util.Functions.bind(this._handleEventSourceOpen,this);this._eventSource.onmessage=rwt.util.Functions.bind(this._handleEvent,this);this._eventSource.onerror=rwt.util.Functions.bind(this._handleEventSourceError,this);this._eventSource.addEventListener("close",rwt.util.Functions.bind(this._handleEventSourceClose,this))},_closeEventSource:function(){if(this._eventSource){this._eventSource.close();this._eventSource=null;this._running=false}},_handleEventSourceOpen:function(){this._retryCount=0},_handleEvent:function(){this._retryCount=0;this._sendUIRequest()},_handleEventSourceClose:function(){this._retryCount=0;this._closeEventSource()},_handleEventSourceError:function(){this._closeEventSource();if(this._retryCount<3){var a=1000*this._retryCount++;rwt.client.Timer.once(this.sendServerPushRequest,this,a)}else{this._transport="longpolling";this._retryCount=0;this.sendServerPushRequest()}},_createRequest:function(){var a=rwt.remote.Connection.getInstance();var b=new rwt.remote.Request(a.getUrl(),"GET","application/javascript");b.setSuccessHandler(this._handleSuccess,this);b.setErrorHandler(this._handleError,this);b.setData("servicehandler=org.eclipse.rap.serverpush&cid="+a.getConnectionId());return b},_handleSuccess:function(){this._running=false;this._retryCount=0;this._sendUIRequest()},_sendUIRequest:function(){rwt.remote.Connection.getInstance().sendImmediate(true)},_handleError:function(b){this._running=false;if(rwt.remote.Connection.getInstance()._isConnectionError(b.status)){if(this._retryCount<3){var a=1000*this._retryCount++;rwt.client.Timer.once(this.sendServerPushRequest,this,a)}else{this._handleConnectionError()}}else{this._handleServerError(b)}},_handleConnectionError:function(){rwt.remote.Connection.getInstance().sendImmediate(true)},_handleServerError:function(a){var b=a.responseText;if(b&&b.length>0){rwt.runtime.ErrorHandler.showErrorBox(_[517],true,b)}else{rwt.runtime.ErrorHandler.showErrorBox(_[320])}}};
+rwt.remote.HandlerRegistry.add("rwt.client.ServerPush",{factory:function(){return rwt.client.ServerPush.getInstance()},service:true,properties:["transport",_[66]]});
 (function(){var h=rwt.client.Client;var d=rwt.client.Timer;var c=rwt.remote.MessageProcessor;var b=rwt.runtime.ErrorHandler;var g=rwt.remote.EventUtil;var f=rwt.client.ServerPush;var a=rwt.widgets.base.ClientDocument;var e=rwt.widgets.base.Widget;rwt.qx.Class.define("rwt.remote.Connection",{extend:rwt.qx.Target,statics:{getInstance:function(){return rwt.runtime.Singletons.get(rwt.remote.Connection)}},construct:function(){arguments.callee.base.call(this);this._url="";this._writer=null;this._event=null;this._requestCounter=0;this._requestPending=false;this._connectionId=null;this._sendTimer=new d(60);this._sendTimer.addEventListener(_[26],function(){this.sendImmediate(true)},this);this._delayTimer=new d();this._delayTimer.addEventListener(_[26],function(){this._delayTimer.stop();this.send()},this);this._waitHintTimer=new d(1000);this._waitHintTimer.addEventListener(_[26],this._showWaitHint,this);this._retryHandler=null;this._sendListeners=[]},destruct:function(){this._retryHandler=null;this._sendTimer.dispose();this._sendTimer=null;this._waitHintTimer.dispose();this._waitHintTimer=null},members:{setUrl:function(i){this._url=i},getUrl:function(){return this._url},setConnectionId:function(i){this._connectionId=i},getConnectionId:function(){return this._connectionId},_flushEvent:function(){if(this._event){var i=this.getMessageWriter();this._event[1]=this._event[1].split(".").pop();i.appendNotify.apply(i,this._event);this._event=null}},sendDelayed:function(i){this._delayTimer.setInterval(i);this._delayTimer.start()},send:function(){this._sendTimer.start()},sendImmediate:function(i){this._delayTimer.stop();if(this._requestPending&&i){this._sendTimer.stop();this.send()}else{this._flushEvent();this.dispatchSimpleEvent("send");rap._.notify("send");this._flushEvent();this._sendTimer.stop();this.getMessageWriter().appendHead("requestCounter",this._requestCounter++);this._requestPending=true;this._startWaitHintTimer();var j=this._createRequest();j.setAsynchronous(i);j.setData(this.getMessageWriter().createMessage());this._writer.dispose();this._writer=null;j.send();this._removeSendListeners()}},sendBeacon:function(){var k="";if(this._connectionId){k=(this._url.indexOf("?")===-1?"?cid=":"&cid=")+this._connectionId}var i=this.getMessageWriter().createMessage();var j={type:_[203]};navigator.sendBeacon(this._url+k,new Blob([i],j))},getMessageWriter:function(){if(this._writer===null){this._writer=new rwt.remote.MessageWriter()}return this._writer},getRemoteObject:function(i){return rwt.remote.RemoteObjectFactory.getRemoteObject(i)},onNextSend:function(j,i){this._sendListeners.push([j,i]);this.addEventListener("send",j,i)},getWaitHintTimer:function(){return this._waitHintTimer},_startWaitHintTimer:function(){if(this._requestCounter!==0){this._waitHintTimer.start()}},_removeSendListeners:function(){for(var j=0;j<this._sendListeners.length;j++){var k=this._sendListeners[j];this.removeEventListener("send",k[0],k[1])}this._sendListeners=[]},_createRequest:function(){var j="";if(this._connectionId){j=(this._url.indexOf("?")===-1?"?cid=":"&cid=")+this._connectionId}var i=new rwt.remote.Request(this._url+j,"POST",_[203]);i.setSuccessHandler(this._handleSuccess,this);i.setErrorHandler(this._handleError,this);return i},_handleError:function(j){this._hideWaitHint();if(this._isConnectionError(j.status)){this._handleConnectionError(j)}else{var k=j.responseText;if(k&&k.length>0){if(this._isJsonResponse(j)){var i=JSON.parse(k);b.showErrorBox(i.head.error,true)}else{b.showErrorBox(_[517],true,k)}}else{b.showErrorBox(_[320])}}},_handleSuccess:function(l){try{var j=JSON.parse(l.responseText);rwt.remote.EventUtil.setSuspended(true);var k=this;c.processMessage(j,function(){k._requestPending=false;e.flushGlobalQueues();rap._.notify("render");g.setSuspended(false);f.getInstance().sendServerPushRequest();k.dispatchSimpleEvent(_[330]);k._hideWaitHint()})}catch(i){this._hideWaitHint();b.processJavaScriptErrorInResponse(l.responseText,i,l.target)}},_handleConnectionError:function(i){a.getInstance().setGlobalCursor(null);rwt.runtime.ErrorHandler.showErrorBox(_[372],false);this._retryHandler=function(){var k=this._createRequest();var j=i.target;k.setAsynchronous(j.getAsynchronous());k.setData(j.getData());k.send()}},_retry:function(){try{b.hideErrorBox();this._showWaitHint();this._retryHandler()}catch(i){rwt.runtime.ErrorHandler.processJavaScriptError(i)}},_isConnectionError:rwt.util.Variant.select(_[5],{trident:function(i){return(i===12007||i===12029||i===12030||i===12031||i===12152||i===0)},gecko:function(j){var i;if(h.getMajor()*10+h.getMinor()>=19){i=(j===0)}else{i=(j===-1)}return i},"default":function(i){return i===0}}),_isJsonResponse:function(i){var j=i.responseHeaders["content-type"];return j.indexOf(_[203])!==-1},_showWaitHint:function(){this._waitHintTimer.stop();a.getInstance().setGlobalCursor(_[332]);b.showWaitHint()},_hideWaitHint:function(){this._waitHintTimer.stop();b.hideErrorBox();a.getInstance().setGlobalCursor(null)}}})}());rwt.remote.Connection.RESOURCE_PATH="./rwt-resources/resource/";
 rwt.qx.Class.define(_[215],{extend:rwt.widgets.base.MultiCellWidget,construct:function(b,a){arguments.callee.base.call(this,[_[17],_[48],_[17]]);this._parent=b;if(b.hasState(_[286])){this.addState(_[286])}this.setAppearance("ctab-item");this.setVerticalChildrenAlign(rwt.widgets.util.Layout.ALIGN_MIDDLE);this.setHorizontalChildrenAlign(rwt.widgets.util.Layout.ALIGN_LEFT);this.setOverflow(_[6]);this.setTabIndex(null);this._selected=false;this._showClose=false;this._rawText=null;this._mnemonicIndex=null;this._canClose=a;this.updateForeground();this.updateBackground();this.updateBackgroundImage();this.updateBackgroundGradient();this.setTabPosition(b.getTabPosition());this.setDirection(b.getDirection());this.updateCloseButton(false);this.addEventListener(_[118],this._onElementOver,this);this.addEventListener(_[196],this._onElementOut,this);this.addEventListener(_[23],this._onClick,this);this.addEventListener(_[60],this._onDblClick,this);this.addEventListener(_[138],this._onChangeParent,this);this.addEventListener(_[376],this._onChangeLeft,this)},destruct:function(){this.setMnemonicIndex(null)},statics:{IMG_CLOSE:rwt.remote.Connection.RESOURCE_PATH+"widget/rap/ctabfolder/close.gif",IMG_CLOSE_HOVER:rwt.remote.Connection.RESOURCE_PATH+"widget/rap/ctabfolder/close_hover.gif"},members:{setText:function(a){this._rawText=a;this._mnemonicIndex=null;this._applyText(false);this.dispatchSimpleEvent(_[164])},setImage:function(a){if(a===null){this.setCellContent(0,null);this.setCellDimension(0,0,0)}else{this.setCellContent(0,a[0]);this.setCellDimension(0,a[1],a[2])}},setMnemonicIndex:function(b){this._mnemonicIndex=b;var a=rwt.widgets.util.MnemonicHandler.getInstance();if((typeof b===_[19])&&(b>=0)){a.add(this,this._onMnemonic)}else{a.remove(this)}},getMnemonicIndex:function(){return this._mnemonicIndex},_applyText:function(b){if(this._rawText){var a=b?this._mnemonicIndex:undefined;var c=rwt.util.Encoding.escapeText(this._rawText,a);this.setCellContent(1,c)}else{this.setCellContent(1,null)}},setTabPosition:function(a){this.toggleState("barTop",a==="top")},setSelected:function(a){if(this._selected!==a){this._selected=a;this.toggleState(_[27],a);this._updateNextSelected();this.updateForeground();this.updateBackground();this.updateBackgroundImage();this.updateBackgroundGradient();this.updateCloseButton(false)}},_onMnemonic:function(b){switch(b.type){case"show":this._applyText(true);break;case"hide":this._applyText(false);break;case _[100]:var a=this._rawText.toUpperCase().charCodeAt(this._mnemonicIndex);if(b.charCode===a){this._parent._notifySelection(this);b.success=true}break}},_updateNextSelected:function(){var a=null;var c=this._parent.getChildren();for(var b=0;b<c.length;b++){if(c[b].classname===_[215]){c[b].removeState(_[457]);if(a!=null&&c[b].isSelected()){a.addState(_[457])}a=c[b]}}},isSelected:function(){return this._selected},setShowClose:function(a){this._showClose=a;this.updateCloseButton(false)},computeBadgePosition:function(){return[0,0,"auto","auto"]},updateForeground:function(){var a=this.isSelected()?this._parent.getSelectionForeground():this._parent.getTextColor();if(a!=null){this.setTextColor(a)}else{this.resetTextColor()}},updateBackground:function(){var a=this.isSelected()?this._parent.getSelectionBackground():null;if(a!=null){this.setBackgroundColor(a)}else{this.resetBackgroundColor()}},updateBackgroundImage:function(){var a=this.isSelected()?this._parent.getSelectionBackgroundImage():null;if(a!=null){this.setUserData(_[194],a.slice(1));this.setBackgroundImage(a[0])}else{this.resetBackgroundImage()}},updateBackgroundGradient:function(){var a=this.isSelected()?this._parent.getSelectionBackgroundGradient():null;if(a!=null){this.setBackgroundGradient(a)}else{this.resetBackgroundGradient()}},_onElementOver:function(a){this.addState("over");this.updateCloseButton(this._isCloseButtonTarget(a))},_onElementOut:function(a){if(a.getDomTarget()===this.getElement()){this.removeState("over")}this.updateCloseButton(false)},updateCloseButton:function(c){var d=false;if(this._canClose||this._showClose){var a=this._parent.getUnselectedCloseVisible()&&this.hasState("over");d=this.isSelected()||a}if(d){var b=c?rwt.widgets.CTabItem.IMG_CLOSE_HOVER:rwt.widgets.CTabItem.IMG_CLOSE;this.setCellContent(2,b);this.setCellDimension(2,16,16)}else{this.setCellContent(2,null);this.setCellDimension(2,0,0)}},_onClick:function(a){if(this._isCloseButtonTarget(a)){rwt.remote.Connection.getInstance().getRemoteObject(this._parent).notify("Folder",{detail:"close",item:rwt.remote.ObjectRegistry.getId(this)})}else{this._parent._notifySelection(this)}},_onDblClick:function(a){if(!this._isCloseButtonTarget(a)){this._parent._notifyDefaultSelection(this)}},_isCloseButtonTarget:function(a){return a.getDomTarget()===this.getCellNode(2)},_onChangeParent:function(){if(!this._parent._isInGlobalDisposeQueue){this._updateNextSelected()}},_onChangeLeft:function(){this.toggleState("firstItem",this.getLeft()===0)}}});
 rwt.remote.HandlerRegistry.add(_[215],{factory:function(b){var a;rwt.remote.HandlerUtil.callWithTarget(b.parent,function(c){a=new rwt.widgets.CTabItem(c,c.hasState("rwt_CLOSE"));c.addAt(a,b.index);rwt.remote.HandlerUtil.addStatesForStyles(a,b.style);rwt.remote.HandlerUtil.addDestroyableChild(c,a);a.setUserData(_[74],c)});return a},destructor:rwt.remote.HandlerUtil.getWidgetDestructor(),properties:[_[92],"font","text",_[140],_[17],_[72],_[105],_[75],"showing","showClose","badge","data"],propertyHandler:{data:rwt.remote.HandlerUtil.getControlPropertyHandler("data"),bounds:function(c,b){var a=b;if(c.getParent().getTabPosition()===_[29]){a[1]-=1}a[3]+=1;c.setLeft(a[0]);c.setTop(a[1]);c.setWidth(a[2]);c.setHeight(a[3])},font:rwt.remote.HandlerUtil.getControlPropertyHandler("font"),toolTipMarkupEnabled:rwt.remote.HandlerUtil.getControlPropertyHandler(_[72]),toolTip:rwt.remote.HandlerUtil.getControlPropertyHandler(_[105]),showing:function(b,a){b.setVisibility(a)},badge:function(b,a){rwt.widgets.util.Badges.setBadge(b,a)}}});
@@ -94,6 +94,28 @@ public interface Application {
     SESSION_FAILOVER
   }
 
+  /**
+   * Instances of this class represent the transport that is used to notify the
+   * client about pending changes while a server push session is active.
+   *
+   * @since 3.15
+   */
+  public static enum ServerPushTransport {
+    /**
+     * The client sends an HTTP request that is held by the server until there
+     * are changes to be rendered. A new request is sent after every
+     * notification. This transport works with any servlet container.
+     */
+    LONG_POLLING,
+    /**
+     * The client opens a single persistent Server-Sent Events stream that is
+     * used for all notifications while server push is active. This transport
+     * requires the RWT servlet to support asynchronous processing. Clients
+     * that cannot open the stream fall back to <code>LONG_POLLING</code>.
+     */
+    EVENT_STREAM
+  }
+
   /**
    * The operation mode in which the application will be running. The default is
    * <code>JEE_COMPATIBILITY</code>.
@@ -104,6 +126,16 @@ public interface Application {
    */
   void setOperationMode( OperationMode operationMode );
 
+  /**
+   * The transport that is used to notify the client in server push sessions.
+   * The default is <code>LONG_POLLING</code>.
+   *
+   * @param transport the transport to be used, must not be <code>null</code>
+   * @see ServerPushTransport
+   * @since 3.15
+   */
+  void setServerPushTransport( ServerPushTransport transport );
+
   /**
    * Registers an entrypoint at the given servlet path. A valid path must start with a slash ('/')
    * and must not contain any other slashes. The servlet path &quot;/&quot; denotes the root path.
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.engine;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static org.eclipse.rap.rwt.internal.service.ResponseCompression.GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CACHE_CONTROL;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ETAG;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_IF_NONE_MATCH;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.StoredResource;
+import org.eclipse.rap.rwt.internal.service.ResponseCompression;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+
+/**
+ * A servlet that delivers the resources registered with the application's resource manager.
+ * Resources are served from memory where possible, with a strong ETag. Text resources are
+ * compressed when they are registered and delivered with gzip encoding if the client accepts it.
+ * Requests for the versioned location that is returned by
+ * {@link ResourceManager#getLocation(String)} are cached by clients without revalidation.
+ * <p>
+ * In a traditional web application (without OSGi), this servlet can be registered in the
+ * application's deployment descriptor for the <code>rwt-resources</code> path. Without this
+ * servlet, resources are delivered from the resource directory by the servlet container.
+ * </p>
+ *
+ * <pre>
+ * &lt;servlet&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTResourceServlet&lt;/servlet-class&gt;
+ * &lt;/servlet&gt;
+ *
+ * &lt;servlet-mapping&gt;
+ *   &lt;servlet-name&gt;rwtResourceServlet&lt;/servlet-name&gt;
+ *   &lt;url-pattern&gt;/rwt-resources/*&lt;/url-pattern&gt;
+ * &lt;/servlet-mapping&gt;
+ * </pre>
+ *
+ * @since 3.15
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class RWTResourceServlet extends HttpServlet {
+
+  private static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+  private static final String CACHE_REVALIDATE = "no-cache";
+
+  private ApplicationContextImpl applicationContext;
+
+  @Override
+  public String getServletInfo() {
+    return "RWT Resource Servlet";
+  }
+
+  @Override
+  public void init() throws ServletException {
+    applicationContext = ApplicationContextImpl.getFrom( getServletContext() );
+  }
+
+  @Override
+  public void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws ServletException, IOException
+  {
+    if( applicationContext == null || !applicationContext.allowsRequests() ) {
+      response.sendError( SC_SERVICE_UNAVAILABLE );
+    } else {
+      StoredResource resource = findResource( request.getPathInfo() );
+      if( resource == null ) {
+        response.sendError( SC_NOT_FOUND );
+      } else {
+        sendResource( request, response, resource );
+      }
+    }
+  }
+
+  private StoredResource findResource( String pathInfo ) {
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    if(    pathInfo != null
+        && pathInfo.length() > 1
+        && resourceManager instanceof ResourceManagerImpl )
+    {
+      String path = pathInfo.substring( 1 );
+      return ( ( ResourceManagerImpl )resourceManager ).getStoredResource( path );
+    }
+    return null;
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             StoredResource resource )
+    throws IOException
+  {
+    // the location of a resource contains its version as query, other requests are revalidated
+    boolean versioned = resource.getVersion().equals( request.getQueryString() );
+    response.setHeader( HEADER_CACHE_CONTROL, versioned ? CACHE_IMMUTABLE : CACHE_REVALIDATE );
+    byte[] gzipContent = resource.getGzipContent();
+    boolean compressed = gzipContent != null && ResponseCompression.accepts( request, GZIP );
+    if( gzipContent != null ) {
+      response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    }
+    String etag = compressed ? resource.getGzipETag() : resource.getETag();
+    response.setHeader( HEADER_ETAG, etag );
+    if( matches( request.getHeader( HEADER_IF_NONE_MATCH ), etag ) ) {
+      response.setStatus( SC_NOT_MODIFIED );
+    } else {
+      String contentType = getServletContext().getMimeType( resource.getPath() );
+      if( contentType != null ) {
+        response.setContentType( contentType );
+      }
+      if( compressed ) {
+        response.setHeader( HEADER_CONTENT_ENCODING, GZIP );
+        response.setContentLength( gzipContent.length );
+        response.getOutputStream().write( gzipContent );
+      } else {
+        response.setContentLengthLong( resource.getLength() );
+        resource.writeContent( response.getOutputStream() );
+      }
+    }
+  }
+
+  private static boolean matches( String ifNoneMatch, String etag ) {
+    if( ifNoneMatch != null ) {
+      for( String candidate : ifNoneMatch.split( "," ) ) {
+        String value = candidate.trim();
+        // If-None-Match uses the weak comparison
+        if( value.startsWith( "W/" ) ) {
+          value = value.substring( 2 );
+        }
+        if( "*".equals( value ) || etag.equals( value ) ) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
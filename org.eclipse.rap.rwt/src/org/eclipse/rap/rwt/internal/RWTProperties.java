@@ -17,6 +17,19 @@ public final class RWTProperties {
   public static final String SERVICE_HANDLER_BASE_URL = "org.eclipse.rap.rwt.serviceHandlerBaseURL";
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
+  public static final String CHANGE_TRACKING = "org.eclipse.rap.rwt.changeTracking";
+  public static final String PROTOCOL_STREAMING = "org.eclipse.rap.rwt.protocolStreaming";
+  public static final String RESPONSE_COMPRESSION = "org.eclipse.rap.rwt.responseCompression";
+  public static final String RESPONSE_COMPRESSION_THRESHOLD
+    = "org.eclipse.rap.rwt.responseCompressionThreshold";
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+  public static final String IMAGE_DATA_CACHE_SIZE = "org.eclipse.rap.rwt.imageDataCacheSize";
+  public static final String PNG_COMPRESSION_LEVEL = "org.eclipse.rap.rwt.pngCompressionLevel";
+  public static final String PARALLEL_PNG_COMPRESSION
+    = "org.eclipse.rap.rwt.parallelPngCompression";
+  public static final String FAST_JPEG_DECODING = "org.eclipse.rap.rwt.fastJpegDecoding";
+  public static final String RESOURCE_MEMORY_LIMIT = "org.eclipse.rap.rwt.resourceMemoryLimit";
+  public static final String BUILD_CACHE_DIRECTORY = "org.eclipse.rap.rwt.buildCacheDirectory";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -40,6 +53,89 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  /*
+   * When enabled (the default), only widgets that were changed during a request are preserved
+   * and rendered instead of the entire widget tree.
+   */
+  public static boolean isChangeTrackingEnabled() {
+    return getBooleanProperty( CHANGE_TRACKING, true );
+  }
+
+  /*
+   * When enabled (the default), protocol operations are serialized while they are rendered
+   * instead of being kept in memory until the response is written.
+   */
+  public static boolean isProtocolStreamingEnabled() {
+    return getBooleanProperty( PROTOCOL_STREAMING, true );
+  }
+
+  /*
+   * When enabled (the default), UI responses are compressed if the client accepts it and the
+   * response is at least as large as the threshold (in bytes).
+   */
+  public static boolean isResponseCompressionEnabled() {
+    return getBooleanProperty( RESPONSE_COMPRESSION, true );
+  }
+
+  public static int getResponseCompressionThreshold( int defaultValue ) {
+    return getIntProperty( RESPONSE_COMPRESSION_THRESHOLD, defaultValue );
+  }
+
+  /*
+   * When enabled, UI threads in SWT_COMPATIBILITY mode are created as virtual threads if the Java
+   * runtime supports them. Platform threads are used otherwise.
+   */
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  /*
+   * The maximum number of bytes of decoded image data that is kept in memory per application.
+   */
+  public static int getImageDataCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_DATA_CACHE_SIZE, defaultValue );
+  }
+
+  /*
+   * The deflate level (0-9) used to encode PNG images for which no compression was requested,
+   * the default is 1 (best speed).
+   */
+  public static int getPngCompressionLevel( int defaultValue ) {
+    return getIntProperty( PNG_COMPRESSION_LEVEL, defaultValue );
+  }
+
+  /*
+   * When enabled, large PNG images are compressed in segments on the common fork-join pool. This
+   * is disabled by default, since the pool is shared with the rest of the JVM.
+   */
+  public static boolean isParallelPngCompressionEnabled() {
+    return getBooleanProperty( PARALLEL_PNG_COMPRESSION, false );
+  }
+
+  /*
+   * When enabled, JPEG images are decoded with the fast integer IDCT, which is less accurate in
+   * the lowest bits of a pixel. By default only reduced images are decoded this way.
+   */
+  public static boolean isFastJpegDecodingEnabled() {
+    return getBooleanProperty( FAST_JPEG_DECODING, false );
+  }
+
+  /*
+   * The maximum number of bytes of registered resources that are kept in memory per application
+   * to serve them without reading the resource directory.
+   */
+  public static int getResourceMemoryLimit( int defaultValue ) {
+    return getIntProperty( RESOURCE_MEMORY_LIMIT, defaultValue );
+  }
+
+  /*
+   * A directory that keeps the generated client library and the compressed resources that are
+   * registered on application start across restarts, by default no such directory is used.
+   */
+  public static String getBuildCacheDirectory() {
+    return System.getProperty( BUILD_CACHE_DIRECTORY );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
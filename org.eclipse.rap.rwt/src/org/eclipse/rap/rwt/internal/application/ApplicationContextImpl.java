@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.servlet.ServletContext;
 
+import org.eclipse.rap.rwt.application.Application.ServerPushTransport;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
@@ -31,6 +32,7 @@ import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.internal.remote.MessageFilter;
 import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
+import org.eclipse.rap.rwt.internal.resources.BuildCache;
 import org.eclipse.rap.rwt.internal.resources.ClientResources;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
 import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
@@ -58,6 +60,7 @@ import org.eclipse.rap.rwt.service.UIThreadListener;
 import org.eclipse.swt.internal.graphics.FontDataFactory;
 import org.eclipse.swt.internal.graphics.ImageDataFactory;
 import org.eclipse.swt.internal.graphics.ImageFactory;
+import org.eclipse.swt.internal.graphics.ImageVariantFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
@@ -96,6 +99,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ImageFactory imageFactory;
   private final InternalImageFactory internalImageFactory;
   private final ImageDataFactory imageDataFactory;
+  private final ImageVariantFactory imageVariantFactory;
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
@@ -103,11 +107,13 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
   private final ClientSelector clientSelector;
+  private final ApplicationScheduler scheduler;
   private final Set<ApplicationContextListener> appContextListeners;
   private final Set<UIThreadListener> uiThreadListeners;
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private ServerPushTransport serverPushTransport;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -136,6 +142,11 @@ public class ApplicationContextImpl implements ApplicationContext {
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
+    scheduler = new ApplicationScheduler();
+    imageVariantFactory = new ImageVariantFactory( resourceManager,
+                                                   imageDataFactory,
+                                                   BuildCache.create() );
+    serverPushTransport = ServerPushTransport.LONG_POLLING;
     appContextListeners = new HashSet<>();
     listenersLock = new SerializableLock();
     state = new AtomicReference<>( State.INACTIVE );
@@ -320,6 +331,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return imageDataFactory;
   }
 
+  public ImageVariantFactory getImageVariantFactory() {
+    return imageVariantFactory;
+  }
+
   public FontDataFactory getFontDataFactory() {
     return fontDataFactory;
   }
@@ -344,6 +359,18 @@ public class ApplicationContextImpl implements ApplicationContext {
     return clientSelector;
   }
 
+  public ApplicationScheduler getScheduler() {
+    return scheduler;
+  }
+
+  public ServerPushTransport getServerPushTransport() {
+    return serverPushTransport;
+  }
+
+  public void setServerPushTransport( ServerPushTransport serverPushTransport ) {
+    this.serverPushTransport = serverPushTransport;
+  }
+
   public ExceptionHandler getExceptionHandler() {
     return exceptionHandler;
   }
@@ -398,6 +425,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     settingStoreManager.deregisterFactory();
     resourceDirectory.reset();
     applicationStore.reset();
+    scheduler.deactivate();
   }
 
   private ServiceManagerImpl createServiceManager() {
@@ -63,6 +63,13 @@ public class ApplicationImpl implements Application {
     }
   }
 
+  @Override
+  public void setServerPushTransport( ServerPushTransport transport ) {
+    ParamCheck.notNull( transport, "transport" );
+
+    applicationContext.setServerPushTransport( transport );
+  }
+
   @Override
   public void setSettingStoreFactory( SettingStoreFactory settingStoreFactory ) {
     ParamCheck.notNull( settingStoreFactory, "settingStoreFactory" );
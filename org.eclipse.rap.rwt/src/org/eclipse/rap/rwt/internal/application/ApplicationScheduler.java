@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.application;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/*
+ * A scheduler that is shared by all UI sessions of an application. It is used for short
+ * periodic and delayed tasks, so that these do not require a thread per UI session. Tasks must
+ * not block, as they are executed by a small, fixed number of threads.
+ */
+public class ApplicationScheduler {
+
+  private static final int THREAD_COUNT = 2;
+
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+
+  ApplicationScheduler() {
+    lock = new Object();
+  }
+
+  public ScheduledFuture<?> schedule( Runnable task, long delay ) {
+    return getExecutor().schedule( task, delay, TimeUnit.MILLISECONDS );
+  }
+
+  public ScheduledFuture<?> scheduleWithFixedDelay( Runnable task, long delay ) {
+    return getExecutor().scheduleWithFixedDelay( task, delay, delay, TimeUnit.MILLISECONDS );
+  }
+
+  void deactivate() {
+    synchronized( lock ) {
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    synchronized( lock ) {
+      if( executor == null ) {
+        executor = new ScheduledThreadPoolExecutor( THREAD_COUNT, new SchedulerThreadFactory() );
+        // cancelled tasks would otherwise remain in the queue until their delay has elapsed
+        executor.setRemoveOnCancelPolicy( true );
+      }
+      return executor;
+    }
+  }
+
+  private static class SchedulerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable, "RWT scheduler " + threadNumber.incrementAndGet() );
+      thread.setDaemon( true );
+      return thread;
+    }
+
+  }
+
+}
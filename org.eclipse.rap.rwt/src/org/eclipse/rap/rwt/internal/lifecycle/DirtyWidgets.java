@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getLCA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Widget;
+
+
+/*
+ * Keeps track of all remote adapters that hold preserved values or have been marked as dirty
+ * since the last render phase. This allows the life cycle to preserve, render and clear only the
+ * widgets that were actually changed instead of visiting the entire widget tree.
+ *
+ * The list is kept per UI session, not per request, so that adapters that were marked in a
+ * request that did not reach the render phase are still cleared in a subsequent request.
+ */
+public final class DirtyWidgets implements SerializableCompatibility {
+
+  private transient List<WidgetRemoteAdapter> adapters;
+
+  private DirtyWidgets() {
+    // prevent instantiation from outside
+  }
+
+  public static boolean register( WidgetRemoteAdapter adapter ) {
+    if( ContextProvider.hasContext() ) {
+      getInstance().getAdapters().add( adapter );
+      return true;
+    }
+    return false;
+  }
+
+  public static void markDirty( Widget widget ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    adapter.markDirty();
+    preserveValues( widget );
+  }
+
+  public static void preserveValues( Widget widget ) {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() && !adapter.hasPreservedValues() ) {
+      adapter.markValuesPreserved();
+      getLCA( widget ).preserveValues( widget );
+    }
+  }
+
+  public static void clear() {
+    List<WidgetRemoteAdapter> adapters = getInstance().getAdapters();
+    for( WidgetRemoteAdapter adapter : adapters ) {
+      adapter.clearPreserved();
+      adapter.clearDirty();
+    }
+    adapters.clear();
+  }
+
+  public static List<WidgetRemoteAdapter> getAll() {
+    return getInstance().getAdapters();
+  }
+
+  private static DirtyWidgets getInstance() {
+    return SingletonUtil.getSessionInstance( DirtyWidgets.class );
+  }
+
+  private static WidgetRemoteAdapter getRemoteAdapter( Widget widget ) {
+    return ( WidgetRemoteAdapter )widget.getAdapter( RemoteAdapter.class );
+  }
+
+  private List<WidgetRemoteAdapter> getAdapters() {
+    if( adapters == null ) {
+      adapters = new ArrayList<>();
+    }
+    return adapters;
+  }
+
+}
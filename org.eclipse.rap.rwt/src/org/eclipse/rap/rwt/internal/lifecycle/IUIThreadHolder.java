@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import java.util.concurrent.locks.Lock;
+
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
 
 
@@ -26,5 +28,5 @@ public interface IUIThreadHolder {
 
   Thread getThread();
 
-  Object getLock();
+  Lock getLock();
 }
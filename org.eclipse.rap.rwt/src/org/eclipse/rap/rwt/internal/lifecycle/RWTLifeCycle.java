@@ -12,6 +12,7 @@
 package org.eclipse.rap.rwt.internal.lifecycle;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -187,9 +188,13 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
+      Lock lock = uiThread.getLock();
+      lock.lock();
+      try {
         uiThread.getThread().start();
         uiThread.switchThread();
+      } finally {
+        lock.unlock();
       }
     } else {
       uiThread.setServiceContext( context );
@@ -237,9 +242,7 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
-    result.getThread().setDaemon( true );
-    result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
+    IUIThreadHolder result = new UIThread( uiRunnable, "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
     setShutdownAdapter( ( ISessionShutdownAdapter )result );
     return result;
@@ -279,10 +282,12 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = UIThread.getCurrent();
+      Lock lock = uiThread.getLock();
       try {
         // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
+        lock.lock();
+        try {
           try {
             uiThread.updateServiceContext();
             ServerPushManager.getInstance().notifyUIThreadStart();
@@ -303,6 +308,8 @@ public class RWTLifeCycle extends LifeCycle {
           uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
           // In any case: wait for the thread to be terminated by session timeout
           uiThread.switchThread();
+        } finally {
+          lock.unlock();
         }
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
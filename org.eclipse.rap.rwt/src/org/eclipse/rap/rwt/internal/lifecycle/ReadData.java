@@ -27,7 +27,6 @@ final class ReadData implements IPhase {
   public PhaseId execute( Display display ) {
     DisplayLCA displayLCA = DisplayUtil.getLCA( display );
     displayLCA.readData( display );
-    displayLCA.clearPreserved( display );
     displayLCA.preserveValues( display );
     return PhaseId.PROCESS_ACTION;
   }
@@ -26,6 +26,10 @@ public interface RemoteAdapter {
 
   Object getPreserved( String propertyName );
 
+  void preserve( int propertyId, Object value );
+
+  Object getPreserved( int propertyId );
+
   void markDisposed( Widget widget );
 
 }
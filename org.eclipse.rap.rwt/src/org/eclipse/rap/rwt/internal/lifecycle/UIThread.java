@@ -11,6 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.lifecycle;
 
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceContext;
@@ -20,20 +24,38 @@ import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.widgets.Display;
 
 
+/*
+ * Holds the UI thread of a UI session. Control is handed over between the request thread and
+ * the UI thread with a ReentrantLock instead of an object monitor, so that a virtual UI thread
+ * that waits in switchThread() does not pin its carrier thread.
+ */
 @SuppressWarnings( "deprecation" )
-final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdownAdapter {
+final class UIThread implements IUIThreadHolder, ISessionShutdownAdapter, Runnable {
 
   static final class UIThreadTerminatedError extends ThreadDeath {
     private static final long serialVersionUID = 1L;
   }
 
+  private static final ThreadLocal<UIThread> CURRENT = new ThreadLocal<>();
+
+  private final Runnable runnable;
+  private final Thread thread;
+  private final ReentrantLock lock;
+  private final Condition switched;
   private ServiceContext serviceContext;
   private UISession uiSession;
   private Runnable shutdownCallback;
   private volatile boolean uiThreadTerminating;
 
-  public UIThread( Runnable runnable ) {
-    super( runnable );
+  public UIThread( Runnable runnable, String name ) {
+    this.runnable = runnable;
+    lock = new ReentrantLock();
+    switched = lock.newCondition();
+    thread = UIThreadFactory.createThread( this, name );
+  }
+
+  static UIThread getCurrent() {
+    return CURRENT.get();
   }
 
   //////////////////////////
@@ -54,19 +76,21 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public void switchThread() {
-    Object lock = getLock();
-    synchronized( lock ) {
+    lock.lock();
+    try {
       checkAndReportTerminatedUIThread();
-      lock.notifyAll();
+      switched.signalAll();
       boolean done = false;
       while( !done ) {
         try {
-          lock.wait();
+          switched.await();
           done = true;
         } catch( InterruptedException e ) {
           handleInterruptInSwitchThread( e );
         }
       }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -103,10 +127,11 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public void run() {
+    CURRENT.set( this );
     try {
-      super.run();
+      runnable.run();
     } finally {
-      // TODO [rh] call lock.notifyAll()?
+      CURRENT.remove();
     }
   }
 
@@ -118,8 +143,11 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
     setServiceContext( serviceContext );
     uiThreadTerminating = true;
     // interrupt the UI thread that is expected to wait in switchThread or already be terminated
-    synchronized( getLock() ) {
+    lock.lock();
+    try {
       getThread().interrupt();
+    } finally {
+      lock.unlock();
     }
     try {
       getThread().join();
@@ -132,13 +160,12 @@ final class UIThread extends Thread implements IUIThreadHolder, ISessionShutdown
 
   @Override
   public Thread getThread() {
-    return this;
+    return thread;
   }
 
   @Override
-  public Object getLock() {
-    // TODO [rh] use a distinct (final) lock object instead of 'this'
-    return this;
+  public Lock getLock() {
+    return lock;
   }
 
 
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+
+
+/*
+ * Creates the threads for UI sessions in SWT_COMPATIBILITY mode. If virtual UI threads are
+ * enabled and the runtime supports them (Java 21 or later), a virtual thread is created instead
+ * of a platform thread. The virtual thread API is accessed reflectively, as RWT still has to run
+ * on older Java versions.
+ */
+final class UIThreadFactory {
+
+  private static final Method OF_VIRTUAL = findMethod( Thread.class, "ofVirtual" );
+  private static final Method UNSTARTED = findBuilderMethod( "unstarted", Runnable.class );
+  private static final Method NAME = findBuilderMethod( "name", String.class );
+
+  static Thread createThread( Runnable runnable, String name ) {
+    if( RWTProperties.isVirtualUIThreadsEnabled() && isVirtualThreadSupported() ) {
+      return createVirtualThread( runnable, name );
+    }
+    Thread result = new Thread( runnable, name );
+    result.setDaemon( true );
+    return result;
+  }
+
+  static boolean isVirtualThreadSupported() {
+    return OF_VIRTUAL != null && UNSTARTED != null && NAME != null;
+  }
+
+  private static Thread createVirtualThread( Runnable runnable, String name ) {
+    try {
+      Object builder = OF_VIRTUAL.invoke( null );
+      builder = NAME.invoke( builder, name );
+      return ( Thread )UNSTARTED.invoke( builder, runnable );
+    } catch( Exception exception ) {
+      throw new IllegalStateException( "Failed to create virtual UI thread", exception );
+    }
+  }
+
+  private static Method findBuilderMethod( String name, Class<?> parameterType ) {
+    try {
+      Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+      return findMethod( builderClass, name, parameterType );
+    } catch( @SuppressWarnings( "unused" ) ClassNotFoundException exception ) {
+      return null;
+    }
+  }
+
+  private static Method findMethod( Class<?> type, String name, Class<?>... parameterTypes ) {
+    try {
+      return type.getMethod( name, parameterTypes );
+    } catch( @SuppressWarnings( "unused" ) NoSuchMethodException exception ) {
+      return null;
+    }
+  }
+
+  private UIThreadFactory() {
+    // prevent instantiation
+  }
+
+}
@@ -46,6 +46,7 @@ public abstract class WidgetLCA<T extends Widget>  {
     String id = getId( widget );
     List<Operation> operations = clientMessage.getAllOperationsFor( id );
     if( !operations.isEmpty() ) {
+      ( ( WidgetRemoteAdapter )WidgetUtil.getAdapter( widget ) ).markDirty();
       OperationHandler handler = getOperationHandler( id );
       for( Operation operation : operations ) {
         handleOperation( handler, operation );
@@ -24,6 +24,8 @@ import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 import static org.eclipse.swt.internal.events.EventLCAUtil.containsEvent;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isToolTipMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyName;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,18 +57,37 @@ import org.eclipse.swt.widgets.Widget;
 public final class WidgetLCAUtil {
 
   private static final String PROP_TOOLTIP = "toolTip";
+  private static final int PROP_TOOLTIP_ID = getPropertyId( PROP_TOOLTIP );
   private static final String PROP_TOOLTIP_MARKUP_ENABLED = "toolTipMarkupEnabled";
   private static final String PROP_FONT = "font";
+  private static final int PROP_FONT_ID = getPropertyId( PROP_FONT );
   private static final String PROP_FOREGROUND = "foreground";
+  private static final int PROP_FOREGROUND_ID = getPropertyId( PROP_FOREGROUND );
   private static final String PROP_BACKGROUND = "background";
+  private static final int PROP_BACKGROUND_ID = getPropertyId( PROP_BACKGROUND );
   private static final String PROP_BACKGROUND_TRANSPARENCY = "backgroundTrans";
+  private static final int PROP_BACKGROUND_TRANSPARENCY_ID
+    = getPropertyId( PROP_BACKGROUND_TRANSPARENCY );
   private static final String PROP_BACKGROUND_GRADIENT_COLORS = "backgroundGradientColors";
+  private static final int PROP_BACKGROUND_GRADIENT_COLORS_ID
+    = getPropertyId( PROP_BACKGROUND_GRADIENT_COLORS );
   private static final String PROP_BACKGROUND_GRADIENT_PERCENTS = "backgroundGradientPercents";
+  private static final int PROP_BACKGROUND_GRADIENT_PERCENTS_ID
+    = getPropertyId( PROP_BACKGROUND_GRADIENT_PERCENTS );
   private static final String PROP_BACKGROUND_GRADIENT_VERTICAL = "backgroundGradientVertical";
+  private static final int PROP_BACKGROUND_GRADIENT_VERTICAL_ID
+    = getPropertyId( PROP_BACKGROUND_GRADIENT_VERTICAL );
   private static final String PROP_ROUNDED_BORDER_WIDTH = "roundedBorderWidth";
+  private static final int PROP_ROUNDED_BORDER_WIDTH_ID
+    = getPropertyId( PROP_ROUNDED_BORDER_WIDTH );
   private static final String PROP_ROUNDED_BORDER_COLOR = "roundedBorderColor";
+  private static final int PROP_ROUNDED_BORDER_COLOR_ID
+    = getPropertyId( PROP_ROUNDED_BORDER_COLOR );
   private static final String PROP_ROUNDED_BORDER_RADIUS = "roundedBorderRadius";
+  private static final int PROP_ROUNDED_BORDER_RADIUS_ID
+    = getPropertyId( PROP_ROUNDED_BORDER_RADIUS );
   private static final String PROP_ENABLED = "enabled";
+  private static final int PROP_ENABLED_ID = getPropertyId( PROP_ENABLED );
   private static final String PROP_DATA = "data";
   private static final String PROP_VARIANT = "customVariant";
   private static final String PROP_HELP_LISTENER = "Help";
@@ -82,24 +103,24 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveBounds( Widget widget, Rectangle bounds ) {
-    getAdapter( widget ).preserve( Props.BOUNDS, bounds );
+    getRemoteAdapter( widget ).preserve( Props.BOUNDS_ID, bounds );
   }
 
   public static void preserveEnabled( Widget widget, boolean enabled ) {
-    getAdapter( widget ).preserve( PROP_ENABLED, Boolean.valueOf( enabled ) );
+    getRemoteAdapter( widget ).preserve( PROP_ENABLED_ID, Boolean.valueOf( enabled ) );
   }
 
   public static void preserveToolTipText( Widget widget, String toolTip ) {
     String text = toolTip == null ? "" : toolTip;
-    getAdapter( widget ).preserve( PROP_TOOLTIP, text );
+    getRemoteAdapter( widget ).preserve( PROP_TOOLTIP_ID, text );
   }
 
   public static void preserveFont( Widget widget, Font font ) {
-    getAdapter( widget ).preserve( PROP_FONT, font );
+    getRemoteAdapter( widget ).preserve( PROP_FONT_ID, font );
   }
 
   public static void preserveForeground( Widget widget, Color foreground ) {
-    getAdapter( widget ).preserve( PROP_FOREGROUND, foreground );
+    getRemoteAdapter( widget ).preserve( PROP_FOREGROUND_ID, foreground );
   }
 
   public static void preserveBackground( Widget widget, Color background ) {
@@ -107,9 +128,9 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveBackground( Widget widget, Color background, boolean transparency ) {
-    RemoteAdapter adapter = getAdapter( widget );
-    adapter.preserve( PROP_BACKGROUND, background );
-    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY, Boolean.valueOf( transparency ) );
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    adapter.preserve( PROP_BACKGROUND_ID, background );
+    adapter.preserve( PROP_BACKGROUND_TRANSPARENCY_ID, Boolean.valueOf( transparency ) );
   }
 
   public static void preserveBackgroundGradient( Widget widget ) {
@@ -119,10 +140,10 @@ public final class WidgetLCAUtil {
       Color[] bgGradientColors = gfxAdapter.getBackgroundGradientColors();
       int[] bgGradientPercents = gfxAdapter.getBackgroundGradientPercents();
       boolean bgGradientVertical = gfxAdapter.isBackgroundGradientVertical();
-      RemoteAdapter widgetAdapter = getAdapter( widget );
-      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_COLORS, bgGradientColors );
-      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_PERCENTS, bgGradientPercents );
-      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_VERTICAL,
+      WidgetRemoteAdapter widgetAdapter = getRemoteAdapter( widget );
+      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_COLORS_ID, bgGradientColors );
+      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_PERCENTS_ID, bgGradientPercents );
+      widgetAdapter.preserve( PROP_BACKGROUND_GRADIENT_VERTICAL_ID,
                               Boolean.valueOf( bgGradientVertical ) );
     }
   }
@@ -134,10 +155,10 @@ public final class WidgetLCAUtil {
       int width = gfxAdapter.getRoundedBorderWidth();
       Color color = gfxAdapter.getRoundedBorderColor();
       Rectangle radius = gfxAdapter.getRoundedBorderRadius();
-      RemoteAdapter widgetAdapter = getAdapter( widget );
-      widgetAdapter.preserve( PROP_ROUNDED_BORDER_WIDTH, Integer.valueOf( width ) );
-      widgetAdapter.preserve( PROP_ROUNDED_BORDER_COLOR, color );
-      widgetAdapter.preserve( PROP_ROUNDED_BORDER_RADIUS, radius );
+      WidgetRemoteAdapter widgetAdapter = getRemoteAdapter( widget );
+      widgetAdapter.preserve( PROP_ROUNDED_BORDER_WIDTH_ID, Integer.valueOf( width ) );
+      widgetAdapter.preserve( PROP_ROUNDED_BORDER_COLOR_ID, color );
+      widgetAdapter.preserve( PROP_ROUNDED_BORDER_RADIUS_ID, radius );
     }
   }
 
@@ -178,21 +199,21 @@ public final class WidgetLCAUtil {
   }
 
   public static void renderBounds( Widget widget, Rectangle bounds ) {
-    renderProperty( widget, Props.BOUNDS, bounds, null );
+    renderProperty( widget, Props.BOUNDS_ID, bounds, null );
   }
 
   public static void renderEnabled( Widget widget, boolean enabled ) {
-    renderProperty( widget, Props.ENABLED, enabled, true );
+    renderProperty( widget, Props.ENABLED_ID, enabled, true );
   }
 
   public static void renderMenu( Widget widget, Menu menu ) {
-    renderProperty( widget, Props.MENU, menu, null );
+    renderProperty( widget, Props.MENU_ID, menu, null );
   }
 
   public static void renderToolTip( Widget widget, String toolTip ) {
     renderToolTipMarkupEnabled( widget );
     String text = toolTip == null ? "" : toolTip;
-    if( hasChanged( widget, PROP_TOOLTIP, text, "" ) ) {
+    if( hasChanged( widget, PROP_TOOLTIP_ID, text, "" ) ) {
       if( !isToolTipMarkupEnabledFor( widget ) ) {
         text = removeAmpersandControlCharacters( text );
       }
@@ -208,13 +229,13 @@ public final class WidgetLCAUtil {
   }
 
   public static void renderFont( Widget widget, Font font ) {
-    if( hasChanged( widget, PROP_FONT, font, null ) ) {
+    if( hasChanged( widget, PROP_FONT_ID, font, null ) ) {
       getRemoteObject( widget ).set( PROP_FONT, toJson( font ) );
     }
   }
 
   public static void renderForeground( Widget widget, Color newColor ) {
-    if( hasChanged( widget, PROP_FOREGROUND, newColor, null ) ) {
+    if( hasChanged( widget, PROP_FOREGROUND_ID, newColor, null ) ) {
       getRemoteObject( widget ).set( PROP_FOREGROUND, toJson( newColor ) );
     }
   }
@@ -225,10 +246,10 @@ public final class WidgetLCAUtil {
 
   public static void renderBackground( Widget widget, Color background, boolean transparency ) {
     boolean transparencyChanged = hasChanged( widget,
-                                              PROP_BACKGROUND_TRANSPARENCY,
+                                              PROP_BACKGROUND_TRANSPARENCY_ID,
                                               Boolean.valueOf( transparency ),
                                               Boolean.FALSE );
-    boolean colorChanged = hasChanged( widget, PROP_BACKGROUND, background, null );
+    boolean colorChanged = hasChanged( widget, PROP_BACKGROUND_ID, background, null );
     if( transparencyChanged || colorChanged ) {
       JsonValue color = transparency && background == null
                       ? toJson( new RGB( 0, 0, 0 ), 0 )
@@ -266,15 +287,15 @@ public final class WidgetLCAUtil {
     int[] bgGradientPercents = graphicsAdapter.getBackgroundGradientPercents();
     boolean bgGradientVertical = graphicsAdapter.isBackgroundGradientVertical();
     return    hasChanged( widget,
-                          PROP_BACKGROUND_GRADIENT_COLORS,
+                          PROP_BACKGROUND_GRADIENT_COLORS_ID,
                           bgGradientColors,
                           null )
            || hasChanged( widget,
-                          PROP_BACKGROUND_GRADIENT_PERCENTS,
+                          PROP_BACKGROUND_GRADIENT_PERCENTS_ID,
                           bgGradientPercents,
                           null )
            || hasChanged( widget,
-                          PROP_BACKGROUND_GRADIENT_VERTICAL,
+                          PROP_BACKGROUND_GRADIENT_VERTICAL_ID,
                           Boolean.valueOf( bgGradientVertical ),
                           Boolean.FALSE );
   }
@@ -308,15 +329,15 @@ public final class WidgetLCAUtil {
     Rectangle radius = graphicsAdapter.getRoundedBorderRadius();
     return
          hasChanged( widget,
-                     PROP_ROUNDED_BORDER_WIDTH,
+                     PROP_ROUNDED_BORDER_WIDTH_ID,
                      Integer.valueOf( width ),
                      Integer.valueOf( 0 ) )
       || hasChanged( widget,
-                     PROP_ROUNDED_BORDER_COLOR,
+                     PROP_ROUNDED_BORDER_COLOR_ID,
                      color,
                      null )
       || hasChanged( widget,
-                     PROP_ROUNDED_BORDER_RADIUS,
+                     PROP_ROUNDED_BORDER_RADIUS_ID,
                      radius,
                      DEF_ROUNDED_BORDER_RADIUS );
   }
@@ -325,187 +346,183 @@ public final class WidgetLCAUtil {
     return ProtocolUtil.wasEventSent( getId( widget ), eventName );
   }
 
-  public static void preserveProperty( Widget widget, String property, Object value ) {
-    getAdapter( widget ).preserve( property, value );
+  public static void preserveProperty( Widget widget, int property, Object value ) {
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
-  public static void preserveProperty( Widget widget, String property, int value ) {
-    preserveProperty( widget, property, Integer.valueOf( value ) );
+  public static void preserveProperty( Widget widget, int property, int value ) {
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
-  public static void preserveProperty( Widget widget, String property, boolean value ) {
-    preserveProperty( widget, property, Boolean.valueOf( value ) );
+  public static void preserveProperty( Widget widget, int property, boolean value ) {
+    getRemoteAdapter( widget ).preserve( property, value );
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      String newValue,
                                      String defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, newValue );
+      getRemoteObject( widget ).set( getPropertyName( property ), newValue );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Integer newValue,
                                      Integer defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : JsonValue.valueOf( newValue.intValue() );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      String[] newValue,
                                      String[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      boolean[] newValue,
                                      boolean[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      int[] newValue,
                                      int[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      int newValue,
                                      int defaultValue )
   {
-    Integer newValueObject = Integer.valueOf( newValue );
-    Integer defaultValueObject = Integer.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
-      getRemoteObject( widget ).set( property, newValue );
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).set( getPropertyName( property ), newValue );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
-      getRemoteObject( widget ).set( property, newValue );
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).set( getPropertyName( property ), newValue );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Image newValue,
                                      Image defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, toJson( newValue ) );
+      getRemoteObject( widget ).set( getPropertyName( property ), toJson( newValue ) );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Image[] newValue,
                                      Image[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Color newValue,
                                      Color defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, toJson( newValue ) );
+      getRemoteObject( widget ).set( getPropertyName( property ), toJson( newValue ) );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Color[] newValue,
                                      Color[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Font[] newValue,
                                      Font[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       JsonValue value = newValue == null ? JsonValue.NULL : createJsonArray( newValue );
-      getRemoteObject( widget ).set( property, value );
+      getRemoteObject( widget ).set( getPropertyName( property ), value );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Point newValue,
                                      Point defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, toJson( newValue ) );
+      getRemoteObject( widget ).set( getPropertyName( property ), toJson( newValue ) );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Point[] newValue,
                                      Point[] defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, toJson( newValue ) );
+      getRemoteObject( widget ).set( getPropertyName( property ), toJson( newValue ) );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Rectangle newValue,
                                      Rectangle defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
-      getRemoteObject( widget ).set( property, toJson( newValue ) );
+      getRemoteObject( widget ).set( getPropertyName( property ), toJson( newValue ) );
     }
   }
 
   public static void renderProperty( Widget widget,
-                                     String property,
+                                     int property,
                                      Widget newValue,
                                      Widget defaultValue )
   {
     if( hasChanged( widget, property, newValue, defaultValue ) ) {
       String widgetId = newValue == null ? null : getId( newValue );
-      getRemoteObject( widget ).set( property, widgetId );
+      getRemoteObject( widget ).set( getPropertyName( property ), widgetId );
     }
   }
 
@@ -546,19 +563,17 @@ public final class WidgetLCAUtil {
     }
   }
 
-  public static void preserveListener( Widget widget, String listener, boolean value ) {
-    getAdapter( widget ).preserve( listener, Boolean.valueOf( value ) );
+  public static void preserveListener( Widget widget, int listener, boolean value ) {
+    getRemoteAdapter( widget ).preserve( listener, value );
   }
 
   public static void renderListener( Widget widget,
-                                     String listener,
+                                     int listener,
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, listener, newValueObject, defaultValueObject ) ) {
-      getRemoteObject( widget ).listen( listener, newValue );
+    if( hasChanged( widget, listener, newValue, defaultValue ) ) {
+      getRemoteObject( widget ).listen( getPropertyName( listener ), newValue );
     }
   }
 
@@ -604,19 +619,43 @@ public final class WidgetLCAUtil {
     ClientListenerUtil.clearClientListenerOperations( widget );
   }
 
-  public static boolean hasChanged( Widget widget, String property, Object actualValue ) {
-    return !equals( actualValue, getAdapter( widget ).getPreserved( property ) );
+  public static boolean hasChanged( Widget widget, int property, Object actualValue ) {
+    return !equals( actualValue, getRemoteAdapter( widget ).getPreserved( property ) );
   }
 
   public static boolean hasChanged( Widget widget,
-                                    String property,
+                                    int property,
                                     Object actualValue,
                                     Object defaultValue )
   {
-    Object preservedValue = getAdapter( widget ).getPreserved( property );
+    Object preservedValue = getRemoteAdapter( widget ).getPreserved( property );
     return changed( widget, actualValue, preservedValue, defaultValue );
   }
 
+  private static boolean hasChanged( Widget widget,
+                                     int property,
+                                     int actualValue,
+                                     int defaultValue )
+  {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
+  private static boolean hasChanged( Widget widget,
+                                     int property,
+                                     boolean actualValue,
+                                     boolean defaultValue )
+  {
+    WidgetRemoteAdapter adapter = getRemoteAdapter( widget );
+    if( adapter.isInitialized() ) {
+      return !adapter.isPreserved( property, actualValue );
+    }
+    return actualValue != defaultValue;
+  }
+
   static boolean changed( Widget widget,
                           Object actualValue,
                           Object preservedValue,
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+
+/*
+ * Serializes operations into a UTF-8 encoded buffer as soon as they are complete, so that the
+ * operation objects of a message do not have to be kept in memory until the response is written.
+ */
+final class OperationWriter {
+
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+
+  private final ByteArrayOutputStream buffer;
+  private final Writer writer;
+  private boolean empty;
+
+  OperationWriter() {
+    buffer = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+    writer = new BufferedWriter( new OutputStreamWriter( buffer, UTF_8 ) );
+    empty = true;
+  }
+
+  void write( Operation operation ) {
+    try {
+      if( !empty ) {
+        writer.write( ',' );
+      }
+      operation.toJson().writeTo( writer );
+      empty = false;
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+  }
+
+  byte[] toByteArray() {
+    try {
+      writer.flush();
+    } catch( IOException exception ) {
+      // ByteArrayOutputStream does not throw IOExceptions
+      throw new RuntimeException( exception );
+    }
+    return buffer.toByteArray();
+  }
+
+}
@@ -26,12 +26,23 @@ public class ProtocolMessageWriter {
 
   private final JsonObject head;
   private final List<Operation> operations;
+  private final OperationWriter operationWriter;
   private Operation pendingOperation;
   private boolean alreadyCreated;
 
   public ProtocolMessageWriter() {
+    this( false );
+  }
+
+  /*
+   * In streaming mode, every operation is serialized as soon as it is complete instead of being
+   * kept until the message is created. Consecutive set and listen operations on the same target
+   * are still merged, as only the pending operation is kept as an object.
+   */
+  public ProtocolMessageWriter( boolean streaming ) {
     head = new JsonObject();
-    operations = new ArrayList<>();
+    operations = streaming ? null : new ArrayList<Operation>();
+    operationWriter = streaming ? new OperationWriter() : null;
   }
 
   public void appendHead( String property, int value ) {
@@ -118,6 +129,9 @@ public class ProtocolMessageWriter {
 
   private ResponseMessage createMessageObject() {
     appendPendingOperation();
+    if( operationWriter != null ) {
+      return new StreamedResponseMessage( head, operationWriter.toByteArray() );
+    }
     return new ResponseMessage( head, operations );
   }
 
@@ -131,7 +145,12 @@ public class ProtocolMessageWriter {
 
   private void appendPendingOperation() {
     if( pendingOperation != null ) {
-      operations.add( pendingOperation );
+      if( operationWriter != null ) {
+        operationWriter.write( pendingOperation );
+      } else {
+        operations.add( pendingOperation );
+      }
+      pendingOperation = null;
     }
   }
 
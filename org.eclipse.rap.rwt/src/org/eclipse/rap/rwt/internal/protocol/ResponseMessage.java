@@ -10,6 +10,13 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
@@ -25,4 +32,10 @@ public class ResponseMessage extends Message {
     super( head, operations );
   }
 
+  public void writeTo( OutputStream outputStream ) throws IOException {
+    Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, UTF_8 ) );
+    toJson().writeTo( writer );
+    writer.flush();
+  }
+
 }
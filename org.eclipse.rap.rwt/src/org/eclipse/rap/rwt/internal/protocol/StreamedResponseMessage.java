@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.rap.rwt.internal.protocol.OperationReader.readOperation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.JsonValue;
+
+
+/*
+ * A response message whose operations have already been serialized by the protocol writer. The
+ * operations are only parsed back into objects when they are accessed, e.g. by a message filter.
+ */
+final class StreamedResponseMessage extends ResponseMessage {
+
+  private final byte[] operationsJson;
+  private boolean operationsRead;
+
+  StreamedResponseMessage( JsonObject head, byte[] operationsJson ) {
+    super( head, new ArrayList<Operation>() );
+    this.operationsJson = operationsJson;
+  }
+
+  @Override
+  public List<Operation> getOperations() {
+    List<Operation> operations = super.getOperations();
+    if( !operationsRead ) {
+      operationsRead = true;
+      String json = "[" + new String( operationsJson, UTF_8 ) + "]";
+      for( JsonValue operation : JsonArray.readFrom( json ) ) {
+        operations.add( readOperation( operation ) );
+      }
+    }
+    return operations;
+  }
+
+  @Override
+  public JsonObject toJson() {
+    getOperations();
+    return super.toJson();
+  }
+
+  @Override
+  public void writeTo( OutputStream outputStream ) throws IOException {
+    if( operationsRead ) {
+      super.writeTo( outputStream );
+    } else {
+      Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, UTF_8 ) );
+      writer.write( "{\"head\":" );
+      getHead().writeTo( writer );
+      writer.write( ",\"operations\":[" );
+      writer.flush();
+      outputStream.write( operationsJson );
+      outputStream.write( ']' );
+      outputStream.write( '}' );
+    }
+  }
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+
+
+/*
+ * An optional directory that keeps artifacts which are generated on application start, like the
+ * client library and the compressed variants of resources, across restarts. Entries are
+ * immutable, the key must be derived from all inputs of an artifact. The cache is disabled unless
+ * a directory is configured.
+ */
+public final class BuildCache {
+
+  private final File directory;
+
+  public BuildCache( File directory ) {
+    this.directory = directory;
+  }
+
+  public static BuildCache create() {
+    String directoryName = RWTProperties.getBuildCacheDirectory();
+    return new BuildCache( directoryName != null ? new File( directoryName ) : null );
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /*
+   * Returns the content of the entry with the given key, or null if there is no such entry or
+   * the cache is disabled. Reading an entry marks it as recently used, see evict.
+   */
+  public byte[] get( String key ) {
+    if( directory != null ) {
+      try {
+        byte[] result = Files.readAllBytes( getPath( key ) );
+        getPath( key ).toFile().setLastModified( System.currentTimeMillis() );
+        return result;
+      } catch( @SuppressWarnings( "unused" ) NoSuchFileException exception ) {
+        // not cached yet
+      } catch( IOException exception ) {
+        ServletLog.log( "Failed to read build cache entry: " + key, exception );
+      }
+    }
+    return null;
+  }
+
+  /*
+   * Entries are written to a temporary file that replaces the entry once it is complete, so
+   * that applications which share the directory never read a partial entry. Failing to write an
+   * entry is not fatal, the artifact is generated again on the next start.
+   */
+  public void put( String key, byte[] content ) {
+    if( directory != null ) {
+      Path tempFile = null;
+      try {
+        Files.createDirectories( directory.toPath() );
+        tempFile = Files.createTempFile( directory.toPath(), ".entry-", ".tmp" );
+        Files.write( tempFile, content );
+        replaceFile( tempFile, getPath( key ) );
+      } catch( IOException exception ) {
+        ServletLog.log( "Failed to write build cache entry: " + key, exception );
+      } finally {
+        deleteTempFile( tempFile );
+      }
+    }
+  }
+
+  /*
+   * Deletes the least recently used entries whose key starts with the given prefix, so that at
+   * most the given number of them remain. Keys change with the inputs of an artifact and
+   * outdated entries are never read again, therefore every kind of entry must be bounded.
+   */
+  public void evict( String prefix, int maxEntries ) {
+    File[] files = directory != null ? directory.listFiles() : null;
+    if( files != null ) {
+      /* entries may be read concurrently, sort by a snapshot of their modification times */
+      final Map<File, Long> entryTimes = new HashMap<>();
+      for( File file : files ) {
+        if( file.getName().startsWith( prefix ) ) {
+          entryTimes.put( file, Long.valueOf( file.lastModified() ) );
+        }
+      }
+      if( entryTimes.size() > maxEntries ) {
+        List<File> entries = new ArrayList<>( entryTimes.keySet() );
+        Collections.sort( entries, new Comparator<File>() {
+          @Override
+          public int compare( File file1, File file2 ) {
+            return entryTimes.get( file1 ).compareTo( entryTimes.get( file2 ) );
+          }
+        } );
+        for( File entry : entries.subList( 0, entries.size() - maxEntries ) ) {
+          entry.delete();
+        }
+      }
+    }
+  }
+
+  private Path getPath( String key ) {
+    return new File( directory, key ).toPath();
+  }
+
+  private static void replaceFile( Path source, Path target ) throws IOException {
+    try {
+      Files.move( source, target, REPLACE_EXISTING, ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source, target, REPLACE_EXISTING );
+    }
+  }
+
+  private static void deleteTempFile( Path tempFile ) {
+    if( tempFile != null ) {
+      try {
+        Files.deleteIfExists( tempFile );
+      } catch( @SuppressWarnings( "unused" ) IOException exception ) {
+        // a left over temporary file does not affect the cache
+      }
+    }
+  }
+
+}
@@ -14,15 +14,21 @@ package org.eclipse.rap.rwt.internal.resources;
 
 import static org.eclipse.rap.rwt.internal.resources.ClientFilesReader.getInputFiles;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.theme.AppearanceWriter;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
+import org.eclipse.rap.rwt.internal.util.ContentDigest;
 import org.eclipse.rap.rwt.internal.util.HTTP;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
@@ -32,6 +38,8 @@ public final class ClientResources {
 
   private static final String CLIENT_FILES = "client.files";
   private static final String CLIENT_JS = "client.js";
+  private static final String CACHE_KEY_PREFIX = "client-";
+  private static final int MAX_CACHED_CLIENT_LIBRARIES = 10;
 
   private static final List<String> JAVASCRIPT_FILES = getInputFiles( CLIENT_FILES );
 
@@ -60,39 +68,122 @@ public final class ClientResources {
   private final ApplicationContextImpl applicationContext;
   private final ResourceManager resourceManager;
   private final ThemeManager themeManager;
+  private final BuildCache buildCache;
 
   public ClientResources( ApplicationContextImpl applicationContext ) {
     this.applicationContext = applicationContext;
     resourceManager = applicationContext.getResourceManager();
     themeManager = applicationContext.getThemeManager();
+    buildCache = BuildCache.create();
   }
 
+  /*
+   * Independent resources are registered in parallel on the common fork-join pool. Only the
+   * contents of rap-client.js need to be concatenated in a defined order.
+   */
   public void registerResources() {
+    setBuildCacheEnabled( true );
     try {
-      registerTextResource( "resource/static/html/blank.html" );
-      registerJavascriptFiles();
-      registerThemeResources();
-      registerWidgetImages();
-    } catch( IOException ioe ) {
-      throw new RuntimeException( "Failed to register resources", ioe );
+      registerResourcesInParallel();
+    } finally {
+      setBuildCacheEnabled( false );
+    }
+    buildCache.evict( CACHE_KEY_PREFIX, MAX_CACHED_CLIENT_LIBRARIES );
+  }
+
+  private void registerResourcesInParallel() {
+    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    tasks.add( createTask( new Registration() {
+      @Override
+      public void register() throws IOException {
+        registerTextResource( "resource/static/html/blank.html" );
+      }
+    } ) );
+    tasks.add( createTask( new Registration() {
+      @Override
+      public void register() throws IOException {
+        registerJavascriptFiles();
+      }
+    } ) );
+    for( String themeId : themeManager.getRegisteredThemeIds() ) {
+      final Theme theme = themeManager.getTheme( themeId );
+      tasks.add( createTask( new Registration() {
+        @Override
+        public void register() {
+          theme.registerResources( applicationContext );
+        }
+      } ) );
+    }
+    for( final String resourcePath : WIDGET_IMAGES ) {
+      tasks.add( createTask( new Registration() {
+        @Override
+        public void register() throws IOException {
+          registerWidgetImage( resourcePath );
+        }
+      } ) );
     }
+    ForkJoinTask.invokeAll( tasks );
   }
 
   private void registerJavascriptFiles()
     throws IOException
   {
-    ContentBuffer contentBuffer = new ContentBuffer();
-    String appearanceCode = createAppearanceCode();
+    String name = SWT.getVersion() + "/rap-client.js";
+    // files of the development mode are not cached, they are expected to change
+    if( buildCache.isEnabled() && !RWTProperties.isDevelopmentMode() ) {
+      String key = createClientLibraryKey();
+      byte[] content = buildCache.get( key );
+      if( content == null ) {
+        content = createClientLibrary().getContent();
+        buildCache.put( key, content );
+      }
+      ContentBuffer contentBuffer = new ContentBuffer();
+      contentBuffer.append( content );
+      registerJavascriptResource( contentBuffer, name );
+    } else {
+      registerJavascriptResource( createClientLibrary(), name );
+    }
+  }
+
+  private ContentBuffer createClientLibrary() throws IOException {
+    List<ForkJoinTask<byte[]>> contents = new ArrayList<>();
     if( RWTProperties.isDevelopmentMode() ) {
-      append( contentBuffer, "debug-settings.js" );
+      contents.add( createReadTask( "debug-settings.js" ).fork() );
       for( String javascriptFile : JAVASCRIPT_FILES ) {
-        append( contentBuffer, javascriptFile );
+        contents.add( createReadTask( javascriptFile ).fork() );
       }
     } else {
-      append( contentBuffer, CLIENT_JS );
+      contents.add( createReadTask( CLIENT_JS ).fork() );
+    }
+    String appearanceCode = createAppearanceCode();
+    ContentBuffer contentBuffer = new ContentBuffer();
+    for( ForkJoinTask<byte[]> content : contents ) {
+      contentBuffer.append( content.join() );
     }
     contentBuffer.append( appearanceCode.getBytes( HTTP.CHARSET_UTF_8 ) );
-    registerJavascriptResource( contentBuffer, SWT.getVersion() + "/rap-client.js" );
+    return contentBuffer;
+  }
+
+  /*
+   * The client library is derived from client.js and the appearances of all themeable widgets.
+   * The modification time of client.js distinguishes builds of the same version.
+   */
+  private String createClientLibraryKey() throws IOException {
+    ContentDigest digest = new ContentDigest();
+    digest.update( SWT.getVersion() );
+    URL clientLibrary = getClass().getClassLoader().getResource( CLIENT_JS );
+    if( clientLibrary == null ) {
+      throw new IOException( "Failed to load resource: " + CLIENT_JS );
+    }
+    long lastModified = clientLibrary.openConnection().getLastModified();
+    digest.update( ( int )( lastModified >>> 32 ) );
+    digest.update( ( int )lastModified );
+    for( String appearance : themeManager.getAppearances() ) {
+      byte[] bytes = appearance.getBytes( HTTP.CHARSET_UTF_8 );
+      digest.update( bytes.length );
+      digest.update( bytes );
+    }
+    return CACHE_KEY_PREFIX + digest.getName();
   }
 
   private String createAppearanceCode() {
@@ -100,30 +191,39 @@ public final class ClientResources {
     return AppearanceWriter.createAppearanceTheme( customAppearances );
   }
 
-  private void append( ContentBuffer contentBuffer, String location ) throws IOException {
+  private ForkJoinTask<byte[]> createReadTask( final String location ) {
+    return ForkJoinTask.adapt( new Callable<byte[]>() {
+      @Override
+      public byte[] call() throws IOException {
+        return read( location );
+      }
+    } );
+  }
+
+  private byte[] read( String location ) throws IOException {
     InputStream inputStream = openResourceStream( location );
     if( inputStream == null ) {
       throw new IOException( "Failed to load resource: " + location );
     }
     try {
-      contentBuffer.append( inputStream );
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 40960 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return outputStream.toByteArray();
     } finally {
       inputStream.close();
     }
   }
 
-  private void registerThemeResources() {
-    String[] themeIds = themeManager.getRegisteredThemeIds();
-    for( String themeId : themeIds ) {
-      Theme theme = themeManager.getTheme( themeId );
-      theme.registerResources( applicationContext );
-    }
-  }
-
-  private void registerWidgetImages() throws IOException {
-    for( String resourcePath : WIDGET_IMAGES ) {
-      InputStream inputStream = openResourceStream( resourcePath );
+  private void registerWidgetImage( String resourcePath ) throws IOException {
+    InputStream inputStream = openResourceStream( resourcePath );
+    try {
       resourceManager.register( resourcePath, inputStream );
+    } finally {
       inputStream.close();
     }
   }
@@ -148,8 +248,31 @@ public final class ClientResources {
     applicationContext.getStartupPage().setClientJsLibrary( location );
   }
 
+  private void setBuildCacheEnabled( boolean enabled ) {
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      ( ( ResourceManagerImpl )resourceManager ).setBuildCacheEnabled( enabled );
+    }
+  }
+
   private InputStream openResourceStream( String name ) {
     return getClass().getClassLoader().getResourceAsStream( name );
   }
 
+  private static ForkJoinTask<?> createTask( final Registration registration ) {
+    return ForkJoinTask.adapt( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          registration.register();
+        } catch( IOException ioe ) {
+          throw new RuntimeException( "Failed to register resources", ioe );
+        }
+      }
+    } );
+  }
+
+  private interface Registration {
+    void register() throws IOException;
+  }
+
 }
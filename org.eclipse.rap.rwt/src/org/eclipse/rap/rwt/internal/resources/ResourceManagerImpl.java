@@ -12,19 +12,29 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.resources;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.ContentDigest;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -46,12 +56,44 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
+  // resources up to this size are kept in memory, as long as the memory limit is not exceeded
+  private static final int MAX_MEMORY_RESOURCE_SIZE = 1024 * 1024;
+  private static final int DEFAULT_MEMORY_LIMIT = 32 * 1024 * 1024;
+  private static final String CACHE_KEY_PREFIX = "gzip-";
+  private static final int MAX_CACHED_GZIP_CONTENTS = 2000;
+  // text resources are precompressed, like the client library and the theme stores
+  private static final String[] COMPRESSIBLE_EXTENSIONS = {
+    ".js", ".json", ".css", ".html", ".svg", ".txt"
+  };
+
   private final ResourceDirectory resourceDirectory;
-  private final Set<String> resources;
+  private final ConcurrentMap<String, StoredResource> resources;
+  private final ConcurrentMap<String, StoredResource> resourcesByPath;
+  private final AtomicLong memoryUsage;
+  private final long memoryLimit;
+  private final BuildCache buildCache;
+  private volatile boolean buildCacheEnabled;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
     this.resourceDirectory = resourceDirectory;
-    resources = Collections.synchronizedSet( new HashSet<String>() );
+    resources = new ConcurrentHashMap<>();
+    resourcesByPath = new ConcurrentHashMap<>();
+    memoryUsage = new AtomicLong();
+    memoryLimit = RWTProperties.getResourceMemoryLimit( DEFAULT_MEMORY_LIMIT );
+    buildCache = BuildCache.create();
+  }
+
+  /*
+   * Compressed resources are kept in the build cache only while this is enabled, that is while
+   * the client resources and themes are registered on application start. Resources that are
+   * registered at runtime would let the cache grow without bounds. When it is disabled again,
+   * the least recently used entries of earlier versions are evicted.
+   */
+  public void setBuildCacheEnabled( boolean enabled ) {
+    buildCacheEnabled = enabled;
+    if( !enabled ) {
+      buildCache.evict( CACHE_KEY_PREFIX, MAX_CACHED_GZIP_CONTENTS );
+    }
   }
 
   /////////////////////////////
@@ -60,7 +102,7 @@ public class ResourceManagerImpl implements ResourceManager {
   public void registerOnce( String resource, ResourceLoader loader ) {
     ParamCheck.notNull( resource, "resource" );
     ParamCheck.notNull( loader, "loader" );
-    if( !resources.contains( resource ) ) {
+    if( !resources.containsKey( resource ) ) {
       checkPath( resource );
       InputStream stream = null;
       try {
@@ -88,8 +130,11 @@ public class ResourceManagerImpl implements ResourceManager {
   public boolean unregister( String name ) {
     ParamCheck.notNull( name, "name" );
     boolean result = false;
-    if( resources.remove( name ) ) {
+    StoredResource resource = resources.remove( name );
+    if( resource != null ) {
       result = true;
+      resourcesByPath.remove( resource.getPath(), resource );
+      releaseMemory( resource );
       File file = getDiskLocation( name );
       file.delete();
     }
@@ -99,33 +144,47 @@ public class ResourceManagerImpl implements ResourceManager {
   @Override
   public boolean isRegistered( String name ) {
     ParamCheck.notNull( name, "name" );
-    return resources.contains( name );
+    return resources.containsKey( name );
   }
 
+  /*
+   * The location contains the version of the content, so that clients can cache the resource
+   * forever. Registering a different content results in a different location.
+   */
   @Override
   public String getLocation( String name ) {
     ParamCheck.notNull( name, "name" );
-    if( !resources.contains( name ) ) {
+    StoredResource resource = resources.get( name );
+    if( resource == null ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
-    return createRequestUrl( name );
+    return createRequestUrl( name ) + "?" + resource.getVersion();
   }
 
   @Override
   public InputStream getRegisteredContent( String name ) {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
-    if( resources.contains( name ) ) {
-      File file = getDiskLocation( name );
+    StoredResource resource = resources.get( name );
+    if( resource != null ) {
       try {
-        result = new FileInputStream( file );
-      } catch( FileNotFoundException fnfe ) {
-        throw new RuntimeException( fnfe );
+        result = resource.getContentAsStream();
+      } catch( IOException ioe ) {
+        throw new RuntimeException( ioe );
       }
     }
     return result;
   }
 
+  /*
+   * Returns the resource for a path relative to the resource directory, as it is requested by
+   * clients, or null if no such resource is registered.
+   */
+  public StoredResource getStoredResource( String path ) {
+    ParamCheck.notNull( path, "path" );
+    return resourcesByPath.get( path );
+  }
+
   //////////////////
   // helping methods
 
@@ -133,38 +192,152 @@ public class ResourceManagerImpl implements ResourceManager {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( getRequestPath( resourceName ) )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
     File location = getDiskLocation( name );
+    StoredResource resource;
     try {
       createDirectories( location );
-      writeResource( inputStream, location );
-    } catch ( IOException ioe ) {
+      resource = writeResource( getRequestPath( name ), inputStream, location );
+    } catch( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
-    resources.add( name );
+    StoredResource previous = resources.put( name, resource );
+    resourcesByPath.put( resource.getPath(), resource );
+    if( previous != null ) {
+      releaseMemory( previous );
+    }
+  }
+
+  /*
+   * The content is written to a temporary file that replaces the resource once it is complete.
+   * Resources are registered concurrently during startup, possibly the same resource by more
+   * than one theme, and requests must never see a partially written file.
+   */
+  private StoredResource writeResource( String path, InputStream inputStream, File location )
+    throws IOException
+  {
+    Path tempFile = Files.createTempFile( location.getParentFile().toPath(), ".resource-", ".tmp" );
+    ContentDigest digest = new ContentDigest();
+    ByteArrayOutputStream memoryContent = new ByteArrayOutputStream();
+    long length = 0;
+    try {
+      BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
+      OutputStream outputStream = new BufferedOutputStream( Files.newOutputStream( tempFile ) );
+      try {
+        byte[] buffer = new byte[ 8192 ];
+        int read = bufferedStream.read( buffer );
+        while( read != -1 ) {
+          outputStream.write( buffer, 0, read );
+          digest.update( buffer, 0, read );
+          length += read;
+          if( memoryContent != null && length <= MAX_MEMORY_RESOURCE_SIZE ) {
+            memoryContent.write( buffer, 0, read );
+          } else {
+            memoryContent = null;
+          }
+          read = bufferedStream.read( buffer );
+        }
+      } finally {
+        outputStream.close();
+      }
+      replaceFile( tempFile, location.toPath() );
+    } finally {
+      Files.deleteIfExists( tempFile );
+    }
+    String version = digest.getName();
+    byte[] bytes = memoryContent != null ? memoryContent.toByteArray() : null;
+    byte[] content = bytes != null && reserveMemory( length ) ? bytes : null;
+    byte[] gzipContent = null;
+    if( isCompressible( path ) ) {
+      gzipContent = getGzipContent( version, bytes, location, length );
+    }
+    return new StoredResource( path, version, location, length, content, gzipContent );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
+  /*
+   * Resources are compressed only once, therefore the best compression is used. The compressed
+   * content of resources registered on application start is kept in the build cache, it is
+   * dropped if it does not save anything or exceeds the memory limit.
+   */
+  private byte[] getGzipContent( String version, byte[] bytes, File location, long length )
     throws IOException
   {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
+    boolean useBuildCache = buildCacheEnabled;
+    String key = CACHE_KEY_PREFIX + version;
+    byte[] result = useBuildCache ? buildCache.get( key ) : null;
+    if( result == null ) {
+      InputStream contentStream = bytes != null
+                                ? new ByteArrayInputStream( bytes )
+                                : Files.newInputStream( location.toPath() );
+      result = createGzipContent( contentStream, length );
+      if( useBuildCache ) {
+        buildCache.put( key, result );
+      }
+    }
+    return result.length < length && reserveMemory( result.length ) ? result : null;
+  }
+
+  private static byte[] createGzipContent( InputStream inputStream, long length )
+    throws IOException
+  {
+    ByteArrayOutputStream output = new ByteArrayOutputStream( ( int )Math.min( length, 1 << 20 ) );
+    OutputStream gzipStream = new GZIPOutputStream( output ) {
+      {
+        def.setLevel( Deflater.BEST_COMPRESSION );
+      }
+    };
     try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
+      byte[] buffer = new byte[ 8192 ];
+      int read = inputStream.read( buffer );
       while( read != -1 ) {
-        outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
+        gzipStream.write( buffer, 0, read );
+        read = inputStream.read( buffer );
       }
     } finally {
-      outputStream.close();
+      inputStream.close();
+      gzipStream.close();
+    }
+    return output.toByteArray();
+  }
+
+  private static boolean isCompressible( String path ) {
+    String lowerCasePath = path.toLowerCase( Locale.ENGLISH );
+    for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+      if( lowerCasePath.endsWith( extension ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void replaceFile( Path source, Path target ) throws IOException {
+    try {
+      Files.move( source, target, REPLACE_EXISTING, ATOMIC_MOVE );
+    } catch( @SuppressWarnings( "unused" ) AtomicMoveNotSupportedException exception ) {
+      Files.move( source, target, REPLACE_EXISTING );
     }
   }
 
+  private boolean reserveMemory( long size ) {
+    if( memoryUsage.addAndGet( size ) > memoryLimit ) {
+      memoryUsage.addAndGet( -size );
+      return false;
+    }
+    return true;
+  }
+
+  private void releaseMemory( StoredResource resource ) {
+    memoryUsage.addAndGet( -resource.getMemorySize() );
+  }
+
   private static void createDirectories( File file ) throws IOException {
     File dir = new File( file.getParent() );
     if( !dir.mkdirs() ) {
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+
+/*
+ * A registered resource as it is served to clients. The content of small resources is kept in
+ * memory, larger resources are read from the resource directory. The version is derived from
+ * the content, it changes whenever the resource is registered with a different content.
+ */
+public final class StoredResource {
+
+  private final String path;
+  private final String version;
+  private final File file;
+  private final long length;
+  private final byte[] content;
+  private final byte[] gzipContent;
+
+  StoredResource( String path,
+                  String version,
+                  File file,
+                  long length,
+                  byte[] content,
+                  byte[] gzipContent )
+  {
+    this.path = path;
+    this.version = version;
+    this.file = file;
+    this.length = length;
+    this.content = content;
+    this.gzipContent = gzipContent;
+  }
+
+  /*
+   * The path of the resource relative to the resource directory, as it appears in URLs.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public String getVersion() {
+    return version;
+  }
+
+  public String getETag() {
+    return "\"" + version + "\"";
+  }
+
+  public long getLength() {
+    return length;
+  }
+
+  public boolean isInMemory() {
+    return content != null;
+  }
+
+  /*
+   * The gzip compressed content, created once when the resource is registered, or null if the
+   * resource is not compressible.
+   */
+  public byte[] getGzipContent() {
+    return gzipContent;
+  }
+
+  /*
+   * The compressed content is a different representation of the resource, which requires a
+   * different strong ETag.
+   */
+  public String getGzipETag() {
+    return "\"" + version + "-gzip\"";
+  }
+
+  long getMemorySize() {
+    long result = content != null ? content.length : 0;
+    return gzipContent != null ? result + gzipContent.length : result;
+  }
+
+  public InputStream getContentAsStream() throws IOException {
+    if( content != null ) {
+      return new ByteArrayInputStream( content );
+    }
+    return new FileInputStream( file );
+  }
+
+  public void writeContent( OutputStream outputStream ) throws IOException {
+    if( content != null ) {
+      outputStream.write( content );
+    } else {
+      Files.copy( file.toPath(), outputStream );
+    }
+  }
+
+}
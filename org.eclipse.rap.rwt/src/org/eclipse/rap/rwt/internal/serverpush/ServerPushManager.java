@@ -13,11 +13,22 @@ package org.eclipse.rap.rwt.internal.serverpush;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServiceStore;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -31,6 +42,11 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private static final int DEFAULT_REQUEST_CHECK_INTERVAL = 30000;
   private static final String FORCE_PUSH = ServerPushManager.class.getName() + "#forcePush";
+  private static final String EVENT_PUSH = "data: push\n\n";
+  private static final String EVENT_KEEP_ALIVE = ":\n\n";
+  private static final String EVENT_CLOSE = "event: close\ndata: close\n\n";
+  // written to suspended long polling requests to detect connections that are gone
+  private static final String CONNECTION_PROBE = " ";
 
   private final ServerPushActivationTracker serverPushActivationTracker;
   private final SerializableLock lock;
@@ -41,6 +57,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private boolean hasRunnables;
   private int requestCheckInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient List<SuspendedRequest> suspendedRequests;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -48,6 +65,7 @@ public final class ServerPushManager implements SerializableCompatibility {
     uiThreadRunning = false;
     requestCheckInterval = DEFAULT_REQUEST_CHECK_INTERVAL;
     serverPushRequestTracker = new ServerPushRequestTracker();
+    suspendedRequests = new ArrayList<>();
   }
 
   public static ServerPushManager getInstance() {
@@ -71,6 +89,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void releaseBlockedRequest() {
     synchronized( lock ) {
       lock.notifyAll();
+      checkSuspendedRequests();
     }
   }
 
@@ -91,6 +110,10 @@ public final class ServerPushManager implements SerializableCompatibility {
   public void notifyUIThreadStart() {
     synchronized( lock ) {
       uiThreadRunning = true;
+      // the client has answered the last notification, runnables added from now on need another
+      for( SuspendedRequest suspendedRequest : suspendedRequests ) {
+        suspendedRequest.signalled = false;
+      }
     }
   }
 
@@ -124,40 +147,183 @@ public final class ServerPushManager implements SerializableCompatibility {
     return isServerPushActive() || forceServerPushForPendingRunnables();
   }
 
-  void processRequest( HttpServletResponse response ) {
+  void processRequest( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    boolean mustBlock = false;
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
         releaseBlockedRequest();
       }
       if( mustBlockCallBackRequest() ) {
-        long requestStartTime = System.currentTimeMillis();
-        serverPushRequestTracker.activate( Thread.currentThread() );
-        TerminationListener listener = attachTerminationListener();
-        try {
-          boolean canRelease = false;
-          while( !canRelease ) {
+        if( request.isAsyncSupported() ) {
+          suspendRequest( request, response, false );
+        } else {
+          mustBlock = true;
+        }
+      }
+    }
+    if( mustBlock ) {
+      blockRequest( response );
+    }
+  }
+
+  /*
+   * Opens a Server-Sent Events stream that is kept open as long as server push is active. Instead
+   * of completing the request, an event is sent whenever a long polling request would have been
+   * released because of pending runnables.
+   */
+  void processEventStream( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    synchronized( lock ) {
+      if( isServerPushActive() ) {
+        suspendRequest( request, response, true );
+      }
+    }
+  }
+
+  /*
+   * Suspends the request without holding the container thread. The request is resumed by
+   * releaseBlockedRequest() or by a periodic check on the scheduler shared by the application.
+   * Both event streams and connection probes of long polling requests are written with
+   * non-blocking output, see SuspendedRequest.
+   */
+  private void suspendRequest( HttpServletRequest request,
+                               HttpServletResponse response,
+                               boolean eventStream )
+    throws IOException
+  {
+    UISession uiSession = ContextProvider.getUISession();
+    ApplicationScheduler scheduler = ContextProvider.getApplicationContext().getScheduler();
+    AsyncContext asyncContext = request.startAsync( request, response );
+    asyncContext.setTimeout( 0 );
+    ServletOutputStream output = response.getOutputStream();
+    SuspendedRequest suspendedRequest
+      = new SuspendedRequest( asyncContext, uiSession, output, eventStream );
+    asyncContext.addListener( suspendedRequest );
+    output.setWriteListener( suspendedRequest );
+    serverPushRequestTracker.activate( suspendedRequest );
+    suspendedRequests.add( suspendedRequest );
+    uiSession.addUISessionListener( suspendedRequest );
+    suspendedRequest.schedule( scheduler, requestCheckInterval );
+    // resumes a previously suspended request, that is not the active one anymore
+    checkSuspendedRequests();
+  }
+
+  /*
+   * Blocks the container thread of the request if the container does not support asynchronous
+   * processing. The connection is probed by writing to it, which may block and is therefore done
+   * without holding the session lock.
+   */
+  private void blockRequest( HttpServletResponse response ) {
+    UISession uiSession = ContextProvider.getUISession();
+    long requestStartTime = System.currentTimeMillis();
+    Thread currentThread = Thread.currentThread();
+    synchronized( lock ) {
+      serverPushRequestTracker.activate( currentThread );
+    }
+    TerminationListener listener = attachTerminationListener();
+    try {
+      boolean canRelease = false;
+      while( !canRelease ) {
+        synchronized( lock ) {
+          canRelease = canReleaseBlockedRequest( currentThread, uiSession, requestStartTime );
+          if( !canRelease ) {
             lock.wait( requestCheckInterval );
-            canRelease = canReleaseBlockedRequest( response, requestStartTime );
+            canRelease = canReleaseBlockedRequest( currentThread, uiSession, requestStartTime );
           }
-        } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
-          Thread.interrupted(); // Reset interrupted state, see bug 300254
-        } finally {
-          listener.detach();
-          serverPushRequestTracker.deactivate( Thread.currentThread() );
         }
+        if( !canRelease && !isConnectionAlive( response ) ) {
+          canRelease = true;
+        }
+      }
+    } catch( @SuppressWarnings( "unused" ) InterruptedException ie ) {
+      Thread.interrupted(); // Reset interrupted state, see bug 300254
+    } finally {
+      listener.detach();
+      synchronized( lock ) {
+        serverPushRequestTracker.deactivate( currentThread );
+      }
+    }
+  }
+
+  private void checkSuspendedRequests() {
+    if( !suspendedRequests.isEmpty() ) {
+      for( SuspendedRequest suspendedRequest : new ArrayList<>( suspendedRequests ) ) {
+        checkSuspendedRequest( suspendedRequest );
       }
     }
   }
 
-  private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
+  private void checkSuspendedRequest( SuspendedRequest suspendedRequest ) {
+    if( suspendedRequest.eventStream ) {
+      checkEventStream( suspendedRequest );
+    } else {
+      checkLongPollingRequest( suspendedRequest );
+    }
+  }
+
+  /*
+   * A connection that is gone is detected when writing the probe fails (onError) or when the
+   * probe could not be written within the check interval.
+   */
+  private void checkLongPollingRequest( SuspendedRequest request ) {
+    long currentTime = System.currentTimeMillis();
+    if(    request.isStalled( currentTime, requestCheckInterval )
+        || canReleaseBlockedRequest( request, request.uiSession, request.startTime ) )
+    {
+      resume( request );
+    } else {
+      request.send( CONNECTION_PROBE );
+    }
+  }
+
+  /*
+   * A client that did not read the previous event within the check interval is considered gone,
+   * its stream is completed without further events. A stream that is closed on purpose ends with
+   * a close event, so that the client does not take the end of the stream for a failure.
+   */
+  private void checkEventStream( SuspendedRequest eventStream ) {
+    long currentTime = System.currentTimeMillis();
+    UISession uiSession = eventStream.uiSession;
+    if( eventStream.isStalled( currentTime, requestCheckInterval ) ) {
+      resume( eventStream );
+    } else {
+      boolean close =    !isServerPushActive()
+                      || isSessionExpired( uiSession, eventStream.startTime, currentTime )
+                      || !serverPushRequestTracker.isActive( eventStream );
+      if( !mustBlockCallBackRequest() && !eventStream.signalled ) {
+        eventStream.signalled = true;
+        eventStream.startTime = currentTime;
+        eventStream.send( EVENT_PUSH );
+      } else if( !close ) {
+        eventStream.send( EVENT_KEEP_ALIVE );
+      }
+      if( close && suspendedRequests.remove( eventStream ) ) {
+        serverPushRequestTracker.deactivate( eventStream );
+        eventStream.close();
+      }
+    }
+  }
+
+  private void resume( SuspendedRequest suspendedRequest ) {
+    if( suspendedRequests.remove( suspendedRequest ) ) {
+      serverPushRequestTracker.deactivate( suspendedRequest );
+    }
+    suspendedRequest.complete();
+  }
+
+  private boolean canReleaseBlockedRequest( Object request,
+                                            UISession uiSession,
+                                            long requestStartTime )
+  {
     boolean result = false;
     if( !mustBlockCallBackRequest() ) {
       result = true;
-    } else if( isSessionExpired( requestStartTime ) ) {
+    } else if( isSessionExpired( uiSession, requestStartTime, System.currentTimeMillis() ) ) {
       result = true;
-    } else if( !isConnectionAlive( response ) ) {
-      result = true;
-    } else if( !serverPushRequestTracker.isActive( Thread.currentThread() ) ) {
+    } else if( !serverPushRequestTracker.isActive( request ) ) {
       result = true;
     }
     return result;
@@ -173,6 +339,7 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   private Object readResolve() {
     serverPushRequestTracker = new ServerPushRequestTracker();
+    suspendedRequests = new ArrayList<>();
     return this;
   }
 
@@ -183,13 +350,15 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
-  private static boolean isSessionExpired( long requestStartTime ) {
-    return isSessionExpired( requestStartTime, System.currentTimeMillis() );
+  static boolean isSessionExpired( long requestStartTime, long currentTime ) {
+    return isSessionExpired( ContextProvider.getUISession(), requestStartTime, currentTime );
   }
 
-  static boolean isSessionExpired( long requestStartTime, long currentTime ) {
-    UISession uiSession = ContextProvider.getUISession();
-    if( uiSession == null ) {
+  private static boolean isSessionExpired( UISession uiSession,
+                                           long requestStartTime,
+                                           long currentTime )
+  {
+    if( uiSession == null || !uiSession.isBound() ) {
       return true;
     }
     HttpSession httpSession = uiSession.getHttpSession();
@@ -219,6 +388,182 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
+  /*
+   * Events and connection probes are queued while the session lock is held and written by
+   * container threads with non-blocking output, so that a client that does not read its response
+   * blocks neither the scheduler threads nor threads that wait for the session lock. The queue
+   * and the state of the output are guarded by the monitor of the request, which is never held
+   * while acquiring the session lock.
+   */
+  private class SuspendedRequest
+    implements AsyncListener, UISessionListener, WriteListener, Runnable
+  {
+
+    private transient final AsyncContext asyncContext;
+    private transient final UISession uiSession;
+    private transient final ServletOutputStream output;
+    private transient final boolean eventStream;
+    private transient final StringBuilder pendingEvents;
+    private transient long startTime;
+    private transient boolean signalled;
+    private transient ScheduledFuture<?> checkTask;
+    private transient boolean completed;
+    private transient boolean closing;
+    private transient boolean flushPending;
+    private transient boolean writeScheduled;
+    private transient long stalledSince;
+
+    SuspendedRequest( AsyncContext asyncContext,
+                      UISession uiSession,
+                      ServletOutputStream output,
+                      boolean eventStream )
+    {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+      this.output = output;
+      this.eventStream = eventStream;
+      pendingEvents = new StringBuilder();
+      startTime = System.currentTimeMillis();
+    }
+
+    void schedule( ApplicationScheduler scheduler, int interval ) {
+      checkTask = scheduler.scheduleWithFixedDelay( this, interval );
+    }
+
+    void complete() {
+      synchronized( this ) {
+        if( completed ) {
+          return;
+        }
+        completed = true;
+      }
+      checkTask.cancel( false );
+      uiSession.removeUISessionListener( this );
+      try {
+        asyncContext.complete();
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+        // the request has already been completed by the container
+      }
+    }
+
+    synchronized void send( String event ) {
+      // a keep-alive or probe is redundant as long as something else is waiting to be written
+      boolean probe = EVENT_KEEP_ALIVE.equals( event ) || CONNECTION_PROBE.equals( event );
+      boolean redundant = probe && pendingEvents.length() > 0;
+      if( !closing && !redundant ) {
+        queue( event );
+      }
+    }
+
+    synchronized void close() {
+      if( !closing ) {
+        closing = true;
+        queue( EVENT_CLOSE );
+      }
+    }
+
+    synchronized boolean isStalled( long currentTime, int timeout ) {
+      return stalledSince != 0 && currentTime - stalledSince >= timeout;
+    }
+
+    private void queue( String event ) {
+      if( stalledSince == 0 ) {
+        stalledSince = System.currentTimeMillis();
+      }
+      pendingEvents.append( event );
+      if( !completed && !writeScheduled ) {
+        writeScheduled = true;
+        try {
+          asyncContext.start( new Runnable() {
+            @Override
+            public void run() {
+              onWritePossible();
+            }
+          } );
+        } catch( @SuppressWarnings( "unused" ) IllegalStateException exception ) {
+          // the request has already been completed by the container
+          writeScheduled = false;
+        }
+      }
+    }
+
+    @Override
+    public void onWritePossible() {
+      boolean done = false;
+      boolean failed = false;
+      synchronized( this ) {
+        writeScheduled = false;
+        try {
+          while( !completed && output.isReady() ) {
+            if( pendingEvents.length() > 0 ) {
+              output.write( pendingEvents.toString().getBytes( StandardCharsets.UTF_8 ) );
+              pendingEvents.setLength( 0 );
+              flushPending = true;
+            } else if( flushPending ) {
+              flushPending = false;
+              output.flush();
+            } else {
+              stalledSince = 0;
+              done = closing;
+              break;
+            }
+          }
+        } catch( @SuppressWarnings( "unused" ) IOException | IllegalStateException exception ) {
+          failed = true;
+        }
+      }
+      if( failed ) {
+        release();
+      } else if( done ) {
+        complete();
+      }
+    }
+
+    @Override
+    public void run() {
+      synchronized( lock ) {
+        checkSuspendedRequest( this );
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onError( Throwable throwable ) {
+      release();
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
+    }
+
+    private void release() {
+      synchronized( lock ) {
+        resume( this );
+      }
+    }
+
+  }
+
   private static class TerminationListener implements UISessionListener {
 
     private transient final Thread currentThread;
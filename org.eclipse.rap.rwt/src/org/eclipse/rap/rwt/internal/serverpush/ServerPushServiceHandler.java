@@ -24,24 +24,39 @@ import org.eclipse.rap.rwt.service.ServiceHandler;
 public class ServerPushServiceHandler implements ServiceHandler {
 
   public final static String HANDLER_ID = "org.eclipse.rap.serverpush";
+  public final static String PARAM_TRANSPORT = "transport";
+  public final static String TRANSPORT_EVENT_STREAM = "eventstream";
 
   @Override
   public void service( HttpServletRequest request, HttpServletResponse response )
     throws IOException
   {
-    setResponseHeaders( response );
-    if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+    if( isEventStreamRequest( request ) ) {
+      setResponseHeaders( response, "text/event-stream" );
+      response.setCharacterEncoding( "UTF-8" );
+      if( getUISession() != null ) {
+        ServerPushManager.getInstance().processEventStream( request, response );
+      }
+    } else {
+      setResponseHeaders( response, "application/octet-stream" );
+      if( getUISession() != null ) {
+        ServerPushManager.getInstance().processRequest( request, response );
+      }
     }
   }
 
-  private static void setResponseHeaders( HttpServletResponse response ) {
+  private static boolean isEventStreamRequest( HttpServletRequest request ) {
+    return    TRANSPORT_EVENT_STREAM.equals( request.getParameter( PARAM_TRANSPORT ) )
+           && request.isAsyncSupported();
+  }
+
+  private static void setResponseHeaders( HttpServletResponse response, String contentType ) {
     // Ensures that the response is not cached
     // 410157: [ServerPush] ServerPush requests always return immediately in IE
     // https://bugs.eclipse.org/bugs/show_bug.cgi?id=410157
     response.setHeader( "Cache-Control", "no-cache, no-store, must-revalidate" );
     response.setHeader( "Pragma", "no-cache" );
-    response.setHeader( "Content-Type", "application/octet-stream" );
+    response.setHeader( "Content-Type", contentType );
     response.setDateHeader( "Expires", 0 );
   }
 
@@ -18,6 +18,9 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -42,8 +45,7 @@ import org.eclipse.rap.rwt.service.UISession;
 public class LifeCycleServiceHandler implements ServiceHandler {
 
   private static final String PROP_ERROR = "error";
-  private static final String ATTR_LAST_RESPONSE_MESSAGE
-    = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final int BUFFER_SIZE = 8192;
 
   private final MessageChainReference messageChainReference;
 
@@ -92,13 +94,13 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
       if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+        writeBufferedResponse( request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
     } else {
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      writeResponseMessage( responseMessage, request, response );
       RequestCounter.getInstance().nextRequestId();
     }
   }
@@ -182,26 +184,55 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            HttpServletRequest request,
+                                            HttpServletResponse response )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    ResponseOutputStream output = new ResponseOutputStream( BUFFER_SIZE );
+    responseMessage.writeTo( output );
+    String encoding = ResponseCompression.getEncoding( request, output.size() );
+    if( encoding != null ) {
+      output = ResponseCompression.compress( output.getBuffer(), output.size(), encoding );
+    }
+    bufferResponse( output.getBuffer(), output.size(), encoding );
+    writeContent( response, output.getBuffer(), output.size(), encoding );
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  private static void writeBufferedResponse( HttpServletRequest request,
+                                             HttpServletResponse response )
+    throws IOException
+  {
+    ResponseBuffer responseBuffer = ResponseBuffer.getInstance( getUISession() );
+    byte[] content = responseBuffer.getContent();
+    int length = responseBuffer.getLength();
+    String encoding = responseBuffer.getEncoding();
+    if( encoding != null && !ResponseCompression.accepts( request, encoding ) ) {
+      ResponseOutputStream output = ResponseCompression.decompress( content, length, encoding );
+      content = output.getBuffer();
+      length = output.size();
+      encoding = null;
+    }
+    writeContent( response, content, length, encoding );
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
-    UISession uiSession = getUISession();
-    if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+  private static void writeContent( HttpServletResponse response,
+                                    byte[] content,
+                                    int length,
+                                    String encoding ) throws IOException
+  {
+    if( encoding != null ) {
+      response.setHeader( HEADER_CONTENT_ENCODING, encoding );
     }
+    response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    response.setContentLength( length );
+    response.getOutputStream().write( content, 0, length );
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static void bufferResponse( byte[] content, int length, String encoding ) {
+    UISession uiSession = getUISession();
+    if( uiSession != null ) {
+      ResponseBuffer.getInstance( uiSession ).set( content, length, encoding );
+    }
   }
 
 }
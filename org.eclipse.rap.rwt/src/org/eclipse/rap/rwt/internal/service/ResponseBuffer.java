@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.service.UISessionEvent;
+import org.eclipse.rap.rwt.service.UISessionListener;
+
+
+/*
+ * Keeps the serialized, possibly compressed, last response of a UI session in order to answer
+ * a duplicate request verbatim. The total number of bytes retained by all UI sessions is
+ * available through getRetainedBytes().
+ */
+public final class ResponseBuffer implements UISessionListener {
+
+  private static final String ATTR_RESPONSE_BUFFER = ResponseBuffer.class.getName();
+  private static final AtomicLong RETAINED_BYTES = new AtomicLong();
+
+  private byte[] content;
+  private int length;
+  private String encoding;
+  private boolean registered;
+  private transient long retainedBytes;
+
+  public static long getRetainedBytes() {
+    return RETAINED_BYTES.get();
+  }
+
+  static ResponseBuffer getInstance( UISession uiSession ) {
+    ResponseBuffer result = ( ResponseBuffer )uiSession.getAttribute( ATTR_RESPONSE_BUFFER );
+    if( result == null ) {
+      result = new ResponseBuffer();
+      uiSession.setAttribute( ATTR_RESPONSE_BUFFER, result );
+    }
+    if( !result.registered ) {
+      result.registered = uiSession.addUISessionListener( result );
+    }
+    return result;
+  }
+
+  private ResponseBuffer() {
+    // prevent instantiation from outside
+  }
+
+  /*
+   * Only the first length bytes of content are valid. The array is retained as is, it is not
+   * copied.
+   */
+  void set( byte[] content, int length, String encoding ) {
+    release();
+    this.content = content;
+    this.length = length;
+    this.encoding = encoding;
+    if( registered ) {
+      retainedBytes = content.length;
+      RETAINED_BYTES.addAndGet( retainedBytes );
+    }
+  }
+
+  byte[] getContent() {
+    return content;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  String getEncoding() {
+    return encoding;
+  }
+
+  @Override
+  public void beforeDestroy( UISessionEvent event ) {
+    release();
+    content = null;
+    length = 0;
+    encoding = null;
+  }
+
+  private void release() {
+    RETAINED_BYTES.addAndGet( -retainedBytes );
+    retainedBytes = 0;
+  }
+
+  /*
+   * The listeners of the UI session are serialized with it, so a registered buffer is still
+   * released when the session is destroyed and its content is counted again.
+   */
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    if( registered && content != null ) {
+      retainedBytes = content.length;
+      RETAINED_BYTES.addAndGet( retainedBytes );
+    }
+  }
+
+}
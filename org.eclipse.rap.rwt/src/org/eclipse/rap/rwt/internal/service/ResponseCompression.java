@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.util.DeflaterPool;
+
+
+/*
+ * Compresses UI responses with gzip or deflate, depending on the Accept-Encoding header of the
+ * request. Responses smaller than the configured threshold are not compressed, as the overhead
+ * would outweigh the savings.
+ */
+public final class ResponseCompression {
+
+  public static final String GZIP = "gzip";
+  static final String DEFLATE = "deflate";
+
+  private static final int DEFAULT_THRESHOLD = 1024;
+  private static final int POOL_CAPACITY = 16;
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int GZIP_HEADER_SIZE = 10;
+  private static final int GZIP_TRAILER_SIZE = 8;
+  private static final int BUFFER_SIZE = 8192;
+
+  // BEST_SPEED, since responses are compressed while the request lock of the UI session is held
+  private static final DeflaterPool GZIP_POOL
+    = new DeflaterPool( Deflater.BEST_SPEED, true, POOL_CAPACITY );
+  private static final DeflaterPool DEFLATE_POOL
+    = new DeflaterPool( Deflater.BEST_SPEED, false, POOL_CAPACITY );
+
+  static String getEncoding( HttpServletRequest request, int contentLength ) {
+    if(    RWTProperties.isResponseCompressionEnabled()
+        && contentLength >= RWTProperties.getResponseCompressionThreshold( DEFAULT_THRESHOLD ) )
+    {
+      if( accepts( request, GZIP ) ) {
+        return GZIP;
+      }
+      if( accepts( request, DEFLATE ) ) {
+        return DEFLATE;
+      }
+    }
+    return null;
+  }
+
+  /*
+   * An element that names the encoding takes precedence over the "*" element, regardless of
+   * their order in the header. A quality value of 0 refuses the encoding.
+   */
+  public static boolean accepts( HttpServletRequest request, String encoding ) {
+    String header = request.getHeader( HEADER_ACCEPT_ENCODING );
+    boolean acceptedByWildcard = false;
+    if( header != null ) {
+      for( String element : header.split( "," ) ) {
+        String[] parts = element.split( ";" );
+        String coding = parts[ 0 ].trim();
+        if( coding.equalsIgnoreCase( encoding ) ) {
+          return !isZeroQuality( parts );
+        }
+        if( coding.equals( "*" ) ) {
+          acceptedByWildcard = !isZeroQuality( parts );
+        }
+      }
+    }
+    return acceptedByWildcard;
+  }
+
+  /*
+   * Compresses the first length bytes of content. The result is not copied into a new array,
+   * callers use the buffer of the returned stream up to its size.
+   */
+  static ResponseOutputStream compress( byte[] content, int length, String encoding ) {
+    ResponseOutputStream output = new ResponseOutputStream( length / 4 + 64 );
+    if( GZIP.equals( encoding ) ) {
+      writeGzipHeader( output );
+      GZIP_POOL.deflate( content, length, output );
+      writeGzipTrailer( output, content, length );
+    } else {
+      DEFLATE_POOL.deflate( content, length, output );
+    }
+    return output;
+  }
+
+  static ResponseOutputStream decompress( byte[] content, int length, String encoding )
+    throws IOException
+  {
+    InputStream input = new ByteArrayInputStream( content, 0, length );
+    if( GZIP.equals( encoding ) ) {
+      input = new GZIPInputStream( input );
+    } else {
+      input = new InflaterInputStream( input );
+    }
+    ResponseOutputStream output = new ResponseOutputStream( length * 4 );
+    try {
+      byte[] buffer = new byte[ BUFFER_SIZE ];
+      int count = input.read( buffer );
+      while( count != -1 ) {
+        output.write( buffer, 0, count );
+        count = input.read( buffer );
+      }
+    } finally {
+      input.close();
+    }
+    return output;
+  }
+
+  private static boolean isZeroQuality( String[] parts ) {
+    for( int i = 1; i < parts.length; i++ ) {
+      String parameter = parts[ i ].trim();
+      if( parameter.regionMatches( true, 0, "q=", 0, 2 ) ) {
+        try {
+          return Float.parseFloat( parameter.substring( 2 ).trim() ) == 0;
+        } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static void writeGzipHeader( ResponseOutputStream output ) {
+    byte[] header = new byte[ GZIP_HEADER_SIZE ];
+    header[ 0 ] = ( byte )GZIP_MAGIC;
+    header[ 1 ] = ( byte )( GZIP_MAGIC >> 8 );
+    header[ 2 ] = Deflater.DEFLATED;
+    output.write( header, 0, header.length );
+  }
+
+  private static void writeGzipTrailer( ResponseOutputStream output,
+                                        byte[] content,
+                                        int length )
+  {
+    CRC32 crc = new CRC32();
+    crc.update( content, 0, length );
+    byte[] trailer = new byte[ GZIP_TRAILER_SIZE ];
+    writeInt( trailer, 0, ( int )crc.getValue() );
+    writeInt( trailer, 4, length );
+    output.write( trailer, 0, trailer.length );
+  }
+
+  private static void writeInt( byte[] buffer, int offset, int value ) {
+    buffer[ offset ] = ( byte )value;
+    buffer[ offset + 1 ] = ( byte )( value >> 8 );
+    buffer[ offset + 2 ] = ( byte )( value >> 16 );
+    buffer[ offset + 3 ] = ( byte )( value >> 24 );
+  }
+
+  private ResponseCompression() {
+    // prevent instantiation
+  }
+
+}
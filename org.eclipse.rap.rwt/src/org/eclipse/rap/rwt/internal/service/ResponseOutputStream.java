@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.ByteArrayOutputStream;
+
+
+/*
+ * A ByteArrayOutputStream that exposes its internal buffer. Only the first size() bytes of the
+ * buffer are valid. Responses are handed on as buffer and size without copying them.
+ */
+final class ResponseOutputStream extends ByteArrayOutputStream {
+
+  ResponseOutputStream( int initialSize ) {
+    super( initialSize );
+  }
+
+  byte[] getBuffer() {
+    return buf;
+  }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.rap.rwt.internal.service;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -86,13 +87,13 @@ public final class ServiceContext {
   public ProtocolMessageWriter getProtocolWriter() {
     checkState();
     if( protocolWriter == null ) {
-      protocolWriter = new ProtocolMessageWriter();
+      protocolWriter = createProtocolWriter();
     }
     return protocolWriter;
   }
 
   public void resetProtocolWriter() {
-    protocolWriter = new ProtocolMessageWriter();
+    protocolWriter = createProtocolWriter();
   }
 
   public UISession getUISession() {
@@ -135,4 +136,8 @@ public final class ServiceContext {
     }
   }
 
+  private static ProtocolMessageWriter createProtocolWriter() {
+    return new ProtocolMessageWriter( RWTProperties.isProtocolStreamingEnabled() );
+  }
+
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Identifies a measured text size by all values the measurement depends on. The font is copied,
+ * as FontData instances are mutable. The probe is part of the key, since the size of a text is
+ * only valid for the probe result the client reported for the font.
+ */
+final class TextSizeKey {
+
+  private final String fontName;
+  private final int fontHeight;
+  private final int fontStyle;
+  private final String text;
+  private final int wrapWidth;
+  private final int mode;
+  private final String probeText;
+  private final int probeWidth;
+  private final int probeHeight;
+  private final int hashCode;
+
+  TextSizeKey( FontData fontData,
+               String text,
+               int wrapWidth,
+               int mode,
+               String probeText,
+               Point probeSize )
+  {
+    fontName = fontData.getName();
+    fontHeight = fontData.getHeight();
+    fontStyle = fontData.getStyle();
+    this.text = text;
+    this.wrapWidth = wrapWidth;
+    this.mode = mode;
+    this.probeText = probeText;
+    probeWidth = probeSize.x;
+    probeHeight = probeSize.y;
+    hashCode = computeHashCode();
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( object == this ) {
+      return true;
+    }
+    if( !( object instanceof TextSizeKey ) ) {
+      return false;
+    }
+    TextSizeKey other = ( TextSizeKey )object;
+    return    hashCode == other.hashCode
+           && fontHeight == other.fontHeight
+           && fontStyle == other.fontStyle
+           && wrapWidth == other.wrapWidth
+           && mode == other.mode
+           && probeWidth == other.probeWidth
+           && probeHeight == other.probeHeight
+           && fontName.equals( other.fontName )
+           && text.equals( other.text )
+           && probeText.equals( other.probeText );
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int result = fontName.hashCode();
+    result = 31 * result + fontHeight;
+    result = 31 * result + fontStyle;
+    result = 31 * result + text.hashCode();
+    result = 31 * result + wrapWidth;
+    result = 31 * result + mode;
+    result = 31 * result + probeText.hashCode();
+    result = 31 * result + probeWidth;
+    return 31 * result + probeHeight;
+  }
+
+}
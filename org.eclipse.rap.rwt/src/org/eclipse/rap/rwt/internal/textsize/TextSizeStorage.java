@@ -13,106 +13,115 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
-import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * The text sizes measured by all UI sessions of an application. The storage is accessed
+ * concurrently without locks. When it exceeds its maximum size, entries are evicted with the
+ * CLOCK algorithm, an approximation of LRU: entries are queued in insertion order and marked when
+ * they are looked up, the eviction skips marked entries once and removes the first unmarked one.
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
-
+  private final ConcurrentMap<TextSizeKey, Entry> data;
+  private final Queue<Entry> clock;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private volatile int maximumStoreSize;
 
   private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
 
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
+    private final TextSizeKey key;
+    private volatile Point point;
+    private volatile boolean referenced;
 
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
+    Entry( TextSizeKey key, Point point ) {
+      this.key = key;
+      this.point = point;
     }
   }
 
-
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    fontDatas = ConcurrentHashMap.newKeySet();
+    data = new ConcurrentHashMap<>();
+    clock = new ConcurrentLinkedQueue<>();
+    hits = new LongAdder();
+    misses = new LongAdder();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
-    }
+    fontDatas.add( fontData );
   }
 
-  Point lookupTextSize( Integer key ) {
+  Point lookupTextSize( TextSizeKey key ) {
     Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+    Entry entry = data.get( key );
+    if( entry != null ) {
+      entry.referenced = true;
+      result = entry.point;
+      hits.increment();
+    } else {
+      misses.increment();
     }
-    result = defensiveCopy( result );
-    return result;
+    return defensiveCopy( result );
   }
 
-  void storeTextSize( Integer key, Point size ) {
-    Entry entry = new Entry();
-    entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
+  void storeTextSize( TextSizeKey key, Point size ) {
+    Entry entry = new Entry( key, defensiveCopy( size ) );
+    Entry existingEntry = data.putIfAbsent( key, entry );
+    if( existingEntry != null ) {
+      existingEntry.point = entry.point;
+    } else {
+      clock.offer( entry );
       handleOverFlow();
     }
   }
 
+  ////////////
+  // statistics
+
+  public int getSize() {
+    return data.size();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public double getHitRatio() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : ( double )hitCount / total;
+  }
+
   ////////////////////
   // overflow handling
 
   void setMaximumStoreSize( int maximumStoreSize ) {
     checkLowerStoreSizeBoundary( maximumStoreSize );
-    calculateClearRange( maximumStoreSize );
     this.maximumStoreSize = maximumStoreSize;
   }
 
@@ -120,23 +129,25 @@ public final class TextSizeStorage {
     return maximumStoreSize;
   }
 
+  /*
+   * Every entry is skipped at most once before it is removed, since its mark is cleared, so the
+   * eviction of one entry takes amortized constant time.
+   */
   private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    while( data.size() > maximumStoreSize ) {
+      Entry entry = clock.poll();
+      if( entry == null ) {
+        return;
+      }
+      if( entry.referenced ) {
+        entry.referenced = false;
+        clock.offer( entry );
+      } else {
+        data.remove( entry.key, entry );
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
-  }
-
-
   //////////////////
   // helping methods
 
@@ -152,14 +163,4 @@ public final class TextSizeStorage {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
-  private void calculateClearRange( int maximumStoreSize ) {
-    BigDecimal ten = new BigDecimal( 10 );
-    BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
-    clearRange = bdStoreSize.divide( ten, 0, BigDecimal.ROUND_HALF_UP ).intValue();
-  }
-
 }
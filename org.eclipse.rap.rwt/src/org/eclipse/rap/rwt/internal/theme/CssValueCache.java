@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/*
+ * Remembers the values that were selected for an element and property of a theme, keyed by the
+ * cache key of the value selector. The cache belongs to a theme, switching to another theme
+ * uses the cache of that theme. The number of keys is limited by the elements, properties,
+ * styles, variants and states in use, further values are not cached once the limit is reached.
+ */
+public final class CssValueCache {
+
+  private static final int MAX_SIZE = 16384;
+
+  private final ConcurrentMap<Key, CssValue> values;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  CssValueCache() {
+    values = new ConcurrentHashMap<>();
+    hits = new LongAdder();
+    misses = new LongAdder();
+  }
+
+  CssValue get( String element, String property, Object selectorKey ) {
+    CssValue result = values.get( new Key( element, property, selectorKey ) );
+    if( result != null ) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return result;
+  }
+
+  void put( String element, String property, Object selectorKey, CssValue value ) {
+    if( values.size() < MAX_SIZE ) {
+      values.put( new Key( element, property, selectorKey ), value );
+    }
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : ( double )hitCount / total;
+  }
+
+  public int size() {
+    return values.size();
+  }
+
+  private static final class Key {
+
+    private final String element;
+    private final String property;
+    private final Object selectorKey;
+    private final int hashCode;
+
+    Key( String element, String property, Object selectorKey ) {
+      this.element = element;
+      this.property = property;
+      this.selectorKey = selectorKey;
+      hashCode = ( element.hashCode() * 31 + property.hashCode() ) * 31 + selectorKey.hashCode();
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object == this ) {
+        return true;
+      }
+      if( !( object instanceof Key ) ) {
+        return false;
+      }
+      Key other = ( Key )object;
+      return    hashCode == other.hashCode
+             && element.equals( other.element )
+             && property.equals( other.property )
+             && selectorKey.equals( other.selectorKey );
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+  }
+
+}
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.Arrays;
+
 import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.swt.widgets.Widget;
 
@@ -42,6 +44,27 @@ public final class SimpleSelector implements ValueSelector {
     return result;
   }
 
+  @Override
+  public Object getCacheKey( Widget widget ) {
+    return this;
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( object == this ) {
+      return true;
+    }
+    if( !( object instanceof SimpleSelector ) ) {
+      return false;
+    }
+    return Arrays.equals( requiredConstraints, ( ( SimpleSelector )object ).requiredConstraints );
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode( requiredConstraints );
+  }
+
   private boolean matches( String[] constraints ) {
     boolean result = true;
     for( int i = 0; i < constraints.length && result; i++ ) {
@@ -15,6 +15,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.theme.css.CssElementHolder;
@@ -32,8 +35,9 @@ public class Theme {
   private final String name;
   private StyleSheetBuilder styleSheetBuilder;
   private CssValuesMap valuesMap;
+  private CssValueCache valueCache;
 
-  private String registeredLocation;
+  private volatile String registeredLocation;
 
   private CssElement[] elements;
 
@@ -77,6 +81,7 @@ public class Theme {
     }
     StyleSheet styleSheet = styleSheetBuilder.getStyleSheet();
     valuesMap = new CssValuesMap( styleSheet, themeableWidgets );
+    valueCache = new CssValueCache();
     styleSheetBuilder = null;
   }
 
@@ -103,26 +108,54 @@ public class Theme {
     return valuesMap;
   }
 
+  /*
+   * Values that were selected for widgets of this theme, including values of the fallback theme.
+   */
+  public CssValueCache getValueCache() {
+    if( valueCache == null ) {
+      throw new IllegalStateException( "Theme is not initialized" );
+    }
+    return valueCache;
+  }
+
   public String getRegisteredLocation() {
     return registeredLocation;
   }
 
-  public void registerResources( ApplicationContext applicationContext ) {
-    try {
-      registerThemeResources( applicationContext );
-      registerThemeStoreFile( applicationContext );
-    } catch( IOException ioe ) {
-      throw new ThemeManagerException( "Failed to register theme resources for theme " + id, ioe );
+  /*
+   * The resources are independent of each other and are registered in parallel, when called
+   * from a fork-join task the work is shared with the pool of that task.
+   */
+  public void registerResources( final ApplicationContext applicationContext ) {
+    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    for( CssValue value : valuesMap.getAllValues() ) {
+      if( value instanceof ThemeResource ) {
+        tasks.add( createRegisterTask( applicationContext, ( ThemeResource )value ) );
+      }
     }
+    tasks.add( ForkJoinTask.adapt( new Runnable() {
+      @Override
+      public void run() {
+        registerThemeStoreFile( applicationContext );
+      }
+    } ) );
+    ForkJoinTask.invokeAll( tasks );
   }
 
-  private void registerThemeResources( ApplicationContext applicationContext ) throws IOException {
-    CssValue[] values = valuesMap.getAllValues();
-    for( CssValue value : values ) {
-      if( value instanceof ThemeResource ) {
-        registerResource( applicationContext, ( ThemeResource )value );
+  private ForkJoinTask<?> createRegisterTask( final ApplicationContext applicationContext,
+                                              final ThemeResource value )
+  {
+    return ForkJoinTask.adapt( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          registerResource( applicationContext, value );
+        } catch( IOException ioe ) {
+          String message = "Failed to register theme resources for theme " + id;
+          throw new ThemeManagerException( message, ioe );
+        }
       }
-    }
+    } );
   }
 
   private void registerThemeStoreFile( ApplicationContext applicationContext ) {
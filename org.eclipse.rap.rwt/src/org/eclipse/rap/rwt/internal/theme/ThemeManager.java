@@ -18,11 +18,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleAdapterUtil;
@@ -101,7 +103,7 @@ public class ThemeManager {
     themeableWidgets = new ThemeableWidgetHolder();
     appearances = new ArrayList<>();
     themeAdapterManager = new ThemeAdapterManager();
-    resolvedPackageNames = new HashMap<>();
+    resolvedPackageNames = new ConcurrentHashMap<>();
     initialized = false;
     createAndAddFallbackTheme();
     addDefaultThemableWidgets();
@@ -118,11 +120,7 @@ public class ThemeManager {
   public void activate() {
     if( !initialized ) {
       initializeThemeableWidgets();
-      Collection<Theme> allThemes = themes.values();
-      ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
-      for( Theme theme : allThemes ) {
-        theme.initialize( allThemeableWidgets );
-      }
+      initializeThemes();
       initialized = true;
     }
   }
@@ -243,36 +241,70 @@ public class ThemeManager {
     themes.put( FALLBACK_THEME_ID, fallbackTheme );
   }
 
+  /*
+   * The resources of the themeable widgets are loaded and parsed in parallel. The results are
+   * merged in the order of the themeable widgets, independent of the order in which the tasks
+   * complete.
+   */
   private void initializeThemeableWidgets() {
     ThemeableWidget[] widgets = themeableWidgets.getAll();
+    List<ForkJoinTask<List<String>>> tasks = new ArrayList<>();
     for( ThemeableWidget widget : widgets ) {
-      loadThemeableWidgetResources( widget );
+      tasks.add( createLoadTask( widget ).fork() );
+    }
+    for( int i = 0; i < widgets.length; i++ ) {
+      appearances.addAll( tasks.get( i ).join() );
+      if( widgets[ i ].defaultStyleSheet != null ) {
+        fallbackTheme.addStyleSheet( widgets[ i ].defaultStyleSheet );
+      }
     }
   }
 
+  private void initializeThemes() {
+    final ThemeableWidget[] allThemeableWidgets = themeableWidgets.getAll();
+    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+    for( final Theme theme : themes.values() ) {
+      tasks.add( ForkJoinTask.adapt( new Runnable() {
+        @Override
+        public void run() {
+          theme.initialize( allThemeableWidgets );
+        }
+      } ) );
+    }
+    ForkJoinTask.invokeAll( tasks );
+  }
+
+  private ForkJoinTask<List<String>> createLoadTask( final ThemeableWidget themeWidget ) {
+    return ForkJoinTask.adapt( new Callable<List<String>>() {
+      @Override
+      public List<String> call() {
+        return loadThemeableWidgetResources( themeWidget );
+      }
+    } );
+  }
+
   private void addDefaultThemableWidgets() {
     for( String className : THEMEABLE_WIDGETS ) {
       addThemeableWidget( className, STANDARD_RESOURCE_LOADER );
     }
   }
 
-  private void loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
+  private List<String> loadThemeableWidgetResources( ThemeableWidget themeWidget ) {
     String className = LifeCycleAdapterUtil.getSimpleClassName( themeWidget.className );
     String[] variants = LifeCycleAdapterUtil.getKitPackageVariants( themeWidget.className );
+    List<String> widgetAppearances = new ArrayList<>();
     boolean found = false;
     try {
       for( int i = 0; i < variants.length && !found ; i++ ) {
         found |= loadThemeDef( themeWidget, variants[ i ], className );
-        found |= loadAppearanceJs( themeWidget, variants[ i ], className );
+        found |= loadAppearanceJs( widgetAppearances, themeWidget, variants[ i ], className );
         found |= loadDefaultCss( themeWidget, variants[ i ], className );
       }
-      if( themeWidget.defaultStyleSheet != null ) {
-        fallbackTheme.addStyleSheet( themeWidget.defaultStyleSheet );
-      }
     } catch( IOException e ) {
       String msg = "Failed to initialize themeable widget: " + themeWidget.className;
       throw new ThemeManagerException( msg, e );
     }
+    return widgetAppearances;
   }
 
   private boolean loadThemeDef( ThemeableWidget themeWidget, String pkgName, String className )
@@ -298,7 +330,10 @@ public class ThemeManager {
     return result;
   }
 
-  private boolean loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
+  private boolean loadAppearanceJs( List<String> widgetAppearances,
+                                    ThemeableWidget themeWidget,
+                                    String pkgName,
+                                    String className )
     throws IOException
   {
     boolean result = false;
@@ -308,7 +343,7 @@ public class ThemeManager {
     if( inStream != null ) {
       try {
         String content = AppearancesUtil.readAppearanceFile( inStream );
-        appearances.add( content );
+        widgetAppearances.add( content );
         result = true;
       } finally {
         inStream.close();
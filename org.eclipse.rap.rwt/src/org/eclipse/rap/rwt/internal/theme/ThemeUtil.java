@@ -144,13 +144,33 @@ public final class ThemeUtil {
                                       Widget widget )
   {
     Theme theme =  getApplicationContext().getThemeManager().getTheme( themeId );
+    Object selectorKey = selector.getCacheKey( widget );
+    CssValueCache valueCache = theme.getValueCache();
+    CssValue result = null;
+    if( selectorKey != null ) {
+      result = valueCache.get( cssElement, cssProperty, selectorKey );
+    }
+    if( result == null ) {
+      result = selectValue( theme, cssElement, cssProperty, selector, widget );
+      if( selectorKey != null && result != null ) {
+        valueCache.put( cssElement, cssProperty, selectorKey, result );
+      }
+    }
+    return result;
+  }
+
+  private static CssValue selectValue( Theme theme,
+                                       String cssElement,
+                                       String cssProperty,
+                                       ValueSelector selector,
+                                       Widget widget )
+  {
     CssValuesMap valuesMap = theme.getValuesMap();
     ConditionalValue[] values = valuesMap.getValues( cssElement, cssProperty );
     CssValue result = selector.select( widget, values );
     if( result == null ) {
       // resort to fallback theme
-      theme = getFallbackTheme();
-      valuesMap = theme.getValuesMap();
+      valuesMap = getFallbackTheme().getValuesMap();
       values = valuesMap.getValues( cssElement, cssProperty );
       result = selector.select( widget, values );
     }
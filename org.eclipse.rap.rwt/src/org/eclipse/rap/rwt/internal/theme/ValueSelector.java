@@ -22,4 +22,11 @@ public interface ValueSelector {
 
   CssValue select( Widget widget, ConditionalValue... values );
 
+  /**
+   * Returns a key that determines the value selected for the given widget, i.e. two calls with
+   * equal keys select the same value from the same values array. Returns <code>null</code> if
+   * the selection cannot be cached.
+   */
+  Object getCacheKey( Widget widget );
+
 }
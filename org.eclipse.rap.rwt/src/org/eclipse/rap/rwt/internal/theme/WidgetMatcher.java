@@ -11,8 +11,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil;
 import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
@@ -25,13 +27,18 @@ public final class WidgetMatcher implements ValueSelector {
     boolean matches( Widget widget );
   }
 
+  // the results of the state constraints are combined into the bits of an int
+  private static final int MAX_CACHED_STATES = 32;
+
   private final Map<String, Constraint> constraintMap;
+  private final List<Constraint> states;
 
   public WidgetMatcher() {
     // This map is accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    states = new CopyOnWriteArrayList<>();
   }
 
   public void addStyle( String string, int style ) {
@@ -40,6 +47,7 @@ public final class WidgetMatcher implements ValueSelector {
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    states.add( constraint );
   }
 
   @Override
@@ -55,6 +63,24 @@ public final class WidgetMatcher implements ValueSelector {
     return result;
   }
 
+  /*
+   * The selected value depends only on the style, the variant and the states of a widget, as
+   * these are the only constraints that can be registered.
+   */
+  @Override
+  public Object getCacheKey( Widget widget ) {
+    if( widget == null || states.size() > MAX_CACHED_STATES ) {
+      return null;
+    }
+    int stateBits = 0;
+    for( int i = 0; i < states.size(); i++ ) {
+      if( states.get( i ).matches( widget ) ) {
+        stateBits |= 1 << i;
+      }
+    }
+    return new WidgetKey( this, widget.getStyle(), WidgetUtil.getVariant( widget ), stateBits );
+  }
+
   private boolean matches( Widget widget, String[] constraints ) {
     for( String string : constraints ) {
       Constraint constraint = getConstraint( string );
@@ -97,4 +123,43 @@ public final class WidgetMatcher implements ValueSelector {
     return actualVariant != null && actualVariant.equals( variant );
   }
 
+  private static final class WidgetKey {
+
+    private final WidgetMatcher matcher;
+    private final int style;
+    private final String variant;
+    private final int stateBits;
+
+    WidgetKey( WidgetMatcher matcher, int style, String variant, int stateBits ) {
+      this.matcher = matcher;
+      this.style = style;
+      this.variant = variant;
+      this.stateBits = stateBits;
+    }
+
+    @Override
+    public boolean equals( Object object ) {
+      if( object == this ) {
+        return true;
+      }
+      if( !( object instanceof WidgetKey ) ) {
+        return false;
+      }
+      WidgetKey other = ( WidgetKey )object;
+      return    matcher == other.matcher
+             && style == other.style
+             && stateBits == other.stateBits
+             && ( variant == null ? other.variant == null : variant.equals( other.variant ) );
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode( matcher );
+      result = result * 31 + style;
+      result = result * 31 + stateBits;
+      return result * 31 + ( variant == null ? 0 : variant.hashCode() );
+    }
+
+  }
+
 }
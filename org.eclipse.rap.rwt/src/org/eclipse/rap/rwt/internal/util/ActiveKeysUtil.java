@@ -11,6 +11,7 @@
 package org.eclipse.rap.rwt.internal.util;
 
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -91,6 +92,9 @@ public final class ActiveKeysUtil {
   final static String PROP_ACTIVE_KEYS = "activeKeys";
   final static String PROP_CANCEL_KEYS = "cancelKeys";
   final static String PROP_MNEMONIC_ACTIVATOR = "mnemonicActivator";
+  private final static int PROP_ACTIVE_KEYS_ID = getPropertyId( PROP_ACTIVE_KEYS );
+  private final static int PROP_CANCEL_KEYS_ID = getPropertyId( PROP_CANCEL_KEYS );
+  private final static int PROP_MNEMONIC_ACTIVATOR_ID = getPropertyId( PROP_MNEMONIC_ACTIVATOR );
 
 
   private ActiveKeysUtil() {
@@ -99,7 +103,7 @@ public final class ActiveKeysUtil {
 
   public static void preserveActiveKeys( Display display ) {
     RemoteAdapter adapter = DisplayUtil.getAdapter( display );
-    adapter.preserve( PROP_ACTIVE_KEYS, getActiveKeys( display ) );
+    adapter.preserve( PROP_ACTIVE_KEYS_ID, getActiveKeys( display ) );
   }
 
   public static void preserveActiveKeys( Control control ) {
@@ -111,7 +115,7 @@ public final class ActiveKeysUtil {
 
   public static void preserveCancelKeys( Display display ) {
     RemoteAdapter adapter = DisplayUtil.getAdapter( display );
-    adapter.preserve( PROP_CANCEL_KEYS, getCancelKeys( display ) );
+    adapter.preserve( PROP_CANCEL_KEYS_ID, getCancelKeys( display ) );
   }
 
   public static void preserveCancelKeys( Control control ) {
@@ -125,7 +129,7 @@ public final class ActiveKeysUtil {
     if( !display.isDisposed() ) {
       RemoteAdapter adapter = DisplayUtil.getAdapter( display );
       String[] actual = getActiveKeys( display );
-      String[] preserved = ( String[] )adapter.getPreserved( PROP_ACTIVE_KEYS );
+      String[] preserved = ( String[] )adapter.getPreserved( PROP_ACTIVE_KEYS_ID );
       if( !Arrays.equals( actual, preserved ) ) {
         getRemoteObject( display ).set( PROP_ACTIVE_KEYS, translateKeySequences( actual ) );
       }
@@ -149,7 +153,7 @@ public final class ActiveKeysUtil {
     if( !display.isDisposed() ) {
       RemoteAdapter adapter = DisplayUtil.getAdapter( display );
       String[] actual = getCancelKeys( display );
-      String[] preserved = ( String[] )adapter.getPreserved( PROP_CANCEL_KEYS );
+      String[] preserved = ( String[] )adapter.getPreserved( PROP_CANCEL_KEYS_ID );
       if( !Arrays.equals( actual, preserved ) ) {
         getRemoteObject( display ).set( PROP_CANCEL_KEYS, translateKeySequences( actual ) );
       }
@@ -171,14 +175,14 @@ public final class ActiveKeysUtil {
 
   public static void preserveMnemonicActivator( Display display ) {
     RemoteAdapter adapter = DisplayUtil.getAdapter( display );
-    adapter.preserve( PROP_MNEMONIC_ACTIVATOR, getMnemonicActivator( display ) );
+    adapter.preserve( PROP_MNEMONIC_ACTIVATOR_ID, getMnemonicActivator( display ) );
   }
 
   public static void renderMnemonicActivator( Display display ) {
     if( !display.isDisposed() ) {
       RemoteAdapter adapter = DisplayUtil.getAdapter( display );
       String actual = getMnemonicActivator( display );
-      String preserved = ( String )adapter.getPreserved( PROP_MNEMONIC_ACTIVATOR );
+      String preserved = ( String )adapter.getPreserved( PROP_MNEMONIC_ACTIVATOR_ID );
       if( !equals( actual, preserved ) ) {
         getRemoteObject( display ).set( PROP_MNEMONIC_ACTIVATOR, getModifierKeys( actual ) );
       }
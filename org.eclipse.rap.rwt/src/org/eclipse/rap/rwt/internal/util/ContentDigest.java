@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+
+/*
+ * Content digests that are used to derive resource names and cache keys from content. The
+ * names are the first 128 bits of the SHA-256 digest in hex notation, which keeps URLs short
+ * while collisions remain practically impossible.
+ */
+public final class ContentDigest {
+
+  private static final String ALGORITHM = "SHA-256";
+  private static final int NAME_LENGTH = 16;
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final MessageDigest messageDigest;
+
+  public ContentDigest() {
+    try {
+      messageDigest = MessageDigest.getInstance( ALGORITHM );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new IllegalStateException( ALGORITHM + " is not available", exception );
+    }
+  }
+
+  public static String getName( byte[] content ) {
+    ContentDigest digest = new ContentDigest();
+    digest.update( content, 0, content.length );
+    return digest.getName();
+  }
+
+  public void update( byte[] content, int offset, int length ) {
+    messageDigest.update( content, offset, length );
+  }
+
+  public void update( byte[] content ) {
+    messageDigest.update( content );
+  }
+
+  public void update( int value ) {
+    messageDigest.update( ( byte )( value >>> 24 ) );
+    messageDigest.update( ( byte )( value >>> 16 ) );
+    messageDigest.update( ( byte )( value >>> 8 ) );
+    messageDigest.update( ( byte )value );
+  }
+
+  /*
+   * Completes the digest and resets it for further use.
+   */
+  public String getName() {
+    byte[] digest = messageDigest.digest();
+    char[] result = new char[ NAME_LENGTH * 2 ];
+    for( int i = 0; i < NAME_LENGTH; i++ ) {
+      result[ i * 2 ] = HEX_DIGITS[ ( digest[ i ] >> 4 ) & 0x0F ];
+      result[ i * 2 + 1 ] = HEX_DIGITS[ digest[ i ] & 0x0F ];
+    }
+    return new String( result );
+  }
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+
+/*
+ * A bounded pool of Deflater instances. Creating a Deflater allocates native memory that is only
+ * freed when the instance is ended or finalized, therefore instances are reset and reused.
+ * Deflaters that do not fit into the pool anymore are ended immediately.
+ */
+public final class DeflaterPool {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final int level;
+  private final boolean nowrap;
+  private final BlockingQueue<Deflater> deflaters;
+
+  public DeflaterPool( int level, boolean nowrap, int capacity ) {
+    this.level = level;
+    this.nowrap = nowrap;
+    deflaters = new ArrayBlockingQueue<>( capacity );
+  }
+
+  public Deflater acquire() {
+    Deflater deflater = deflaters.poll();
+    return deflater != null ? deflater : new Deflater( level, nowrap );
+  }
+
+  public void release( Deflater deflater ) {
+    deflater.reset();
+    if( !deflaters.offer( deflater ) ) {
+      deflater.end();
+    }
+  }
+
+  public void deflate( byte[] input, int length, ByteArrayOutputStream output ) {
+    Deflater deflater = acquire();
+    try {
+      deflater.setInput( input, 0, length );
+      deflater.finish();
+      byte[] buffer = new byte[ BUFFER_SIZE ];
+      while( !deflater.finished() ) {
+        int count = deflater.deflate( buffer );
+        output.write( buffer, 0, count );
+      }
+    } finally {
+      release( deflater );
+    }
+  }
+
+}
@@ -10,70 +10,237 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 
+/*
+ * Instances are created at most once per key. Lookups of existing instances never block. While
+ * an instance is being created, only threads that request the same key wait for it, other keys
+ * can be looked up and created concurrently.
+ */
 public class SharedInstanceBuffer<K, I> implements Serializable {
 
-  private final Lock readLock;
-  private final Lock writeLock;
-  private final Map<K, I> store;
+  private transient ConcurrentMap<K, Object> store;
+  private transient AtomicLong hitCount;
+  private transient AtomicLong creationCount;
+  private transient AtomicLong waitCount;
+  private transient AtomicLong waitTime;
 
   public SharedInstanceBuffer() {
-    ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    readLock = readWriteLock.readLock();
-    writeLock = readWriteLock.writeLock();
-    store = new HashMap<>();
+    initialize();
   }
 
   public I get( K key, InstanceCreator<K, I> instanceCreator ) {
-    I result = getInstance( key );
-    if( result == null ) {
-      result = createInstance( key, instanceCreator );
+    I result = null;
+    boolean done = false;
+    while( !done ) {
+      Object value = store.get( key );
+      if( value == null ) {
+        PendingInstance pending = new PendingInstance();
+        value = store.putIfAbsent( key, pending );
+        if( value == null ) {
+          result = createInstance( key, instanceCreator, pending );
+          done = true;
+        }
+      }
+      if( value instanceof PendingInstance ) {
+        // if the creation failed, the next iteration attempts to create the instance again
+        done = awaitInstance( ( PendingInstance )value );
+        result = done ? getInstance( key ) : null;
+      } else if( value != null ) {
+        hitCount.incrementAndGet();
+        result = cast( value );
+        done = true;
+      }
     }
     return result;
   }
 
+  /*
+   * Returns the instance for the given key if it has been created already, never creates an
+   * instance and never waits for one.
+   */
+  public I find( K key ) {
+    return getInstance( key );
+  }
+
+  /*
+   * Whether an instance for the given key has been created or is being created.
+   */
+  public boolean contains( K key ) {
+    return store.containsKey( key );
+  }
+
   public I remove( K key ) {
-    writeLock.lock();
-    try {
-      return store.remove( key );
-    } finally {
-      writeLock.unlock();
-    }
+    Object result = store.remove( key );
+    return result instanceof PendingInstance ? null : cast( result );
+  }
+
+  public Statistics getStatistics() {
+    return new Statistics( hitCount.get(), creationCount.get(), waitCount.get(), waitTime.get() );
   }
 
   private I getInstance( K key ) {
-    readLock.lock();
-    try {
-      return store.get( key );
-    } finally {
-      readLock.unlock();
-    }
+    Object result = store.get( key );
+    return result instanceof PendingInstance ? null : cast( result );
   }
 
-  private I createInstance( K key, InstanceCreator<K, I> instanceCreator ) {
-    writeLock.lock();
+  private I createInstance( K key, InstanceCreator<K, I> instanceCreator, PendingInstance pending )
+  {
+    boolean created = false;
     try {
-      // Re-check because another thread might have acquired write lock and created an instance
-      // before we did. See doc on ReentrantReadWriteLock.
-      I result = store.get( key );
+      I result = instanceCreator.createInstance( key );
       if( result == null ) {
-        result = instanceCreator.createInstance( key );
-        store.put( key, result );
+        store.remove( key, pending );
+      } else {
+        store.replace( key, pending, result );
       }
+      creationCount.incrementAndGet();
+      created = true;
       return result;
     } finally {
-      writeLock.unlock();
+      if( !created ) {
+        store.remove( key, pending );
+      }
+      pending.complete( created );
     }
   }
 
+  private boolean awaitInstance( PendingInstance pending ) {
+    if( pending.owner == Thread.currentThread() ) {
+      throw new IllegalStateException( "Recursive instance creation for the same key" );
+    }
+    long start = System.nanoTime();
+    boolean result = pending.await();
+    waitCount.incrementAndGet();
+    waitTime.addAndGet( System.nanoTime() - start );
+    return result;
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private I cast( Object value ) {
+    return ( I )value;
+  }
+
+  private void initialize() {
+    store = new ConcurrentHashMap<>();
+    hitCount = new AtomicLong();
+    creationCount = new AtomicLong();
+    waitCount = new AtomicLong();
+    waitTime = new AtomicLong();
+  }
+
+  private void writeObject( ObjectOutputStream stream ) throws IOException {
+    stream.defaultWriteObject();
+    Map<K, Object> instances = new HashMap<>();
+    for( Entry<K, Object> entry : store.entrySet() ) {
+      if( !( entry.getValue() instanceof PendingInstance ) ) {
+        instances.put( entry.getKey(), entry.getValue() );
+      }
+    }
+    stream.writeObject( instances );
+  }
+
+  @SuppressWarnings( "unchecked" )
+  private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    initialize();
+    store.putAll( ( Map<K, Object> )stream.readObject() );
+  }
+
   public interface InstanceCreator<K, T> extends Serializable {
     T createInstance( K key );
   }
 
+  public static final class Statistics {
+
+    private final long hitCount;
+    private final long creationCount;
+    private final long waitCount;
+    private final long waitTime;
+
+    public Statistics( long hitCount, long creationCount, long waitCount, long waitTime ) {
+      this.hitCount = hitCount;
+      this.creationCount = creationCount;
+      this.waitCount = waitCount;
+      this.waitTime = waitTime;
+    }
+
+    /*
+     * Number of lookups that found an existing instance.
+     */
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    public long getCreationCount() {
+      return creationCount;
+    }
+
+    /*
+     * Number of lookups that had to wait for another thread creating the same key.
+     */
+    public long getWaitCount() {
+      return waitCount;
+    }
+
+    /*
+     * Accumulated time in nanoseconds spent waiting for other threads.
+     */
+    public long getWaitTime() {
+      return waitTime;
+    }
+
+    public Statistics add( Statistics statistics ) {
+      return new Statistics( hitCount + statistics.hitCount,
+                             creationCount + statistics.creationCount,
+                             waitCount + statistics.waitCount,
+                             waitTime + statistics.waitTime );
+    }
+
+  }
+
+  private static final class PendingInstance {
+
+    private final Thread owner;
+    private final CountDownLatch latch;
+    private volatile boolean created;
+
+    PendingInstance() {
+      owner = Thread.currentThread();
+      latch = new CountDownLatch( 1 );
+    }
+
+    void complete( boolean created ) {
+      this.created = created;
+      latch.countDown();
+    }
+
+    boolean await() {
+      boolean interrupted = false;
+      while( latch.getCount() > 0 ) {
+        try {
+          latch.await();
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          interrupted = true;
+        }
+      }
+      if( interrupted ) {
+        Thread.currentThread().interrupt();
+      }
+      return created;
+    }
+
+  }
+
 }
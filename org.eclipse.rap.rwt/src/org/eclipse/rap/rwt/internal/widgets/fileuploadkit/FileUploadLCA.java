@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -38,16 +39,19 @@ public final class FileUploadLCA extends WidgetLCA<FileUpload> {
   private static final String[] ALLOWED_STYLES = { "BORDER", "MULTI" };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_FILTER_EXTENSIONS = "filterExtensions";
+  private static final int PROP_FILTER_EXTENSIONS_ID = getPropertyId( PROP_FILTER_EXTENSIONS );
 
   private static final String[] DEFAUT_FILTER_EXTENSIONS = new String[ 0 ];
 
   @Override
   public void preserveValues( FileUpload fileUpload ) {
-    preserveProperty( fileUpload, PROP_TEXT, fileUpload.getText() );
-    preserveProperty( fileUpload, PROP_IMAGE, fileUpload.getImage() );
-    preserveProperty( fileUpload, PROP_FILTER_EXTENSIONS, fileUpload.getFilterExtensions() );
+    preserveProperty( fileUpload, PROP_TEXT_ID, fileUpload.getText() );
+    preserveProperty( fileUpload, PROP_IMAGE_ID, fileUpload.getImage() );
+    preserveProperty( fileUpload, PROP_FILTER_EXTENSIONS_ID, fileUpload.getFilterExtensions() );
   }
 
   @Override
@@ -62,10 +66,10 @@ public final class FileUploadLCA extends WidgetLCA<FileUpload> {
   public void renderChanges( FileUpload fileUpload ) throws IOException {
     ControlLCAUtil.renderChanges( fileUpload );
     WidgetLCAUtil.renderCustomVariant( fileUpload );
-    renderProperty( fileUpload, PROP_TEXT, fileUpload.getText(), "" );
-    renderProperty( fileUpload, PROP_IMAGE, fileUpload.getImage(), null );
+    renderProperty( fileUpload, PROP_TEXT_ID, fileUpload.getText(), "" );
+    renderProperty( fileUpload, PROP_IMAGE_ID, fileUpload.getImage(), null );
     renderProperty( fileUpload,
-                    PROP_FILTER_EXTENSIONS,
+                    PROP_FILTER_EXTENSIONS_ID,
                     fileUpload.getFilterExtensions(),
                     DEFAUT_FILTER_EXTENSIONS );
     renderListenSelection( fileUpload );
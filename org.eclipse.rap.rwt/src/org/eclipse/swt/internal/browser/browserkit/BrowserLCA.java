@@ -20,6 +20,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -59,6 +60,7 @@ public final class BrowserLCA extends WidgetLCA<Browser> {
   public static final String EVENT_PROGRESS = "Progress";
 
   private static final String PARAM_PROGRESS_LISTENER = "Progress";
+  private static final int PARAM_PROGRESS_LISTENER_ID = getPropertyId( PARAM_PROGRESS_LISTENER );
   private static final String PARAM_SCRIPT = "script";
   private static final String METHOD_EVALUATE = "evaluate";
   private static final String PARAM_FUNCTIONS = "functions";
@@ -75,7 +77,7 @@ public final class BrowserLCA extends WidgetLCA<Browser> {
 
   @Override
   public void preserveValues( Browser browser ) {
-    preserveListener( browser, PARAM_PROGRESS_LISTENER, hasProgressListener( browser ) );
+    preserveListener( browser, PARAM_PROGRESS_LISTENER_ID, hasProgressListener( browser ) );
   }
 
   @Override
@@ -100,7 +102,7 @@ public final class BrowserLCA extends WidgetLCA<Browser> {
       }
     } );
     renderFunctionResult( browser );
-    renderListener( browser, PARAM_PROGRESS_LISTENER, hasProgressListener( browser ), false );
+    renderListener( browser, PARAM_PROGRESS_LISTENER_ID, hasProgressListener( browser ), false );
   }
 
   private static void renderUrl( Browser browser ) throws IOException {
@@ -21,6 +21,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -42,13 +43,21 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
 
   // Property names for preserve-value facility
   static final String PROP_ITEMS = "items";
+  static final int PROP_ITEMS_ID = getPropertyId( PROP_ITEMS );
   static final String PROP_TEXT = "text";
+  static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   static final String PROP_SELECTION_INDEX = "selectionIndex";
+  static final int PROP_SELECTION_INDEX_ID = getPropertyId( PROP_SELECTION_INDEX );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_TEXT_LIMIT = "textLimit";
+  static final int PROP_TEXT_LIMIT_ID = getPropertyId( PROP_TEXT_LIMIT );
   static final String PROP_LIST_VISIBLE = "listVisible";
+  static final int PROP_LIST_VISIBLE_ID = getPropertyId( PROP_LIST_VISIBLE );
   static final String PROP_EDITABLE = "editable";
+  static final int PROP_EDITABLE_ID = getPropertyId( PROP_EDITABLE );
   static final String PROP_VISIBLE_ITEM_COUNT = "visibleItemCount";
+  static final int PROP_VISIBLE_ITEM_COUNT_ID = getPropertyId( PROP_VISIBLE_ITEM_COUNT );
 
   // Default values
   private static final String[] DEFAUT_ITEMS = new String[ 0 ];
@@ -58,14 +67,14 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
 
   @Override
   public void preserveValues( CCombo ccombo ) {
-    preserveProperty( ccombo, PROP_ITEMS, ccombo.getItems() );
-    preserveProperty( ccombo, PROP_SELECTION_INDEX, ccombo.getSelectionIndex() );
-    preserveProperty( ccombo, PROP_SELECTION, ccombo.getSelection() );
-    preserveProperty( ccombo, PROP_TEXT_LIMIT, getTextLimit( ccombo ) );
-    preserveProperty( ccombo, PROP_VISIBLE_ITEM_COUNT, ccombo.getVisibleItemCount() );
-    preserveProperty( ccombo, PROP_TEXT, ccombo.getText() );
-    preserveProperty( ccombo, PROP_LIST_VISIBLE, ccombo.getListVisible() );
-    preserveProperty( ccombo, PROP_EDITABLE, Boolean.valueOf( ccombo.getEditable() ) );
+    preserveProperty( ccombo, PROP_ITEMS_ID, ccombo.getItems() );
+    preserveProperty( ccombo, PROP_SELECTION_INDEX_ID, ccombo.getSelectionIndex() );
+    preserveProperty( ccombo, PROP_SELECTION_ID, ccombo.getSelection() );
+    preserveProperty( ccombo, PROP_TEXT_LIMIT_ID, getTextLimit( ccombo ) );
+    preserveProperty( ccombo, PROP_VISIBLE_ITEM_COUNT_ID, ccombo.getVisibleItemCount() );
+    preserveProperty( ccombo, PROP_TEXT_ID, ccombo.getText() );
+    preserveProperty( ccombo, PROP_LIST_VISIBLE_ID, ccombo.getListVisible() );
+    preserveProperty( ccombo, PROP_EDITABLE_ID, Boolean.valueOf( ccombo.getEditable() ) );
   }
 
   @Override
@@ -99,27 +108,27 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
 
   private static void renderVisibleItemCount( CCombo ccombo ) {
     int defValue = DEFAULT_VISIBLE_ITEM_COUNT;
-    renderProperty( ccombo, PROP_VISIBLE_ITEM_COUNT, ccombo.getVisibleItemCount(), defValue );
+    renderProperty( ccombo, PROP_VISIBLE_ITEM_COUNT_ID, ccombo.getVisibleItemCount(), defValue );
   }
 
   private static void renderItems( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_ITEMS, ccombo.getItems(), DEFAUT_ITEMS );
+    renderProperty( ccombo, PROP_ITEMS_ID, ccombo.getItems(), DEFAUT_ITEMS );
   }
 
   private static void renderListVisible( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_LIST_VISIBLE, ccombo.getListVisible(), false );
+    renderProperty( ccombo, PROP_LIST_VISIBLE_ID, ccombo.getListVisible(), false );
   }
 
   private static void renderSelectionIndex( CCombo ccombo ) {
     Integer newSelectionIndex = Integer.valueOf( ccombo.getSelectionIndex() );
     boolean selectionChanged
-      = hasChanged( ccombo, PROP_SELECTION_INDEX, newSelectionIndex, DEFAULT_SELECTION_INDEX );
+      = hasChanged( ccombo, PROP_SELECTION_INDEX_ID, newSelectionIndex, DEFAULT_SELECTION_INDEX );
     // The 'itemsChanged' statement covers the following use case:
     // combo.add( "a" );  combo.select( 0 );
     // -- in a subsequent request --
     // combo.removeAll();  combo.add( "b" );  combo.select( 0 );
     // When only examining selectionIndex, a change cannot be determined
-    boolean itemsChanged = hasChanged( ccombo, PROP_ITEMS, ccombo.getItems(), DEFAUT_ITEMS );
+    boolean itemsChanged = hasChanged( ccombo, PROP_ITEMS_ID, ccombo.getItems(), DEFAUT_ITEMS );
     boolean isInitialized = WidgetUtil.getAdapter( ccombo ).isInitialized();
     if( selectionChanged || ( itemsChanged && isInitialized ) ) {
       getRemoteObject( ccombo ).set( PROP_SELECTION_INDEX, newSelectionIndex.intValue() );
@@ -127,19 +136,19 @@ public final class CComboLCA extends WidgetLCA<CCombo> {
   }
 
   private static void renderEditable( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_EDITABLE, ccombo.getEditable(), true );
+    renderProperty( ccombo, PROP_EDITABLE_ID, ccombo.getEditable(), true );
   }
 
   private static void renderText( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_TEXT, ccombo.getText(), "" );
+    renderProperty( ccombo, PROP_TEXT_ID, ccombo.getText(), "" );
   }
 
   private static void renderSelection( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_SELECTION, ccombo.getSelection(), DEFAULT_SELECTION );
+    renderProperty( ccombo, PROP_SELECTION_ID, ccombo.getSelection(), DEFAULT_SELECTION );
   }
 
   private static void renderTextLimit( CCombo ccombo ) {
-    renderProperty( ccombo, PROP_TEXT_LIMIT, getTextLimit( ccombo ), null );
+    renderProperty( ccombo, PROP_TEXT_LIMIT_ID, getTextLimit( ccombo ), null );
   }
 
   private static Integer getTextLimit( CCombo ccombo ) {
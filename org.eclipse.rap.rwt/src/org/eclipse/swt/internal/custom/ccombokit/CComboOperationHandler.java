@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_MOD
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
 import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -33,7 +34,9 @@ public class CComboOperationHandler extends ControlOperationHandler<CCombo> {
   private static final String PROP_SELECTION_INDEX = "selectionIndex";
   private static final String PROP_LIST_VISIBLE = "listVisible";
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   public CComboOperationHandler( CCombo ccombo ) {
     super( ccombo );
@@ -104,7 +107,7 @@ public class CComboOperationHandler extends ControlOperationHandler<CCombo> {
             if( !ccombo.isDisposed() ) {
               setText( ccombo, text );
               // since text is set in process action, preserved values have to be replaced
-              getAdapter( ccombo ).preserve( PROP_TEXT, text );
+              getAdapter( ccombo ).preserve( PROP_TEXT_ID, text );
             }
          }
         } );
@@ -131,7 +134,7 @@ public class CComboOperationHandler extends ControlOperationHandler<CCombo> {
             if( !ccombo.isDisposed() ) {
               ccombo.setSelection( selection );
               // since selection is set in process action, preserved values have to be replaced
-              getAdapter( ccombo ).preserve( PROP_SELECTION, ccombo.getSelection() );
+              getAdapter( ccombo ).preserve( PROP_SELECTION_ID, ccombo.getSelection() );
             }
           }
         } );
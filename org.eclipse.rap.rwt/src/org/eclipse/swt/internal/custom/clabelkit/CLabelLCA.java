@@ -20,6 +20,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -44,26 +45,34 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_ALIGNMENT = "alignment";
+  private static final int PROP_ALIGNMENT_ID = getPropertyId( PROP_ALIGNMENT );
   private static final String PROP_LEFT_MARGIN = "leftMargin";
+  private static final int PROP_LEFT_MARGIN_ID = getPropertyId( PROP_LEFT_MARGIN );
   private static final String PROP_TOP_MARGIN = "topMargin";
+  private static final int PROP_TOP_MARGIN_ID = getPropertyId( PROP_TOP_MARGIN );
   private static final String PROP_RIGHT_MARGIN = "rightMargin";
+  private static final int PROP_RIGHT_MARGIN_ID = getPropertyId( PROP_RIGHT_MARGIN );
   private static final String PROP_BOTTOM_MARGIN = "bottomMargin";
+  private static final int PROP_BOTTOM_MARGIN_ID = getPropertyId( PROP_BOTTOM_MARGIN );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
+  private static final int PROP_MARKUP_ENABLED_ID = getPropertyId( PROP_MARKUP_ENABLED );
 
   private static final String DEFAULT_ALIGNMENT = "left";
 
   @Override
   public void preserveValues( CLabel label ) {
-    preserveProperty( label, PROP_TEXT, label.getText() );
-    preserveProperty( label, PROP_IMAGE, label.getImage() );
-    preserveProperty( label, PROP_ALIGNMENT, getAlignment( label ) );
-    preserveProperty( label, PROP_LEFT_MARGIN, label.getLeftMargin() );
-    preserveProperty( label, PROP_TOP_MARGIN, label.getTopMargin() );
-    preserveProperty( label, PROP_RIGHT_MARGIN, label.getRightMargin() );
-    preserveProperty( label, PROP_BOTTOM_MARGIN, label.getBottomMargin() );
+    preserveProperty( label, PROP_TEXT_ID, label.getText() );
+    preserveProperty( label, PROP_IMAGE_ID, label.getImage() );
+    preserveProperty( label, PROP_ALIGNMENT_ID, getAlignment( label ) );
+    preserveProperty( label, PROP_LEFT_MARGIN_ID, label.getLeftMargin() );
+    preserveProperty( label, PROP_TOP_MARGIN_ID, label.getTopMargin() );
+    preserveProperty( label, PROP_RIGHT_MARGIN_ID, label.getRightMargin() );
+    preserveProperty( label, PROP_BOTTOM_MARGIN_ID, label.getBottomMargin() );
     WidgetLCAUtil.preserveBackgroundGradient( label );
   }
 
@@ -75,7 +84,7 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
     remoteObject.set( "style", createJsonArray( getStyles( label, ALLOWED_STYLES ) ) );
     // NOTE : This is consistent with Tree and Table, but might change - See Bug 373764
     remoteObject.set( "appearance", "clabel" );
-    renderProperty( label, PROP_MARKUP_ENABLED, isMarkupEnabledFor( label ), false );
+    renderProperty( label, PROP_MARKUP_ENABLED_ID, isMarkupEnabledFor( label ), false );
   }
 
   @Override
@@ -84,8 +93,8 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
     WidgetLCAUtil.renderCustomVariant( label );
     renderText( label );
     renderMnemonicIndex( label );
-    renderProperty( label, PROP_IMAGE, label.getImage(), null );
-    renderProperty( label, PROP_ALIGNMENT, getAlignment( label ), DEFAULT_ALIGNMENT );
+    renderProperty( label, PROP_IMAGE_ID, label.getImage(), null );
+    renderProperty( label, PROP_ALIGNMENT_ID, getAlignment( label ), DEFAULT_ALIGNMENT );
     renderMargins( label );
     WidgetLCAUtil.renderBackgroundGradient( label );
   }
@@ -95,10 +104,10 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
 
   private static void renderMargins( CLabel clabel ) {
     BoxDimensions padding = getThemeAdapter( clabel ).getPadding( clabel );
-    renderProperty( clabel, PROP_LEFT_MARGIN, clabel.getLeftMargin(), padding.left );
-    renderProperty( clabel, PROP_TOP_MARGIN, clabel.getTopMargin(), padding.top );
-    renderProperty( clabel, PROP_RIGHT_MARGIN, clabel.getRightMargin(), padding.right );
-    renderProperty( clabel, PROP_BOTTOM_MARGIN, clabel.getBottomMargin(), padding.bottom );
+    renderProperty( clabel, PROP_LEFT_MARGIN_ID, clabel.getLeftMargin(), padding.left );
+    renderProperty( clabel, PROP_TOP_MARGIN_ID, clabel.getTopMargin(), padding.top );
+    renderProperty( clabel, PROP_RIGHT_MARGIN_ID, clabel.getRightMargin(), padding.right );
+    renderProperty( clabel, PROP_BOTTOM_MARGIN_ID, clabel.getBottomMargin(), padding.bottom );
   }
 
   //////////////////
@@ -121,7 +130,7 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
 
   private static void renderText( CLabel clabel ) {
     String newValue = clabel.getText();
-    if( hasChanged( clabel, PROP_TEXT, newValue, null ) ) {
+    if( hasChanged( clabel, PROP_TEXT_ID, newValue, null ) ) {
       String text = newValue;
       if( !isMarkupEnabledFor( clabel ) ) {
         text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
@@ -133,7 +142,7 @@ public final class CLabelLCA extends WidgetLCA<CLabel> {
   private static void renderMnemonicIndex( CLabel clabel ) {
     if( !isMarkupEnabledFor( clabel ) ) {
       String text = clabel.getText();
-      if( hasChanged( clabel, PROP_TEXT, text, null ) ) {
+      if( hasChanged( clabel, PROP_TEXT_ID, text, null ) ) {
         int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
         if( mnemonicIndex != -1 ) {
           getRemoteObject( clabel ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
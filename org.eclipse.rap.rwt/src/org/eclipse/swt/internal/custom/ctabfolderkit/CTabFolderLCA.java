@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -51,27 +52,52 @@ public final class CTabFolderLCA extends WidgetLCA<CTabFolder> {
   // Property names
   private static final String PROP_TOOLTIP_TEXTS = "toolTipTexts";
   private static final String PROP_TAB_POSITION = "tabPosition";
+  private static final int PROP_TAB_POSITION_ID = getPropertyId( PROP_TAB_POSITION );
   private static final String PROP_TAB_HEIGHT = "tabHeight";
+  private static final int PROP_TAB_HEIGHT_ID = getPropertyId( PROP_TAB_HEIGHT );
   private static final String PROP_MIN_MAX_STATE = "minMaxState";
+  private static final int PROP_MIN_MAX_STATE_ID = getPropertyId( PROP_MIN_MAX_STATE );
   private static final String PROP_MINIMIZE_BOUNDS = "minimizeBounds";
+  private static final int PROP_MINIMIZE_BOUNDS_ID = getPropertyId( PROP_MINIMIZE_BOUNDS );
   private static final String PROP_MINIMIZE_VISIBLE = "minimizeVisible";
+  private static final int PROP_MINIMIZE_VISIBLE_ID = getPropertyId( PROP_MINIMIZE_VISIBLE );
   private static final String PROP_MAXIMIZE_BOUNDS = "maximizeBounds";
+  private static final int PROP_MAXIMIZE_BOUNDS_ID = getPropertyId( PROP_MAXIMIZE_BOUNDS );
   private static final String PROP_MAXIMIZE_VISIBLE = "maximizeVisible";
+  private static final int PROP_MAXIMIZE_VISIBLE_ID = getPropertyId( PROP_MAXIMIZE_VISIBLE );
   private static final String PROP_CHEVRON_BOUNDS = "chevronBounds";
+  private static final int PROP_CHEVRON_BOUNDS_ID = getPropertyId( PROP_CHEVRON_BOUNDS );
   private static final String PROP_CHEVRON_VISIBLE = "chevronVisible";
+  private static final int PROP_CHEVRON_VISIBLE_ID = getPropertyId( PROP_CHEVRON_VISIBLE );
   private static final String PROP_UNSELECTED_CLOSE_VISIBLE = "unselectedCloseVisible";
+  private static final int PROP_UNSELECTED_CLOSE_VISIBLE_ID
+    = getPropertyId( PROP_UNSELECTED_CLOSE_VISIBLE );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_SELECTION_BACKGROUND = "selectionBackground";
+  private static final int PROP_SELECTION_BACKGROUND_ID
+    = getPropertyId( PROP_SELECTION_BACKGROUND );
   private static final String PROP_SELECTION_FOREGROUND = "selectionForeground";
+  private static final int PROP_SELECTION_FOREGROUND_ID
+    = getPropertyId( PROP_SELECTION_FOREGROUND );
   private static final String PROP_SELECTION_BACKGROUND_IMAGE = "selectionBackgroundImage";
+  private static final int PROP_SELECTION_BACKGROUND_IMAGE_ID
+    = getPropertyId( PROP_SELECTION_BACKGROUND_IMAGE );
   private static final String PROP_SELECTION_BG_GRADIENT = "selectionBackgroundGradient";
   private static final String PROP_SELECTION_BG_GRADIENT_COLORS
     = "selectionBgGradientColors";
+  private static final int PROP_SELECTION_BG_GRADIENT_COLORS_ID
+    = getPropertyId( PROP_SELECTION_BG_GRADIENT_COLORS );
   private static final String PROP_SELECTION_BG_GRADIENT_PERCENTS
     = "selectionBgGradientPercents";
+  private static final int PROP_SELECTION_BG_GRADIENT_PERCENTS_ID
+    = getPropertyId( PROP_SELECTION_BG_GRADIENT_PERCENTS );
   private static final String PROP_SELECTION_BG_GRADIENT_VERTICAL
     = "selectionBgGradientVertical";
+  private static final int PROP_SELECTION_BG_GRADIENT_VERTICAL_ID
+    = getPropertyId( PROP_SELECTION_BG_GRADIENT_VERTICAL );
   private static final String PROP_BORDER_VISIBLE = "borderVisible";
+  private static final int PROP_BORDER_VISIBLE_ID = getPropertyId( PROP_BORDER_VISIBLE );
   private static final String PROP_FOLDER_LISTENER = "Folder";
   private static final String PROP_SELECTION_LISTENER = "Selection";
 
@@ -82,24 +108,25 @@ public final class CTabFolderLCA extends WidgetLCA<CTabFolder> {
 
   @Override
   public void preserveValues( CTabFolder folder ) {
-    preserveProperty( folder, PROP_TAB_POSITION, getTabPosition( folder ) );
-    preserveProperty( folder, PROP_TAB_HEIGHT, folder.getTabHeight() );
-    preserveProperty( folder, PROP_MIN_MAX_STATE, getMinMaxState( folder ) );
-    preserveProperty( folder, PROP_MINIMIZE_BOUNDS, getMinimizeBounds( folder ) );
-    preserveProperty( folder, PROP_MINIMIZE_VISIBLE, folder.getMinimizeVisible() );
-    preserveProperty( folder, PROP_MAXIMIZE_BOUNDS, getMaximizeBounds( folder ) );
-    preserveProperty( folder, PROP_MAXIMIZE_VISIBLE, folder.getMaximizeVisible() );
-    preserveProperty( folder, PROP_CHEVRON_BOUNDS, getChevronBounds( folder ) );
-    preserveProperty( folder, PROP_CHEVRON_VISIBLE, getChevronVisible( folder ) );
-    preserveProperty( folder, PROP_UNSELECTED_CLOSE_VISIBLE, folder.getUnselectedCloseVisible() );
-    preserveProperty( folder, PROP_SELECTION, folder.getSelection() );
-    preserveProperty( folder, PROP_SELECTION_BACKGROUND, getSelectionBackground( folder ) );
-    preserveProperty( folder, PROP_SELECTION_FOREGROUND, getSelectionForeground( folder ) );
+    preserveProperty( folder, PROP_TAB_POSITION_ID, getTabPosition( folder ) );
+    preserveProperty( folder, PROP_TAB_HEIGHT_ID, folder.getTabHeight() );
+    preserveProperty( folder, PROP_MIN_MAX_STATE_ID, getMinMaxState( folder ) );
+    preserveProperty( folder, PROP_MINIMIZE_BOUNDS_ID, getMinimizeBounds( folder ) );
+    preserveProperty( folder, PROP_MINIMIZE_VISIBLE_ID, folder.getMinimizeVisible() );
+    preserveProperty( folder, PROP_MAXIMIZE_BOUNDS_ID, getMaximizeBounds( folder ) );
+    preserveProperty( folder, PROP_MAXIMIZE_VISIBLE_ID, folder.getMaximizeVisible() );
+    preserveProperty( folder, PROP_CHEVRON_BOUNDS_ID, getChevronBounds( folder ) );
+    preserveProperty( folder, PROP_CHEVRON_VISIBLE_ID, getChevronVisible( folder ) );
+    preserveProperty( folder, PROP_UNSELECTED_CLOSE_VISIBLE_ID,
+                      folder.getUnselectedCloseVisible() );
+    preserveProperty( folder, PROP_SELECTION_ID, folder.getSelection() );
+    preserveProperty( folder, PROP_SELECTION_BACKGROUND_ID, getSelectionBackground( folder ) );
+    preserveProperty( folder, PROP_SELECTION_FOREGROUND_ID, getSelectionForeground( folder ) );
     preserveProperty( folder,
-                      PROP_SELECTION_BACKGROUND_IMAGE,
+                      PROP_SELECTION_BACKGROUND_IMAGE_ID,
                       getSelectionBackgroundImage( folder ) );
     preserveSelectionBgGradient( folder );
-    preserveProperty( folder, PROP_BORDER_VISIBLE, folder.getBorderVisible() );
+    preserveProperty( folder, PROP_BORDER_VISIBLE_ID, folder.getBorderVisible() );
   }
 
   @Override
@@ -126,28 +153,29 @@ public final class CTabFolderLCA extends WidgetLCA<CTabFolder> {
   public void renderChanges( CTabFolder folder ) throws IOException {
     ControlLCAUtil.renderChanges( folder );
     WidgetLCAUtil.renderCustomVariant( folder );
-    renderProperty( folder, PROP_TAB_POSITION, getTabPosition( folder ), DEFAULT_TAB_POSITION );
-    renderProperty( folder, PROP_TAB_HEIGHT, folder.getTabHeight(), DEFAULT_TAB_HEIGHT );
-    renderProperty( folder, PROP_MIN_MAX_STATE, getMinMaxState( folder ), DEFAULT_MIN_MAX_STATE );
-    renderProperty( folder, PROP_MINIMIZE_BOUNDS, getMinimizeBounds( folder ), ZERO_BOUNDS );
-    renderProperty( folder, PROP_MINIMIZE_VISIBLE, folder.getMinimizeVisible(), false );
-    renderProperty( folder, PROP_MAXIMIZE_BOUNDS, getMaximizeBounds( folder ), ZERO_BOUNDS );
-    renderProperty( folder, PROP_MAXIMIZE_VISIBLE, folder.getMaximizeVisible(), false );
-    renderProperty( folder, PROP_CHEVRON_BOUNDS, getChevronBounds( folder ), ZERO_BOUNDS );
-    renderProperty( folder, PROP_CHEVRON_VISIBLE, getChevronVisible( folder ), false );
+    renderProperty( folder, PROP_TAB_POSITION_ID, getTabPosition( folder ), DEFAULT_TAB_POSITION );
+    renderProperty( folder, PROP_TAB_HEIGHT_ID, folder.getTabHeight(), DEFAULT_TAB_HEIGHT );
+    renderProperty( folder, PROP_MIN_MAX_STATE_ID, getMinMaxState( folder ),
+                    DEFAULT_MIN_MAX_STATE );
+    renderProperty( folder, PROP_MINIMIZE_BOUNDS_ID, getMinimizeBounds( folder ), ZERO_BOUNDS );
+    renderProperty( folder, PROP_MINIMIZE_VISIBLE_ID, folder.getMinimizeVisible(), false );
+    renderProperty( folder, PROP_MAXIMIZE_BOUNDS_ID, getMaximizeBounds( folder ), ZERO_BOUNDS );
+    renderProperty( folder, PROP_MAXIMIZE_VISIBLE_ID, folder.getMaximizeVisible(), false );
+    renderProperty( folder, PROP_CHEVRON_BOUNDS_ID, getChevronBounds( folder ), ZERO_BOUNDS );
+    renderProperty( folder, PROP_CHEVRON_VISIBLE_ID, getChevronVisible( folder ), false );
     renderProperty( folder,
-                    PROP_UNSELECTED_CLOSE_VISIBLE,
+                    PROP_UNSELECTED_CLOSE_VISIBLE_ID,
                     folder.getUnselectedCloseVisible(),
                     true );
-    renderProperty( folder, PROP_SELECTION, folder.getSelection(), null );
-    renderProperty( folder, PROP_SELECTION_BACKGROUND, getSelectionBackground( folder ), null );
-    renderProperty( folder, PROP_SELECTION_FOREGROUND, getSelectionForeground( folder ), null );
+    renderProperty( folder, PROP_SELECTION_ID, folder.getSelection(), null );
+    renderProperty( folder, PROP_SELECTION_BACKGROUND_ID, getSelectionBackground( folder ), null );
+    renderProperty( folder, PROP_SELECTION_FOREGROUND_ID, getSelectionForeground( folder ), null );
     renderProperty( folder,
-                    PROP_SELECTION_BACKGROUND_IMAGE,
+                    PROP_SELECTION_BACKGROUND_IMAGE_ID,
                     getSelectionBackgroundImage( folder ),
                     null);
     renderSelectionBackgroundGradient( folder );
-    renderProperty( folder, PROP_BORDER_VISIBLE, folder.getBorderVisible(), false );
+    renderProperty( folder, PROP_BORDER_VISIBLE_ID, folder.getBorderVisible(), false );
     renderListenDefaultSelection( folder );
   }
 
@@ -166,9 +194,9 @@ public final class CTabFolderLCA extends WidgetLCA<CTabFolder> {
     Color[] bgGradientColors = gfxAdapter.getBackgroundGradientColors();
     int[] bgGradientPercents = gfxAdapter.getBackgroundGradientPercents();
     Boolean bgGradientVertical = Boolean.valueOf( gfxAdapter.isBackgroundGradientVertical() );
-    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_COLORS, bgGradientColors );
-    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_PERCENTS, bgGradientPercents );
-    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_VERTICAL, bgGradientVertical );
+    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_COLORS_ID, bgGradientColors );
+    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_PERCENTS_ID, bgGradientPercents );
+    preserveProperty( folder, PROP_SELECTION_BG_GRADIENT_VERTICAL_ID, bgGradientVertical );
   }
 
   //////////////////////////////////////
@@ -181,15 +209,15 @@ public final class CTabFolderLCA extends WidgetLCA<CTabFolder> {
     int[] bgGradientPercents = gfxAdapter.getBackgroundGradientPercents();
     Boolean bgGradientVertical = Boolean.valueOf( gfxAdapter.isBackgroundGradientVertical() );
     boolean hasChanged = WidgetLCAUtil.hasChanged( folder,
-                                                   PROP_SELECTION_BG_GRADIENT_COLORS,
+                                                   PROP_SELECTION_BG_GRADIENT_COLORS_ID,
                                                    bgGradientColors,
                                                    null )
                       || WidgetLCAUtil.hasChanged( folder,
-                                                   PROP_SELECTION_BG_GRADIENT_PERCENTS,
+                                                   PROP_SELECTION_BG_GRADIENT_PERCENTS_ID,
                                                    bgGradientPercents,
                                                    null )
                       || WidgetLCAUtil.hasChanged( folder,
-                                                   PROP_SELECTION_BG_GRADIENT_VERTICAL,
+                                                   PROP_SELECTION_BG_GRADIENT_VERTICAL_ID,
                                                    bgGradientVertical,
                                                    Boolean.FALSE );
     if( hasChanged ) {
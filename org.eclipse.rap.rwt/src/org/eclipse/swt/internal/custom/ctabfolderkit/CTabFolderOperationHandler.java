@@ -22,6 +22,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_FOL
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_PARAM_DETAIL;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_PARAM_ITEM;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -42,6 +43,7 @@ public class CTabFolderOperationHandler extends ControlOperationHandler<CTabFold
   private static final String PROP_MINIMIZED = "minimized";
   private static final String PROP_MAXIMIZED = "maximized";
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   public CTabFolderOperationHandler( CTabFolder folder ) {
     super( folder );
@@ -108,7 +110,7 @@ public class CTabFolderOperationHandler extends ControlOperationHandler<CTabFold
         @Override
         public void run() {
           folder.setSelection( item );
-          preserveProperty( folder, PROP_SELECTION, getId( item ) );
+          preserveProperty( folder, PROP_SELECTION_ID, getId( item ) );
         }
       } );
     }
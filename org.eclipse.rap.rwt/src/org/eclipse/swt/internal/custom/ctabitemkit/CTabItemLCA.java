@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -43,22 +44,27 @@ public final class CTabItemLCA extends WidgetLCA<CTabItem> {
   private static final String[] ALLOWED_STYLES = { "CLOSE" };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_SHOWING = "showing";
+  private static final int PROP_SHOWING_ID = getPropertyId( PROP_SHOWING );
   private static final String PROP_SHOW_CLOSE = "showClose";
+  private static final int PROP_SHOW_CLOSE_ID = getPropertyId( PROP_SHOW_CLOSE );
   private static final String PROP_BADGE = "badge";
+  private static final int PROP_BADGE_ID = getPropertyId( PROP_BADGE );
 
   @Override
   public void preserveValues( CTabItem item ) {
     WidgetLCAUtil.preserveToolTipText( item, item.getToolTipText() );
     WidgetLCAUtil.preserveBounds( item, item.getBounds() );
     WidgetLCAUtil.preserveFont( item, getFont( item ) );
-    preserveProperty( item, PROP_TEXT, getText( item ) );
-    preserveProperty( item, PROP_IMAGE, getImage( item ) );
-    preserveProperty( item, PROP_SHOWING, item.isShowing() );
-    preserveProperty( item, PROP_SHOW_CLOSE, item.getShowClose() );
-    preserveProperty( item, PROP_BADGE, getBadge( item ) );
+    preserveProperty( item, PROP_TEXT_ID, getText( item ) );
+    preserveProperty( item, PROP_IMAGE_ID, getImage( item ) );
+    preserveProperty( item, PROP_SHOWING_ID, item.isShowing() );
+    preserveProperty( item, PROP_SHOW_CLOSE_ID, item.getShowClose() );
+    preserveProperty( item, PROP_BADGE_ID, getBadge( item ) );
   }
 
   @Override
@@ -83,15 +89,15 @@ public final class CTabItemLCA extends WidgetLCA<CTabItem> {
     WidgetLCAUtil.renderFont( item, getFont( item ) );
     renderText( item );
     renderMnemonicIndex( item );
-    renderProperty( item, PROP_IMAGE, getImage( item ), null );
-    renderProperty( item, PROP_SHOWING, item.isShowing(), true );
-    renderProperty( item, PROP_SHOW_CLOSE, item.getShowClose(), false );
-    renderProperty( item, PROP_BADGE, getBadge( item ), null );
+    renderProperty( item, PROP_IMAGE_ID, getImage( item ), null );
+    renderProperty( item, PROP_SHOWING_ID, item.isShowing(), true );
+    renderProperty( item, PROP_SHOW_CLOSE_ID, item.getShowClose(), false );
+    renderProperty( item, PROP_BADGE_ID, getBadge( item ), null );
   }
 
   private static void renderText( CTabItem item ) {
     String newValue = getText( item );
-    if( hasChanged( item, PROP_TEXT, newValue, "" ) ) {
+    if( hasChanged( item, PROP_TEXT_ID, newValue, "" ) ) {
       String text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
       getRemoteObject( item ).set( PROP_TEXT, text );
     }
@@ -99,7 +105,7 @@ public final class CTabItemLCA extends WidgetLCA<CTabItem> {
 
   private static void renderMnemonicIndex( CTabItem item ) {
     String text = getText( item );
-    if( hasChanged( item, PROP_TEXT, text, "" ) ) {
+    if( hasChanged( item, PROP_TEXT_ID, text, "" ) ) {
       int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
       if( mnemonicIndex != -1 ) {
         getRemoteObject( item ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
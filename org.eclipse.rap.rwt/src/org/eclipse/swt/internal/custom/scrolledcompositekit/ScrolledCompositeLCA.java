@@ -11,12 +11,13 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.custom.scrolledcompositekit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -38,17 +39,21 @@ public final class ScrolledCompositeLCA extends WidgetLCA<ScrolledComposite> {
 
   // Property names
   private static final String PROP_ORIGIN = "origin";
+  private static final int PROP_ORIGIN_ID = getPropertyId( PROP_ORIGIN );
   private static final String PROP_CONTENT = "content";
+  private static final int PROP_CONTENT_ID = getPropertyId( PROP_CONTENT );
   private static final String PROP_SHOW_FOCUSED_CONTROL = "showFocusedControl";
+  private static final int PROP_SHOW_FOCUSED_CONTROL_ID
+    = getPropertyId( PROP_SHOW_FOCUSED_CONTROL );
 
   // Default values
   private static final Point DEFAULT_ORIGIN = new Point( 0, 0 );
 
   @Override
   public void preserveValues( ScrolledComposite composite ) {
-    preserveProperty( composite, PROP_ORIGIN, getOrigin( composite ) );
-    preserveProperty( composite, PROP_CONTENT, composite.getContent() );
-    preserveProperty( composite, PROP_SHOW_FOCUSED_CONTROL, composite.getShowFocusedControl() );
+    preserveProperty( composite, PROP_ORIGIN_ID, getOrigin( composite ) );
+    preserveProperty( composite, PROP_CONTENT_ID, composite.getContent() );
+    preserveProperty( composite, PROP_SHOW_FOCUSED_CONTROL_ID, composite.getShowFocusedControl() );
   }
 
   @Override
@@ -63,10 +68,10 @@ public final class ScrolledCompositeLCA extends WidgetLCA<ScrolledComposite> {
   public void renderChanges( ScrolledComposite composite ) throws IOException {
     ControlLCAUtil.renderChanges( composite );
     WidgetLCAUtil.renderCustomVariant( composite );
-    renderProperty( composite, PROP_CONTENT, composite.getContent(), null );
-    renderProperty( composite, PROP_ORIGIN, getOrigin( composite ), DEFAULT_ORIGIN );
+    renderProperty( composite, PROP_CONTENT_ID, composite.getContent(), null );
+    renderProperty( composite, PROP_ORIGIN_ID, getOrigin( composite ), DEFAULT_ORIGIN );
     renderProperty( composite,
-                    PROP_SHOW_FOCUSED_CONTROL,
+                    PROP_SHOW_FOCUSED_CONTROL_ID,
                     composite.getShowFocusedControl(),
                     false );
   }
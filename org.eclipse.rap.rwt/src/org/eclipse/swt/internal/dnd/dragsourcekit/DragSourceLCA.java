@@ -10,17 +10,18 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.dnd.dragsourcekit;
 
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.hasChanged;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveListener;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListener;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.dnd.DNDUtil.convertOperations;
 import static org.eclipse.swt.internal.dnd.DNDUtil.convertTransferTypes;
 import static org.eclipse.swt.internal.dnd.DNDUtil.isCanceled;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -38,18 +39,23 @@ public final class DragSourceLCA extends WidgetLCA<DragSource> {
 
   private static final String TYPE = "rwt.widgets.DragSource";
   private static final String PROP_TRANSFER = "transfer";
+  private static final int PROP_TRANSFER_ID = getPropertyId( PROP_TRANSFER );
   private static final String PROP_DRAG_START_LISTENER = "DragStart";
+  private static final int PROP_DRAG_START_LISTENER_ID = getPropertyId( PROP_DRAG_START_LISTENER );
   private static final String PROP_DRAG_END_LISTENER = "DragEnd";
+  private static final int PROP_DRAG_END_LISTENER_ID = getPropertyId( PROP_DRAG_END_LISTENER );
 
   private static final Transfer[] DEFAULT_TRANSFER = new Transfer[ 0 ];
 
   @Override
   public void preserveValues( DragSource dragSource ) {
-    preserveProperty( dragSource, PROP_TRANSFER, dragSource.getTransfer() );
+    preserveProperty( dragSource, PROP_TRANSFER_ID, dragSource.getTransfer() );
     preserveListener( dragSource,
-                      PROP_DRAG_START_LISTENER,
+                      PROP_DRAG_START_LISTENER_ID,
                       isListening( dragSource, DND.DragStart ) );
-    preserveListener( dragSource, PROP_DRAG_END_LISTENER, isListening( dragSource, DND.DragEnd ) );
+    preserveListener( dragSource,
+                      PROP_DRAG_END_LISTENER_ID,
+                      isListening( dragSource, DND.DragEnd ) );
   }
 
   @Override
@@ -69,18 +75,18 @@ public final class DragSourceLCA extends WidgetLCA<DragSource> {
     renderTransfer( dragSource );
     renderCancel( dragSource );
     renderListener( dragSource,
-                    PROP_DRAG_START_LISTENER,
+                    PROP_DRAG_START_LISTENER_ID,
                     isListening( dragSource, DND.DragStart ),
                     false );
     renderListener( dragSource,
-                    PROP_DRAG_END_LISTENER,
+                    PROP_DRAG_END_LISTENER_ID,
                     isListening( dragSource, DND.DragEnd ),
                     false );
   }
 
   private static void renderTransfer( DragSource dragSource ) {
     Transfer[] newValue = dragSource.getTransfer();
-    if( hasChanged( dragSource, PROP_TRANSFER, newValue, DEFAULT_TRANSFER ) ) {
+    if( hasChanged( dragSource, PROP_TRANSFER_ID, newValue, DEFAULT_TRANSFER ) ) {
       JsonValue renderValue = convertTransferTypes( newValue );
       getRemoteObject( dragSource ).set( "transfer", renderValue );
     }
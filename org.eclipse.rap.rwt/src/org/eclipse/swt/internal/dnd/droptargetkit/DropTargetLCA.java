@@ -10,14 +10,14 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.dnd.droptargetkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.hasChanged;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveListener;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListener;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.dnd.DNDUtil.convertOperations;
 import static org.eclipse.swt.internal.dnd.DNDUtil.convertTransferTypes;
 import static org.eclipse.swt.internal.dnd.DNDUtil.getDataTypeChangedControl;
@@ -30,6 +30,7 @@ import static org.eclipse.swt.internal.dnd.DNDUtil.hasDataTypeChanged;
 import static org.eclipse.swt.internal.dnd.DNDUtil.hasDetailChanged;
 import static org.eclipse.swt.internal.dnd.DNDUtil.hasFeedbackChanged;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -50,33 +51,42 @@ public final class DropTargetLCA extends WidgetLCA<DropTarget> {
 
   private static final String TYPE = "rwt.widgets.DropTarget";
   private static final String PROP_TRANSFER = "transfer";
+  private static final int PROP_TRANSFER_ID = getPropertyId( PROP_TRANSFER );
   private static final String PROP_DRAG_ENTER_LISTENER = "DragEnter";
+  private static final int PROP_DRAG_ENTER_LISTENER_ID = getPropertyId( PROP_DRAG_ENTER_LISTENER );
   private static final String PROP_DRAG_OVER_LISTENER = "DragOver";
+  private static final int PROP_DRAG_OVER_LISTENER_ID = getPropertyId( PROP_DRAG_OVER_LISTENER );
   private static final String PROP_DRAG_LEAVE_LISTENER = "DragLeave";
+  private static final int PROP_DRAG_LEAVE_LISTENER_ID = getPropertyId( PROP_DRAG_LEAVE_LISTENER );
   private static final String PROP_DRAG_OPERATION_CHANGED_LISTENER = "DragOperationChanged";
+  private static final int PROP_DRAG_OPERATION_CHANGED_LISTENER_ID
+    = getPropertyId( PROP_DRAG_OPERATION_CHANGED_LISTENER );
   private static final String PROP_DROP_ACCEPT_LISTENER = "DropAccept";
+  private static final int PROP_DROP_ACCEPT_LISTENER_ID
+    = getPropertyId( PROP_DROP_ACCEPT_LISTENER );
   private static final String PROP_FILE_DROP_ENABLED = "fileDropEnabled";
+  private static final int PROP_FILE_DROP_ENABLED_ID = getPropertyId( PROP_FILE_DROP_ENABLED );
 
   private static final Transfer[] DEFAULT_TRANSFER = new Transfer[ 0 ];
 
   @Override
   public void preserveValues( DropTarget dropTarget ) {
-    preserveProperty( dropTarget, PROP_TRANSFER, dropTarget.getTransfer() );
-    preserveProperty( dropTarget, PROP_FILE_DROP_ENABLED, isFileDropEnabled( dropTarget ) );
+    preserveProperty( dropTarget, PROP_TRANSFER_ID, dropTarget.getTransfer() );
+    preserveProperty( dropTarget, PROP_FILE_DROP_ENABLED_ID, isFileDropEnabled( dropTarget ) );
     preserveListener( dropTarget,
-                      PROP_DRAG_ENTER_LISTENER,
+                      PROP_DRAG_ENTER_LISTENER_ID,
                       isListening( dropTarget, DND.DragEnter ) );
     preserveListener( dropTarget,
-                      PROP_DRAG_OVER_LISTENER,
+                      PROP_DRAG_OVER_LISTENER_ID,
                       isListening( dropTarget, DND.DragOver ) );
     preserveListener( dropTarget,
-                      PROP_DRAG_LEAVE_LISTENER,
+                      PROP_DRAG_LEAVE_LISTENER_ID,
                       isListening( dropTarget, DND.DragLeave ) );
     preserveListener( dropTarget,
-                      PROP_DRAG_OPERATION_CHANGED_LISTENER,
+                      PROP_DRAG_OPERATION_CHANGED_LISTENER_ID,
                       isListening( dropTarget, DND.DragOperationChanged ) );
     preserveListener( dropTarget,
-                      PROP_DROP_ACCEPT_LISTENER,
+                      PROP_DROP_ACCEPT_LISTENER_ID,
                       isListening( dropTarget, DND.DropAccept ) );
   }
 
@@ -100,30 +110,30 @@ public final class DropTargetLCA extends WidgetLCA<DropTarget> {
     renderDataType( dropTarget );
     renderFileDropEnabled( dropTarget );
     renderListener( dropTarget,
-                    PROP_DRAG_ENTER_LISTENER,
+                    PROP_DRAG_ENTER_LISTENER_ID,
                     isListening( dropTarget, DND.DragEnter ),
                     false );
     renderListener( dropTarget,
-                    PROP_DRAG_OVER_LISTENER,
+                    PROP_DRAG_OVER_LISTENER_ID,
                     isListening( dropTarget, DND.DragOver ),
                     false );
     renderListener( dropTarget,
-                    PROP_DRAG_LEAVE_LISTENER,
+                    PROP_DRAG_LEAVE_LISTENER_ID,
                     isListening( dropTarget, DND.DragLeave ),
                     false );
     renderListener( dropTarget,
-                    PROP_DRAG_OPERATION_CHANGED_LISTENER,
+                    PROP_DRAG_OPERATION_CHANGED_LISTENER_ID,
                     isListening( dropTarget, DND.DragOperationChanged ),
                     false );
     renderListener( dropTarget,
-                    PROP_DROP_ACCEPT_LISTENER,
+                    PROP_DROP_ACCEPT_LISTENER_ID,
                     isListening( dropTarget, DND.DropAccept ),
                     false );
   }
 
   private static void renderTransfer( DropTarget dropTarget ) {
     Transfer[] newValue = dropTarget.getTransfer();
-    if( hasChanged( dropTarget, PROP_TRANSFER, newValue, DEFAULT_TRANSFER ) ) {
+    if( hasChanged( dropTarget, PROP_TRANSFER_ID, newValue, DEFAULT_TRANSFER ) ) {
       JsonValue renderValue = convertTransferTypes( newValue );
       getRemoteObject( dropTarget ).set( "transfer", renderValue );
     }
@@ -159,7 +169,7 @@ public final class DropTargetLCA extends WidgetLCA<DropTarget> {
 
   private static void renderFileDropEnabled( DropTarget dropTarget ) {
     boolean value = isFileDropEnabled( dropTarget );
-    renderProperty( dropTarget, PROP_FILE_DROP_ENABLED, value, false );
+    renderProperty( dropTarget, PROP_FILE_DROP_ENABLED_ID, value, false );
   }
 
   private static JsonArray convertFeedback( int feedback ) {
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+
+/*
+ * Scales image data with a box filter. Every target pixel is the average of the source pixels
+ * it covers, weighted by the covered area, whereas ImageData#scaledTo picks a single source
+ * pixel. Colors are averaged with premultiplied alpha, so that transparent pixels do not bleed
+ * into their neighbours. The result has a direct 24 bit palette and keeps the type of the
+ * source.
+ */
+final class AreaAveragingScaler {
+
+  private static final int RED = 0;
+  private static final int GREEN = 1;
+  private static final int BLUE = 2;
+  private static final int ALPHA = 3;
+  private static final int COMPONENTS = 4;
+
+  private final ImageData source;
+  private final int width;
+  private final int height;
+  private final double scaleX;
+  private final double scaleY;
+  private final int[] pixels;
+  private final byte[] alphas;
+  private final float[] row;
+  private int rowIndex;
+
+  static ImageData scale( ImageData source, int width, int height ) {
+    return new AreaAveragingScaler( source, width, height ).scale();
+  }
+
+  private AreaAveragingScaler( ImageData source, int width, int height ) {
+    this.source = source;
+    this.width = width;
+    this.height = height;
+    scaleX = source.width / ( double )width;
+    scaleY = source.height / ( double )height;
+    pixels = new int[ source.width ];
+    alphas = new byte[ source.width ];
+    row = new float[ width * COMPONENTS ];
+    rowIndex = -1;
+  }
+
+  private ImageData scale() {
+    boolean hasAlpha = source.alphaData != null || source.transparentPixel != -1;
+    PaletteData palette = new PaletteData( 0xFF0000, 0xFF00, 0xFF );
+    ImageData result = new ImageData( width, height, 24, palette );
+    result.type = source.type;
+    result.alpha = source.alpha;
+    if( hasAlpha ) {
+      result.alphaData = new byte[ width * height ];
+    }
+    float[] sum = new float[ width * COMPONENTS ];
+    int[] resultPixels = new int[ width ];
+    for( int y = 0; y < height; y++ ) {
+      Arrays.fill( sum, 0 );
+      double top = y * scaleY;
+      double bottom = Math.min( ( y + 1 ) * scaleY, source.height );
+      for( int sourceY = ( int )top; sourceY < bottom; sourceY++ ) {
+        float weight = ( float )( Math.min( sourceY + 1, bottom ) - Math.max( sourceY, top ) );
+        reduceRow( sourceY );
+        for( int i = 0; i < sum.length; i++ ) {
+          sum[ i ] += row[ i ] * weight;
+        }
+      }
+      float area = ( float )( bottom - top );
+      for( int x = 0; x < width; x++ ) {
+        int offset = x * COMPONENTS;
+        float alpha = sum[ offset + ALPHA ];
+        int red = 0;
+        int green = 0;
+        int blue = 0;
+        if( alpha > 0 ) {
+          red = toComponent( sum[ offset + RED ] / alpha );
+          green = toComponent( sum[ offset + GREEN ] / alpha );
+          blue = toComponent( sum[ offset + BLUE ] / alpha );
+        }
+        resultPixels[ x ] = red << 16 | green << 8 | blue;
+        if( hasAlpha ) {
+          result.alphaData[ y * width + x ] = ( byte )toComponent( alpha / area );
+        }
+      }
+      result.setPixels( 0, y, width, resultPixels, 0 );
+    }
+    return result;
+  }
+
+  /*
+   * Averages a source row horizontally into premultiplied components, the last reduced row is
+   * kept since adjacent target rows share their boundary row.
+   */
+  private void reduceRow( int sourceY ) {
+    if( sourceY == rowIndex ) {
+      return;
+    }
+    rowIndex = sourceY;
+    source.getPixels( 0, sourceY, source.width, pixels, 0 );
+    if( source.alphaData != null ) {
+      source.getAlphas( 0, sourceY, source.width, alphas, 0 );
+    }
+    Arrays.fill( row, 0 );
+    for( int x = 0; x < width; x++ ) {
+      double left = x * scaleX;
+      double right = Math.min( ( x + 1 ) * scaleX, source.width );
+      int offset = x * COMPONENTS;
+      for( int sourceX = ( int )left; sourceX < right; sourceX++ ) {
+        float weight = ( float )( Math.min( sourceX + 1, right ) - Math.max( sourceX, left ) );
+        addPixel( offset, sourceX, weight / ( float )( right - left ) );
+      }
+    }
+  }
+
+  private void addPixel( int offset, int sourceX, float weight ) {
+    int pixel = pixels[ sourceX ];
+    float alpha = getAlpha( sourceX ) * weight;
+    PaletteData palette = source.palette;
+    int red;
+    int green;
+    int blue;
+    if( palette.isDirect ) {
+      red = getComponent( pixel, palette.redMask, palette.redShift );
+      green = getComponent( pixel, palette.greenMask, palette.greenShift );
+      blue = getComponent( pixel, palette.blueMask, palette.blueShift );
+    } else {
+      RGB rgb = palette.colors[ pixel ];
+      red = rgb.red;
+      green = rgb.green;
+      blue = rgb.blue;
+    }
+    row[ offset + RED ] += red * alpha;
+    row[ offset + GREEN ] += green * alpha;
+    row[ offset + BLUE ] += blue * alpha;
+    row[ offset + ALPHA ] += alpha;
+  }
+
+  private int getAlpha( int sourceX ) {
+    if( source.alphaData != null ) {
+      return alphas[ sourceX ] & 0xFF;
+    }
+    return pixels[ sourceX ] == source.transparentPixel ? 0 : 0xFF;
+  }
+
+  private static int getComponent( int pixel, int mask, int shift ) {
+    int value = pixel & mask;
+    return shift < 0 ? value >>> -shift : value << shift;
+  }
+
+  private static int toComponent( float value ) {
+    return Math.min( 0xFF, Math.max( 0, Math.round( value ) ) );
+  }
+
+}
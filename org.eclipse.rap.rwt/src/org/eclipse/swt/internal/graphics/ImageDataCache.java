@@ -11,46 +11,148 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
 
 
 /**
- * Cache for small image data, mainly for decorator images.
+ * Cache for decoded image data, mainly for decorator and icon images. The cache is bounded by
+ * the number of bytes of the cached data, mask and alpha arrays and evicts the least recently
+ * used entries. A single image may take at most a sixteenth of the capacity.
+ * <p>
+ * Cached instances are never handed out. Since <code>ImageData</code> exposes its arrays as
+ * mutable public fields, every read returns a copy. The cache takes ownership of the instances
+ * that are put, which must not be modified afterwards.
+ * </p>
  */
-final class ImageDataCache {
+public final class ImageDataCache {
 
-  /** Maximum size of image data that is being cached */
-  private static final int MAX_DATA_SIZE = 1024;
+  /** Default capacity in bytes */
+  private static final int DEFAULT_CAPACITY = 4 * 1024 * 1024;
 
-  private final Map<InternalImage,ImageData> cache;
+  private final Map<InternalImage,CacheEntry> cache;
   private final Object cacheLock;
+  private final long capacity;
+  private final long maxEntrySize;
+  private long size;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
 
   ImageDataCache() {
+    this( RWTProperties.getImageDataCacheSize( DEFAULT_CAPACITY ) );
+  }
+
+  ImageDataCache( long capacity ) {
+    this.capacity = Math.max( 0, capacity );
+    maxEntrySize = this.capacity / 16;
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    cache = new LinkedHashMap<>( 32, 0.75f, true );
   }
 
   ImageData getImageData( InternalImage internalImage ) {
     ParamCheck.notNull( internalImage, "internalImage" );
-    ImageData cached;
+    ImageData cached = null;
     synchronized( cacheLock ) {
-      cached = cache.get( internalImage );
+      CacheEntry entry = cache.get( internalImage );
+      if( entry != null ) {
+        cached = entry.imageData;
+        hitCount++;
+      } else {
+        missCount++;
+      }
     }
+    // cached instances are not modified, it is safe to copy them outside of the lock
     return cached != null ? ( ImageData )cached.clone() : null;
   }
 
-  void putImageData( InternalImage internalImage, ImageData imageData ) {
+  /*
+   * Returns true if the image data was added to the cache.
+   */
+  boolean putImageData( InternalImage internalImage, ImageData imageData ) {
     ParamCheck.notNull( internalImage, "internalImage" );
     ParamCheck.notNull( imageData, "imageData" );
-    if( imageData.data.length <= MAX_DATA_SIZE ) {
+    long entrySize = getSize( imageData );
+    if( entrySize <= maxEntrySize ) {
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
-        cache.put( internalImage, ( ImageData )imageData.clone() );
+        CacheEntry previous = cache.put( internalImage, new CacheEntry( imageData, entrySize ) );
+        if( previous != null ) {
+          size -= previous.size;
+        }
+        size += entrySize;
+        evict();
       }
+      return true;
+    }
+    return false;
+  }
+
+  public long getSize() {
+    synchronized( cacheLock ) {
+      return size;
+    }
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long getHitCount() {
+    synchronized( cacheLock ) {
+      return hitCount;
+    }
+  }
+
+  public long getMissCount() {
+    synchronized( cacheLock ) {
+      return missCount;
+    }
+  }
+
+  public long getEvictionCount() {
+    synchronized( cacheLock ) {
+      return evictionCount;
+    }
+  }
+
+  private void evict() {
+    Iterator<CacheEntry> iterator = cache.values().iterator();
+    while( size > capacity && iterator.hasNext() ) {
+      size -= iterator.next().size;
+      iterator.remove();
+      evictionCount++;
+    }
+  }
+
+  private static long getSize( ImageData imageData ) {
+    long result = 0;
+    if( imageData.data != null ) {
+      result += imageData.data.length;
     }
+    if( imageData.alphaData != null ) {
+      result += imageData.alphaData.length;
+    }
+    if( imageData.maskData != null ) {
+      result += imageData.maskData.length;
+    }
+    return result;
   }
+
+  private static final class CacheEntry {
+
+    final ImageData imageData;
+    final long size;
+
+    CacheEntry( ImageData imageData, long size ) {
+      this.imageData = imageData;
+      this.size = size;
+    }
+
+  }
+
 }
@@ -11,11 +11,17 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.image.JPEGDecoder;
 
 
 public class ImageDataFactory {
@@ -36,12 +42,36 @@ public class ImageDataFactory {
     if( result == null ) {
       result = createImageData( internalImage );
       if( result != null ) {
-        imageDataCache.putImageData( internalImage, result );
+        // the cache takes ownership of the decoded instance, the caller receives a copy
+        if( imageDataCache.putImageData( internalImage, result ) ) {
+          result = ( ImageData )result.clone();
+        }
       }
     }
     return result;
   }
 
+  /*
+   * Returns image data that is at least as large as the given size. JPEG images are reduced
+   * while they are decoded, by the largest factor (1/2, 1/4 or 1/8) that retains the size.
+   * Reduced image data is not cached, it is only used to create scaled variants.
+   */
+  public ImageData findImageData( InternalImage internalImage, int minWidth, int minHeight ) {
+    int scale = getReductionScale( internalImage.getBounds(), minWidth, minHeight );
+    ImageData result = null;
+    if( scale > 1 ) {
+      result = createReducedImageData( internalImage, scale );
+    }
+    if( result == null ) {
+      result = findImageData( internalImage );
+    }
+    return result;
+  }
+
+  public ImageDataCache getImageDataCache() {
+    return imageDataCache;
+  }
+
   private ImageData createImageData( InternalImage internalImage ) {
     ImageData result = null;
     String imagePath = internalImage.getResourceName();
@@ -55,4 +85,45 @@ public class ImageDataFactory {
     }
     return result;
   }
+
+  private ImageData createReducedImageData( InternalImage internalImage, int scale ) {
+    ImageData result = null;
+    String imagePath = internalImage.getResourceName();
+    InputStream content = resourceManager.getRegisteredContent( imagePath );
+    if( content != null ) {
+      InputStream inputStream = new BufferedInputStream( content );
+      try {
+        if( isJPEG( inputStream ) ) {
+          result = JPEGDecoder.loadScaled( inputStream, scale );
+        }
+      } catch( IOException ioe ) {
+        throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+      } finally {
+        StreamUtil.close( inputStream );
+      }
+    }
+    return result;
+  }
+
+  private static boolean isJPEG( InputStream inputStream ) throws IOException {
+    inputStream.mark( 2 );
+    boolean result = inputStream.read() == 0xFF && inputStream.read() == 0xD8;
+    inputStream.reset();
+    return result;
+  }
+
+  private static int getReductionScale( Rectangle bounds, int minWidth, int minHeight ) {
+    int result = 8;
+    while(    result > 1
+           && (   divideRoundingUp( bounds.width, result ) < minWidth
+               || divideRoundingUp( bounds.height, result ) < minHeight ) )
+    {
+      result /= 2;
+    }
+    return result;
+  }
+
+  private static int divideRoundingUp( int value, int divisor ) {
+    return ( value + divisor - 1 ) / divisor;
+  }
 }
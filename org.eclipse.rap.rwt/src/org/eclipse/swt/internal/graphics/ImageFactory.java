@@ -19,6 +19,7 @@ import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
@@ -31,17 +32,19 @@ public class ImageFactory {
   public static String getImagePath( Image image ) {
     String result = null;
     if( image != null ) {
-      InternalImage internalImage = image.internalImage;
-      String resourceName = internalImage.getResourceName();
-      if( internalImage.isExternal() ) {
-        result = resourceName;
-      } else {
-        result = RWT.getResourceManager().getLocation( resourceName );
-      }
+      result = getImagePath( image.internalImage );
     }
     return result;
   }
 
+  public static String getImagePath( InternalImage internalImage ) {
+    String resourceName = internalImage.getResourceName();
+    if( internalImage.isExternal() ) {
+      return resourceName;
+    }
+    return RWT.getResourceManager().getLocation( resourceName );
+  }
+
   public ImageFactory() {
     cache = new SharedInstanceBuffer<String,Image>();
   }
@@ -66,6 +69,10 @@ public class ImageFactory {
     } );
   }
 
+  public Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
   private Image createImage( String path, ClassLoader imageLoader ) {
     Image result;
     InputStream inputStream = imageLoader.getResourceAsStream( path );
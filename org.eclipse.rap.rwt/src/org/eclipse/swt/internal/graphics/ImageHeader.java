@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/**
+ * Reads the format and the size of an image from its header without decoding the pixel data.
+ * Supported are PNG, JPEG (baseline, extended and progressive), GIF and BMP. For all other
+ * formats and for headers that can not be parsed, <code>read</code> returns <code>null</code>
+ * and the image has to be decoded to obtain its size.
+ */
+final class ImageHeader {
+
+  private static final byte[] PNG_SIGNATURE = {
+    ( byte )0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+  };
+  private static final byte[] GIF87_SIGNATURE = { 'G', 'I', 'F', '8', '7', 'a' };
+  private static final byte[] GIF89_SIGNATURE = { 'G', 'I', 'F', '8', '9', 'a' };
+  private static final byte[] BMP_SIGNATURE = { 'B', 'M' };
+
+  final int type;
+  final int width;
+  final int height;
+
+  private ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  static ImageHeader read( byte[] bytes ) {
+    ImageHeader result = null;
+    if( startsWith( bytes, PNG_SIGNATURE ) ) {
+      result = readPng( bytes );
+    } else if( bytes.length > 2 && unsigned( bytes, 0 ) == 0xFF && unsigned( bytes, 1 ) == 0xD8 ) {
+      result = readJpeg( bytes );
+    } else if( startsWith( bytes, GIF87_SIGNATURE ) || startsWith( bytes, GIF89_SIGNATURE ) ) {
+      result = readGif( bytes );
+    } else if( startsWith( bytes, BMP_SIGNATURE ) ) {
+      result = readBmp( bytes );
+    }
+    return result != null && result.width > 0 && result.height > 0 ? result : null;
+  }
+
+  private static ImageHeader readPng( byte[] bytes ) {
+    // the IHDR chunk must be the first chunk, its data starts at offset 16
+    if( bytes.length >= 24 && bytes[ 12 ] == 'I' && bytes[ 13 ] == 'H' && bytes[ 14 ] == 'D'
+        && bytes[ 15 ] == 'R' )
+    {
+      return new ImageHeader( SWT.IMAGE_PNG, int32( bytes, 16 ), int32( bytes, 20 ) );
+    }
+    return null;
+  }
+
+  private static ImageHeader readJpeg( byte[] bytes ) {
+    int offset = 2;
+    while( offset + 4 <= bytes.length ) {
+      if( unsigned( bytes, offset ) != 0xFF ) {
+        return null;
+      }
+      int marker = unsigned( bytes, offset + 1 );
+      if( marker == 0xFF ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xD0 && marker <= 0xD7 ) {
+        // markers without a length
+        offset += 2;
+      } else if( marker == 0xD9 || marker == 0xDA ) {
+        // end of image or start of scan before a frame header
+        return null;
+      } else if( isStartOfFrame( marker ) ) {
+        // only the frame types that the SWT decoder supports, other types are decoded to
+        // report the same error as before
+        if( ( marker == 0xC0 || marker == 0xC1 || marker == 0xC2 ) && offset + 9 <= bytes.length ) {
+          int width = uint16( bytes, offset + 7 );
+          int height = uint16( bytes, offset + 5 );
+          return new ImageHeader( SWT.IMAGE_JPEG, width, height );
+        }
+        return null;
+      } else {
+        offset += 2 + uint16( bytes, offset + 2 );
+      }
+    }
+    return null;
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+  }
+
+  private static ImageHeader readGif( byte[] bytes ) {
+    // SWT reports the size of the first image, not the logical screen size
+    if( bytes.length < 13 ) {
+      return null;
+    }
+    int offset = 13;
+    int flags = unsigned( bytes, 10 );
+    if( ( flags & 0x80 ) != 0 ) {
+      offset += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+    }
+    while( offset < bytes.length ) {
+      int block = unsigned( bytes, offset );
+      if( block == 0x2C ) {
+        if( offset + 9 <= bytes.length ) {
+          int width = uint16le( bytes, offset + 5 );
+          int height = uint16le( bytes, offset + 7 );
+          return new ImageHeader( SWT.IMAGE_GIF, width, height );
+        }
+        return null;
+      } else if( block == 0x21 ) {
+        offset += 2;
+        while( offset < bytes.length && bytes[ offset ] != 0 ) {
+          offset += 1 + unsigned( bytes, offset );
+        }
+        offset++;
+      } else {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static ImageHeader readBmp( byte[] bytes ) {
+    if( bytes.length < 26 ) {
+      return null;
+    }
+    int headerSize = int32le( bytes, 14 );
+    if( headerSize == 12 ) {
+      return new ImageHeader( SWT.IMAGE_BMP, uint16le( bytes, 18 ), uint16le( bytes, 20 ) );
+    }
+    if( headerSize >= 40 ) {
+      int compression = bytes.length >= 34 ? int32le( bytes, 30 ) : -1;
+      // 1 and 2 are the RLE compressed variants
+      int type = compression == 1 || compression == 2 ? SWT.IMAGE_BMP_RLE : SWT.IMAGE_BMP;
+      return new ImageHeader( type, int32le( bytes, 18 ), Math.abs( int32le( bytes, 22 ) ) );
+    }
+    return null;
+  }
+
+  private static boolean startsWith( byte[] bytes, byte[] prefix ) {
+    if( bytes.length < prefix.length ) {
+      return false;
+    }
+    for( int i = 0; i < prefix.length; i++ ) {
+      if( bytes[ i ] != prefix[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int unsigned( byte[] bytes, int offset ) {
+    return bytes[ offset ] & 0xFF;
+  }
+
+  private static int uint16( byte[] bytes, int offset ) {
+    return unsigned( bytes, offset ) << 8 | unsigned( bytes, offset + 1 );
+  }
+
+  private static int uint16le( byte[] bytes, int offset ) {
+    return unsigned( bytes, offset + 1 ) << 8 | unsigned( bytes, offset );
+  }
+
+  private static int int32( byte[] bytes, int offset ) {
+    return uint16( bytes, offset ) << 16 | uint16( bytes, offset + 2 );
+  }
+
+  private static int int32le( byte[] bytes, int offset ) {
+    return uint16le( bytes, offset + 2 ) << 16 | uint16le( bytes, offset );
+  }
+
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.rap.rwt.internal.resources.BuildCache;
+import org.eclipse.rap.rwt.internal.util.ContentDigest;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
+import org.eclipse.rap.rwt.service.ResourceManager;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+
+
+/**
+ * Creates scaled variants of registered images, so that large source images are not transferred
+ * to the client only to be downscaled by the browser.
+ * <p>
+ * A variant has a logical size, which is the size the image is displayed with, and a scale
+ * factor. The pixel size of the variant is the logical size multiplied by the scale factor, a
+ * scale factor of 2 creates a variant for high density displays. Variants are encoded once in
+ * the format of the source image and registered under a name derived from their content.
+ * Concurrent requests for the same variant are served by a single computation. If a build cache
+ * is configured, the encoded variants are kept there, so that they are not computed again after
+ * a restart.
+ * </p>
+ * <p>
+ * Images that are drawn on a canvas in a reduced size are replaced with reduced variants, see
+ * <code>findReducedVariant</code>. Variants are downscaled with a box filter, every pixel is the
+ * average of the source pixels it covers.
+ * </p>
+ * <p>
+ * If the source image is not larger than the requested pixel size or its image data is not
+ * available, for example for external images, the variant refers to the source image.
+ * </p>
+ */
+public class ImageVariantFactory {
+
+  private static final String CACHE_KEY_PREFIX = "variant-";
+  private static final int MAX_CACHED_VARIANTS = 1000;
+  private static final int MAX_REDUCTION = 8;
+
+  private final ResourceManager resourceManager;
+  private final ImageDataFactory imageDataFactory;
+  private final BuildCache buildCache;
+  private final SharedInstanceBuffer<String, InternalImage> cache;
+
+  public ImageVariantFactory( ResourceManager resourceManager,
+                              ImageDataFactory imageDataFactory,
+                              BuildCache buildCache )
+  {
+    this.resourceManager = resourceManager;
+    this.imageDataFactory = imageDataFactory;
+    this.buildCache = buildCache;
+    cache = new SharedInstanceBuffer<>();
+  }
+
+  public Image findImage( Image image, int width, int height, int scale ) {
+    ParamCheck.notNull( image, "image" );
+    InternalImage variant = findVariant( image.internalImage, width, height, scale );
+    return ImageFactory.createImageInstance( null, variant );
+  }
+
+  public InternalImage findVariant( final InternalImage source,
+                                    final int width,
+                                    final int height,
+                                    final int scale )
+  {
+    ParamCheck.notNull( source, "source" );
+    if( width <= 0 || height <= 0 || scale <= 0 ) {
+      throw new IllegalArgumentException( "Illegal size or scale" );
+    }
+    String key = getKey( source, width, height, scale );
+    return cache.get( key, new InstanceCreator<String, InternalImage>() {
+      @Override
+      public InternalImage createInstance( String key ) {
+        return createVariant( source, width, height, scale );
+      }
+    } );
+  }
+
+  /*
+   * Returns the smallest variant of a JPEG image that is reduced by a power of two and still has
+   * at least the given size, or the source image if it cannot be reduced. JPEG images are reduced
+   * while they are decoded, which keeps the creation of their variants cheap. Using only a few
+   * reductions limits the number of variants of an image that is drawn in changing sizes.
+   * <p>
+   * This method is called while a response is rendered and never decodes an image. A variant
+   * that has not been created yet is prepared in the background and the source image is returned
+   * until the variant is available.
+   * </p>
+   */
+  public InternalImage findReducedVariant( InternalImage source, int minWidth, int minHeight ) {
+    ParamCheck.notNull( source, "source" );
+    Rectangle bounds = source.getBounds();
+    int reduction = 1;
+    while(    reduction < MAX_REDUCTION
+           && divideRoundingUp( bounds.width, reduction * 2 ) >= minWidth
+           && divideRoundingUp( bounds.height, reduction * 2 ) >= minHeight )
+    {
+      reduction *= 2;
+    }
+    InternalImage result = source;
+    if( reduction > 1 && !source.isExternal() && source.getResourceName().endsWith( ".jpg" ) ) {
+      int width = divideRoundingUp( bounds.width, reduction );
+      int height = divideRoundingUp( bounds.height, reduction );
+      String key = getKey( source, width, height, 1 );
+      InternalImage variant = cache.find( key );
+      if( variant != null ) {
+        if( !variant.getResourceName().equals( source.getResourceName() ) ) {
+          result = variant;
+        }
+      } else if( !cache.contains( key ) ) {
+        prepareVariant( source, width, height, 1 );
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Computes the variant in the background, a later call to findVariant with the same
+   * arguments will find it without delay. Decoding and encoding would block the shared
+   * application scheduler, therefore the common fork-join pool is used.
+   */
+  public void prepareVariant( final InternalImage source,
+                              final int width,
+                              final int height,
+                              final int scale )
+  {
+    ForkJoinPool.commonPool().execute( new Runnable() {
+      @Override
+      public void run() {
+        findVariant( source, width, height, scale );
+      }
+    } );
+  }
+
+  public Statistics getStatistics() {
+    return cache.getStatistics();
+  }
+
+  private InternalImage createVariant( InternalImage source, int width, int height, int scale ) {
+    Rectangle bounds = source.getBounds();
+    int pixelWidth = width * scale;
+    int pixelHeight = height * scale;
+    if( source.isExternal() || pixelWidth >= bounds.width && pixelHeight >= bounds.height ) {
+      return new InternalImage( source.getResourceName(), width, height, source.isExternal() );
+    }
+    /* source names are derived from the content, so is the cache key */
+    String variantName = source.getResourceName() + "@" + pixelWidth + "x" + pixelHeight;
+    String cacheKey = getCacheKey( variantName );
+    byte[] bytes = buildCache.get( cacheKey );
+    ImageHeader header = bytes != null ? ImageHeader.read( bytes ) : null;
+    int format;
+    if( header != null ) {
+      format = header.type;
+    } else {
+      ImageData imageData = imageDataFactory.findImageData( source, pixelWidth, pixelHeight );
+      if( imageData == null ) {
+        return new InternalImage( source.getResourceName(), width, height, false );
+      }
+      ImageData scaledData = imageData;
+      if( imageData.width != pixelWidth || imageData.height != pixelHeight ) {
+        scaledData = scale( imageData, pixelWidth, pixelHeight );
+      }
+      bytes = InternalImageFactory.encode( scaledData );
+      format = InternalImageFactory.getOutputFormat( scaledData );
+      storeVariant( cacheKey, bytes );
+    }
+    String path = InternalImageFactory.createGeneratedImagePath( format,
+                                                                 ContentDigest.getName( bytes ) );
+    if( !resourceManager.isRegistered( path ) ) {
+      resourceManager.register( path, new ByteArrayInputStream( bytes ) );
+    }
+    return new InternalImage( path, width, height, false );
+  }
+
+  /*
+   * The build cache is written in the background, variants are usually created while a response
+   * is rendered. Only the most recently used variants are kept.
+   */
+  private void storeVariant( final String cacheKey, final byte[] bytes ) {
+    if( buildCache.isEnabled() ) {
+      ForkJoinPool.commonPool().execute( new Runnable() {
+        @Override
+        public void run() {
+          buildCache.put( cacheKey, bytes );
+          buildCache.evict( CACHE_KEY_PREFIX, MAX_CACHED_VARIANTS );
+        }
+      } );
+    }
+  }
+
+  /*
+   * Averaging creates colors that are not in the palette of the source, GIF images cannot hold
+   * them and are therefore scaled by sampling.
+   */
+  private static ImageData scale( ImageData imageData, int width, int height ) {
+    if( imageData.type == SWT.IMAGE_GIF ) {
+      return imageData.scaledTo( width, height );
+    }
+    return AreaAveragingScaler.scale( imageData, width, height );
+  }
+
+  private static String getKey( InternalImage source, int width, int height, int scale ) {
+    return source.getResourceName() + "@" + width + "x" + height + "*" + scale;
+  }
+
+  private static String getCacheKey( String variantName ) {
+    byte[] bytes = variantName.getBytes( StandardCharsets.UTF_8 );
+    return CACHE_KEY_PREFIX + ContentDigest.getName( bytes );
+  }
+
+  private static int divideRoundingUp( int value, int divisor ) {
+    return ( value + divisor - 1 ) / divisor;
+  }
+
+}
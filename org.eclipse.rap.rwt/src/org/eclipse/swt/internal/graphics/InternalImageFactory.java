@@ -11,17 +11,17 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.util.ContentDigest;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
@@ -46,12 +46,10 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
-    return cache.get( path, new InstanceCreator<String, InternalImage>() {
+    final EncodedImage image = readEncodedImage( stream );
+    return cache.get( image.path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( image );
       }
     } );
   }
@@ -69,42 +67,25 @@ public class InternalImageFactory {
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
 
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
-    try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
-    }
-    return result;
+  public Statistics getStatistics() {
+    return cache.getStatistics();
   }
 
   static InputStream createInputStream( ImageData imageData ) {
+    return new ByteArrayInputStream( encode( imageData ) );
+  }
+
+  static byte[] encode( ImageData imageData ) {
     ImageLoader imageLoader = new ImageLoader();
     ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
     imageLoader.data = new ImageData[] { imageData };
     imageLoader.save( outputStream, getOutputFormat( imageData ) );
-    byte[] bytes = outputStream.toByteArray();
-    return new ByteArrayInputStream( bytes );
+    return outputStream.toByteArray();
   }
 
   private static InternalImage createInternalImage( String fileName ) {
@@ -123,10 +104,12 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    return createInternalImage( readEncodedImage( stream ) );
+  }
+
+  private static InternalImage createInternalImage( EncodedImage image ) {
+    RWT.getResourceManager().register( image.path, new ByteArrayInputStream( image.bytes ) );
+    return new InternalImage( image.path, image.width, image.height, false );
   }
 
   private static InternalImage createInternalImage( String path,
@@ -137,7 +120,40 @@ public class InternalImageFactory {
     return new InternalImage( path, imageData.width, imageData.height, false );
   }
 
-  private static int getOutputFormat( ImageData imageData ) {
+  /*
+   * Reads the encoded image and computes the digest of its bytes while they are read. Images in a
+   * format whose header can be read are not decoded, the image data is decoded only when it is
+   * requested, see ImageDataFactory.
+   */
+  private static EncodedImage readEncodedImage( InputStream stream ) {
+    if( stream == null ) {
+      SWT.error( SWT.ERROR_NULL_ARGUMENT );
+    }
+    ContentDigest digest = new ContentDigest();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    try {
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        digest.update( buffer, 0, read );
+        outputStream.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+    byte[] bytes = outputStream.toByteArray();
+    ImageHeader header = ImageHeader.read( bytes );
+    if( header != null ) {
+      String path = createGeneratedImagePath( header.type, digest.getName() );
+      return new EncodedImage( path, bytes, header.width, header.height );
+    }
+    ImageData imageData = new ImageData( new ByteArrayInputStream( bytes ) );
+    String path = createGeneratedImagePath( getOutputFormat( imageData ), digest.getName() );
+    return new EncodedImage( path, bytes, imageData.width, imageData.height );
+  }
+
+  static int getOutputFormat( ImageData imageData ) {
     int result = imageData.type;
     if( imageData.type == SWT.IMAGE_UNDEFINED ) {
       result = SWT.IMAGE_PNG;
@@ -146,7 +162,10 @@ public class InternalImageFactory {
   }
 
   private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+    return createGeneratedImagePath( getOutputFormat( data ), getHash( data ) );
+  }
+
+  static String createGeneratedImagePath( int outputFormat, String hash ) {
     String extension;
     switch( outputFormat ) {
       case SWT.IMAGE_BMP:
@@ -170,12 +189,11 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return "generated/" + hash + extension;
   }
 
   /*
-   * [cm] Compute a CRC32 value using all of the parts of the ImageData. For
+   * [cm] Compute a digest using all of the parts of the ImageData. For
    * parts that may be null, a unique salt is added to avoid collisions in rare
    * cases. There is a possibility that, for instance, the alphaData is set in
    * one image but not the maskData. Then in a second image, the maskData is set
@@ -183,49 +201,69 @@ public class InternalImageFactory {
    * case there would be a collision if no other information is added.
    */
   private static String getHash( ImageData imageData ) {
-    CRC32 crc32 = new CRC32();
+    ContentDigest digest = new ContentDigest();
     if( imageData.data != null ) {
-      crc32.update( 1 );
-      crc32.update( imageData.data );
+      digest.update( 1 );
+      digest.update( imageData.data.length );
+      digest.update( imageData.data );
     }
     if( imageData.alphaData != null ) {
-      crc32.update( 2 );
-      crc32.update( imageData.alphaData );
+      digest.update( 2 );
+      digest.update( imageData.alphaData.length );
+      digest.update( imageData.alphaData );
     }
     if( imageData.maskData != null ) {
-      crc32.update( 3 );
-      crc32.update( imageData.maskData );
+      digest.update( 3 );
+      digest.update( imageData.maskData.length );
+      digest.update( imageData.maskData );
     }
     if( imageData.palette != null ) {
-      crc32.update( 4 );
+      digest.update( 4 );
       if( imageData.palette.isDirect ) {
-        crc32.update( 5 );
-        crc32.update( imageData.palette.redMask );
-        crc32.update( imageData.palette.greenMask );
-        crc32.update( imageData.palette.blueMask );
+        digest.update( 5 );
+        digest.update( imageData.palette.redMask );
+        digest.update( imageData.palette.greenMask );
+        digest.update( imageData.palette.blueMask );
       } else {
-        crc32.update( 6 );
+        digest.update( 6 );
         RGB[] rgb = imageData.palette.getRGBs();
         for( int i = 0; i < rgb.length; i++ ) {
-          crc32.update( rgb[ i ].red );
-          crc32.update( rgb[ i ].green );
-          crc32.update( rgb[ i ].blue );
+          digest.update( rgb[ i ].red );
+          digest.update( rgb[ i ].green );
+          digest.update( rgb[ i ].blue );
         }
       }
     }
-    crc32.update( imageData.alpha );
-    crc32.update( imageData.transparentPixel );
-    crc32.update( imageData.type );
-    crc32.update( imageData.bytesPerLine );
-    crc32.update( imageData.scanlinePad );
-    crc32.update( imageData.maskPad );
-    crc32.update( imageData.x );
-    crc32.update( imageData.y );
-    crc32.update( imageData.width );
-    crc32.update( imageData.height );
-    crc32.update( imageData.depth );
-    crc32.update( imageData.delayTime );
-    crc32.update( imageData.disposalMethod );
-    return Long.toHexString( crc32.getValue() );
+    digest.update( imageData.alpha );
+    digest.update( imageData.transparentPixel );
+    digest.update( imageData.type );
+    digest.update( imageData.bytesPerLine );
+    digest.update( imageData.scanlinePad );
+    digest.update( imageData.maskPad );
+    digest.update( imageData.x );
+    digest.update( imageData.y );
+    digest.update( imageData.width );
+    digest.update( imageData.height );
+    digest.update( imageData.depth );
+    digest.update( imageData.delayTime );
+    digest.update( imageData.disposalMethod );
+    return digest.getName();
+  }
+
+  private static final class EncodedImage {
+
+    final String path;
+    final byte[] bytes;
+    final int width;
+    final int height;
+
+    EncodedImage( String path, byte[] bytes, int width, int height ) {
+      this.path = path;
+      this.bytes = bytes;
+      this.width = width;
+      this.height = height;
+    }
+
   }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.swt.internal.graphics;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.Statistics;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Font;
@@ -71,6 +72,10 @@ public class ResourceFactory {
     return cursors.get( Integer.valueOf( style ), cursorCreator );
   }
 
+  public Statistics getStatistics() {
+    return colors.getStatistics().add( fonts.getStatistics() ).add( cursors.getStatistics() );
+  }
+
   private static Color createColorInstance( int colorNr ) {
     Class<?>[] paramTypes = new Class[] { int.class };
     Object[] paramValues = new Object[] { Integer.valueOf( colorNr ) };
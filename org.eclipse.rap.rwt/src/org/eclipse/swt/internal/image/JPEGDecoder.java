@@ -16,6 +16,7 @@ package org.eclipse.swt.internal.image;
 
 import java.io.*;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 
@@ -1801,18 +1802,18 @@ public class JPEGDecoder {
 				/* Select the proper IDCT routine for this component's scaling */
 				switch (compptr.DCT_scaled_size) {
 //					#ifdef IDCT_SCALING_SUPPORTED
-//					case 1:
+					case 1:
 //						method_ptr = jpeg_idct_1x1;
-//						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
-//						break;
-//					case 2:
+						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
+						break;
+					case 2:
 //						method_ptr = jpeg_idct_2x2;
-//						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
-//						break;
-//					case 4:
+						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
+						break;
+					case 4:
 //						method_ptr = jpeg_idct_4x4;
-//						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
-//						break;
+						method = JDCT_ISLOW;	/* jidctred uses islow-style table */
+						break;
 //					#endif
 					case DCTSIZE:
 						switch (cinfo.dct_method) {
@@ -1823,10 +1824,10 @@ public class JPEGDecoder {
 								break;
 //							#endif
 //							#ifdef DCT_IFAST_SUPPORTED
-//							case JDCT_IFAST:
+							case JDCT_IFAST:
 //								method_ptr = jpeg_idct_ifast;
-//								method = JDCT_IFAST;
-//								break;
+								method = JDCT_IFAST;
+								break;
 //							#endif
 //							#ifdef DCT_FLOAT_SUPPORTED
 //							case JDCT_FLOAT:
@@ -1874,34 +1875,24 @@ public class JPEGDecoder {
 						break;
 //						#endif
 //						#ifdef DCT_IFAST_SUPPORTED
-//						case JDCT_IFAST:
-//						{
-//							/* For AA&N IDCT method, multipliers are equal to quantization
-//							 * coefficients scaled by scalefactor[row]*scalefactor[col], where
-//							 *	 scalefactor[0] = 1
-//							 *	 scalefactor[k] = cos(k*PI/16) * sqrt(2)		for k=1..7
-//							 * For integer operation, the multiplier table is to be scaled by
-//							 * IFAST_SCALE_BITS.
-//							 */
-//							int[] ifmtbl = compptr.dct_table;
-//							short aanscales[] = {
-//								/* precomputed values scaled up by 14 bits */
-//								16384, 22725, 21407, 19266, 16384, 12873,	8867,	4520,
-//								22725, 31521, 29692, 26722, 22725, 17855, 12299,	6270,
-//								21407, 29692, 27969, 25172, 21407, 16819, 11585,	5906,
-//								19266, 26722, 25172, 22654, 19266, 15137, 10426,	5315,
-//								16384, 22725, 21407, 19266, 16384, 12873,	8867,	4520,
-//								12873, 17855, 16819, 15137, 12873, 10114,	6967,	3552,
-//								8867, 12299, 11585, 10426,	8867,	6967,	4799,	2446,
-//								4520,	6270,	5906,	5315,	4520,	3552,	2446,	1247
-//							};
+						case JDCT_IFAST:
+						{
+							/* For AA&N IDCT method, multipliers are equal to quantization
+							 * coefficients scaled by scalefactor[row]*scalefactor[col], where
+							 *	 scalefactor[0] = 1
+							 *	 scalefactor[k] = cos(k*PI/16) * sqrt(2)		for k=1..7
+							 * For integer operation, the multiplier table is to be scaled by
+							 * IFAST_SCALE_BITS.
+							 */
+							int[] ifmtbl = compptr.dct_table;
 //							SHIFT_TEMPS
-//							
-//							for (i = 0; i < DCTSIZE2; i++) {
-//								ifmtbl[i] = DESCALE(MULTIPLY16V16( qtbl.quantval[i], aanscales[i]), CONST_BITS-IFAST_SCALE_BITS);
-//							}
-//						}
-//						break;
+							
+							for (i = 0; i < DCTSIZE2; i++) {
+//								#define DESCALE(x,n)	RIGHT_SHIFT((x) + (ONE << ((n)-1)), n)
+								ifmtbl[i] = ((qtbl.quantval[i] * aanscales[i]) + (1 << ((AAN_CONST_BITS-IFAST_SCALE_BITS)-1))) >> (AAN_CONST_BITS-IFAST_SCALE_BITS);
+							}
+						}
+						break;
 //						#endif
 //						#ifdef DCT_FLOAT_SUPPORTED
 //						case JDCT_FLOAT:
@@ -2376,8 +2367,8 @@ static void jpeg_calc_output_dimensions (jpeg_decompress_struct cinfo)
 /* Do computations that are needed before master selection phase */
 {
 //#ifdef IDCT_SCALING_SUPPORTED
-//	int ci;
-//	jpeg_component_info compptr;
+	int ci;
+	jpeg_component_info compptr;
 //#endif
 
 	/* Prevent application from calling me at wrong times */
@@ -2386,74 +2377,65 @@ static void jpeg_calc_output_dimensions (jpeg_decompress_struct cinfo)
 //		ERREXIT1(cinfo, JERR_BAD_STATE, cinfo.global_state);
 
 //#ifdef IDCT_SCALING_SUPPORTED
-//
-//	/* Compute actual output image dimensions and DCT scaling choices. */
-//	if (cinfo.scale_num * 8 <= cinfo.scale_denom) {
-//		/* Provide 1/8 scaling */
-//		cinfo.output_width = (int)
-//			jdiv_round_up(cinfo.image_width, 8L);
-//		cinfo.output_height = (int)
-//			jdiv_round_up(cinfo.image_height, 8L);
-//		cinfo.min_DCT_scaled_size = 1;
-//	} else if (cinfo.scale_num * 4 <= cinfo.scale_denom) {
-//		/* Provide 1/4 scaling */
-//		cinfo.output_width = (int)
-//			jdiv_round_up(cinfo.image_width, 4L);
-//		cinfo.output_height = (int)
-//			jdiv_round_up(cinfo.image_height, 4L);
-//		cinfo.min_DCT_scaled_size = 2;
-//	} else if (cinfo.scale_num * 2 <= cinfo.scale_denom) {
-//		/* Provide 1/2 scaling */
-//		cinfo.output_width = (int)
-//			jdiv_round_up(cinfo.image_width, 2L);
-//		cinfo.output_height = (int)
-//			jdiv_round_up(cinfo.image_height, 2L);
-//		cinfo.min_DCT_scaled_size = 4;
-//	} else {
-//		/* Provide 1/1 scaling */
-//		cinfo.output_width = cinfo.image_width;
-//		cinfo.output_height = cinfo.image_height;
-//		cinfo.min_DCT_scaled_size = DCTSIZE;
-//	}
-//	/* In selecting the actual DCT scaling for each component, we try to
-//	 * scale up the chroma components via IDCT scaling rather than upsampling.
-//	 * This saves time if the upsampler gets to use 1:1 scaling.
-//	 * Note this code assumes that the supported DCT scalings are powers of 2.
-//	 */
-//	for (ci = 0; ci < cinfo.num_components; ci++) {
-//		compptr = cinfo.comp_info[ci];
-//		int ssize = cinfo.min_DCT_scaled_size;
-//		while (ssize < DCTSIZE &&
-//			(compptr.h_samp_factor * ssize * 2 <= cinfo.max_h_samp_factor * cinfo.min_DCT_scaled_size) &&
-//			(compptr.v_samp_factor * ssize * 2 <= cinfo.max_v_samp_factor * cinfo.min_DCT_scaled_size))
-//		{
-//			ssize = ssize * 2;
-//		}
-//		compptr.DCT_scaled_size = ssize;
-//	}
-//
-//	/* Recompute downsampled dimensions of components;
-//	 * application needs to know these if using raw downsampled data.
-//	 */
-//	for (ci = 0; ci < cinfo.num_components; ci++) {
-//		compptr = cinfo.comp_info[ci];
-//		/* Size in samples, after IDCT scaling */
-//		compptr.downsampled_width = (int)
-//			jdiv_round_up((long) cinfo.image_width * (long) (compptr.h_samp_factor * compptr.DCT_scaled_size),
-//				(cinfo.max_h_samp_factor * DCTSIZE));
-//		compptr.downsampled_height = (int)
-//			jdiv_round_up((long) cinfo.image_height * (long) (compptr.v_samp_factor * compptr.DCT_scaled_size),
-//				(cinfo.max_v_samp_factor * DCTSIZE));
-//	}
-//
-//#else /* !IDCT_SCALING_SUPPORTED */
 
-	/* Hardwire it to "no scaling" */
-	cinfo.output_width = cinfo.image_width;
-	cinfo.output_height = cinfo.image_height;
-	/* jdinput.c has already initialized DCT_scaled_size to DCTSIZE,
-	 * and has computed unscaled downsampled_width and downsampled_height.
+	/* Compute actual output image dimensions and DCT scaling choices. */
+	if (cinfo.scale_num * 8 <= cinfo.scale_denom) {
+		/* Provide 1/8 scaling */
+		cinfo.output_width = (int)
+			jdiv_round_up(cinfo.image_width, 8L);
+		cinfo.output_height = (int)
+			jdiv_round_up(cinfo.image_height, 8L);
+		cinfo.min_DCT_scaled_size = 1;
+	} else if (cinfo.scale_num * 4 <= cinfo.scale_denom) {
+		/* Provide 1/4 scaling */
+		cinfo.output_width = (int)
+			jdiv_round_up(cinfo.image_width, 4L);
+		cinfo.output_height = (int)
+			jdiv_round_up(cinfo.image_height, 4L);
+		cinfo.min_DCT_scaled_size = 2;
+	} else if (cinfo.scale_num * 2 <= cinfo.scale_denom) {
+		/* Provide 1/2 scaling */
+		cinfo.output_width = (int)
+			jdiv_round_up(cinfo.image_width, 2L);
+		cinfo.output_height = (int)
+			jdiv_round_up(cinfo.image_height, 2L);
+		cinfo.min_DCT_scaled_size = 4;
+	} else {
+		/* Provide 1/1 scaling */
+		cinfo.output_width = cinfo.image_width;
+		cinfo.output_height = cinfo.image_height;
+		cinfo.min_DCT_scaled_size = DCTSIZE;
+	}
+	/* In selecting the actual DCT scaling for each component, we try to
+	 * scale up the chroma components via IDCT scaling rather than upsampling.
+	 * This saves time if the upsampler gets to use 1:1 scaling.
+	 * Note this code assumes that the supported DCT scalings are powers of 2.
 	 */
+	for (ci = 0; ci < cinfo.num_components; ci++) {
+		compptr = cinfo.comp_info[ci];
+		int ssize = cinfo.min_DCT_scaled_size;
+		while (ssize < DCTSIZE &&
+			(compptr.h_samp_factor * ssize * 2 <= cinfo.max_h_samp_factor * cinfo.min_DCT_scaled_size) &&
+			(compptr.v_samp_factor * ssize * 2 <= cinfo.max_v_samp_factor * cinfo.min_DCT_scaled_size))
+		{
+			ssize = ssize * 2;
+		}
+		compptr.DCT_scaled_size = ssize;
+	}
+
+	/* Recompute downsampled dimensions of components;
+	 * application needs to know these if using raw downsampled data.
+	 */
+	for (ci = 0; ci < cinfo.num_components; ci++) {
+		compptr = cinfo.comp_info[ci];
+		/* Size in samples, after IDCT scaling */
+		compptr.downsampled_width = (int)
+			jdiv_round_up((long) cinfo.image_width * (long) (compptr.h_samp_factor * compptr.DCT_scaled_size),
+				(cinfo.max_h_samp_factor * DCTSIZE));
+		compptr.downsampled_height = (int)
+			jdiv_round_up((long) cinfo.image_height * (long) (compptr.v_samp_factor * compptr.DCT_scaled_size),
+				(cinfo.max_v_samp_factor * DCTSIZE));
+	}
 
 //#endif /* IDCT_SCALING_SUPPORTED */
 
@@ -3181,6 +3163,469 @@ static void jpeg_idct_islow (jpeg_decompress_struct cinfo, jpeg_component_info c
 	}
 }
 
+/* The multiplier table of the AA&N method, precomputed values scaled up by 14 bits */
+static final int AAN_CONST_BITS = 14;
+static final short[] aanscales = {
+	16384, 22725, 21407, 19266, 16384, 12873,	8867,	4520,
+	22725, 31521, 29692, 26722, 22725, 17855, 12299,	6270,
+	21407, 29692, 27969, 25172, 21407, 16819, 11585,	5906,
+	19266, 26722, 25172, 22654, 19266, 15137, 10426,	5315,
+	16384, 22725, 21407, 19266, 16384, 12873,	8867,	4520,
+	12873, 17855, 16819, 15137, 12873, 10114,	6967,	3552,
+	8867, 12299, 11585, 10426,	8867,	6967,	4799,	2446,
+	4520,	6270,	5906,	5315,	4520,	3552,	2446,	1247
+};
+
+/*
+ * Selects the IDCT routine for the scaling and the method of the component, all of them
+ * work in the workspace of cinfo, so that no buffers are allocated per block.
+ */
+static void inverse_DCT (jpeg_decompress_struct cinfo, jpeg_component_info compptr,
+	short[] coef_block,
+	byte[][] output_buf, int output_buf_offset, int output_col)
+{
+	switch (compptr.DCT_scaled_size) {
+		case 1:
+			jpeg_idct_1x1(cinfo, compptr, coef_block, output_buf, output_buf_offset, output_col);
+			break;
+		case 2:
+			jpeg_idct_2x2(cinfo, compptr, coef_block, output_buf, output_buf_offset, output_col);
+			break;
+		case 4:
+			jpeg_idct_4x4(cinfo, compptr, coef_block, output_buf, output_buf_offset, output_col);
+			break;
+		default:
+			if (cinfo.idct.cur_method[compptr.component_index] == JDCT_IFAST) {
+				jpeg_idct_ifast(cinfo, compptr, coef_block, output_buf, output_buf_offset, output_col);
+			} else {
+				jpeg_idct_islow(cinfo, compptr, coef_block, output_buf, output_buf_offset, output_col);
+			}
+			break;
+	}
+}
+
+static final int IFAST_CONST_BITS = 8;
+/*
+ * Perform dequantization and inverse DCT on one block of coefficients, using the fast,
+ * not so accurate integer method of Arai, Agui and Nakajima (jidctfst.c). The multipliers
+ * are prescaled by the AA&N scale factors, each 1-D IDCT takes 5 multiplications.
+ */
+static void jpeg_idct_ifast (jpeg_decompress_struct cinfo, jpeg_component_info compptr,
+	short[] coef_block,
+	byte[][] output_buf, int output_buf_offset, int output_col)
+{
+	int tmp0, tmp1, tmp2, tmp3, tmp4, tmp5, tmp6, tmp7;
+	int tmp10, tmp11, tmp12, tmp13;
+	int z5, z10, z11, z12, z13;
+	short[] inptr = coef_block;
+	int[] quantptr = compptr.dct_table;
+	int[] wsptr = cinfo.workspace;	/* buffers data between passes */
+	byte[] outptr;
+	byte[] range_limit = cinfo.sample_range_limit;
+	int range_limit_offset = cinfo.sample_range_limit_offset + CENTERJSAMPLE;
+	int ctr;
+
+	/* Pass 1: process columns from input, store into work array. */
+
+//	#define MULTIPLY(var,const)	((DCTELEM) DESCALE((var) * (const), CONST_BITS))
+	for (ctr = 0; ctr < DCTSIZE; ctr++) {
+		/* AC terms all zero */
+		if (inptr[DCTSIZE*1+ctr] == 0 && inptr[DCTSIZE*2+ctr] == 0 &&
+			inptr[DCTSIZE*3+ctr] == 0 && inptr[DCTSIZE*4+ctr] == 0 &&
+			inptr[DCTSIZE*5+ctr] == 0 && inptr[DCTSIZE*6+ctr] == 0 &&
+			inptr[DCTSIZE*7+ctr] == 0)
+		{
+			int dcval = inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr];
+
+			wsptr[DCTSIZE*0+ctr] = dcval;
+			wsptr[DCTSIZE*1+ctr] = dcval;
+			wsptr[DCTSIZE*2+ctr] = dcval;
+			wsptr[DCTSIZE*3+ctr] = dcval;
+			wsptr[DCTSIZE*4+ctr] = dcval;
+			wsptr[DCTSIZE*5+ctr] = dcval;
+			wsptr[DCTSIZE*6+ctr] = dcval;
+			wsptr[DCTSIZE*7+ctr] = dcval;
+			continue;
+		}
+
+		/* Even part */
+
+		tmp0 = inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr];
+		tmp1 = inptr[DCTSIZE*2+ctr] * quantptr[DCTSIZE*2+ctr];
+		tmp2 = inptr[DCTSIZE*4+ctr] * quantptr[DCTSIZE*4+ctr];
+		tmp3 = inptr[DCTSIZE*6+ctr] * quantptr[DCTSIZE*6+ctr];
+
+		tmp10 = tmp0 + tmp2;	/* phase 3 */
+		tmp11 = tmp0 - tmp2;
+
+		tmp13 = tmp1 + tmp3;	/* phases 5-3 */
+		tmp12 = (((tmp1 - tmp3) * 362/*FIX_1_414213562*/) >> IFAST_CONST_BITS) - tmp13; /* 2*c4 */
+
+		tmp0 = tmp10 + tmp13;	/* phase 2 */
+		tmp3 = tmp10 - tmp13;
+		tmp1 = tmp11 + tmp12;
+		tmp2 = tmp11 - tmp12;
+
+		/* Odd part */
+
+		tmp4 = inptr[DCTSIZE*1+ctr] * quantptr[DCTSIZE*1+ctr];
+		tmp5 = inptr[DCTSIZE*3+ctr] * quantptr[DCTSIZE*3+ctr];
+		tmp6 = inptr[DCTSIZE*5+ctr] * quantptr[DCTSIZE*5+ctr];
+		tmp7 = inptr[DCTSIZE*7+ctr] * quantptr[DCTSIZE*7+ctr];
+
+		z13 = tmp6 + tmp5;		/* phase 6 */
+		z10 = tmp6 - tmp5;
+		z11 = tmp4 + tmp7;
+		z12 = tmp4 - tmp7;
+
+		tmp7 = z11 + z13;		/* phase 5 */
+		tmp11 = ((z11 - z13) * 362/*FIX_1_414213562*/) >> IFAST_CONST_BITS; /* 2*c4 */
+
+		z5 = ((z10 + z12) * 473/*FIX_1_847759065*/) >> IFAST_CONST_BITS; /* 2*c2 */
+		tmp10 = ((z12 * 277/*FIX_1_082392200*/) >> IFAST_CONST_BITS) - z5; /* 2*(c2-c6) */
+		tmp12 = ((z10 * - 669/*FIX_2_613125930*/) >> IFAST_CONST_BITS) + z5; /* -2*(c2+c6) */
+
+		tmp6 = tmp12 - tmp7;	/* phase 2 */
+		tmp5 = tmp11 - tmp6;
+		tmp4 = tmp10 + tmp5;
+
+		wsptr[DCTSIZE*0+ctr] = tmp0 + tmp7;
+		wsptr[DCTSIZE*7+ctr] = tmp0 - tmp7;
+		wsptr[DCTSIZE*1+ctr] = tmp1 + tmp6;
+		wsptr[DCTSIZE*6+ctr] = tmp1 - tmp6;
+		wsptr[DCTSIZE*2+ctr] = tmp2 + tmp5;
+		wsptr[DCTSIZE*5+ctr] = tmp2 - tmp5;
+		wsptr[DCTSIZE*4+ctr] = tmp3 + tmp4;
+		wsptr[DCTSIZE*3+ctr] = tmp3 - tmp4;
+	}
+
+	/* Pass 2: process rows from work array, store into output array. */
+	/* Note that we must descale the results by a factor of 8 == 2**3, */
+	/* and also undo the PASS1_BITS scaling. */
+
+	int wsptr_offset = 0;
+	for (ctr = 0; ctr < DCTSIZE; ctr++) {
+		outptr = output_buf[ctr+output_buf_offset];
+		int outptr_offset = output_col;
+
+		if (wsptr[1+wsptr_offset] == 0 && wsptr[2+wsptr_offset] == 0 && wsptr[3+wsptr_offset] == 0 && wsptr[4+wsptr_offset] == 0 &&
+			wsptr[5+wsptr_offset] == 0 && wsptr[6+wsptr_offset] == 0 && wsptr[7+wsptr_offset] == 0)
+		{
+			/* AC terms all zero */
+			byte dcval = range_limit[range_limit_offset + ((((wsptr[0+wsptr_offset]) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3)
+					& RANGE_MASK)];
+
+			outptr[0+outptr_offset] = dcval;
+			outptr[1+outptr_offset] = dcval;
+			outptr[2+outptr_offset] = dcval;
+			outptr[3+outptr_offset] = dcval;
+			outptr[4+outptr_offset] = dcval;
+			outptr[5+outptr_offset] = dcval;
+			outptr[6+outptr_offset] = dcval;
+			outptr[7+outptr_offset] = dcval;
+
+			wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+			continue;
+		}
+
+		/* Even part */
+
+		tmp10 = wsptr[0+wsptr_offset] + wsptr[4+wsptr_offset];
+		tmp11 = wsptr[0+wsptr_offset] - wsptr[4+wsptr_offset];
+
+		tmp13 = wsptr[2+wsptr_offset] + wsptr[6+wsptr_offset];
+		tmp12 = (((wsptr[2+wsptr_offset] - wsptr[6+wsptr_offset]) * 362/*FIX_1_414213562*/) >> IFAST_CONST_BITS) - tmp13;
+
+		tmp0 = tmp10 + tmp13;
+		tmp3 = tmp10 - tmp13;
+		tmp1 = tmp11 + tmp12;
+		tmp2 = tmp11 - tmp12;
+
+		/* Odd part */
+
+		z13 = wsptr[5+wsptr_offset] + wsptr[3+wsptr_offset];
+		z10 = wsptr[5+wsptr_offset] - wsptr[3+wsptr_offset];
+		z11 = wsptr[1+wsptr_offset] + wsptr[7+wsptr_offset];
+		z12 = wsptr[1+wsptr_offset] - wsptr[7+wsptr_offset];
+
+		tmp7 = z11 + z13;		/* phase 5 */
+		tmp11 = ((z11 - z13) * 362/*FIX_1_414213562*/) >> IFAST_CONST_BITS; /* 2*c4 */
+
+		z5 = ((z10 + z12) * 473/*FIX_1_847759065*/) >> IFAST_CONST_BITS; /* 2*c2 */
+		tmp10 = ((z12 * 277/*FIX_1_082392200*/) >> IFAST_CONST_BITS) - z5; /* 2*(c2-c6) */
+		tmp12 = ((z10 * - 669/*FIX_2_613125930*/) >> IFAST_CONST_BITS) + z5; /* -2*(c2+c6) */
+
+		tmp6 = tmp12 - tmp7;	/* phase 2 */
+		tmp5 = tmp11 - tmp6;
+		tmp4 = tmp10 + tmp5;
+
+		/* Final output stage: scale down by a factor of 8 and range-limit */
+
+		outptr[0+outptr_offset] = range_limit[range_limit_offset + ((((tmp0 + tmp7) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[7+outptr_offset] = range_limit[range_limit_offset + ((((tmp0 - tmp7) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[1+outptr_offset] = range_limit[range_limit_offset + ((((tmp1 + tmp6) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[6+outptr_offset] = range_limit[range_limit_offset + ((((tmp1 - tmp6) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[2+outptr_offset] = range_limit[range_limit_offset + ((((tmp2 + tmp5) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[5+outptr_offset] = range_limit[range_limit_offset + ((((tmp2 - tmp5) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[4+outptr_offset] = range_limit[range_limit_offset + ((((tmp3 + tmp4) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+		outptr[3+outptr_offset] = range_limit[range_limit_offset + ((((tmp3 - tmp4) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3) & RANGE_MASK)];
+
+		wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+	}
+}
+
+/*
+ * Perform dequantization and inverse DCT on one block of coefficients, producing a reduced-size
+ * 4x4 output block (jidctred.c). The high frequency coefficients are not used, so that the
+ * image is scaled by 1/2 in the DCT domain.
+ */
+static void jpeg_idct_4x4 (jpeg_decompress_struct cinfo, jpeg_component_info compptr,
+	short[] coef_block,
+	byte[][] output_buf, int output_buf_offset, int output_col)
+{
+	int tmp0, tmp2, tmp10, tmp12;
+	int z1, z2, z3, z4;
+	short[] inptr = coef_block;
+	int[] quantptr = compptr.dct_table;
+	int[] wsptr = cinfo.workspace;	/* buffers data between passes */
+	byte[] outptr;
+	byte[] range_limit = cinfo.sample_range_limit;
+	int range_limit_offset = cinfo.sample_range_limit_offset + CENTERJSAMPLE;
+	int ctr;
+
+	/* Pass 1: process columns from input, store into work array. */
+
+	for (ctr = 0; ctr < DCTSIZE; ctr++) {
+		/* Don't bother to process column 4, because second pass won't use it */
+		if (ctr == 4)
+			continue;
+		if (inptr[DCTSIZE*1+ctr] == 0 && inptr[DCTSIZE*2+ctr] == 0 &&
+			inptr[DCTSIZE*3+ctr] == 0 && inptr[DCTSIZE*5+ctr] == 0 &&
+			inptr[DCTSIZE*6+ctr] == 0 && inptr[DCTSIZE*7+ctr] == 0)
+		{
+			/* AC terms all zero; we need not examine term 4 for 4x4 output */
+			int dcval = (inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr]) << PASS1_BITS;
+
+			wsptr[DCTSIZE*0+ctr] = dcval;
+			wsptr[DCTSIZE*1+ctr] = dcval;
+			wsptr[DCTSIZE*2+ctr] = dcval;
+			wsptr[DCTSIZE*3+ctr] = dcval;
+			continue;
+		}
+
+		/* Even part */
+
+		tmp0 = (inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr]) << (CONST_BITS+1);
+
+		z2 = inptr[DCTSIZE*2+ctr] * quantptr[DCTSIZE*2+ctr];
+		z3 = inptr[DCTSIZE*6+ctr] * quantptr[DCTSIZE*6+ctr];
+
+		tmp2 = z2 * 15137/*FIX_1_847759065*/ + z3 * - 6270/*FIX_0_765366865*/;
+
+		tmp10 = tmp0 + tmp2;
+		tmp12 = tmp0 - tmp2;
+
+		/* Odd part */
+
+		z1 = inptr[DCTSIZE*7+ctr] * quantptr[DCTSIZE*7+ctr];
+		z2 = inptr[DCTSIZE*5+ctr] * quantptr[DCTSIZE*5+ctr];
+		z3 = inptr[DCTSIZE*3+ctr] * quantptr[DCTSIZE*3+ctr];
+		z4 = inptr[DCTSIZE*1+ctr] * quantptr[DCTSIZE*1+ctr];
+
+		tmp0 = z1 * - 1730/*FIX_0_211164243*/ /* sqrt(2) * (c3-c1) */
+			+ z2 * 11893/*FIX_1_451774981*/ /* sqrt(2) * (c3+c7) */
+			+ z3 * - 17799/*FIX_2_172734803*/ /* sqrt(2) * (-c1-c5) */
+			+ z4 * 8697/*FIX_1_061594337*/; /* sqrt(2) * (c5+c7) */
+
+		tmp2 = z1 * - 4176/*FIX_0_509795579*/ /* sqrt(2) * (c7-c5) */
+			+ z2 * - 4926/*FIX_0_601344887*/ /* sqrt(2) * (c5-c1) */
+			+ z3 * 7373/*FIX_0_899976223*/ /* sqrt(2) * (c3+c7) */
+			+ z4 * 20995/*FIX_2_562915447*/; /* sqrt(2) * (c1+c3) */
+
+		/* Final output stage */
+
+		wsptr[DCTSIZE*0+ctr] = ((tmp10 + tmp2) + (1 << ((CONST_BITS-PASS1_BITS+1)-1))) >> (CONST_BITS-PASS1_BITS+1);
+		wsptr[DCTSIZE*3+ctr] = ((tmp10 - tmp2) + (1 << ((CONST_BITS-PASS1_BITS+1)-1))) >> (CONST_BITS-PASS1_BITS+1);
+		wsptr[DCTSIZE*1+ctr] = ((tmp12 + tmp0) + (1 << ((CONST_BITS-PASS1_BITS+1)-1))) >> (CONST_BITS-PASS1_BITS+1);
+		wsptr[DCTSIZE*2+ctr] = ((tmp12 - tmp0) + (1 << ((CONST_BITS-PASS1_BITS+1)-1))) >> (CONST_BITS-PASS1_BITS+1);
+	}
+
+	/* Pass 2: process 4 rows from work array, store into output array. */
+
+	int wsptr_offset = 0;
+	for (ctr = 0; ctr < 4; ctr++) {
+		outptr = output_buf[ctr+output_buf_offset];
+		int outptr_offset = output_col;
+
+		if (wsptr[1+wsptr_offset] == 0 && wsptr[2+wsptr_offset] == 0 && wsptr[3+wsptr_offset] == 0 &&
+			wsptr[5+wsptr_offset] == 0 && wsptr[6+wsptr_offset] == 0 && wsptr[7+wsptr_offset] == 0)
+		{
+			/* AC terms all zero */
+			byte dcval = range_limit[range_limit_offset + ((((wsptr[0+wsptr_offset]) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3)
+					& RANGE_MASK)];
+
+			outptr[0+outptr_offset] = dcval;
+			outptr[1+outptr_offset] = dcval;
+			outptr[2+outptr_offset] = dcval;
+			outptr[3+outptr_offset] = dcval;
+
+			wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+			continue;
+		}
+
+		/* Even part */
+
+		tmp0 = wsptr[0+wsptr_offset] << (CONST_BITS+1);
+
+		tmp2 = wsptr[2+wsptr_offset] * 15137/*FIX_1_847759065*/ + wsptr[6+wsptr_offset] * - 6270/*FIX_0_765366865*/;
+
+		tmp10 = tmp0 + tmp2;
+		tmp12 = tmp0 - tmp2;
+
+		/* Odd part */
+
+		z1 = wsptr[7+wsptr_offset];
+		z2 = wsptr[5+wsptr_offset];
+		z3 = wsptr[3+wsptr_offset];
+		z4 = wsptr[1+wsptr_offset];
+
+		tmp0 = z1 * - 1730/*FIX_0_211164243*/ /* sqrt(2) * (c3-c1) */
+			+ z2 * 11893/*FIX_1_451774981*/ /* sqrt(2) * (c3+c7) */
+			+ z3 * - 17799/*FIX_2_172734803*/ /* sqrt(2) * (-c1-c5) */
+			+ z4 * 8697/*FIX_1_061594337*/; /* sqrt(2) * (c5+c7) */
+
+		tmp2 = z1 * - 4176/*FIX_0_509795579*/ /* sqrt(2) * (c7-c5) */
+			+ z2 * - 4926/*FIX_0_601344887*/ /* sqrt(2) * (c5-c1) */
+			+ z3 * 7373/*FIX_0_899976223*/ /* sqrt(2) * (c3+c7) */
+			+ z4 * 20995/*FIX_2_562915447*/; /* sqrt(2) * (c1+c3) */
+
+		/* Final output stage */
+
+		outptr[0+outptr_offset] = range_limit[range_limit_offset + ((((tmp10 + tmp2) + (1 << ((CONST_BITS+PASS1_BITS+3+1)-1))) >>
+					CONST_BITS+PASS1_BITS+3+1) & RANGE_MASK)];
+		outptr[3+outptr_offset] = range_limit[range_limit_offset + ((((tmp10 - tmp2) + (1 << ((CONST_BITS+PASS1_BITS+3+1)-1))) >>
+					CONST_BITS+PASS1_BITS+3+1) & RANGE_MASK)];
+		outptr[1+outptr_offset] = range_limit[range_limit_offset + ((((tmp12 + tmp0) + (1 << ((CONST_BITS+PASS1_BITS+3+1)-1))) >>
+					CONST_BITS+PASS1_BITS+3+1) & RANGE_MASK)];
+		outptr[2+outptr_offset] = range_limit[range_limit_offset + ((((tmp12 - tmp0) + (1 << ((CONST_BITS+PASS1_BITS+3+1)-1))) >>
+					CONST_BITS+PASS1_BITS+3+1) & RANGE_MASK)];
+
+		wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+	}
+}
+
+/*
+ * Perform dequantization and inverse DCT on one block of coefficients, producing a reduced-size
+ * 2x2 output block (jidctred.c), which scales the image by 1/4.
+ */
+static void jpeg_idct_2x2 (jpeg_decompress_struct cinfo, jpeg_component_info compptr,
+	short[] coef_block,
+	byte[][] output_buf, int output_buf_offset, int output_col)
+{
+	int tmp0, tmp10;
+	short[] inptr = coef_block;
+	int[] quantptr = compptr.dct_table;
+	int[] wsptr = cinfo.workspace;	/* buffers data between passes */
+	byte[] outptr;
+	byte[] range_limit = cinfo.sample_range_limit;
+	int range_limit_offset = cinfo.sample_range_limit_offset + CENTERJSAMPLE;
+	int ctr;
+
+	/* Pass 1: process columns from input, store into work array. */
+
+	for (ctr = 0; ctr < DCTSIZE; ctr++) {
+		/* Don't bother to process columns 2,4,6 */
+		if (ctr == 2 || ctr == 4 || ctr == 6)
+			continue;
+		if (inptr[DCTSIZE*1+ctr] == 0 && inptr[DCTSIZE*3+ctr] == 0 &&
+			inptr[DCTSIZE*5+ctr] == 0 && inptr[DCTSIZE*7+ctr] == 0)
+		{
+			/* AC terms all zero; we need not examine terms 2,4,6 for 2x2 output */
+			int dcval = (inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr]) << PASS1_BITS;
+
+			wsptr[DCTSIZE*0+ctr] = dcval;
+			wsptr[DCTSIZE*1+ctr] = dcval;
+			continue;
+		}
+
+		/* Even part */
+
+		tmp10 = (inptr[DCTSIZE*0+ctr] * quantptr[DCTSIZE*0+ctr]) << (CONST_BITS+2);
+
+		/* Odd part */
+
+		tmp0 = inptr[DCTSIZE*7+ctr] * quantptr[DCTSIZE*7+ctr] * - 5906/*FIX_0_720959822*/ /* sqrt(2) * (c7-c5+c3-c1) */
+			+ inptr[DCTSIZE*5+ctr] * quantptr[DCTSIZE*5+ctr] * 6967/*FIX_0_850430095*/ /* sqrt(2) * (-c1+c3+c5+c7) */
+			+ inptr[DCTSIZE*3+ctr] * quantptr[DCTSIZE*3+ctr] * - 10426/*FIX_1_272758580*/ /* sqrt(2) * (-c1+c3-c5-c7) */
+			+ inptr[DCTSIZE*1+ctr] * quantptr[DCTSIZE*1+ctr] * 29692/*FIX_3_624509785*/; /* sqrt(2) * (c1+c3+c5+c7) */
+
+		/* Final output stage */
+
+		wsptr[DCTSIZE*0+ctr] = ((tmp10 + tmp0) + (1 << ((CONST_BITS-PASS1_BITS+2)-1))) >> (CONST_BITS-PASS1_BITS+2);
+		wsptr[DCTSIZE*1+ctr] = ((tmp10 - tmp0) + (1 << ((CONST_BITS-PASS1_BITS+2)-1))) >> (CONST_BITS-PASS1_BITS+2);
+	}
+
+	/* Pass 2: process 2 rows from work array, store into output array. */
+
+	int wsptr_offset = 0;
+	for (ctr = 0; ctr < 2; ctr++) {
+		outptr = output_buf[ctr+output_buf_offset];
+		int outptr_offset = output_col;
+
+		if (wsptr[1+wsptr_offset] == 0 && wsptr[3+wsptr_offset] == 0 && wsptr[5+wsptr_offset] == 0 && wsptr[7+wsptr_offset] == 0) {
+			/* AC terms all zero */
+			byte dcval = range_limit[range_limit_offset + ((((wsptr[0+wsptr_offset]) + (1 << ((PASS1_BITS+3)-1))) >> PASS1_BITS+3)
+					& RANGE_MASK)];
+
+			outptr[0+outptr_offset] = dcval;
+			outptr[1+outptr_offset] = dcval;
+
+			wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+			continue;
+		}
+
+		/* Even part */
+
+		tmp10 = wsptr[0+wsptr_offset] << (CONST_BITS+2);
+
+		/* Odd part */
+
+		tmp0 = wsptr[7+wsptr_offset] * - 5906/*FIX_0_720959822*/ /* sqrt(2) * (c7-c5+c3-c1) */
+			+ wsptr[5+wsptr_offset] * 6967/*FIX_0_850430095*/ /* sqrt(2) * (-c1+c3+c5+c7) */
+			+ wsptr[3+wsptr_offset] * - 10426/*FIX_1_272758580*/ /* sqrt(2) * (-c1+c3-c5-c7) */
+			+ wsptr[1+wsptr_offset] * 29692/*FIX_3_624509785*/; /* sqrt(2) * (c1+c3+c5+c7) */
+
+		/* Final output stage */
+
+		outptr[0+outptr_offset] = range_limit[range_limit_offset + ((((tmp10 + tmp0) + (1 << ((CONST_BITS+PASS1_BITS+3+2)-1))) >>
+					CONST_BITS+PASS1_BITS+3+2) & RANGE_MASK)];
+		outptr[1+outptr_offset] = range_limit[range_limit_offset + ((((tmp10 - tmp0) + (1 << ((CONST_BITS+PASS1_BITS+3+2)-1))) >>
+					CONST_BITS+PASS1_BITS+3+2) & RANGE_MASK)];
+
+		wsptr_offset += DCTSIZE;		/* advance pointer to next row */
+	}
+}
+
+/*
+ * Perform dequantization and inverse DCT on one block of coefficients, producing a reduced-size
+ * 1x1 output block (jidctred.c). Only the DC coefficient is used, which scales the image by 1/8.
+ */
+static void jpeg_idct_1x1 (jpeg_decompress_struct cinfo, jpeg_component_info compptr,
+	short[] coef_block,
+	byte[][] output_buf, int output_buf_offset, int output_col)
+{
+	byte[] range_limit = cinfo.sample_range_limit;
+	int range_limit_offset = cinfo.sample_range_limit_offset + CENTERJSAMPLE;
+
+	/* We hardly need an inverse DCT routine for this: just take the
+	 * average pixel value, which is one-eighth of the DC coefficient.
+	 */
+	int dcval = coef_block[0] * compptr.dct_table[0];
+	dcval = (dcval + (1 << (3-1))) >> 3;
+
+	output_buf[output_buf_offset][output_col] = range_limit[range_limit_offset + (dcval & RANGE_MASK)];
+}
+
 static void upsample (jpeg_decompress_struct cinfo,
 	byte[][][] input_buf, int[] input_buf_offset, int[] in_row_group_ctr,
 	int in_row_groups_avail,
@@ -3802,7 +4247,7 @@ static int decompress_onepass (jpeg_decompress_struct cinfo, byte[][][] output_b
 					if (cinfo.input_iMCU_row < last_iMCU_row ||	yoffset+yindex < compptr.last_row_height) {
 						output_col = start_col;
 						for (xindex = 0; xindex < useful_width; xindex++) {
-							jpeg_idct_islow(cinfo, compptr, coef.MCU_buffer[blkn+xindex], output_ptr, output_ptr_offset, output_col);
+							inverse_DCT(cinfo, compptr, coef.MCU_buffer[blkn+xindex], output_ptr, output_ptr_offset, output_col);
 							output_col += compptr.DCT_scaled_size;
 						}
 					}
@@ -4021,7 +4466,7 @@ static int decompress_smooth_data (jpeg_decompress_struct cinfo, byte[][][] outp
 					workspace[2] = (short) pred;
 				}
 				/* OK, do the IDCT */
-				jpeg_idct_islow(cinfo, compptr, workspace, output_ptr, output_ptr_offset, output_col);
+				inverse_DCT(cinfo, compptr, workspace, output_ptr, output_ptr_offset, output_col);
 				/* Advance for next column */
 				DC1 = DC2; DC2 = DC3;
 				DC4 = DC5; DC5 = DC6;
@@ -4085,7 +4530,7 @@ static int decompress_data (jpeg_decompress_struct cinfo, byte[][][] output_buf,
 			int buffer_ptr_offset = 0;
 			output_col = 0;
 			for (block_num = 0; block_num < compptr.width_in_blocks; block_num++) {
-				jpeg_idct_islow(cinfo, compptr, buffer_ptr[buffer_ptr_offset], output_ptr, output_ptr_offset, output_col);
+				inverse_DCT(cinfo, compptr, buffer_ptr[buffer_ptr_offset], output_ptr, output_ptr_offset, output_col);
 
 				buffer_ptr_offset++;
 				output_col += compptr.DCT_scaled_size;
@@ -6307,10 +6752,33 @@ static boolean isFileFormat(LEDataInputStream stream) {
 }
 	
 static ImageData[] loadFromByteStream(InputStream inputStream, ImageLoader loader) {
+	return loadFromByteStream(inputStream, loader, 1);
+}
+
+/*
+ * Decodes the image scaled by 1/scale_denom, where scale_denom is 1, 2, 4 or 8. The image is
+ * scaled in the DCT domain by the reduced-size IDCTs, which is much cheaper than decoding it in
+ * full size and scaling the pixels. Since scaled images are meant for thumbnails, the remaining
+ * full-size blocks (chroma components of subsampled images) use the fast integer IDCT.
+ */
+public static ImageData loadScaled(InputStream inputStream, int scale_denom) {
+	if (scale_denom != 1 && scale_denom != 2 && scale_denom != 4 && scale_denom != 8) {
+		SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+	}
+	return loadFromByteStream(inputStream, new ImageLoader(), scale_denom)[0];
+}
+
+static ImageData[] loadFromByteStream(InputStream inputStream, ImageLoader loader, int scale_denom) {
 	jpeg_decompress_struct cinfo = new jpeg_decompress_struct();
 	cinfo.inputStream = inputStream;
 	jpeg_create_decompress(cinfo);
 	jpeg_read_header(cinfo, true);
+	if (scale_denom > 1) {
+		cinfo.scale_denom = scale_denom;
+	}
+	if (scale_denom > 1 || RWTProperties.isFastJpegDecodingEnabled()) {
+		cinfo.dct_method = JDCT_IFAST;
+	}
 	cinfo.buffered_image = cinfo.progressive_mode && loader.hasListeners();
 	jpeg_start_decompress(cinfo);
 	PaletteData palette = null;
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal.image;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.swt.SWT;
+
+/*
+ * Compresses filtered PNG scanlines into a zlib stream. If parallel compression is enabled, large
+ * images are split into segments that are compressed in parallel. Each segment is a raw deflate stream that ends on a byte
+ * boundary (SYNC_FLUSH), only the last segment is finished. The concatenated segments form a
+ * single deflate stream, which is wrapped with the zlib header and the Adler-32 checksum of the
+ * uncompressed data.
+ */
+final class PngCompressor {
+
+	static final int PARALLEL_THRESHOLD = 1024 * 1024;
+	static final int SEGMENT_SIZE = 256 * 1024;
+	// filtered scanlines compress well at the fastest level, images are encoded on UI threads
+	static final int DEFAULT_LEVEL = Deflater.BEST_SPEED;
+
+	private PngCompressor() {
+	}
+
+static int getDefaultLevel() {
+	int level = RWTProperties.getPngCompressionLevel(DEFAULT_LEVEL);
+	return level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION ? level : DEFAULT_LEVEL;
+}
+
+static byte[] compress(byte[] data, int level) {
+	if (data.length >= PARALLEL_THRESHOLD && isParallel()) {
+		return compressParallel(data, level);
+	}
+	Deflater deflater = new Deflater(level);
+	try {
+		deflater.setInput(data);
+		deflater.finish();
+		ByteArrayOutputStream result = new ByteArrayOutputStream(data.length / 4 + 64);
+		drain(deflater, result, Deflater.NO_FLUSH);
+		return result.toByteArray();
+	} finally {
+		deflater.end();
+	}
+}
+
+static boolean isParallel() {
+	return RWTProperties.isParallelPngCompressionEnabled() && Runtime.getRuntime().availableProcessors() > 1;
+}
+
+static byte[] compressParallel(final byte[] data, final int level) {
+	List<Future<byte[]>> segments = new ArrayList<>();
+	for (int offset = 0; offset < data.length; offset += SEGMENT_SIZE) {
+		final int start = offset;
+		final int length = Math.min(SEGMENT_SIZE, data.length - offset);
+		final boolean last = start + length == data.length;
+		segments.add(ForkJoinPool.commonPool().submit(new Callable<byte[]>() {
+			@Override
+			public byte[] call() {
+				return compressSegment(data, start, length, level, last);
+			}
+		}));
+	}
+	ByteArrayOutputStream result = new ByteArrayOutputStream(data.length / 4 + 64);
+	// zlib header: deflate with a 32K window, default compression, no dictionary
+	result.write(0x78);
+	result.write(0x9c);
+	try {
+		for (Future<byte[]> segment : segments) {
+			byte[] bytes = segment.get();
+			result.write(bytes, 0, bytes.length);
+		}
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		SWT.error(SWT.ERROR_IO, e);
+	} catch (ExecutionException e) {
+		SWT.error(SWT.ERROR_IO, e.getCause());
+	}
+	Adler32 adler32 = new Adler32();
+	adler32.update(data, 0, data.length);
+	int checksum = (int) adler32.getValue();
+	result.write(checksum >>> 24);
+	result.write(checksum >>> 16);
+	result.write(checksum >>> 8);
+	result.write(checksum);
+	return result.toByteArray();
+}
+
+static byte[] compressSegment(byte[] data, int offset, int length, int level, boolean last) {
+	Deflater deflater = new Deflater(level, true);
+	try {
+		deflater.setInput(data, offset, length);
+		ByteArrayOutputStream result = new ByteArrayOutputStream(length / 4 + 64);
+		if (last) {
+			deflater.finish();
+			drain(deflater, result, Deflater.NO_FLUSH);
+		} else {
+			drain(deflater, result, Deflater.SYNC_FLUSH);
+		}
+		return result.toByteArray();
+	} finally {
+		deflater.end();
+	}
+}
+
+static void drain(Deflater deflater, ByteArrayOutputStream out, int flush) {
+	byte[] buffer = new byte[8192];
+	if (flush == Deflater.SYNC_FLUSH) {
+		// the flush is complete when the output buffer is not filled entirely
+		int count;
+		do {
+			count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+			out.write(buffer, 0, count);
+		} while (count == buffer.length);
+	} else {
+		while (!deflater.finished()) {
+			int count = deflater.deflate(buffer);
+			out.write(buffer, 0, count);
+		}
+	}
+}
+
+}
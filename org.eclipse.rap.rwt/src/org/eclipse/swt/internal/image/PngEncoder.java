@@ -12,13 +12,11 @@ package org.eclipse.swt.internal.image;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.RGB;
-import org.eclipse.swt.internal.Compatibility;
 
 final class PngEncoder extends Object {
 
@@ -236,36 +234,26 @@ void writeTransparency() {
 
 void writeImageData() throws IOException {
 
-	ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-	OutputStream os = null;
-	switch (loader.compression) {
-	case 0:
-		os = Compatibility.newDeflaterOutputStream(baos, NO_COMPRESSION);
-		break;
-	case 1:
-		os = Compatibility.newDeflaterOutputStream(baos, BEST_SPEED);
-		break;
-	case 3:
-		os = Compatibility.newDeflaterOutputStream(baos, BEST_COMPRESSION);
-		break;
-	default:
-		os = Compatibility.newDeflaterOutputStream(baos, DEFAULT_COMPRESSION);
-		break;
-	}
-	if (os == null) os = baos; // returns null for J2ME
+	int bytesPerPixel = colorType == 3 ? 1 : (colorType == 6 ? 4 : 3);
+	int stride = width * bytesPerPixel;
+	byte[] scanlines = new byte[height * (stride + 1)];
+	
+	/*
+	 * RAP: filter the scanlines before compressing them. Indexed images are not filtered, for
+	 * truecolor images the filter with the minimum sum of absolute differences is selected per
+	 * row, which is the heuristic recommended by the PNG specification.
+	 */
+	byte[] previous = new byte[stride];
+	byte[] current = new byte[stride];
+	byte[][] candidates = colorType == 3 ? null : new byte[5][stride];
 	
 	if (colorType == 3) {
 	
-		byte[] lineData = new byte[width];
-		
 		for (int y = 0; y < height; y++) {
-			
-			int filter = 0;
-			os.write(filter);
-			
-			data.getPixels(0, y, width, lineData, 0);
-			
-			os.write(lineData);
+		
+			int offset = y * (stride + 1);
+			scanlines[offset] = 0;
+			data.getPixels(0, y, width, scanlines, offset + 1);
 		
 		}
 	
@@ -286,13 +274,8 @@ void writeImageData() throws IOException {
 		int blueShift = data.palette.blueShift;
 		int blueMask = data.palette.blueMask;
 		
-		byte[] lineBytes = new byte[width * (colorType == 6 ? 4 : 3)];
-		
 		for (int y = 0; y < height; y++) {
 		
-			int filter = 0;
-			os.write(filter);
-			
 			data.getPixels(0, y, width, lineData, 0);
 			
 			if (colorType == 6) {
@@ -305,38 +288,112 @@ void writeImageData() throws IOException {
 				int pixel = lineData[x];
 				
 				int r = pixel & redMask;
-				lineBytes[offset++] = (byte) ((redShift < 0) ? r >>> -redShift
+				current[offset++] = (byte) ((redShift < 0) ? r >>> -redShift
 						: r << redShift);
 				int g = pixel & greenMask;
-				lineBytes[offset++] = (byte) ((greenShift < 0) ? g >>> -greenShift
+				current[offset++] = (byte) ((greenShift < 0) ? g >>> -greenShift
 						: g << greenShift);
 				int b = pixel & blueMask;
-				lineBytes[offset++] = (byte) ((blueShift < 0) ? b >>> -blueShift
+				current[offset++] = (byte) ((blueShift < 0) ? b >>> -blueShift
 						: b << blueShift);
 				
 				if (colorType == 6) {
-					lineBytes[offset++] = alphaData[x];
+					current[offset++] = alphaData[x];
 				}
 			
 			}
 			
-			os.write(lineBytes);
+			int filter = filterRow(current, y == 0 ? null : previous, bytesPerPixel, candidates);
+			int lineOffset = y * (stride + 1);
+			scanlines[lineOffset] = (byte) filter;
+			System.arraycopy(candidates[filter], 0, scanlines, lineOffset + 1, stride);
 			
+			byte[] swap = previous;
+			previous = current;
+			current = swap;
+		
 		}
 	
 	}
 	
-	os.flush();
-	os.close();
+	writeChunk(TAG_IDAT, PngCompressor.compress(scanlines, getCompressionLevel()));
+
+}
+
+int getCompressionLevel() {
+
+	switch (loader.compression) {
+	case -1:
+		// not set by the application
+		return PngCompressor.getDefaultLevel();
+	case 0:
+		return NO_COMPRESSION;
+	case 1:
+		return BEST_SPEED;
+	case 3:
+		return BEST_COMPRESSION;
+	case 2:
+	default:
+		return DEFAULT_COMPRESSION;
+	}
+
+}
+
+/*
+ * Applies all five filter types to the row and returns the type with the minimum sum of
+ * absolute values. The filtered bytes are left in candidates[type]. The previous row is null for
+ * the first row.
+ */
+static int filterRow(byte[] row, byte[] previous, int bpp, byte[][] candidates) {
+
+	int length = row.length;
+	byte[] none = candidates[0];
+	byte[] sub = candidates[1];
+	byte[] up = candidates[2];
+	byte[] average = candidates[3];
+	byte[] paeth = candidates[4];
+	long[] sums = new long[5];
+	
+	for (int i = 0; i < length; i++) {
+	
+		int raw = row[i] & 0xff;
+		int left = i >= bpp ? row[i - bpp] & 0xff : 0;
+		int above = previous != null ? previous[i] & 0xff : 0;
+		int upperLeft = previous != null && i >= bpp ? previous[i - bpp] & 0xff : 0;
+		
+		none[i] = (byte) raw;
+		sub[i] = (byte) (raw - left);
+		up[i] = (byte) (raw - above);
+		average[i] = (byte) (raw - ((left + above) >>> 1));
+		paeth[i] = (byte) (raw - paethPredictor(left, above, upperLeft));
+		
+		sums[0] += Math.abs(none[i]);
+		sums[1] += Math.abs(sub[i]);
+		sums[2] += Math.abs(up[i]);
+		sums[3] += Math.abs(average[i]);
+		sums[4] += Math.abs(paeth[i]);
 	
-	byte[] compressed = baos.toByteArray();
-	if (os == baos) {
-		/* Use PngDeflater for J2ME. */
-		PngDeflater deflater = new PngDeflater();
-		compressed = deflater.deflate(compressed);
 	}
 	
-	writeChunk(TAG_IDAT, compressed);
+	int result = 0;
+	for (int type = 1; type < 5; type++) {
+		if (sums[type] < sums[result]) {
+			result = type;
+		}
+	}
+	return result;
+
+}
+
+static int paethPredictor(int a, int b, int c) {
+
+	int p = a + b - c;
+	int pa = Math.abs(p - a);
+	int pb = Math.abs(p - b);
+	int pc = Math.abs(p - c);
+	if (pa <= pb && pa <= pc) return a;
+	if (pb <= pc) return b;
+	return c;
 
 }
 
@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -37,18 +38,23 @@ public class ControlDecoratorLCA extends WidgetLCA<ControlDecorator> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_VISIBLE = "visible";
+  private static final int PROP_VISIBLE_ID = getPropertyId( PROP_VISIBLE );
   private static final String PROP_SHOW_HOVER = "showHover";
+  private static final int PROP_SHOW_HOVER_ID = getPropertyId( PROP_SHOW_HOVER );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
+  private static final int PROP_MARKUP_ENABLED_ID = getPropertyId( PROP_MARKUP_ENABLED );
 
   @Override
   public void preserveValues( ControlDecorator decorator ) {
     WidgetLCAUtil.preserveBounds( decorator, decorator.getBounds() );
-    preserveProperty( decorator, PROP_TEXT, decorator.getText() );
-    preserveProperty( decorator, PROP_IMAGE, decorator.getImage() );
-    preserveProperty( decorator, PROP_VISIBLE, decorator.isVisible() );
-    preserveProperty( decorator, PROP_SHOW_HOVER, decorator.getShowHover() );
+    preserveProperty( decorator, PROP_TEXT_ID, decorator.getText() );
+    preserveProperty( decorator, PROP_IMAGE_ID, decorator.getImage() );
+    preserveProperty( decorator, PROP_VISIBLE_ID, decorator.isVisible() );
+    preserveProperty( decorator, PROP_SHOW_HOVER_ID, decorator.getShowHover() );
   }
 
   @Override
@@ -57,16 +63,16 @@ public class ControlDecoratorLCA extends WidgetLCA<ControlDecorator> {
     remoteObject.setHandler( new ControlDecoratorOperationHandler( decorator ) );
     remoteObject.set( "parent", getId( decorator.getParent() ) );
     remoteObject.set( "style", createJsonArray( getStyles( decorator, ALLOWED_STYLES ) ) );
-    renderProperty( decorator, PROP_MARKUP_ENABLED, isMarkupEnabledFor( decorator ), false );
+    renderProperty( decorator, PROP_MARKUP_ENABLED_ID, isMarkupEnabledFor( decorator ), false );
   }
 
   @Override
   public void renderChanges( ControlDecorator decorator ) throws IOException {
     WidgetLCAUtil.renderBounds( decorator, decorator.getBounds() );
-    renderProperty( decorator, PROP_TEXT, decorator.getText(), "" );
-    renderProperty( decorator, PROP_IMAGE, decorator.getImage(), null );
-    renderProperty( decorator, PROP_VISIBLE, decorator.isVisible(), false );
-    renderProperty( decorator, PROP_SHOW_HOVER, decorator.getShowHover(), true );
+    renderProperty( decorator, PROP_TEXT_ID, decorator.getText(), "" );
+    renderProperty( decorator, PROP_IMAGE_ID, decorator.getImage(), null );
+    renderProperty( decorator, PROP_VISIBLE_ID, decorator.isVisible(), false );
+    renderProperty( decorator, PROP_SHOW_HOVER_ID, decorator.getShowHover(), true );
     WidgetLCAUtil.renderListenSelection( decorator );
     WidgetLCAUtil.renderListenDefaultSelection( decorator );
   }
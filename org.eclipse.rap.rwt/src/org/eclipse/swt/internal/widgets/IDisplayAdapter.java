@@ -36,6 +36,14 @@ public interface IDisplayAdapter {
   boolean isBeepCalled();
   void resetBeep();
 
+  void setChangeTracking( boolean enabled );
+  boolean isChangeTracking();
+
+  int getAsyncQueueDepth();
+  long getAsyncExecCount();
+  long getAverageAsyncExecLatency();
+  long getMaxAsyncExecLatency();
+
   void notifyListeners( int eventType, Event event );
   boolean isListening( int eventType );
 
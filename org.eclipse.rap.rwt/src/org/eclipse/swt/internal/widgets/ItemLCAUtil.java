@@ -14,6 +14,7 @@ package org.eclipse.swt.internal.widgets;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderData;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.swt.widgets.Item;
 
@@ -21,20 +22,22 @@ import org.eclipse.swt.widgets.Item;
 public class ItemLCAUtil {
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
 
   private ItemLCAUtil() {
     // prevent instantiation
   }
 
   public static void preserve( Item item ) {
-    preserveProperty( item, PROP_TEXT, item.getText() );
-    preserveProperty( item, PROP_IMAGE, item.getImage() );
+    preserveProperty( item, PROP_TEXT_ID, item.getText() );
+    preserveProperty( item, PROP_IMAGE_ID, item.getImage() );
   }
 
   public static void renderChanges( Item item ) {
-    renderProperty( item, PROP_TEXT, item.getText(), "" );
-    renderProperty( item, PROP_IMAGE, item.getImage(), null );
+    renderProperty( item, PROP_TEXT_ID, item.getText(), "" );
+    renderProperty( item, PROP_IMAGE_ID, item.getImage(), null );
     renderData( item );
   }
 
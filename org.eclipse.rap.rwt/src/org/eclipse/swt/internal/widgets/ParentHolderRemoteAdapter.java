@@ -53,6 +53,16 @@ public class ParentHolderRemoteAdapter implements RemoteAdapter, SerializableCom
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public void preserve( int propertyId, Object value ) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Object getPreserved( int propertyId ) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public void markDisposed( Widget widget ) {
     throw new UnsupportedOperationException();
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/*
+ * Compact storage for the values preserved by a widget during a request. Property names are
+ * registered once as small integer ids that are shared by all widgets, the LCAs keep them in
+ * static final int constants. Values are kept in slot arrays that are reused across requests,
+ * int and boolean values are stored without boxing.
+ */
+public final class PreservedValues {
+
+  private static final Map<String, Integer> PROPERTY_IDS = new ConcurrentHashMap<>();
+  private static final Object INT_SLOT = new Object();
+  private static final Object BOOLEAN_SLOT = new Object();
+  private static final int INITIAL_CAPACITY = 8;
+
+  private static volatile String[] propertyNames = new String[ 0 ];
+
+  private int[] propertyIds;
+  private Object[] values;
+  private int[] primitives;
+  private int size;
+
+  /*
+   * Returns the id of the given property, it is registered on the first call. Callers that
+   * preserve the property on every request keep the id in a constant.
+   */
+  public static int getPropertyId( String propertyName ) {
+    Integer result = PROPERTY_IDS.get( propertyName );
+    return result != null ? result.intValue() : registerProperty( propertyName );
+  }
+
+  public static String getPropertyName( int propertyId ) {
+    return propertyNames[ propertyId ];
+  }
+
+  private static synchronized int registerProperty( String propertyName ) {
+    Integer result = PROPERTY_IDS.get( propertyName );
+    if( result == null ) {
+      String[] names = Arrays.copyOf( propertyNames, propertyNames.length + 1 );
+      names[ names.length - 1 ] = propertyName;
+      // the name must be published before the id
+      propertyNames = names;
+      result = Integer.valueOf( names.length - 1 );
+      PROPERTY_IDS.put( propertyName, result );
+    }
+    return result.intValue();
+  }
+
+  public void put( int propertyId, Object value ) {
+    int slot = ensureSlot( propertyId );
+    values[ slot ] = value;
+  }
+
+  public void put( int propertyId, int value ) {
+    int slot = ensureSlot( propertyId );
+    values[ slot ] = INT_SLOT;
+    primitives[ slot ] = value;
+  }
+
+  public void put( int propertyId, boolean value ) {
+    int slot = ensureSlot( propertyId );
+    values[ slot ] = BOOLEAN_SLOT;
+    primitives[ slot ] = value ? 1 : 0;
+  }
+
+  public Object get( int propertyId ) {
+    int slot = findSlot( propertyId );
+    if( slot == -1 ) {
+      return null;
+    }
+    Object value = values[ slot ];
+    if( value == INT_SLOT ) {
+      return Integer.valueOf( primitives[ slot ] );
+    }
+    if( value == BOOLEAN_SLOT ) {
+      return Boolean.valueOf( primitives[ slot ] != 0 );
+    }
+    return value;
+  }
+
+  public boolean isEqual( int propertyId, int value ) {
+    int slot = findSlot( propertyId );
+    if( slot != -1 ) {
+      Object preserved = values[ slot ];
+      if( preserved == INT_SLOT ) {
+        return primitives[ slot ] == value;
+      }
+      return preserved instanceof Integer && ( ( Integer )preserved ).intValue() == value;
+    }
+    return false;
+  }
+
+  public boolean isEqual( int propertyId, boolean value ) {
+    int slot = findSlot( propertyId );
+    if( slot != -1 ) {
+      Object preserved = values[ slot ];
+      if( preserved == BOOLEAN_SLOT ) {
+        return ( primitives[ slot ] != 0 ) == value;
+      }
+      return preserved instanceof Boolean && ( ( Boolean )preserved ).booleanValue() == value;
+    }
+    return false;
+  }
+
+  public void clear() {
+    if( size > 0 ) {
+      Arrays.fill( values, 0, size, null );
+      size = 0;
+    }
+  }
+
+  private int findSlot( int propertyId ) {
+    for( int i = 0; i < size; i++ ) {
+      if( propertyIds[ i ] == propertyId ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int ensureSlot( int propertyId ) {
+    int slot = findSlot( propertyId );
+    if( slot == -1 ) {
+      if( propertyIds == null ) {
+        propertyIds = new int[ INITIAL_CAPACITY ];
+        values = new Object[ INITIAL_CAPACITY ];
+        primitives = new int[ INITIAL_CAPACITY ];
+      } else if( size == propertyIds.length ) {
+        int capacity = size * 2;
+        propertyIds = Arrays.copyOf( propertyIds, capacity );
+        values = Arrays.copyOf( values, capacity );
+        primitives = Arrays.copyOf( primitives, capacity );
+      }
+      slot = size++;
+      propertyIds[ slot ] = propertyId;
+    }
+    return slot;
+  }
+
+}
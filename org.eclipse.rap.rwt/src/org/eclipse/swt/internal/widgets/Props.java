@@ -11,14 +11,19 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+
 // TODO: [fappel] don't know whether it is a good idea to have a global
 //                constant class for properties of different widgets...
 public final class Props {
 
   public static final String BOUNDS = "bounds";
+  public static final int BOUNDS_ID = getPropertyId( BOUNDS );
   public static final String MENU = "menu";
+  public static final int MENU_ID = getPropertyId( MENU );
   public static final String VISIBLE = "visible";
   public static final String ENABLED = "enabled";
+  public static final int ENABLED_ID = getPropertyId( ENABLED );
 
   public static final String TEXT = "text";
   public static final String IMAGE = "image";
@@ -11,9 +11,7 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
@@ -33,11 +31,14 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PreservedValues preservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
   private transient String variant;
+  private transient boolean valuesPreserved;
+  private transient boolean dirty;
+  private transient boolean dirtyDescendants;
 
   public WidgetRemoteAdapter( String id ) {
     this.id = id;
@@ -45,7 +46,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    preservedValues = new PreservedValues();
   }
 
   @Override
@@ -73,12 +74,41 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
-    preservedValues.put( propertyName, value );
+    preserve( PreservedValues.getPropertyId( propertyName ), value );
+  }
+
+  @Override
+  public void preserve( int propertyId, Object value ) {
+    markDirty();
+    preservedValues.put( propertyId, value );
+  }
+
+  public void preserve( int propertyId, int value ) {
+    markDirty();
+    preservedValues.put( propertyId, value );
+  }
+
+  public void preserve( int propertyId, boolean value ) {
+    markDirty();
+    preservedValues.put( propertyId, value );
   }
 
   @Override
   public Object getPreserved( String propertyName ) {
-    return preservedValues.get( propertyName );
+    return getPreserved( PreservedValues.getPropertyId( propertyName ) );
+  }
+
+  @Override
+  public Object getPreserved( int propertyId ) {
+    return preservedValues.get( propertyId );
+  }
+
+  public boolean isPreserved( int propertyId, int value ) {
+    return preservedValues.isEqual( propertyId, value );
+  }
+
+  public boolean isPreserved( int propertyId, boolean value ) {
+    return preservedValues.isEqual( propertyId, value );
   }
 
   public void preserveListeners( long eventList ) {
@@ -126,9 +156,46 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     preservedListeners = 0;
     data = null;
     variant = null;
+    valuesPreserved = false;
+  }
+
+  public void markValuesPreserved() {
+    valuesPreserved = true;
+  }
+
+  public boolean hasPreservedValues() {
+    return valuesPreserved;
+  }
+
+  public void markDirty() {
+    if( !dirty && DirtyWidgets.register( this ) ) {
+      dirty = true;
+      markParentDirtyDescendants();
+    }
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  public void markDirtyDescendants() {
+    if( !dirtyDescendants && DirtyWidgets.register( this ) ) {
+      dirtyDescendants = true;
+      markParentDirtyDescendants();
+    }
+  }
+
+  public boolean hasDirtyDescendants() {
+    return dirtyDescendants;
+  }
+
+  public void clearDirty() {
+    dirty = false;
+    dirtyDescendants = false;
   }
 
   protected void markPreserved( int index ) {
+    markDirty();
     preserved |= ( 1 << index );
   }
 
@@ -141,6 +208,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   public void addRenderRunnable( Runnable renderRunnable ) {
+    markDirty();
     if( renderRunnables == null ) {
       renderRunnables = new Runnable[] { renderRunnable };
     } else {
@@ -166,6 +234,15 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     }
   }
 
+  private void markParentDirtyDescendants() {
+    if( parent != null ) {
+      RemoteAdapter parentAdapter = parent.getAdapter( RemoteAdapter.class );
+      if( parentAdapter instanceof WidgetRemoteAdapter ) {
+        ( ( WidgetRemoteAdapter )parentAdapter ).markDirtyDescendants();
+      }
+    }
+  }
+
   private Object readResolve() {
     initialize();
     return this;
@@ -24,6 +24,7 @@ import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemot
 import static org.eclipse.rap.rwt.internal.util.MnemonicUtil.findMnemonicCharacterIndex;
 import static org.eclipse.rap.rwt.internal.util.MnemonicUtil.removeAmpersandControlCharacters;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -46,24 +47,31 @@ public final class ButtonLCA extends WidgetLCA<Button> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_GRAYED = "grayed";
+  private static final int PROP_GRAYED_ID = getPropertyId( PROP_GRAYED );
   private static final String PROP_ALIGNMENT = "alignment";
+  private static final int PROP_ALIGNMENT_ID = getPropertyId( PROP_ALIGNMENT );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
+  private static final int PROP_MARKUP_ENABLED_ID = getPropertyId( PROP_MARKUP_ENABLED );
   private static final String PROP_BADGE = "badge";
+  private static final int PROP_BADGE_ID = getPropertyId( PROP_BADGE );
 
   private static final String DEFAULT_ALIGNMENT = "center";
 
   @Override
   public void preserveValues( Button button ) {
-    preserveProperty( button, PROP_TEXT, button.getText() );
-    preserveProperty( button, PROP_IMAGE, button.getImage() );
-    preserveProperty( button, PROP_SELECTION, Boolean.valueOf( button.getSelection() ) );
-    preserveProperty( button, PROP_GRAYED, Boolean.valueOf( button.getGrayed() ) );
-    preserveProperty( button, PROP_ALIGNMENT, getAlignment( button ) );
-    preserveProperty( button, PROP_BADGE, getBadge( button ) );
+    preserveProperty( button, PROP_TEXT_ID, button.getText() );
+    preserveProperty( button, PROP_IMAGE_ID, button.getImage() );
+    preserveProperty( button, PROP_SELECTION_ID, Boolean.valueOf( button.getSelection() ) );
+    preserveProperty( button, PROP_GRAYED_ID, Boolean.valueOf( button.getGrayed() ) );
+    preserveProperty( button, PROP_ALIGNMENT_ID, getAlignment( button ) );
+    preserveProperty( button, PROP_BADGE_ID, getBadge( button ) );
   }
 
   @Override
@@ -72,7 +80,7 @@ public final class ButtonLCA extends WidgetLCA<Button> {
     remoteObject.setHandler( new ButtonOperationHandler( button ) );
     remoteObject.set( "parent", getId( button.getParent() ) );
     remoteObject.set( "style", createJsonArray( getStyles( button, ALLOWED_STYLES ) ) );
-    renderProperty( button, PROP_MARKUP_ENABLED, isMarkupEnabledFor( button ), false );
+    renderProperty( button, PROP_MARKUP_ENABLED_ID, isMarkupEnabledFor( button ), false );
   }
 
   @Override
@@ -81,11 +89,11 @@ public final class ButtonLCA extends WidgetLCA<Button> {
     WidgetLCAUtil.renderCustomVariant( button );
     renderText( button );
     renderMnemonicIndex( button );
-    renderProperty( button, PROP_IMAGE, button.getImage(), null );
-    renderProperty( button, PROP_ALIGNMENT, getAlignment( button ), DEFAULT_ALIGNMENT );
-    renderProperty( button, PROP_SELECTION, button.getSelection(), false );
-    renderProperty( button, PROP_GRAYED, button.getGrayed(), false );
-    renderProperty( button, PROP_BADGE, getBadge( button ), null );
+    renderProperty( button, PROP_IMAGE_ID, button.getImage(), null );
+    renderProperty( button, PROP_ALIGNMENT_ID, getAlignment( button ), DEFAULT_ALIGNMENT );
+    renderProperty( button, PROP_SELECTION_ID, button.getSelection(), false );
+    renderProperty( button, PROP_GRAYED_ID, button.getGrayed(), false );
+    renderProperty( button, PROP_BADGE_ID, getBadge( button ), null );
     renderListenSelection( button );
     renderClientListeners( button );
   }
@@ -115,7 +123,7 @@ public final class ButtonLCA extends WidgetLCA<Button> {
 
   private static void renderText( Button button ) {
     String newValue = button.getText();
-    if( hasChanged( button, PROP_TEXT, newValue, "" ) ) {
+    if( hasChanged( button, PROP_TEXT_ID, newValue, "" ) ) {
       String text = removeAmpersandControlCharacters( newValue );
       getRemoteObject( button ).set( PROP_TEXT, text );
     }
@@ -123,7 +131,7 @@ public final class ButtonLCA extends WidgetLCA<Button> {
 
   private static void renderMnemonicIndex( Button button ) {
     String text = button.getText();
-    if( hasChanged( button, PROP_TEXT, text, "" ) ) {
+    if( hasChanged( button, PROP_TEXT_ID, text, "" ) ) {
       int mnemonicIndex = findMnemonicCharacterIndex( text );
       if( mnemonicIndex != -1 ) {
         getRemoteObject( button ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -17,6 +17,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 import static org.eclipse.swt.internal.widgets.canvaskit.GCOperationWriter.getGcId;
 
 import java.io.IOException;
@@ -40,12 +41,13 @@ public final class CanvasLCA extends WidgetLCA<Canvas> {
   private static final String TYPE_GC = "rwt.widgets.GC";
   private static final String[] ALLOWED_STYLES = { "NO_RADIO_GROUP", "BORDER" };
   private static final String PROP_CLIENT_AREA = "clientArea";
+  private static final int PROP_CLIENT_AREA_ID = getPropertyId( PROP_CLIENT_AREA );
 
   @Override
   public void preserveValues( Canvas canvas ) {
     WidgetLCAUtil.preserveBackgroundGradient( canvas );
     WidgetLCAUtil.preserveRoundedBorder( canvas );
-    WidgetLCAUtil.preserveProperty( canvas, PROP_CLIENT_AREA, canvas.getClientArea() );
+    WidgetLCAUtil.preserveProperty( canvas, PROP_CLIENT_AREA_ID, canvas.getClientArea() );
   }
 
   @Override
@@ -91,7 +93,7 @@ public final class CanvasLCA extends WidgetLCA<Canvas> {
   }
 
   public static void renderClientArea( Canvas canvas ) {
-    renderProperty( canvas, PROP_CLIENT_AREA, canvas.getClientArea(), null );
+    renderProperty( canvas, PROP_CLIENT_AREA_ID, canvas.getClientArea(), null );
   }
 
   private CanvasLCA() {
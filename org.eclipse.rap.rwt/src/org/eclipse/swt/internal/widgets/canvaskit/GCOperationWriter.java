@@ -12,6 +12,7 @@ package org.eclipse.swt.internal.widgets.canvaskit;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.remote.JsonMapping.toJson;
 
 import org.eclipse.rap.json.JsonArray;
@@ -38,6 +39,7 @@ import org.eclipse.swt.internal.graphics.GCOperation.SetClipping;
 import org.eclipse.swt.internal.graphics.GCOperation.SetProperty;
 import org.eclipse.swt.internal.graphics.GCOperation.SetTransform;
 import org.eclipse.swt.internal.graphics.ImageFactory;
+import org.eclipse.swt.internal.graphics.InternalImage;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Widget;
 
@@ -50,6 +52,7 @@ final class GCOperationWriter {
   private int lineWidth;
   private RGB foreground;
   private RGB background;
+  private float transformScale;
 
   GCOperationWriter( Control control ) {
     this.control = control;
@@ -58,6 +61,7 @@ final class GCOperationWriter {
   void initialize() {
     if( !initialized ) {
       lineWidth = 1;
+      transformScale = 1;
       foreground = control.getForeground().getRGB();
       background = control.getBackground().getRGB();
       Rectangle paintRect = getPaintRect();
@@ -262,24 +266,49 @@ final class GCOperationWriter {
   }
 
   private void drawImage( DrawImage operation ) {
-    String path = ImageFactory.getImagePath( operation.image );
     if( operation.simple ) {
+      String path = ImageFactory.getImagePath( operation.image );
       addClientOperation( "drawImage", path, operation.destX, operation.destY );
     } else {
+      InternalImage source = operation.image.internalImage;
+      InternalImage image = findReducedImage( operation );
+      /* source coordinates refer to the pixels of the image that is sent */
+      float scaleX = image.getBounds().width / ( float )source.getBounds().width;
+      float scaleY = image.getBounds().height / ( float )source.getBounds().height;
       addClientOperation(
         "drawImage",
-        path,
-        operation.srcX,
-        operation.srcY,
-        operation.srcWidth,
-        operation.srcHeight,
+        ImageFactory.getImagePath( image ),
+        operation.srcX * scaleX,
+        operation.srcY * scaleY,
+        operation.srcWidth * scaleX,
+        operation.srcHeight * scaleY,
         operation.destX,
         operation.destY,
         operation.destWidth,
         operation.destHeight
       );
     }
+  }
 
+  /*
+   * An image that is drawn smaller than its size is replaced with a reduced variant that still
+   * covers the drawn size in device pixels, the browser would discard the extra pixels anyway.
+   */
+  private InternalImage findReducedImage( DrawImage operation ) {
+    InternalImage source = operation.image.internalImage;
+    InternalImage result = source;
+    if( operation.srcWidth > 0 && operation.srcHeight > 0 ) {
+      Rectangle bounds = source.getBounds();
+      float drawnScaleX = operation.destWidth * transformScale / operation.srcWidth;
+      float drawnScaleY = operation.destHeight * transformScale / operation.srcHeight;
+      int minWidth = ( int )Math.ceil( bounds.width * drawnScaleX );
+      int minHeight = ( int )Math.ceil( bounds.height * drawnScaleY );
+      if( minWidth < bounds.width && minHeight < bounds.height ) {
+        result = getApplicationContext().getImageVariantFactory()
+          .findReducedVariant( source, minWidth, minHeight );
+      }
+    }
+    return result;
   }
 
   private void drawText( DrawText operation ) {
@@ -387,7 +416,11 @@ final class GCOperationWriter {
   }
 
   private void setTransform( SetTransform operation ) {
-    addClientOperation( "setTransform", operation.elements );
+    float[] elements = operation.elements;
+    float scaleX = ( float )Math.hypot( elements[ 0 ], elements[ 1 ] );
+    float scaleY = ( float )Math.hypot( elements[ 2 ], elements[ 3 ] );
+    transformScale = Math.max( scaleX, scaleY );
+    addClientOperation( "setTransform", elements );
   }
 
   private void renderPath( byte[] types, float[] points ) {
@@ -23,6 +23,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -45,13 +46,21 @@ public class ComboLCA extends WidgetLCA<Combo> {
 
   // Property names for preserve-value facility
   static final String PROP_ITEMS = "items";
+  static final int PROP_ITEMS_ID = getPropertyId( PROP_ITEMS );
   static final String PROP_TEXT = "text";
+  static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   static final String PROP_SELECTION_INDEX = "selectionIndex";
+  static final int PROP_SELECTION_INDEX_ID = getPropertyId( PROP_SELECTION_INDEX );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_TEXT_LIMIT = "textLimit";
+  static final int PROP_TEXT_LIMIT_ID = getPropertyId( PROP_TEXT_LIMIT );
   static final String PROP_LIST_VISIBLE = "listVisible";
+  static final int PROP_LIST_VISIBLE_ID = getPropertyId( PROP_LIST_VISIBLE );
   static final String PROP_EDITABLE = "editable";
+  static final int PROP_EDITABLE_ID = getPropertyId( PROP_EDITABLE );
   static final String PROP_VISIBLE_ITEM_COUNT = "visibleItemCount";
+  static final int PROP_VISIBLE_ITEM_COUNT_ID = getPropertyId( PROP_VISIBLE_ITEM_COUNT );
 
   // Default values
   private static final String[] DEFAUT_ITEMS = new String[ 0 ];
@@ -61,14 +70,15 @@ public class ComboLCA extends WidgetLCA<Combo> {
 
   @Override
   public void preserveValues( Combo combo ) {
-    preserveProperty( combo, PROP_ITEMS, combo.getItems() );
-    preserveProperty( combo, PROP_SELECTION_INDEX, Integer.valueOf( combo.getSelectionIndex() ) );
-    preserveProperty( combo, PROP_SELECTION, combo.getSelection() );
-    preserveProperty( combo, PROP_TEXT_LIMIT, getTextLimit( combo ) );
-    preserveProperty( combo, PROP_VISIBLE_ITEM_COUNT, combo.getVisibleItemCount() );
-    preserveProperty( combo, PROP_TEXT, combo.getText() );
-    preserveProperty( combo, PROP_LIST_VISIBLE, combo.getListVisible() );
-    preserveProperty( combo, PROP_EDITABLE, Boolean.valueOf( isEditable( combo ) ) );
+    preserveProperty( combo, PROP_ITEMS_ID, combo.getItems() );
+    preserveProperty( combo, PROP_SELECTION_INDEX_ID,
+                      Integer.valueOf( combo.getSelectionIndex() ) );
+    preserveProperty( combo, PROP_SELECTION_ID, combo.getSelection() );
+    preserveProperty( combo, PROP_TEXT_LIMIT_ID, getTextLimit( combo ) );
+    preserveProperty( combo, PROP_VISIBLE_ITEM_COUNT_ID, combo.getVisibleItemCount() );
+    preserveProperty( combo, PROP_TEXT_ID, combo.getText() );
+    preserveProperty( combo, PROP_LIST_VISIBLE_ID, combo.getListVisible() );
+    preserveProperty( combo, PROP_EDITABLE_ID, Boolean.valueOf( isEditable( combo ) ) );
   }
 
   @Override
@@ -102,27 +112,27 @@ public class ComboLCA extends WidgetLCA<Combo> {
 
   private static void renderVisibleItemCount( Combo combo ) {
     int defValue = DEFAULT_VISIBLE_ITEM_COUNT;
-    renderProperty( combo, PROP_VISIBLE_ITEM_COUNT, combo.getVisibleItemCount(), defValue );
+    renderProperty( combo, PROP_VISIBLE_ITEM_COUNT_ID, combo.getVisibleItemCount(), defValue );
   }
 
   private static void renderItems( Combo combo ) {
-    renderProperty( combo, PROP_ITEMS, combo.getItems(), DEFAUT_ITEMS );
+    renderProperty( combo, PROP_ITEMS_ID, combo.getItems(), DEFAUT_ITEMS );
   }
 
   private static void renderListVisible( Combo combo ) {
-    renderProperty( combo, PROP_LIST_VISIBLE, combo.getListVisible(), false );
+    renderProperty( combo, PROP_LIST_VISIBLE_ID, combo.getListVisible(), false );
   }
 
   private static void renderSelectionIndex( Combo combo ) {
     Integer newSelectionIndex = Integer.valueOf( combo.getSelectionIndex() );
     boolean selectionChanged
-      = hasChanged( combo, PROP_SELECTION_INDEX, newSelectionIndex, DEFAULT_SELECTION_INDEX );
+      = hasChanged( combo, PROP_SELECTION_INDEX_ID, newSelectionIndex, DEFAULT_SELECTION_INDEX );
     // The 'itemsChanged' statement covers the following use case:
     // combo.add( "a" );  combo.select( 0 );
     // -- in a subsequent request --
     // combo.removeAll();  combo.add( "b" );  combo.select( 0 );
     // When only examining selectionIndex, a change cannot be determined
-    boolean itemsChanged = hasChanged( combo, PROP_ITEMS, combo.getItems(), DEFAUT_ITEMS );
+    boolean itemsChanged = hasChanged( combo, PROP_ITEMS_ID, combo.getItems(), DEFAUT_ITEMS );
     boolean isInitialized = WidgetUtil.getAdapter( combo ).isInitialized();
     if( selectionChanged || ( itemsChanged && isInitialized ) ) {
       getRemoteObject( combo ).set( PROP_SELECTION_INDEX, newSelectionIndex.intValue() );
@@ -130,21 +140,21 @@ public class ComboLCA extends WidgetLCA<Combo> {
   }
 
   private static void renderEditable( Combo combo ) {
-    renderProperty( combo, PROP_EDITABLE, isEditable( combo ), true );
+    renderProperty( combo, PROP_EDITABLE_ID, isEditable( combo ), true );
   }
 
   private static void renderText( Combo combo ) {
     if( isEditable( combo ) ) {
-      renderProperty( combo, PROP_TEXT, combo.getText(), "" );
+      renderProperty( combo, PROP_TEXT_ID, combo.getText(), "" );
     }
   }
 
   private static void renderSelection( Combo combo ) {
-    renderProperty( combo, PROP_SELECTION, combo.getSelection(), DEFAULT_SELECTION );
+    renderProperty( combo, PROP_SELECTION_ID, combo.getSelection(), DEFAULT_SELECTION );
   }
 
   private static void renderTextLimit( Combo combo ) {
-    renderProperty( combo, PROP_TEXT_LIMIT, getTextLimit( combo ), null );
+    renderProperty( combo, PROP_TEXT_LIMIT_ID, getTextLimit( combo ), null );
   }
 
   private static boolean isEditable( Combo combo ) {
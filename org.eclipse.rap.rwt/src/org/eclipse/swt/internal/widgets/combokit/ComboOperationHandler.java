@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_MOD
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
 import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -33,7 +34,9 @@ public class ComboOperationHandler extends ControlOperationHandler<Combo> {
   private static final String PROP_SELECTION_INDEX = "selectionIndex";
   private static final String PROP_LIST_VISIBLE = "listVisible";
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   public ComboOperationHandler( Combo combo ) {
     super( combo );
@@ -104,7 +107,7 @@ public class ComboOperationHandler extends ControlOperationHandler<Combo> {
             if( !combo.isDisposed() ) {
               setText( combo, text );
               // since text is set in process action, preserved values have to be replaced
-              getAdapter( combo ).preserve( PROP_TEXT, text );
+              getAdapter( combo ).preserve( PROP_TEXT_ID, text );
             }
          }
         } );
@@ -131,7 +134,7 @@ public class ComboOperationHandler extends ControlOperationHandler<Combo> {
             if( !combo.isDisposed() ) {
               combo.setSelection( selection );
               // since selection is set in process action, preserved values have to be replaced
-              getAdapter( combo ).preserve( PROP_SELECTION, combo.getSelection() );
+              getAdapter( combo ).preserve( PROP_SELECTION_ID, combo.getSelection() );
             }
           }
         } );
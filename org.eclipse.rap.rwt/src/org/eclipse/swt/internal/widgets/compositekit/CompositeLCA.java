@@ -11,12 +11,13 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.compositekit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderClientListeners;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -34,12 +35,13 @@ public class CompositeLCA extends WidgetLCA<Composite> {
   private static final String TYPE = "rwt.widgets.Composite";
   private static final String[] ALLOWED_STYLES = { "NO_RADIO_GROUP", "BORDER" };
   private static final String PROP_CLIENT_AREA = "clientArea";
+  private static final int PROP_CLIENT_AREA_ID = getPropertyId( PROP_CLIENT_AREA );
 
   @Override
   public void preserveValues( Composite composite ) {
     WidgetLCAUtil.preserveBackgroundGradient( composite );
     WidgetLCAUtil.preserveRoundedBorder( composite );
-    WidgetLCAUtil.preserveProperty( composite, PROP_CLIENT_AREA, composite.getClientArea() );
+    WidgetLCAUtil.preserveProperty( composite, PROP_CLIENT_AREA_ID, composite.getClientArea() );
   }
 
   @Override
@@ -61,7 +63,7 @@ public class CompositeLCA extends WidgetLCA<Composite> {
   }
 
   public void renderClientArea( Composite composite ) {
-    renderProperty( composite, PROP_CLIENT_AREA, composite.getClientArea(), null );
+    renderProperty( composite, PROP_CLIENT_AREA_ID, composite.getClientArea(), null );
   }
 
   private CompositeLCA() {
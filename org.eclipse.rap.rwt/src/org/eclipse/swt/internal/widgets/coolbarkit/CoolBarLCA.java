@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -38,11 +39,12 @@ public class CoolBarLCA extends WidgetLCA<CoolBar> {
   };
 
   public static final String PROP_LOCKED = "locked";
+  public static final int PROP_LOCKED_ID = getPropertyId( PROP_LOCKED );
 
   @Override
   public void preserveValues( CoolBar coolBar ) {
     RemoteAdapter adapter = WidgetUtil.getAdapter( coolBar );
-    adapter.preserve( PROP_LOCKED, Boolean.valueOf( coolBar.getLocked() ) );
+    adapter.preserve( PROP_LOCKED_ID, Boolean.valueOf( coolBar.getLocked() ) );
   }
 
   @Override
@@ -56,7 +58,7 @@ public class CoolBarLCA extends WidgetLCA<CoolBar> {
   @Override
   public void renderChanges( CoolBar coolBar ) throws IOException {
     ControlLCAUtil.renderChanges( coolBar );
-    renderProperty( coolBar, PROP_LOCKED ,coolBar.getLocked(), false );
+    renderProperty( coolBar, PROP_LOCKED_ID ,coolBar.getLocked(), false );
     WidgetLCAUtil.renderCustomVariant( coolBar );
   }
 
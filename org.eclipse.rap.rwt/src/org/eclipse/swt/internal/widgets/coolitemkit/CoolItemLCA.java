@@ -17,6 +17,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -35,6 +36,7 @@ public class CoolItemLCA extends WidgetLCA<CoolItem> {
   private static final String[] ALLOWED_STYLES = { "DROP_DOWN", "VERTICAL" };
 
   static final String PROP_CONTROL = "control";
+  static final int PROP_CONTROL_ID = getPropertyId( PROP_CONTROL );
 
   /* (intentionally not JavaDoc'ed)
    * Unnecesary to call ItemLCAUtil.preserve, CoolItem does neither use text
@@ -42,8 +44,8 @@ public class CoolItemLCA extends WidgetLCA<CoolItem> {
    */
   @Override
   public void preserveValues( CoolItem item ) {
-    preserveProperty( item, PROP_CONTROL, item.getControl() );
-    preserveProperty( item, Props.BOUNDS, item.getBounds() );
+    preserveProperty( item, PROP_CONTROL_ID, item.getControl() );
+    preserveProperty( item, Props.BOUNDS_ID, item.getBounds() );
   }
 
   @Override
@@ -57,7 +59,7 @@ public class CoolItemLCA extends WidgetLCA<CoolItem> {
   @Override
   public void renderChanges( CoolItem item ) throws IOException {
     WidgetLCAUtil.renderBounds( item, item.getBounds() );
-    renderProperty( item, PROP_CONTROL, item.getControl(), null );
+    renderProperty( item, PROP_CONTROL_ID, item.getControl(), null );
     WidgetLCAUtil.renderCustomVariant( item );
     WidgetLCAUtil.renderData( item );
   }
@@ -88,7 +88,7 @@ public class CoolItemOperationHandler extends WidgetOperationHandler<CoolItem> {
       //      changed' and that mark could be evaluated by writeBounds.
       //      A more flexible writeBounds implementation on WidgetLCAUtil is
       //      necessary therefore.
-      getAdapter( coolItem ).preserve( Props.BOUNDS, null );
+      getAdapter( coolItem ).preserve( Props.BOUNDS_ID, null );
     }
   }
 
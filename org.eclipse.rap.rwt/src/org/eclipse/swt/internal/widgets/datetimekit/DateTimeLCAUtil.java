@@ -21,6 +21,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.util.Date;
 
@@ -50,9 +51,13 @@ final class DateTimeLCAUtil {
   private static final String PROP_DATE_SEPARATOR = "dateSeparator";
   private static final String PROP_DATE_PATTERN = "datePattern";
   private static final String PROP_SUB_WIDGETS_BOUNDS = "subWidgetsBounds";
+  private static final int PROP_SUB_WIDGETS_BOUNDS_ID = getPropertyId( PROP_SUB_WIDGETS_BOUNDS );
   private static final String PROP_MINIMUM = "minimum";
+  private static final int PROP_MINIMUM_ID = getPropertyId( PROP_MINIMUM );
   private static final String PROP_MAXIMUM = "maximum";
+  private static final int PROP_MAXIMUM_ID = getPropertyId( PROP_MAXIMUM );
   private static final String PROP_DATE = "date";
+  private static final int PROP_DATE_ID = getPropertyId( PROP_DATE );
 
   private DateTimeLCAUtil() {
     // prevent instantiation
@@ -108,39 +113,39 @@ final class DateTimeLCAUtil {
 
   static void preserveDate( DateTime dateTime ) {
     int[] date = { dateTime.getYear(), dateTime.getMonth(), dateTime.getDay() };
-    preserveProperty( dateTime, PROP_DATE, date );
+    preserveProperty( dateTime, PROP_DATE_ID, date );
   }
 
   static void renderDate( DateTime dateTime ) {
     int[] date = { dateTime.getYear(), dateTime.getMonth(), dateTime.getDay() };
-    renderProperty( dateTime, PROP_DATE, date, new int[ 0 ] );
+    renderProperty( dateTime, PROP_DATE_ID, date, new int[ 0 ] );
   }
 
   static void preserveMinMaxLimit( DateTime dateTime ) {
-    preserveProperty( dateTime, PROP_MINIMUM, getMinLimit( dateTime ) );
-    preserveProperty( dateTime, PROP_MAXIMUM, getMaxLimit( dateTime ) );
+    preserveProperty( dateTime, PROP_MINIMUM_ID, getMinLimit( dateTime ) );
+    preserveProperty( dateTime, PROP_MAXIMUM_ID, getMaxLimit( dateTime ) );
   }
 
   static void renderMinMaxLimit( DateTime dateTime ) {
     RemoteObject remoteObject = getRemoteObject( dateTime );
     Long minimum = getMinLimit( dateTime );
-    if( hasChanged( dateTime, PROP_MINIMUM, minimum, null ) ) {
+    if( hasChanged( dateTime, PROP_MINIMUM_ID, minimum, null ) ) {
       JsonValue value = minimum == null ? JsonValue.NULL : JsonValue.valueOf( minimum.longValue() );
       remoteObject.set( PROP_MINIMUM, value );
     }
     Long maximum = getMaxLimit( dateTime );
-    if( hasChanged( dateTime, PROP_MAXIMUM, maximum, null ) ) {
+    if( hasChanged( dateTime, PROP_MAXIMUM_ID, maximum, null ) ) {
       JsonValue value = maximum == null ? JsonValue.NULL : JsonValue.valueOf( maximum.longValue() );
       remoteObject.set( PROP_MAXIMUM, value );
     }
   }
 
   static void preserveSubWidgetsBounds( DateTime dateTime, SubWidgetBounds[] subWidgetBounds ) {
-    preserveProperty( dateTime, PROP_SUB_WIDGETS_BOUNDS, subWidgetBounds );
+    preserveProperty( dateTime, PROP_SUB_WIDGETS_BOUNDS_ID, subWidgetBounds );
   }
 
   static void renderSubWidgetsBounds( DateTime dateTime, SubWidgetBounds[] subWidgetBounds ) {
-    if( hasChanged( dateTime, PROP_SUB_WIDGETS_BOUNDS, subWidgetBounds ) ) {
+    if( hasChanged( dateTime, PROP_SUB_WIDGETS_BOUNDS_ID, subWidgetBounds ) ) {
       JsonArray bounds = new JsonArray();
       for( int i = 0; i < subWidgetBounds.length; i++ ) {
         bounds.add( new JsonArray().add( subWidgetBounds[ i ].id )
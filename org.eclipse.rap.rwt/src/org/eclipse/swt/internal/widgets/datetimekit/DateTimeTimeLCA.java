@@ -13,6 +13,7 @@ package org.eclipse.swt.internal.widgets.datetimekit;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -26,14 +27,17 @@ final class DateTimeTimeLCA extends AbstractDateTimeLCADelegate {
   static final DateTimeTimeLCA INSTANCE = new DateTimeTimeLCA();
 
   private static final String PROP_HOURS = "hours";
+  private static final int PROP_HOURS_ID = getPropertyId( PROP_HOURS );
   private static final String PROP_MINUTES = "minutes";
+  private static final int PROP_MINUTES_ID = getPropertyId( PROP_MINUTES );
   private static final String PROP_SECONDS = "seconds";
+  private static final int PROP_SECONDS_ID = getPropertyId( PROP_SECONDS );
 
   @Override
   void preserveValues( DateTime dateTime ) {
-    preserveProperty( dateTime, PROP_HOURS, dateTime.getHours() );
-    preserveProperty( dateTime, PROP_MINUTES, dateTime.getMinutes() );
-    preserveProperty( dateTime, PROP_SECONDS, dateTime.getSeconds() );
+    preserveProperty( dateTime, PROP_HOURS_ID, dateTime.getHours() );
+    preserveProperty( dateTime, PROP_MINUTES_ID, dateTime.getMinutes() );
+    preserveProperty( dateTime, PROP_SECONDS_ID, dateTime.getSeconds() );
     DateTimeLCAUtil.preserveSubWidgetsBounds( dateTime, getSubWidgetsBounds( dateTime ) );
     DateTimeLCAUtil.preserveMinMaxLimit( dateTime );
   }
@@ -46,9 +50,9 @@ final class DateTimeTimeLCA extends AbstractDateTimeLCADelegate {
   @Override
   void renderChanges( DateTime dateTime ) throws IOException {
     DateTimeLCAUtil.renderChanges( dateTime );
-    renderProperty( dateTime, PROP_HOURS, dateTime.getHours(), SWT.DEFAULT );
-    renderProperty( dateTime, PROP_MINUTES, dateTime.getMinutes(), SWT.DEFAULT );
-    renderProperty( dateTime, PROP_SECONDS, dateTime.getSeconds(), SWT.DEFAULT );
+    renderProperty( dateTime, PROP_HOURS_ID, dateTime.getHours(), SWT.DEFAULT );
+    renderProperty( dateTime, PROP_MINUTES_ID, dateTime.getMinutes(), SWT.DEFAULT );
+    renderProperty( dateTime, PROP_SECONDS_ID, dateTime.getSeconds(), SWT.DEFAULT );
     DateTimeLCAUtil.renderSubWidgetsBounds( dateTime, getSubWidgetsBounds( dateTime ) );
     DateTimeLCAUtil.renderMinMaxLimit( dateTime );
   }
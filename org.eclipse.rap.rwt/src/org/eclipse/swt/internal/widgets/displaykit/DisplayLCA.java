@@ -20,6 +20,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_RES
 import static org.eclipse.rap.rwt.internal.protocol.ProtocolUtil.handleOperation;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -29,7 +30,9 @@ import java.util.Map;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.client.service.ExitConfirmation;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
@@ -60,11 +63,15 @@ import org.eclipse.swt.widgets.Widget;
 public class DisplayLCA {
 
   static final String PROP_FOCUS_CONTROL = "focusControl";
+  static final int PROP_FOCUS_CONTROL_ID = getPropertyId( PROP_FOCUS_CONTROL );
   static final String PROP_EXIT_CONFIRMATION = "exitConfirmation";
+  static final int PROP_EXIT_CONFIRMATION_ID = getPropertyId( PROP_EXIT_CONFIRMATION );
   private static final String METHOD_BEEP = "beep";
   private static final String PROP_RESIZE_LISTENER = "listener_Resize";
+  private static final int PROP_RESIZE_LISTENER_ID = getPropertyId( PROP_RESIZE_LISTENER );
 
   public void readData( Display display ) {
+    getDisplayAdapter( display ).setChangeTracking( false );
     handleOperations( display );
     visitWidgets( display );
     DNDSupport.handleOperations();
@@ -72,33 +79,34 @@ public class DisplayLCA {
   }
 
   public void preserveValues( Display display ) {
-    RemoteAdapter adapter = getAdapter( display );
-    adapter.preserve( PROP_FOCUS_CONTROL, display.getFocusControl() );
-    adapter.preserve( PROP_EXIT_CONFIRMATION, getExitConfirmation() );
-    adapter.preserve( PROP_RESIZE_LISTENER, Boolean.valueOf( hasResizeListener( display ) ) );
+    clearPreservedValues();
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( display );
+    adapter.clearPreserved();
+    adapter.preserve( PROP_FOCUS_CONTROL_ID, display.getFocusControl() );
+    adapter.preserve( PROP_EXIT_CONFIRMATION_ID, getExitConfirmation() );
+    adapter.preserve( PROP_RESIZE_LISTENER_ID, Boolean.valueOf( hasResizeListener( display ) ) );
     ActiveKeysUtil.preserveActiveKeys( display );
     ActiveKeysUtil.preserveCancelKeys( display );
     ActiveKeysUtil.preserveMnemonicActivator( display );
     if( adapter.isInitialized() ) {
+      boolean trackChanges = RWTProperties.isChangeTrackingEnabled();
+      PreserveVisitor visitor = new PreserveVisitor( trackChanges );
       for( Shell shell : getShells( display ) ) {
-        WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-          @Override
-          public boolean visit( Widget widget ) {
-            getLCA( widget ).preserveValues( widget );
-            return true;
-          }
-        } );
+        WidgetTreeUtil.accept( shell, visitor );
       }
+      getDisplayAdapter( display ).setChangeTracking( trackChanges );
     }
   }
 
   public void render( Display display ) throws IOException {
+    boolean trackChanges = getDisplayAdapter( display ).isChangeTracking();
+    getDisplayAdapter( display ).setChangeTracking( false );
     renderOverflow( display );
     renderReparentControls();
     renderDisposeWidgets();
     renderExitConfirmation( display );
     renderEnableUiTests( display );
-    renderShells( display );
+    renderShells( display, trackChanges );
     renderFocus( display );
     renderBeep( display );
     renderResizeListener( display );
@@ -114,15 +122,7 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
-    }
+    DirtyWidgets.clear();
   }
 
   private static void handleOperations( Display display ) {
@@ -169,8 +169,14 @@ public class DisplayLCA {
     return Collections.emptyMap();
   }
 
-  private static void renderShells( Display display ) throws IOException {
-    RenderVisitor visitor = new RenderVisitor();
+  private static void clearPreservedValues() {
+    for( WidgetRemoteAdapter adapter : DirtyWidgets.getAll() ) {
+      adapter.clearPreserved();
+    }
+  }
+
+  private static void renderShells( Display display, boolean trackChanges ) throws IOException {
+    RenderVisitor visitor = new RenderVisitor( trackChanges );
     for( Shell shell : getShells( display ) ) {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
@@ -180,7 +186,7 @@ public class DisplayLCA {
   private static void renderExitConfirmation( Display display ) {
     String exitConfirmation = getExitConfirmation();
     RemoteAdapter adapter = getAdapter( display );
-    Object oldExitConfirmation = adapter.getPreserved( PROP_EXIT_CONFIRMATION );
+    Object oldExitConfirmation = adapter.getPreserved( PROP_EXIT_CONFIRMATION_ID );
     boolean hasChanged = exitConfirmation == null
                        ? oldExitConfirmation != null
                        : !exitConfirmation.equals( oldExitConfirmation );
@@ -216,7 +222,7 @@ public class DisplayLCA {
     if( !display.isDisposed() ) {
       IDisplayAdapter displayAdapter = getDisplayAdapter( display );
       RemoteAdapter widgetAdapter = getAdapter( display );
-      Object oldValue = widgetAdapter.getPreserved( PROP_FOCUS_CONTROL );
+      Object oldValue = widgetAdapter.getPreserved( PROP_FOCUS_CONTROL_ID );
       if(    !widgetAdapter.isInitialized()
           || oldValue != display.getFocusControl()
           || displayAdapter.isFocusInvalidated() )
@@ -240,7 +246,7 @@ public class DisplayLCA {
 
   private static void renderResizeListener( Display display ) {
     RemoteAdapter adapter = getAdapter( display );
-    Boolean oldValue = ( Boolean )adapter.getPreserved( PROP_RESIZE_LISTENER );
+    Boolean oldValue = ( Boolean )adapter.getPreserved( PROP_RESIZE_LISTENER_ID );
     if( oldValue == null ) {
       oldValue = Boolean.FALSE;
     }
@@ -291,21 +297,66 @@ public class DisplayLCA {
     return getDisplayAdapter( display ).getShells();
   }
 
+  /*
+   * Returns whether the children of the given widget need to be visited. When changes are
+   * tracked, the subtree of an initialized control is skipped unless a widget within it has been
+   * marked as dirty. Items, menus and other non-control widgets are always visited once their
+   * control is visited, as their parent chain does not necessarily reflect the tree structure.
+   */
+  private static boolean needsVisit( Widget widget, boolean trackChanges ) {
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+    return    !trackChanges
+           || !( widget instanceof Control )
+           || !adapter.isInitialized()
+           || adapter.hasDirtyDescendants();
+  }
+
+  private static final class PreserveVisitor implements WidgetTreeVisitor {
+
+    private final boolean trackChanges;
+
+    PreserveVisitor( boolean trackChanges ) {
+      this.trackChanges = trackChanges;
+    }
+
+    @Override
+    public boolean visit( Widget widget ) {
+      WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+      if( !trackChanges || adapter.isDirty() ) {
+        adapter.markValuesPreserved();
+        getLCA( widget ).preserveValues( widget );
+      }
+      return needsVisit( widget, trackChanges );
+    }
+
+  }
+
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
+    private final boolean trackChanges;
     private IOException ioProblem;
 
+    RenderVisitor( boolean trackChanges ) {
+      this.trackChanges = trackChanges;
+    }
+
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
-      try {
-        render( widget );
-        runRenderRunnables( widget );
-      } catch( IOException ioe ) {
-        ioProblem = ioe;
-        return false;
+      WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )getAdapter( widget );
+      if( !trackChanges || adapter.isDirty() || !adapter.isInitialized() ) {
+        if( trackChanges ) {
+          DirtyWidgets.preserveValues( widget );
+        }
+        try {
+          render( widget );
+          runRenderRunnables( widget );
+        } catch( IOException ioe ) {
+          ioProblem = ioe;
+          return false;
+        }
       }
-      return true;
+      return needsVisit( widget, trackChanges );
     }
 
     private void reThrowProblem() throws IOException {
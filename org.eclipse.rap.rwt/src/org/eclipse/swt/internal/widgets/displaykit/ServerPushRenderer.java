@@ -10,6 +10,9 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.displaykit;
 
+import static org.eclipse.rap.rwt.internal.serverpush.ServerPushServiceHandler.TRANSPORT_EVENT_STREAM;
+
+import org.eclipse.rap.rwt.application.Application.ServerPushTransport;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
@@ -20,6 +23,7 @@ public class ServerPushRenderer {
 
   public static final String REMOTE_OBJECT_ID = "rwt.client.ServerPush";
   private static final String PROP_ACTIVE = "active";
+  private static final String PROP_TRANSPORT = "transport";
   private static final String ATTR_PRESERVED_ACTIVATION
     = ServerPushRenderer.class.getName() + ".preservedActivation";
 
@@ -65,7 +69,15 @@ public class ServerPushRenderer {
 
   void renderActivation( boolean activation ) {
     ProtocolMessageWriter writer = ContextProvider.getProtocolWriter();
+    if( activation && usesEventStream() ) {
+      writer.appendSet( REMOTE_OBJECT_ID, PROP_TRANSPORT, TRANSPORT_EVENT_STREAM );
+    }
     writer.appendSet( REMOTE_OBJECT_ID, PROP_ACTIVE, activation );
   }
 
+  private static boolean usesEventStream() {
+    ServerPushTransport transport = ContextProvider.getApplicationContext().getServerPushTransport();
+    return transport == ServerPushTransport.EVENT_STREAM;
+  }
+
 }
@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -40,15 +41,19 @@ public final class ExpandBarLCA extends WidgetLCA<ExpandBar> {
   private static final String[] ALLOWED_STYLES = { "NO_RADIO_GROUP", "BORDER" };
 
   private static final String PROP_BOTTOM_SPACING_BOUNDS = "bottomSpacingBounds";
+  private static final int PROP_BOTTOM_SPACING_BOUNDS_ID
+    = getPropertyId( PROP_BOTTOM_SPACING_BOUNDS );
   private static final String PROP_VSCROLLBAR_MAX = "vScrollBarMax";
+  private static final int PROP_VSCROLLBAR_MAX_ID = getPropertyId( PROP_VSCROLLBAR_MAX );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
   private static final String PROP_EXPAND_LISTENER = "Expand";
   private static final String PROP_COLLAPSE_LISTENER = "Collapse";
 
   @Override
   public void preserveValues( ExpandBar expandBar ) {
-    preserveProperty( expandBar, PROP_BOTTOM_SPACING_BOUNDS, getBottomSpacingBounds( expandBar ) );
-    preserveProperty( expandBar, PROP_VSCROLLBAR_MAX, getVScrollBarMax( expandBar ) );
+    preserveProperty( expandBar, PROP_BOTTOM_SPACING_BOUNDS_ID,
+                      getBottomSpacingBounds( expandBar ) );
+    preserveProperty( expandBar, PROP_VSCROLLBAR_MAX_ID, getVScrollBarMax( expandBar ) );
   }
 
   @Override
@@ -69,10 +74,10 @@ public final class ExpandBarLCA extends WidgetLCA<ExpandBar> {
     ControlLCAUtil.renderChanges( expandBar );
     WidgetLCAUtil.renderCustomVariant( expandBar );
     renderProperty( expandBar,
-                    PROP_BOTTOM_SPACING_BOUNDS,
+                    PROP_BOTTOM_SPACING_BOUNDS_ID,
                     getBottomSpacingBounds( expandBar ),
                     null );
-    renderProperty( expandBar, PROP_VSCROLLBAR_MAX, getVScrollBarMax( expandBar ), 0 );
+    renderProperty( expandBar, PROP_VSCROLLBAR_MAX_ID, getVScrollBarMax( expandBar ), 0 );
   }
 
   private static Rectangle getBottomSpacingBounds( ExpandBar bar ) {
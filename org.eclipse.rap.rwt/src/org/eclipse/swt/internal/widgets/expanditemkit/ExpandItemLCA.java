@@ -11,10 +11,11 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.expanditemkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -33,15 +34,17 @@ public final class ExpandItemLCA extends WidgetLCA<ExpandItem> {
 
   private static final String TYPE = "rwt.widgets.ExpandItem";
   private static final String PROP_EXPANDED = "expanded";
+  private static final int PROP_EXPANDED_ID = getPropertyId( PROP_EXPANDED );
   private static final String PROP_HEADER_HEIGHT = "headerHeight";
+  private static final int PROP_HEADER_HEIGHT_ID = getPropertyId( PROP_HEADER_HEIGHT );
   private static final int DEFAULT_HEADER_HEIGHT = 24;
 
   @Override
   public void preserveValues( ExpandItem item ) {
     WidgetLCAUtil.preserveBounds( item, getBounds( item ) );
     ItemLCAUtil.preserve( item );
-    preserveProperty( item, PROP_EXPANDED, item.getExpanded() );
-    preserveProperty( item, PROP_HEADER_HEIGHT, item.getHeaderHeight() );
+    preserveProperty( item, PROP_EXPANDED_ID, item.getExpanded() );
+    preserveProperty( item, PROP_HEADER_HEIGHT_ID, item.getHeaderHeight() );
   }
 
   @Override
@@ -56,8 +59,8 @@ public final class ExpandItemLCA extends WidgetLCA<ExpandItem> {
     WidgetLCAUtil.renderCustomVariant( item );
     WidgetLCAUtil.renderBounds( item, getBounds( item ) );
     ItemLCAUtil.renderChanges( item );
-    renderProperty( item, PROP_EXPANDED, item.getExpanded(), false );
-    renderProperty( item, PROP_HEADER_HEIGHT, item.getHeaderHeight(), DEFAULT_HEADER_HEIGHT );
+    renderProperty( item, PROP_EXPANDED_ID, item.getExpanded(), false );
+    renderProperty( item, PROP_HEADER_HEIGHT_ID, item.getHeaderHeight(), DEFAULT_HEADER_HEIGHT );
   }
 
   private static Rectangle getBounds( ExpandItem item ) {
@@ -11,6 +11,7 @@
 package org.eclipse.swt.internal.widgets.expanditemkit;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -22,6 +23,7 @@ import org.eclipse.swt.widgets.ExpandItem;
 public class ExpandItemOperationHandler extends WidgetOperationHandler<ExpandItem> {
 
   private static final String PROP_EXPANDED = "expanded";
+  private static final int PROP_EXPANDED_ID = getPropertyId( PROP_EXPANDED );
 
   public ExpandItemOperationHandler( ExpandItem item ) {
     super( item );
@@ -44,7 +46,7 @@ public class ExpandItemOperationHandler extends WidgetOperationHandler<ExpandIte
         @Override
         public void run() {
           item.setExpanded( expanded.asBoolean() );
-          preserveProperty( item, PROP_EXPANDED, item.getExpanded() );
+          preserveProperty( item, PROP_EXPANDED_ID, item.getExpanded() );
         }
       } );
     }
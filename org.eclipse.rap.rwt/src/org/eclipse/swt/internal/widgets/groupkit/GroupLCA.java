@@ -18,6 +18,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -45,11 +46,12 @@ public class GroupLCA extends WidgetLCA<Group> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
 
   @Override
   public void preserveValues( Group group ) {
-    preserveProperty( group, PROP_TEXT, group.getText() );
+    preserveProperty( group, PROP_TEXT_ID, group.getText() );
   }
 
   @Override
@@ -70,7 +72,7 @@ public class GroupLCA extends WidgetLCA<Group> {
 
   private static void renderText( Group group ) {
     String newValue = group.getText();
-    if( hasChanged( group, PROP_TEXT, newValue, "" ) ) {
+    if( hasChanged( group, PROP_TEXT_ID, newValue, "" ) ) {
       String text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
       getRemoteObject( group ).set( PROP_TEXT, text );
     }
@@ -78,7 +80,7 @@ public class GroupLCA extends WidgetLCA<Group> {
 
   private static void renderMnemonicIndex( Group group ) {
     String text = group.getText();
-    if( hasChanged( group, PROP_TEXT, text, "" ) ) {
+    if( hasChanged( group, PROP_TEXT_ID, text, "" ) ) {
       int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
       if( mnemonicIndex != -1 ) {
         getRemoteObject( group ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -11,14 +11,15 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.labelkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderClientListeners;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -39,18 +40,22 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
   private static final String[] ALLOWED_STYLES = { "WRAP", "BORDER" };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_ALIGNMENT = "alignment";
+  private static final int PROP_ALIGNMENT_ID = getPropertyId( PROP_ALIGNMENT );
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
+  private static final int PROP_MARKUP_ENABLED_ID = getPropertyId( PROP_MARKUP_ENABLED );
 
   private static final String DEFAULT_ALIGNMENT = "left";
 
   @Override
   void preserveValues( Label label ) {
-    preserveProperty( label, PROP_TEXT, label.getText() );
-    preserveProperty( label, PROP_IMAGE, label.getImage() );
-    preserveProperty( label, PROP_ALIGNMENT, getAlignment( label ) );
+    preserveProperty( label, PROP_TEXT_ID, label.getText() );
+    preserveProperty( label, PROP_IMAGE_ID, label.getImage() );
+    preserveProperty( label, PROP_ALIGNMENT_ID, getAlignment( label ) );
   }
 
   @Override
@@ -59,7 +64,7 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
     remoteObject.setHandler( new LabelOperationHandler( label ) );
     remoteObject.set( "parent", getId( label.getParent() ) );
     remoteObject.set( "style", createJsonArray( getStyles( label, ALLOWED_STYLES ) ) );
-    renderProperty( label, PROP_MARKUP_ENABLED, isMarkupEnabledFor( label ), false );
+    renderProperty( label, PROP_MARKUP_ENABLED_ID, isMarkupEnabledFor( label ), false );
   }
 
   @Override
@@ -69,8 +74,8 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
     renderText( label );
     renderClientListeners( label );
     renderMnemonicIndex( label );
-    renderProperty( label, PROP_IMAGE, label.getImage(), null );
-    renderProperty( label, PROP_ALIGNMENT, getAlignment( label ), DEFAULT_ALIGNMENT );
+    renderProperty( label, PROP_IMAGE_ID, label.getImage(), null );
+    renderProperty( label, PROP_ALIGNMENT_ID, getAlignment( label ), DEFAULT_ALIGNMENT );
   }
 
   private static String getAlignment( Label label ) {
@@ -90,7 +95,7 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
 
   private static void renderText( Label label ) {
     String newValue = label.getText();
-    if( WidgetLCAUtil.hasChanged( label, PROP_TEXT, newValue, "" ) ) {
+    if( WidgetLCAUtil.hasChanged( label, PROP_TEXT_ID, newValue, "" ) ) {
       String text = newValue;
       if( !isMarkupEnabledFor( label ) ) {
         text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
@@ -102,7 +107,7 @@ final class StandardLabelLCA extends AbstractLabelLCADelegate {
   private static void renderMnemonicIndex( Label label ) {
     if( !isMarkupEnabledFor( label ) ) {
       String text = label.getText();
-      if( WidgetLCAUtil.hasChanged( label, PROP_TEXT, text, "" ) ) {
+      if( WidgetLCAUtil.hasChanged( label, PROP_TEXT_ID, text, "" ) ) {
         int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
         if( mnemonicIndex != -1 ) {
           getRemoteObject( label ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -11,14 +11,16 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.linkkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.hasChanged;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+
 import java.io.IOException;
 
 import org.eclipse.rap.json.JsonArray;
@@ -40,10 +42,11 @@ public class LinkLCA extends WidgetLCA<Link> {
   private static final String[] ALLOWED_STYLES = { "BORDER" };
 
   static final String PROP_TEXT = "text";
+  static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
 
   @Override
   public void preserveValues( Link link ) {
-    preserveProperty( link, PROP_TEXT, link.getText() );
+    preserveProperty( link, PROP_TEXT_ID, link.getText() );
   }
 
   @Override
@@ -64,7 +67,7 @@ public class LinkLCA extends WidgetLCA<Link> {
 
   private static void renderText( Link link ) {
     String newValue = link.getText();
-    if( hasChanged( link, PROP_TEXT, newValue, "" ) ) {
+    if( hasChanged( link, PROP_TEXT_ID, newValue, "" ) ) {
       getRemoteObject( link ).set( PROP_TEXT, getTextObject( link ) );
     }
   }
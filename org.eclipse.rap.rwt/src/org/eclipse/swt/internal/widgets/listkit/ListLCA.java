@@ -11,15 +11,16 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.listkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenDefaultSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -40,10 +41,15 @@ public class ListLCA extends WidgetLCA<List> {
   private static final String[] ALLOWED_STYLES = { "SINGLE", "MULTI", "BORDER" };
 
   private static final String PROP_ITEMS = "items";
+  private static final int PROP_ITEMS_ID = getPropertyId( PROP_ITEMS );
   private static final String PROP_SELECTION_INDICES = "selectionIndices";
+  private static final int PROP_SELECTION_INDICES_ID = getPropertyId( PROP_SELECTION_INDICES );
   private static final String PROP_TOP_INDEX = "topIndex";
+  private static final int PROP_TOP_INDEX_ID = getPropertyId( PROP_TOP_INDEX );
   private static final String PROP_FOCUS_INDEX = "focusIndex";
+  private static final int PROP_FOCUS_INDEX_ID = getPropertyId( PROP_FOCUS_INDEX );
   private static final String PROP_ITEM_DIMENSIONS = "itemDimensions";
+  private static final int PROP_ITEM_DIMENSIONS_ID = getPropertyId( PROP_ITEM_DIMENSIONS );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
 
   private static final String[] DEFAUT_ITEMS = new String[ 0 ];
@@ -54,11 +60,11 @@ public class ListLCA extends WidgetLCA<List> {
 
   @Override
   public void preserveValues( List list ) {
-    preserveProperty( list, PROP_ITEMS, list.getItems() );
-    preserveProperty( list, PROP_SELECTION_INDICES, list.getSelectionIndices() );
-    preserveProperty( list, PROP_TOP_INDEX, list.getTopIndex() );
-    preserveProperty( list, PROP_FOCUS_INDEX, list.getFocusIndex() );
-    preserveProperty( list, PROP_ITEM_DIMENSIONS, getItemDimensions( list ) );
+    preserveProperty( list, PROP_ITEMS_ID, list.getItems() );
+    preserveProperty( list, PROP_SELECTION_INDICES_ID, list.getSelectionIndices() );
+    preserveProperty( list, PROP_TOP_INDEX_ID, list.getTopIndex() );
+    preserveProperty( list, PROP_FOCUS_INDEX_ID, list.getFocusIndex() );
+    preserveProperty( list, PROP_ITEM_DIMENSIONS_ID, getItemDimensions( list ) );
   }
 
   @Override
@@ -74,17 +80,17 @@ public class ListLCA extends WidgetLCA<List> {
   public void renderChanges( List list ) throws IOException {
     ControlLCAUtil.renderChanges( list );
     WidgetLCAUtil.renderCustomVariant( list );
-    renderProperty( list, PROP_ITEMS, list.getItems(), DEFAUT_ITEMS );
+    renderProperty( list, PROP_ITEMS_ID, list.getItems(), DEFAUT_ITEMS );
     renderProperty( list,
-                    PROP_SELECTION_INDICES,
+                    PROP_SELECTION_INDICES_ID,
                     list.getSelectionIndices(),
                     DEFAUT_SELECTION_INDICES );
-    renderProperty( list, PROP_TOP_INDEX, list.getTopIndex(), DEFAULT_TOP_INDEX );
-    renderProperty( list, PROP_FOCUS_INDEX, list.getFocusIndex(), DEFAULT_FOCUS_INDEX );
+    renderProperty( list, PROP_TOP_INDEX_ID, list.getTopIndex(), DEFAULT_TOP_INDEX );
+    renderProperty( list, PROP_FOCUS_INDEX_ID, list.getFocusIndex(), DEFAULT_FOCUS_INDEX );
     renderListenSelection( list );
     renderListenDefaultSelection( list );
     renderProperty( list,
-                    PROP_ITEM_DIMENSIONS,
+                    PROP_ITEM_DIMENSIONS_ID,
                     getItemDimensions( list ),
                     DEFAULT_ITEM_DIMENSIONS );
   }
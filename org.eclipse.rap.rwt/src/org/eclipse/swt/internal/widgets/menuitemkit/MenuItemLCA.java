@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -42,19 +43,24 @@ public final class MenuItemLCA extends WidgetLCA<MenuItem> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_MENU = "menu";
+  private static final int PROP_MENU_ID = getPropertyId( PROP_MENU );
   private static final String PROP_ENABLED = "enabled";
+  private static final int PROP_ENABLED_ID = getPropertyId( PROP_ENABLED );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   @Override
   public void preserveValues( MenuItem item ) {
-    preserveProperty( item, PROP_TEXT, item.getText() );
-    preserveProperty( item, PROP_IMAGE, item.getImage() );
-    preserveProperty( item, PROP_MENU, item.getMenu() );
-    preserveProperty( item, PROP_ENABLED, item.getEnabled() );
-    preserveProperty( item, PROP_SELECTION, item.getSelection() );
+    preserveProperty( item, PROP_TEXT_ID, item.getText() );
+    preserveProperty( item, PROP_IMAGE_ID, item.getImage() );
+    preserveProperty( item, PROP_MENU_ID, item.getMenu() );
+    preserveProperty( item, PROP_ENABLED_ID, item.getEnabled() );
+    preserveProperty( item, PROP_SELECTION_ID, item.getSelection() );
   }
 
   @Override
@@ -73,17 +79,17 @@ public final class MenuItemLCA extends WidgetLCA<MenuItem> {
     WidgetLCAUtil.renderData( item );
     renderText( item );
     renderMnemonicIndex( item );
-    renderProperty( item, PROP_IMAGE, item.getImage(), null );
+    renderProperty( item, PROP_IMAGE_ID, item.getImage(), null );
     WidgetLCAUtil.renderMenu( item, item.getMenu() );
-    renderProperty( item, PROP_ENABLED, item.getEnabled(), true );
-    renderProperty( item, PROP_SELECTION, item.getSelection(), false );
+    renderProperty( item, PROP_ENABLED_ID, item.getEnabled(), true );
+    renderProperty( item, PROP_SELECTION_ID, item.getSelection(), false );
     renderListenSelection( item );
     renderListenHelp( item );
   }
 
   private static void renderText( MenuItem item ) {
     String newValue = item.getText();
-    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT, newValue, "" ) ) {
+    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT_ID, newValue, "" ) ) {
       String text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
       getRemoteObject( item ).set( PROP_TEXT, text );
     }
@@ -92,7 +98,7 @@ public final class MenuItemLCA extends WidgetLCA<MenuItem> {
   private static void renderMnemonicIndex( MenuItem item ) {
     if( ( item.getStyle() & SWT.SEPARATOR ) == 0 ) {
       String text = item.getText();
-      if( WidgetLCAUtil.hasChanged( item, PROP_TEXT, text, "" ) ) {
+      if( WidgetLCAUtil.hasChanged( item, PROP_TEXT_ID, text, "" ) ) {
         int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
         if( mnemonicIndex != -1 ) {
           getRemoteObject( item ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -23,6 +23,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SHO
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -50,7 +51,9 @@ public final class MenuLCA extends WidgetLCA<Menu> {
   };
 
   private static final String PROP_ENABLED = "enabled";
+  private static final int PROP_ENABLED_ID = getPropertyId( PROP_ENABLED );
   private static final String PROP_ORIENTATION = "direction";
+  private static final int PROP_ORIENTATION_ID = getPropertyId( PROP_ORIENTATION );
   private static final String PROP_SHOW_LISTENER = "Show";
   private static final String PROP_HIDE_LISTENER = "Hide";
   private static final String METHOD_UNHIDE_ITEMS = "unhideItems";
@@ -61,8 +64,8 @@ public final class MenuLCA extends WidgetLCA<Menu> {
 
   @Override
   public void preserveValues( Menu menu ) {
-    preserveProperty( menu, PROP_ENABLED, menu.getEnabled() );
-    preserveProperty( menu, PROP_ORIENTATION, menu.getOrientation() );
+    preserveProperty( menu, PROP_ENABLED_ID, menu.getEnabled() );
+    preserveProperty( menu, PROP_ORIENTATION_ID, menu.getOrientation() );
   }
 
   @Override
@@ -79,7 +82,7 @@ public final class MenuLCA extends WidgetLCA<Menu> {
 
   @Override
   public void renderChanges( Menu menu ) throws IOException {
-    renderProperty( menu, PROP_ENABLED, menu.getEnabled(), true );
+    renderProperty( menu, PROP_ENABLED_ID, menu.getEnabled(), true );
     renderOrientation( menu );
     if( !isMenuBar( menu ) ) {
       renderListener( menu, SWT.Hide, PROP_HIDE_LISTENER );
@@ -99,7 +102,8 @@ public final class MenuLCA extends WidgetLCA<Menu> {
 
   private static void renderOrientation( Menu menu ) {
     int orientation = menu.getOrientation();
-    if( hasChanged( menu, PROP_ORIENTATION, Integer.valueOf( orientation ), DEFAULT_DIRECTION ) ) {
+    Integer newValue = Integer.valueOf( orientation );
+    if( hasChanged( menu, PROP_ORIENTATION_ID, newValue, DEFAULT_DIRECTION ) ) {
       String value = orientation == SWT.LEFT_TO_RIGHT ?  "ltr" : "rtl";
       getRemoteObject( menu ).set( PROP_ORIENTATION, value );
     }
@@ -108,7 +112,7 @@ public final class MenuLCA extends WidgetLCA<Menu> {
   private static void renderBounds( Menu menu ) {
     if( isMenuBar( menu ) ) {
       // Bounds are preserved in ShellLCA#preserveMenuBounds
-      renderProperty( menu, Props.BOUNDS, getBounds( menu ), DEFAULT_BOUNDS );
+      renderProperty( menu, Props.BOUNDS_ID, getBounds( menu ), DEFAULT_BOUNDS );
     }
   }
 
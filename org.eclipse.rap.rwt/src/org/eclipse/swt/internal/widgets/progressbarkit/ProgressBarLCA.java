@@ -11,13 +11,14 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.progressbarkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderClientListeners;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -39,9 +40,13 @@ public class ProgressBarLCA extends WidgetLCA<ProgressBar> {
   };
 
   static final String PROP_MINIMUM = "minimum";
+  static final int PROP_MINIMUM_ID = getPropertyId( PROP_MINIMUM );
   static final String PROP_MAXIMUM = "maximum";
+  static final int PROP_MAXIMUM_ID = getPropertyId( PROP_MAXIMUM );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_STATE = "state";
+  static final int PROP_STATE_ID = getPropertyId( PROP_STATE );
 
   // Default values
   private static final int DEFAULT_MINIMUM = 0;
@@ -51,10 +56,11 @@ public class ProgressBarLCA extends WidgetLCA<ProgressBar> {
 
   @Override
   public void preserveValues( ProgressBar progressBar ) {
-    preserveProperty( progressBar, PROP_MINIMUM, Integer.valueOf( progressBar.getMinimum() ) );
-    preserveProperty( progressBar, PROP_MAXIMUM, Integer.valueOf( progressBar.getMaximum() ) );
-    preserveProperty( progressBar, PROP_SELECTION, Integer.valueOf( progressBar.getSelection() ) );
-    preserveProperty( progressBar, PROP_STATE, getState( progressBar ) );
+    preserveProperty( progressBar, PROP_MINIMUM_ID, Integer.valueOf( progressBar.getMinimum() ) );
+    preserveProperty( progressBar, PROP_MAXIMUM_ID, Integer.valueOf( progressBar.getMaximum() ) );
+    preserveProperty( progressBar, PROP_SELECTION_ID,
+                      Integer.valueOf( progressBar.getSelection() ) );
+    preserveProperty( progressBar, PROP_STATE_ID, getState( progressBar ) );
   }
 
   @Override
@@ -69,10 +75,10 @@ public class ProgressBarLCA extends WidgetLCA<ProgressBar> {
   public void renderChanges( ProgressBar progressBar ) throws IOException {
     ControlLCAUtil.renderChanges( progressBar );
     WidgetLCAUtil.renderCustomVariant( progressBar );
-    renderProperty( progressBar, PROP_MINIMUM, progressBar.getMinimum(), DEFAULT_MINIMUM );
-    renderProperty( progressBar, PROP_MAXIMUM, progressBar.getMaximum(), DEFAULT_MAXIMUM );
-    renderProperty( progressBar, PROP_SELECTION, progressBar.getSelection(), DEFAULT_SELECTION );
-    renderProperty( progressBar, PROP_STATE, getState( progressBar ), DEFAULT_STATE );
+    renderProperty( progressBar, PROP_MINIMUM_ID, progressBar.getMinimum(), DEFAULT_MINIMUM );
+    renderProperty( progressBar, PROP_MAXIMUM_ID, progressBar.getMaximum(), DEFAULT_MAXIMUM );
+    renderProperty( progressBar, PROP_SELECTION_ID, progressBar.getSelection(), DEFAULT_SELECTION );
+    renderProperty( progressBar, PROP_STATE_ID, getState( progressBar ), DEFAULT_STATE );
     renderClientListeners( progressBar );
   }
 
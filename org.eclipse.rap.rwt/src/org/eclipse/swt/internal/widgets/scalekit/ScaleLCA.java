@@ -11,14 +11,16 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.scalekit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderClientListeners;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+
 import java.io.IOException;
 
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -37,10 +39,15 @@ public final class ScaleLCA extends WidgetLCA<Scale> {
 
   // Property names for preserveValues
   static final String PROP_MINIMUM = "minimum";
+  static final int PROP_MINIMUM_ID = getPropertyId( PROP_MINIMUM );
   static final String PROP_MAXIMUM = "maximum";
+  static final int PROP_MAXIMUM_ID = getPropertyId( PROP_MAXIMUM );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_INCREMENT = "increment";
+  static final int PROP_INCREMENT_ID = getPropertyId( PROP_INCREMENT );
   static final String PROP_PAGE_INCREMENT = "pageIncrement";
+  static final int PROP_PAGE_INCREMENT_ID = getPropertyId( PROP_PAGE_INCREMENT );
 
   // Default values
   private  static final int DEFAULT_MINIMUM = 0;
@@ -51,11 +58,11 @@ public final class ScaleLCA extends WidgetLCA<Scale> {
 
   @Override
   public void preserveValues( Scale scale ) {
-    preserveProperty( scale, PROP_MINIMUM, scale.getMinimum() );
-    preserveProperty( scale, PROP_MAXIMUM, scale.getMaximum() );
-    preserveProperty( scale, PROP_SELECTION, scale.getSelection() );
-    preserveProperty( scale, PROP_INCREMENT, scale.getIncrement() );
-    preserveProperty( scale, PROP_PAGE_INCREMENT, scale.getPageIncrement() );
+    preserveProperty( scale, PROP_MINIMUM_ID, scale.getMinimum() );
+    preserveProperty( scale, PROP_MAXIMUM_ID, scale.getMaximum() );
+    preserveProperty( scale, PROP_SELECTION_ID, scale.getSelection() );
+    preserveProperty( scale, PROP_INCREMENT_ID, scale.getIncrement() );
+    preserveProperty( scale, PROP_PAGE_INCREMENT_ID, scale.getPageIncrement() );
   }
 
   @Override
@@ -70,11 +77,12 @@ public final class ScaleLCA extends WidgetLCA<Scale> {
   public void renderChanges( Scale scale ) throws IOException {
     ControlLCAUtil.renderChanges( scale );
     WidgetLCAUtil.renderCustomVariant( scale );
-    renderProperty( scale, PROP_MINIMUM, scale.getMinimum(), DEFAULT_MINIMUM );
-    renderProperty( scale, PROP_MAXIMUM, scale.getMaximum(), DEFAULT_MAXIMUM );
-    renderProperty( scale, PROP_SELECTION, scale.getSelection(), DEFAULT_SELECTION );
-    renderProperty( scale, PROP_INCREMENT, scale.getIncrement(), DEFAULT_INCREMENT );
-    renderProperty( scale, PROP_PAGE_INCREMENT, scale.getPageIncrement(), DEFAULT_PAGE_INCREMENT );
+    renderProperty( scale, PROP_MINIMUM_ID, scale.getMinimum(), DEFAULT_MINIMUM );
+    renderProperty( scale, PROP_MAXIMUM_ID, scale.getMaximum(), DEFAULT_MAXIMUM );
+    renderProperty( scale, PROP_SELECTION_ID, scale.getSelection(), DEFAULT_SELECTION );
+    renderProperty( scale, PROP_INCREMENT_ID, scale.getIncrement(), DEFAULT_INCREMENT );
+    renderProperty( scale, PROP_PAGE_INCREMENT_ID, scale.getPageIncrement(),
+                    DEFAULT_PAGE_INCREMENT );
     renderListenSelection( scale );
     renderClientListeners( scale );
   }
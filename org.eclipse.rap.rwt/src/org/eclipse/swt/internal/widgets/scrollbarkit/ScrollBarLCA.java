@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -35,10 +36,11 @@ public final class ScrollBarLCA extends WidgetLCA<ScrollBar> {
   private static final String TYPE = "rwt.widgets.ScrollBar";
   private static final String[] ALLOWED_STYLES = { "HORIZONTAL", "VERTICAL" };
   private static final String PROP_VISIBILITY = "visibility";
+  private static final int PROP_VISIBILITY_ID = getPropertyId( PROP_VISIBILITY );
 
   @Override
   public void preserveValues( ScrollBar scrollBar ) {
-    preserveProperty( scrollBar, PROP_VISIBILITY, scrollBar.getVisible() );
+    preserveProperty( scrollBar, PROP_VISIBILITY_ID, scrollBar.getVisible() );
   }
 
   @Override
@@ -51,7 +53,7 @@ public final class ScrollBarLCA extends WidgetLCA<ScrollBar> {
 
   @Override
   public void renderChanges( ScrollBar scrollBar ) throws IOException {
-    renderProperty( scrollBar, PROP_VISIBILITY, scrollBar.getVisible(), false );
+    renderProperty( scrollBar, PROP_VISIBILITY_ID, scrollBar.getVisible(), false );
     renderListenSelection( scrollBar );
   }
 
@@ -11,15 +11,16 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.shellkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.hasChanged;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -64,30 +65,39 @@ public final class ShellLCA extends WidgetLCA<Shell> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_ALPHA = "alpha";
+  private static final int PROP_ALPHA_ID = getPropertyId( PROP_ALPHA );
   static final String PROP_ACTIVE_CONTROL = "activeControl";
+  static final int PROP_ACTIVE_CONTROL_ID = getPropertyId( PROP_ACTIVE_CONTROL );
   static final String PROP_ACTIVE_SHELL = "activeShell";
+  static final int PROP_ACTIVE_SHELL_ID = getPropertyId( PROP_ACTIVE_SHELL );
   static final String PROP_MODE = "mode";
+  static final int PROP_MODE_ID = getPropertyId( PROP_MODE );
   static final String PROP_FULLSCREEN = "fullScreen";
+  static final int PROP_FULLSCREEN_ID = getPropertyId( PROP_FULLSCREEN );
   static final String PROP_MINIMUM_SIZE = "minimumSize";
+  static final int PROP_MINIMUM_SIZE_ID = getPropertyId( PROP_MINIMUM_SIZE );
   private static final String PROP_ACTIVATE_LISTENER = "Activate";
   private static final String PROP_CLOSE_LISTENER = "Close";
   private static final String PROP_RESIZE_LISTENER = "Resize";
   private static final String PROP_MOVE_LISTENER = "Move";
   private static final String PROP_DEFAULT_BUTTON = "defaultButton";
+  private static final int PROP_DEFAULT_BUTTON_ID = getPropertyId( PROP_DEFAULT_BUTTON );
 
   @Override
   public void preserveValues( Shell shell ) {
-    preserveProperty( shell, PROP_ACTIVE_CONTROL, getActiveControl( shell ) );
-    preserveProperty( shell, PROP_ACTIVE_SHELL, shell.getDisplay().getActiveShell() );
-    preserveProperty( shell, PROP_TEXT, shell.getText() );
-    preserveProperty( shell, PROP_IMAGE, shell.getImage() );
-    preserveProperty( shell, PROP_ALPHA, Integer.valueOf( shell.getAlpha() ) );
-    preserveProperty( shell, PROP_MODE, getMode( shell ) );
-    preserveProperty( shell, PROP_FULLSCREEN, Boolean.valueOf( shell.getFullScreen() ) );
-    preserveProperty( shell, PROP_MINIMUM_SIZE, shell.getMinimumSize() );
-    preserveProperty( shell, PROP_DEFAULT_BUTTON, shell.getDefaultButton() );
+    preserveProperty( shell, PROP_ACTIVE_CONTROL_ID, getActiveControl( shell ) );
+    preserveProperty( shell, PROP_ACTIVE_SHELL_ID, shell.getDisplay().getActiveShell() );
+    preserveProperty( shell, PROP_TEXT_ID, shell.getText() );
+    preserveProperty( shell, PROP_IMAGE_ID, shell.getImage() );
+    preserveProperty( shell, PROP_ALPHA_ID, Integer.valueOf( shell.getAlpha() ) );
+    preserveProperty( shell, PROP_MODE_ID, getMode( shell ) );
+    preserveProperty( shell, PROP_FULLSCREEN_ID, Boolean.valueOf( shell.getFullScreen() ) );
+    preserveProperty( shell, PROP_MINIMUM_SIZE_ID, shell.getMinimumSize() );
+    preserveProperty( shell, PROP_DEFAULT_BUTTON_ID, shell.getDefaultButton() );
   }
 
   @Override
@@ -138,16 +148,16 @@ public final class ShellLCA extends WidgetLCA<Shell> {
   // Helping methods
 
   private static void renderText( Shell shell ) {
-    renderProperty( shell, PROP_TEXT, shell.getText(), "" );
+    renderProperty( shell, PROP_TEXT_ID, shell.getText(), "" );
   }
 
   private static void renderAlpha( Shell shell ) {
-    renderProperty( shell, PROP_ALPHA, shell.getAlpha(), 0xFF );
+    renderProperty( shell, PROP_ALPHA_ID, shell.getAlpha(), 0xFF );
   }
 
   private static void renderMinimumSize( Shell shell ) {
     Point newValue = shell.getMinimumSize();
-    if( hasChanged( shell, PROP_MINIMUM_SIZE, newValue ) ) {
+    if( hasChanged( shell, PROP_MINIMUM_SIZE_ID, newValue ) ) {
       RemoteObject remoteObject = getRemoteObject( shell );
       remoteObject.set( "minimumSize", new JsonArray().add( newValue.x ).add( newValue.y ) );
     }
@@ -155,7 +165,7 @@ public final class ShellLCA extends WidgetLCA<Shell> {
 
   private static void renderDefaultButton( Shell shell ) {
     Button defaultButton = shell.getDefaultButton();
-    if( hasChanged( shell, PROP_DEFAULT_BUTTON, defaultButton, null ) ) {
+    if( hasChanged( shell, PROP_DEFAULT_BUTTON_ID, defaultButton, null ) ) {
       String defaultButtonId = null;
       if( defaultButton != null ) {
         defaultButtonId = WidgetUtil.getId( defaultButton );
@@ -169,7 +179,7 @@ public final class ShellLCA extends WidgetLCA<Shell> {
 
   private static void renderActiveShell( Shell shell ) {
     Shell activeShell = shell.getDisplay().getActiveShell();
-    boolean hasChanged = hasChanged( shell, PROP_ACTIVE_SHELL, activeShell, null );
+    boolean hasChanged = hasChanged( shell, PROP_ACTIVE_SHELL_ID, activeShell, null );
     if( shell == activeShell && hasChanged ) {
       getRemoteObject( shell ).set( "active", true );
     }
@@ -177,7 +187,7 @@ public final class ShellLCA extends WidgetLCA<Shell> {
 
   private static void renderActiveControl( Shell shell ) {
     final Control activeControl = getActiveControl( shell );
-    if( hasChanged( shell, PROP_ACTIVE_CONTROL, activeControl, null ) ) {
+    if( hasChanged( shell, PROP_ACTIVE_CONTROL_ID, activeControl, null ) ) {
       String activeControlId = null;
       if( activeControl != null ) {
         activeControlId = getId( activeControl );
@@ -195,12 +205,12 @@ public final class ShellLCA extends WidgetLCA<Shell> {
           image = defaultImages[0];
         }
       }
-      renderProperty( shell, PROP_IMAGE, image, null );
+      renderProperty( shell, PROP_IMAGE_ID, image, null );
     }
   }
 
   private static void renderMode( Shell shell ) {
-    renderProperty( shell, PROP_MODE, getMode( shell), null );
+    renderProperty( shell, PROP_MODE_ID, getMode( shell), null );
   }
 
   private static Control getActiveControl( Shell shell ) {
@@ -223,7 +233,7 @@ public final class ShellLCA extends WidgetLCA<Shell> {
     Menu menuBar = shell.getMenuBar();
     if( menuBar != null ) {
       IShellAdapter shellAdapter = shell.getAdapter( IShellAdapter.class );
-      getAdapter( menuBar ).preserve( Props.BOUNDS, shellAdapter.getMenuBounds() );
+      getAdapter( menuBar ).preserve( Props.BOUNDS_ID, shellAdapter.getMenuBounds() );
     }
   }
 
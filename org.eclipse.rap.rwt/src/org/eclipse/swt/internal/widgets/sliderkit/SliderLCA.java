@@ -19,6 +19,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -40,11 +41,17 @@ public class SliderLCA extends WidgetLCA<Slider> {
 
   // Property names for preserveValues
   static final String PROP_MINIMUM = "minimum";
+  static final int PROP_MINIMUM_ID = getPropertyId( PROP_MINIMUM );
   static final String PROP_MAXIMUM = "maximum";
+  static final int PROP_MAXIMUM_ID = getPropertyId( PROP_MAXIMUM );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_INCREMENT = "increment";
+  static final int PROP_INCREMENT_ID = getPropertyId( PROP_INCREMENT );
   static final String PROP_PAGE_INCREMENT = "pageIncrement";
+  static final int PROP_PAGE_INCREMENT_ID = getPropertyId( PROP_PAGE_INCREMENT );
   static final String PROP_THUMB = "thumb";
+  static final int PROP_THUMB_ID = getPropertyId( PROP_THUMB );
 
   // Default values
   private static final int DEFAULT_MINIMUM = 0;
@@ -56,12 +63,12 @@ public class SliderLCA extends WidgetLCA<Slider> {
 
   @Override
   public void preserveValues( Slider slider ) {
-    preserveProperty( slider, PROP_MINIMUM, slider.getMinimum() );
-    preserveProperty( slider, PROP_MAXIMUM, slider.getMaximum() );
-    preserveProperty( slider, PROP_SELECTION, slider.getSelection() );
-    preserveProperty( slider, PROP_INCREMENT, slider.getIncrement() );
-    preserveProperty( slider, PROP_PAGE_INCREMENT, slider.getPageIncrement() );
-    preserveProperty( slider, PROP_THUMB, slider.getThumb() );
+    preserveProperty( slider, PROP_MINIMUM_ID, slider.getMinimum() );
+    preserveProperty( slider, PROP_MAXIMUM_ID, slider.getMaximum() );
+    preserveProperty( slider, PROP_SELECTION_ID, slider.getSelection() );
+    preserveProperty( slider, PROP_INCREMENT_ID, slider.getIncrement() );
+    preserveProperty( slider, PROP_PAGE_INCREMENT_ID, slider.getPageIncrement() );
+    preserveProperty( slider, PROP_THUMB_ID, slider.getThumb() );
   }
 
   @Override
@@ -76,12 +83,12 @@ public class SliderLCA extends WidgetLCA<Slider> {
   public void renderChanges( Slider slider ) throws IOException {
     ControlLCAUtil.renderChanges( slider );
     WidgetLCAUtil.renderCustomVariant( slider );
-    renderProperty( slider, PROP_MINIMUM, slider.getMinimum(), DEFAULT_MINIMUM );
-    renderProperty( slider, PROP_MAXIMUM, slider.getMaximum(), DEFAULT_MAXIMUM );
-    renderProperty( slider, PROP_SELECTION, slider.getSelection(), DEFAULT_SELECTION );
-    renderProperty( slider, PROP_INCREMENT, slider.getIncrement(), DEFAULT_INCREMENT );
-    renderProperty( slider, PROP_PAGE_INCREMENT, slider.getPageIncrement(), DEFAULT_PINCREMENT );
-    renderProperty( slider, PROP_THUMB, slider.getThumb(), DEFAULT_THUMB );
+    renderProperty( slider, PROP_MINIMUM_ID, slider.getMinimum(), DEFAULT_MINIMUM );
+    renderProperty( slider, PROP_MAXIMUM_ID, slider.getMaximum(), DEFAULT_MAXIMUM );
+    renderProperty( slider, PROP_SELECTION_ID, slider.getSelection(), DEFAULT_SELECTION );
+    renderProperty( slider, PROP_INCREMENT_ID, slider.getIncrement(), DEFAULT_INCREMENT );
+    renderProperty( slider, PROP_PAGE_INCREMENT_ID, slider.getPageIncrement(), DEFAULT_PINCREMENT );
+    renderProperty( slider, PROP_THUMB_ID, slider.getThumb(), DEFAULT_THUMB );
     renderListenSelection( slider );
     renderClientListeners( slider );
   }
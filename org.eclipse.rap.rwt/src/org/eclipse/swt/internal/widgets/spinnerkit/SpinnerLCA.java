@@ -20,6 +20,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 import java.text.DecimalFormatSymbols;
@@ -42,13 +43,21 @@ public final class SpinnerLCA extends WidgetLCA<Spinner> {
 
   // Property names for preserveValues
   static final String PROP_MINIMUM = "minimum";
+  static final int PROP_MINIMUM_ID = getPropertyId( PROP_MINIMUM );
   static final String PROP_MAXIMUM = "maximum";
+  static final int PROP_MAXIMUM_ID = getPropertyId( PROP_MAXIMUM );
   static final String PROP_SELECTION = "selection";
+  static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   static final String PROP_DIGITS = "digits";
+  static final int PROP_DIGITS_ID = getPropertyId( PROP_DIGITS );
   static final String PROP_INCREMENT = "increment";
+  static final int PROP_INCREMENT_ID = getPropertyId( PROP_INCREMENT );
   static final String PROP_PAGE_INCREMENT = "pageIncrement";
+  static final int PROP_PAGE_INCREMENT_ID = getPropertyId( PROP_PAGE_INCREMENT );
   static final String PROP_TEXT_LIMIT = "textLimit";
+  static final int PROP_TEXT_LIMIT_ID = getPropertyId( PROP_TEXT_LIMIT );
   static final String PROP_DECIMAL_SEPARATOR = "decimalSeparator";
+  static final int PROP_DECIMAL_SEPARATOR_ID = getPropertyId( PROP_DECIMAL_SEPARATOR );
   static final String PROP_SELECTION_LISTENER = "Selection";
   static final String PROP_DEFAULT_SELECTION_LISTENER = "DefaultSelection";
 
@@ -63,14 +72,14 @@ public final class SpinnerLCA extends WidgetLCA<Spinner> {
 
   @Override
   public void preserveValues( Spinner spinner ) {
-    preserveProperty( spinner, PROP_MINIMUM, spinner.getMinimum() );
-    preserveProperty( spinner, PROP_MAXIMUM, spinner.getMaximum() );
-    preserveProperty( spinner, PROP_SELECTION, spinner.getSelection() );
-    preserveProperty( spinner, PROP_DIGITS, spinner.getDigits() );
-    preserveProperty( spinner, PROP_INCREMENT, spinner.getIncrement() );
-    preserveProperty( spinner, PROP_PAGE_INCREMENT, spinner.getPageIncrement() );
-    preserveProperty( spinner, PROP_TEXT_LIMIT, getTextLimit( spinner ) );
-    preserveProperty( spinner, PROP_DECIMAL_SEPARATOR, getDecimalSeparator() );
+    preserveProperty( spinner, PROP_MINIMUM_ID, spinner.getMinimum() );
+    preserveProperty( spinner, PROP_MAXIMUM_ID, spinner.getMaximum() );
+    preserveProperty( spinner, PROP_SELECTION_ID, spinner.getSelection() );
+    preserveProperty( spinner, PROP_DIGITS_ID, spinner.getDigits() );
+    preserveProperty( spinner, PROP_INCREMENT_ID, spinner.getIncrement() );
+    preserveProperty( spinner, PROP_PAGE_INCREMENT_ID, spinner.getPageIncrement() );
+    preserveProperty( spinner, PROP_TEXT_LIMIT_ID, getTextLimit( spinner ) );
+    preserveProperty( spinner, PROP_DECIMAL_SEPARATOR_ID, getDecimalSeparator() );
   }
 
   @Override
@@ -102,37 +111,37 @@ public final class SpinnerLCA extends WidgetLCA<Spinner> {
   // Helping methods to render the changed properties
 
   private static void renderMinimum( Spinner spinner ) {
-    renderProperty( spinner, PROP_MINIMUM, spinner.getMinimum(), DEFAULT_MINIMUM );
+    renderProperty( spinner, PROP_MINIMUM_ID, spinner.getMinimum(), DEFAULT_MINIMUM );
   }
 
   private static void renderMaximum( Spinner spinner ) {
-    renderProperty( spinner, PROP_MAXIMUM, spinner.getMaximum(), DEFAULT_MAXIMUM );
+    renderProperty( spinner, PROP_MAXIMUM_ID, spinner.getMaximum(), DEFAULT_MAXIMUM );
   }
 
   private static void renderSelection( Spinner spinner ) {
-    renderProperty( spinner, PROP_SELECTION, spinner.getSelection(), DEFAULT_SELECTION );
+    renderProperty( spinner, PROP_SELECTION_ID, spinner.getSelection(), DEFAULT_SELECTION );
   }
 
   private static void renderDigits( Spinner spinner ) {
-    renderProperty( spinner, PROP_DIGITS, spinner.getDigits(), DEFAULT_DIGITS );
+    renderProperty( spinner, PROP_DIGITS_ID, spinner.getDigits(), DEFAULT_DIGITS );
   }
 
   private static void renderIncrement( Spinner spinner ) {
-    renderProperty( spinner, PROP_INCREMENT, spinner.getIncrement(), DEFAULT_INCREMENT );
+    renderProperty( spinner, PROP_INCREMENT_ID, spinner.getIncrement(), DEFAULT_INCREMENT );
   }
 
   private static void renderPageIncrement( Spinner spinner ) {
     int defValue = DEFAULT_PAGE_INCREMENT;
-    renderProperty( spinner, PROP_PAGE_INCREMENT, spinner.getPageIncrement(), defValue );
+    renderProperty( spinner, PROP_PAGE_INCREMENT_ID, spinner.getPageIncrement(), defValue );
   }
 
   private static void renderTextLimit( Spinner spinner ) {
-    renderProperty( spinner, PROP_TEXT_LIMIT, getTextLimit( spinner ), null );
+    renderProperty( spinner, PROP_TEXT_LIMIT_ID, getTextLimit( spinner ), null );
   }
 
   private static void renderDecimalSeparator( Spinner spinner ) {
     String defValue = DEFAULT_DECIMAL_SEPARATOR;
-    renderProperty( spinner, PROP_DECIMAL_SEPARATOR, getDecimalSeparator(), defValue );
+    renderProperty( spinner, PROP_DECIMAL_SEPARATOR_ID, getDecimalSeparator(), defValue );
   }
 
   private static void renderListenSelection( Spinner spinner ) {
@@ -17,6 +17,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderPropert
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -35,11 +36,12 @@ public class TabFolderLCA extends WidgetLCA<TabFolder> {
   private static final String[] ALLOWED_STYLES = { "TOP", "BOTTOM", "NO_RADIO_GROUP", "BORDER" };
 
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_SELECTION_LISTENER = "Selection";
 
   @Override
   public void preserveValues( TabFolder folder ) {
-    preserveProperty( folder, PROP_SELECTION, getSelection( folder ) );
+    preserveProperty( folder, PROP_SELECTION_ID, getSelection( folder ) );
   }
 
   @Override
@@ -57,7 +59,7 @@ public class TabFolderLCA extends WidgetLCA<TabFolder> {
   public void renderChanges( TabFolder folder ) throws IOException {
     ControlLCAUtil.renderChanges( folder );
     WidgetLCAUtil.renderCustomVariant( folder );
-    renderProperty( folder, PROP_SELECTION, getSelection( folder ), null );
+    renderProperty( folder, PROP_SELECTION_ID, getSelection( folder ), null );
   }
 
   private static String getSelection( TabFolder folder ) {
@@ -10,11 +10,12 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.tabfolderkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_PARAM_ITEM;
-import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.find;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_PARAM_ITEM;
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -29,6 +30,7 @@ import org.eclipse.swt.widgets.TabItem;
 public class TabFolderOperationHandler extends ControlOperationHandler<TabFolder> {
 
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   public TabFolderOperationHandler( TabFolder folder ) {
     super( folder );
@@ -62,7 +64,7 @@ public class TabFolderOperationHandler extends ControlOperationHandler<TabFolder
         @Override
         public void run() {
           folder.setSelection( item );
-          preserveProperty( folder, PROP_SELECTION, getId( item ) );
+          preserveProperty( folder, PROP_SELECTION_ID, getId( item ) );
         }
       } );
     }
@@ -15,6 +15,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preservePrope
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -35,18 +36,22 @@ public class TabItemLCA extends WidgetLCA<TabItem> {
   private static final String TYPE = "rwt.widgets.TabItem";
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_CONTROL = "control";
+  private static final int PROP_CONTROL_ID = getPropertyId( PROP_CONTROL );
   private static final String PROP_BADGE = "badge";
+  private static final int PROP_BADGE_ID = getPropertyId( PROP_BADGE );
 
   @Override
   public void preserveValues( TabItem item ) {
     WidgetLCAUtil.preserveToolTipText( item, item.getToolTipText() );
-    preserveProperty( item, PROP_TEXT, item.getText() );
-    preserveProperty( item, PROP_IMAGE, item.getImage() );
-    preserveProperty( item, PROP_CONTROL, item.getControl() );
-    preserveProperty( item, PROP_BADGE, getBadge( item ) );
+    preserveProperty( item, PROP_TEXT_ID, item.getText() );
+    preserveProperty( item, PROP_IMAGE_ID, item.getImage() );
+    preserveProperty( item, PROP_CONTROL_ID, item.getControl() );
+    preserveProperty( item, PROP_BADGE_ID, getBadge( item ) );
   }
 
   @Override
@@ -70,14 +75,14 @@ public class TabItemLCA extends WidgetLCA<TabItem> {
     WidgetLCAUtil.renderToolTip( item, item.getToolTipText() );
     renderText( item );
     renderMnemonicIndex( item );
-    renderProperty( item, PROP_IMAGE, item.getImage(), null );
-    renderProperty( item, PROP_CONTROL, item.getControl(), null );
-    renderProperty( item, PROP_BADGE, getBadge( item ), null );
+    renderProperty( item, PROP_IMAGE_ID, item.getImage(), null );
+    renderProperty( item, PROP_CONTROL_ID, item.getControl(), null );
+    renderProperty( item, PROP_BADGE_ID, getBadge( item ), null );
   }
 
   private static void renderText( TabItem item ) {
     String newValue = item.getText();
-    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT, newValue, "" ) ) {
+    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT_ID, newValue, "" ) ) {
       String text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
       getRemoteObject( item ).set( PROP_TEXT, text );
     }
@@ -85,7 +90,7 @@ public class TabItemLCA extends WidgetLCA<TabItem> {
 
   private static void renderMnemonicIndex( TabItem item ) {
     String text = item.getText();
-    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT, text, "" ) ) {
+    if( WidgetLCAUtil.hasChanged( item, PROP_TEXT_ID, text, "" ) ) {
       int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
       if( mnemonicIndex != -1 ) {
         getRemoteObject( item ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -11,11 +11,13 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.tablecolumnkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+
 import java.io.IOException;
 
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetLCA;
@@ -37,12 +39,19 @@ public final class TableColumnLCA extends WidgetLCA<TableColumn> {
   private static final String TYPE = "rwt.widgets.GridColumn";
 
   static final String PROP_INDEX = "index";
+  static final int PROP_INDEX_ID = getPropertyId( PROP_INDEX );
   static final String PROP_LEFT = "left";
+  static final int PROP_LEFT_ID = getPropertyId( PROP_LEFT );
   static final String PROP_WIDTH = "width";
+  static final int PROP_WIDTH_ID = getPropertyId( PROP_WIDTH );
   static final String PROP_RESIZABLE = "resizable";
+  static final int PROP_RESIZABLE_ID = getPropertyId( PROP_RESIZABLE );
   static final String PROP_MOVEABLE = "moveable";
+  static final int PROP_MOVEABLE_ID = getPropertyId( PROP_MOVEABLE );
   static final String PROP_ALIGNMENT = "alignment";
+  static final int PROP_ALIGNMENT_ID = getPropertyId( PROP_ALIGNMENT );
   static final String PROP_FIXED = "fixed";
+  static final int PROP_FIXED_ID = getPropertyId( PROP_FIXED );
 
   private static final int ZERO = 0;
   private static final String DEFAULT_ALIGNMENT = "left";
@@ -52,13 +61,13 @@ public final class TableColumnLCA extends WidgetLCA<TableColumn> {
     WidgetLCAUtil.preserveToolTipText( column, column.getToolTipText() );
     WidgetLCAUtil.preserveFont( column, getFont( column ) );
     ItemLCAUtil.preserve( column );
-    preserveProperty( column, PROP_INDEX, getIndex( column ) );
-    preserveProperty( column, PROP_LEFT, getLeft( column ) );
-    preserveProperty( column, PROP_WIDTH, column.getWidth() );
-    preserveProperty( column, PROP_RESIZABLE, column.getResizable() );
-    preserveProperty( column, PROP_MOVEABLE, column.getMoveable() );
-    preserveProperty( column, PROP_ALIGNMENT, getAlignment( column ) );
-    preserveProperty( column, PROP_FIXED, isFixed( column ) );
+    preserveProperty( column, PROP_INDEX_ID, getIndex( column ) );
+    preserveProperty( column, PROP_LEFT_ID, getLeft( column ) );
+    preserveProperty( column, PROP_WIDTH_ID, column.getWidth() );
+    preserveProperty( column, PROP_RESIZABLE_ID, column.getResizable() );
+    preserveProperty( column, PROP_MOVEABLE_ID, column.getMoveable() );
+    preserveProperty( column, PROP_ALIGNMENT_ID, getAlignment( column ) );
+    preserveProperty( column, PROP_FIXED_ID, isFixed( column ) );
   }
 
   @Override
@@ -74,13 +83,13 @@ public final class TableColumnLCA extends WidgetLCA<TableColumn> {
     WidgetLCAUtil.renderCustomVariant( column );
     WidgetLCAUtil.renderFont( column, getFont( column ) );
     ItemLCAUtil.renderChanges( column );
-    renderProperty( column, PROP_INDEX, getIndex( column ), -1 );
-    renderProperty( column, PROP_LEFT, getLeft( column ), ZERO );
-    renderProperty( column, PROP_WIDTH, column.getWidth(), ZERO );
-    renderProperty( column, PROP_RESIZABLE, column.getResizable(), true );
-    renderProperty( column, PROP_MOVEABLE, column.getMoveable(), false );
-    renderProperty( column, PROP_ALIGNMENT, getAlignment( column ), DEFAULT_ALIGNMENT );
-    renderProperty( column, PROP_FIXED, isFixed( column ), false );
+    renderProperty( column, PROP_INDEX_ID, getIndex( column ), -1 );
+    renderProperty( column, PROP_LEFT_ID, getLeft( column ), ZERO );
+    renderProperty( column, PROP_WIDTH_ID, column.getWidth(), ZERO );
+    renderProperty( column, PROP_RESIZABLE_ID, column.getResizable(), true );
+    renderProperty( column, PROP_MOVEABLE_ID, column.getMoveable(), false );
+    renderProperty( column, PROP_ALIGNMENT_ID, getAlignment( column ), DEFAULT_ALIGNMENT );
+    renderProperty( column, PROP_FIXED_ID, isFixed( column ), false );
     renderListenSelection( column );
   }
 
@@ -10,9 +10,10 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.tablecolumnkit;
 
+import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_DEFAULT_SELECTION;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
-import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.util.Arrays;
 
@@ -31,6 +32,7 @@ public class TableColumnOperationHandler extends WidgetOperationHandler<TableCol
   private static final String METHOD_MOVE = "move";
   private static final String METHOD_RESIZE = "resize";
   private static final String PROP_LEFT = "left";
+  private static final int PROP_LEFT_ID = getPropertyId( PROP_LEFT );
   private static final String PROP_WIDTH = "width";
 
   public TableColumnOperationHandler( TableColumn column ) {
@@ -129,12 +131,12 @@ public class TableColumnOperationHandler extends WidgetOperationHandler<TableCol
       // TODO [rh] HACK mark left as changed
       TableColumn[] columns = table.getColumns();
       for( int i = 0; i < columns.length; i++ ) {
-        getAdapter( columns[ i ] ).preserve( PROP_LEFT, null );
+        getAdapter( columns[ i ] ).preserve( PROP_LEFT_ID, null );
       }
     } else {
       table.setColumnOrder( columnOrder );
       // [if] HACK mark left as changed - see bug 336340
-      getAdapter( column ).preserve( PROP_LEFT, null );
+      getAdapter( column ).preserve( PROP_LEFT_ID, null );
     }
   }
 
@@ -23,6 +23,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -64,27 +65,48 @@ public final class TableLCA extends WidgetLCA<Table> {
   };
 
   private static final String PROP_ITEM_COUNT = "itemCount";
+  private static final int PROP_ITEM_COUNT_ID = getPropertyId( PROP_ITEM_COUNT );
   private static final String PROP_ITEM_HEIGHT = "itemHeight";
+  private static final int PROP_ITEM_HEIGHT_ID = getPropertyId( PROP_ITEM_HEIGHT );
   private static final String PROP_ITEM_METRICS = "itemMetrics";
+  private static final int PROP_ITEM_METRICS_ID = getPropertyId( PROP_ITEM_METRICS );
   private static final String PROP_COLUMN_COUNT = "columnCount";
+  private static final int PROP_COLUMN_COUNT_ID = getPropertyId( PROP_COLUMN_COUNT );
   private static final String PROP_COLUMN_ORDER = "columnOrder";
+  private static final int PROP_COLUMN_ORDER_ID = getPropertyId( PROP_COLUMN_ORDER );
   private static final String PROP_TREE_COLUMN = "treeColumn";
   private static final String PROP_FIXED_COLUMNS = "fixedColumns";
+  private static final int PROP_FIXED_COLUMNS_ID = getPropertyId( PROP_FIXED_COLUMNS );
   private static final String PROP_HEADER_HEIGHT = "headerHeight";
+  private static final int PROP_HEADER_HEIGHT_ID = getPropertyId( PROP_HEADER_HEIGHT );
   private static final String PROP_HEADER_VISIBLE = "headerVisible";
+  private static final int PROP_HEADER_VISIBLE_ID = getPropertyId( PROP_HEADER_VISIBLE );
   private static final String PROP_HEADER_FOREGROUND = "headerForeground";
+  private static final int PROP_HEADER_FOREGROUND_ID = getPropertyId( PROP_HEADER_FOREGROUND );
   private static final String PROP_HEADER_BACKGROUND = "headerBackground";
+  private static final int PROP_HEADER_BACKGROUND_ID = getPropertyId( PROP_HEADER_BACKGROUND );
   private static final String PROP_LINES_VISIBLE = "linesVisible";
+  private static final int PROP_LINES_VISIBLE_ID = getPropertyId( PROP_LINES_VISIBLE );
   private static final String PROP_TOP_ITEM_INDEX = "topItemIndex";
+  private static final int PROP_TOP_ITEM_INDEX_ID = getPropertyId( PROP_TOP_ITEM_INDEX );
   private static final String PROP_FOCUS_ITEM = "focusItem";
+  private static final int PROP_FOCUS_ITEM_ID = getPropertyId( PROP_FOCUS_ITEM );
   private static final String PROP_SCROLL_LEFT = "scrollLeft";
+  private static final int PROP_SCROLL_LEFT_ID = getPropertyId( PROP_SCROLL_LEFT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_SORT_DIRECTION = "sortDirection";
+  private static final int PROP_SORT_DIRECTION_ID = getPropertyId( PROP_SORT_DIRECTION );
   private static final String PROP_SORT_COLUMN = "sortColumn";
+  private static final int PROP_SORT_COLUMN_ID = getPropertyId( PROP_SORT_COLUMN );
   private static final String PROP_SETDATA_LISTENER = "SetData";
   private static final String PROP_ALWAYS_HIDE_SELECTION = "alwaysHideSelection";
+  private static final int PROP_ALWAYS_HIDE_SELECTION_ID
+    = getPropertyId( PROP_ALWAYS_HIDE_SELECTION );
   private static final String PROP_ENABLE_CELL_TOOLTIP = "enableCellToolTip";
+  private static final int PROP_ENABLE_CELL_TOOLTIP_ID = getPropertyId( PROP_ENABLE_CELL_TOOLTIP );
   private static final String PROP_CELL_TOOLTIP_TEXT = "cellToolTipText";
+  private static final int PROP_CELL_TOOLTIP_TEXT_ID = getPropertyId( PROP_CELL_TOOLTIP_TEXT );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
 
   private static final int ZERO = 0 ;
@@ -94,26 +116,26 @@ public final class TableLCA extends WidgetLCA<Table> {
 
   @Override
   public void preserveValues( Table table ) {
-    preserveProperty( table, PROP_ITEM_COUNT, table.getItemCount() );
-    preserveProperty( table, PROP_ITEM_HEIGHT, table.getItemHeight() );
-    preserveProperty( table, PROP_ITEM_METRICS, getItemMetrics( table ) );
-    preserveProperty( table, PROP_COLUMN_COUNT, table.getColumnCount() );
-    preserveProperty( table, PROP_COLUMN_ORDER, getColumnOrder( table ) );
-    preserveProperty( table, PROP_FIXED_COLUMNS, getFixedColumns( table ) );
-    preserveProperty( table, PROP_HEADER_HEIGHT, table.getHeaderHeight() );
-    preserveProperty( table, PROP_HEADER_VISIBLE, table.getHeaderVisible() );
-    preserveProperty( table, PROP_HEADER_FOREGROUND, table.getHeaderForeground() );
-    preserveProperty( table, PROP_HEADER_BACKGROUND, table.getHeaderBackground() );
-    preserveProperty( table, PROP_LINES_VISIBLE, table.getLinesVisible() );
-    preserveProperty( table, PROP_TOP_ITEM_INDEX, table.getTopIndex() );
-    preserveProperty( table, PROP_FOCUS_ITEM, getFocusItem( table ) );
-    preserveProperty( table, PROP_SCROLL_LEFT, getScrollLeft( table ) );
-    preserveProperty( table, PROP_SELECTION, getSelection( table ) );
-    preserveProperty( table, PROP_SORT_DIRECTION, getSortDirection( table ) );
-    preserveProperty( table, PROP_SORT_COLUMN, table.getSortColumn() );
-    preserveProperty( table, PROP_ALWAYS_HIDE_SELECTION, hasAlwaysHideSelection( table ) );
-    preserveProperty( table, PROP_ENABLE_CELL_TOOLTIP, CellToolTipUtil.isEnabledFor( table ) );
-    preserveProperty( table, PROP_CELL_TOOLTIP_TEXT, null );
+    preserveProperty( table, PROP_ITEM_COUNT_ID, table.getItemCount() );
+    preserveProperty( table, PROP_ITEM_HEIGHT_ID, table.getItemHeight() );
+    preserveProperty( table, PROP_ITEM_METRICS_ID, getItemMetrics( table ) );
+    preserveProperty( table, PROP_COLUMN_COUNT_ID, table.getColumnCount() );
+    preserveProperty( table, PROP_COLUMN_ORDER_ID, getColumnOrder( table ) );
+    preserveProperty( table, PROP_FIXED_COLUMNS_ID, getFixedColumns( table ) );
+    preserveProperty( table, PROP_HEADER_HEIGHT_ID, table.getHeaderHeight() );
+    preserveProperty( table, PROP_HEADER_VISIBLE_ID, table.getHeaderVisible() );
+    preserveProperty( table, PROP_HEADER_FOREGROUND_ID, table.getHeaderForeground() );
+    preserveProperty( table, PROP_HEADER_BACKGROUND_ID, table.getHeaderBackground() );
+    preserveProperty( table, PROP_LINES_VISIBLE_ID, table.getLinesVisible() );
+    preserveProperty( table, PROP_TOP_ITEM_INDEX_ID, table.getTopIndex() );
+    preserveProperty( table, PROP_FOCUS_ITEM_ID, getFocusItem( table ) );
+    preserveProperty( table, PROP_SCROLL_LEFT_ID, getScrollLeft( table ) );
+    preserveProperty( table, PROP_SELECTION_ID, getSelection( table ) );
+    preserveProperty( table, PROP_SORT_DIRECTION_ID, getSortDirection( table ) );
+    preserveProperty( table, PROP_SORT_COLUMN_ID, table.getSortColumn() );
+    preserveProperty( table, PROP_ALWAYS_HIDE_SELECTION_ID, hasAlwaysHideSelection( table ) );
+    preserveProperty( table, PROP_ENABLE_CELL_TOOLTIP_ID, CellToolTipUtil.isEnabledFor( table ) );
+    preserveProperty( table, PROP_CELL_TOOLTIP_TEXT_ID, null );
   }
 
   @Override
@@ -144,33 +166,35 @@ public final class TableLCA extends WidgetLCA<Table> {
   public void renderChanges( final Table table ) throws IOException {
     ControlLCAUtil.renderChanges( table );
     WidgetLCAUtil.renderCustomVariant( table );
-    renderProperty( table, PROP_ITEM_COUNT, table.getItemCount(), ZERO );
-    renderProperty( table, PROP_ITEM_HEIGHT, table.getItemHeight(), ZERO );
+    renderProperty( table, PROP_ITEM_COUNT_ID, table.getItemCount(), ZERO );
+    renderProperty( table, PROP_ITEM_HEIGHT_ID, table.getItemHeight(), ZERO );
     renderItemMetrics( table );
-    renderProperty( table, PROP_COLUMN_COUNT, table.getColumnCount(), ZERO );
-    renderProperty( table, PROP_COLUMN_ORDER, getColumnOrder( table ), DEFAULT_COLUMN_ORDER );
-    renderProperty( table, PROP_FIXED_COLUMNS, getFixedColumns( table ), -1 );
-    renderProperty( table, PROP_HEADER_HEIGHT, table.getHeaderHeight(), ZERO );
-    renderProperty( table, PROP_HEADER_VISIBLE, table.getHeaderVisible(), false );
-    renderProperty( table, PROP_HEADER_FOREGROUND, table.getHeaderForeground(), null );
-    renderProperty( table, PROP_HEADER_BACKGROUND, table.getHeaderBackground(), null );
-    renderProperty( table, PROP_LINES_VISIBLE, table.getLinesVisible(), false );
-    renderProperty( table, PROP_SORT_DIRECTION, getSortDirection( table ), DEFAULT_SORT_DIRECTION );
+    renderProperty( table, PROP_COLUMN_COUNT_ID, table.getColumnCount(), ZERO );
+    renderProperty( table, PROP_COLUMN_ORDER_ID, getColumnOrder( table ), DEFAULT_COLUMN_ORDER );
+    renderProperty( table, PROP_FIXED_COLUMNS_ID, getFixedColumns( table ), -1 );
+    renderProperty( table, PROP_HEADER_HEIGHT_ID, table.getHeaderHeight(), ZERO );
+    renderProperty( table, PROP_HEADER_VISIBLE_ID, table.getHeaderVisible(), false );
+    renderProperty( table, PROP_HEADER_FOREGROUND_ID, table.getHeaderForeground(), null );
+    renderProperty( table, PROP_HEADER_BACKGROUND_ID, table.getHeaderBackground(), null );
+    renderProperty( table, PROP_LINES_VISIBLE_ID, table.getLinesVisible(), false );
+    renderProperty( table, PROP_SORT_DIRECTION_ID, getSortDirection( table ),
+                    DEFAULT_SORT_DIRECTION );
     renderAfterItems( table, new Runnable() {
       @Override
       public void run() {
-        renderProperty( table, PROP_TOP_ITEM_INDEX, table.getTopIndex(), ZERO );
-        renderProperty( table, PROP_SCROLL_LEFT, getScrollLeft( table ), ZERO );
-        renderProperty( table, PROP_FOCUS_ITEM, getFocusItem( table ), null );
-        renderProperty( table, PROP_SELECTION, getSelection( table ), DEFAULT_SELECTION );
-        renderProperty( table, PROP_SORT_COLUMN, table.getSortColumn(), null );
+        renderProperty( table, PROP_TOP_ITEM_INDEX_ID, table.getTopIndex(), ZERO );
+        renderProperty( table, PROP_SCROLL_LEFT_ID, getScrollLeft( table ), ZERO );
+        renderProperty( table, PROP_FOCUS_ITEM_ID, getFocusItem( table ), null );
+        renderProperty( table, PROP_SELECTION_ID, getSelection( table ), DEFAULT_SELECTION );
+        renderProperty( table, PROP_SORT_COLUMN_ID, table.getSortColumn(), null );
       }
     } );
     renderListenSelection( table );
     renderListenDefaultSelection( table );
-    renderProperty( table, PROP_ALWAYS_HIDE_SELECTION, hasAlwaysHideSelection( table ), false );
-    renderProperty( table, PROP_ENABLE_CELL_TOOLTIP, CellToolTipUtil.isEnabledFor( table ), false );
-    renderProperty( table, PROP_CELL_TOOLTIP_TEXT, getAndResetCellToolTipText( table ), null );
+    renderProperty( table, PROP_ALWAYS_HIDE_SELECTION_ID, hasAlwaysHideSelection( table ), false );
+    renderProperty( table, PROP_ENABLE_CELL_TOOLTIP_ID, CellToolTipUtil.isEnabledFor( table ),
+                    false );
+    renderProperty( table, PROP_CELL_TOOLTIP_TEXT_ID, getAndResetCellToolTipText( table ), null );
   }
 
   @Override
@@ -258,7 +282,7 @@ public final class TableLCA extends WidgetLCA<Table> {
 
   private static void renderItemMetrics( Table table ) {
     ItemMetrics[] itemMetrics = getItemMetrics( table );
-    if( hasChanged( table, PROP_ITEM_METRICS, itemMetrics ) ) {
+    if( hasChanged( table, PROP_ITEM_METRICS_ID, itemMetrics ) ) {
       JsonArray metrics = new JsonArray();
       for( int i = 0; i < itemMetrics.length; i++ ) {
         metrics.add( new JsonArray().add( i )
@@ -11,9 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.textkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.hasChanged;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
@@ -22,6 +19,11 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenD
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenModifyVerify;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
+
 import java.io.IOException;
 
 import org.eclipse.rap.json.JsonArray;
@@ -64,22 +66,28 @@ public final class TextLCA extends WidgetLCA<Text> {
   };
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_TEXT_LIMIT = "textLimit";
+  private static final int PROP_TEXT_LIMIT_ID = getPropertyId( PROP_TEXT_LIMIT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_EDITABLE = "editable";
+  private static final int PROP_EDITABLE_ID = getPropertyId( PROP_EDITABLE );
   private static final String PROP_ECHO_CHAR = "echoChar";
+  private static final int PROP_ECHO_CHAR_ID = getPropertyId( PROP_ECHO_CHAR );
   private static final String PROP_MESSAGE = "message";
+  private static final int PROP_MESSAGE_ID = getPropertyId( PROP_MESSAGE );
 
   private static final Point ZERO_SELECTION = new Point( 0, 0 );
 
   @Override
   public void preserveValues( Text text ) {
-    preserveProperty( text, PROP_TEXT, text.getText() );
-    preserveProperty( text, PROP_SELECTION, text.getSelection() );
-    preserveProperty( text, PROP_TEXT_LIMIT, getTextLimit( text ) );
-    preserveProperty( text, PROP_EDITABLE, text.getEditable() );
-    preserveProperty( text, PROP_ECHO_CHAR, getEchoChar( text ) );
-    preserveProperty( text, PROP_MESSAGE, text.getMessage() );
+    preserveProperty( text, PROP_TEXT_ID, text.getText() );
+    preserveProperty( text, PROP_SELECTION_ID, text.getSelection() );
+    preserveProperty( text, PROP_TEXT_LIMIT_ID, getTextLimit( text ) );
+    preserveProperty( text, PROP_EDITABLE_ID, text.getEditable() );
+    preserveProperty( text, PROP_ECHO_CHAR_ID, getEchoChar( text ) );
+    preserveProperty( text, PROP_MESSAGE_ID, text.getMessage() );
   }
 
   @Override
@@ -94,12 +102,12 @@ public final class TextLCA extends WidgetLCA<Text> {
   public void renderChanges( Text text ) throws IOException {
     ControlLCAUtil.renderChanges( text );
     WidgetLCAUtil.renderCustomVariant( text );
-    renderProperty( text, PROP_TEXT, text.getText(), "" );
-    renderProperty( text, PROP_EDITABLE, text.getEditable(), true );
+    renderProperty( text, PROP_TEXT_ID, text.getText(), "" );
+    renderProperty( text, PROP_EDITABLE_ID, text.getEditable(), true );
     renderSelection( text );
-    renderProperty( text, PROP_TEXT_LIMIT, getTextLimit( text ), null );
-    renderProperty( text, PROP_ECHO_CHAR, getEchoChar( text ), null );
-    renderProperty( text, PROP_MESSAGE, text.getMessage(), "" );
+    renderProperty( text, PROP_TEXT_LIMIT_ID, getTextLimit( text ), null );
+    renderProperty( text, PROP_ECHO_CHAR_ID, getEchoChar( text ), null );
+    renderProperty( text, PROP_MESSAGE_ID, text.getMessage(), "" );
     renderListenModifyVerify( text );
     renderListenDefaultSelection( text );
     renderClientListeners( text );
@@ -107,9 +115,10 @@ public final class TextLCA extends WidgetLCA<Text> {
 
   private static void renderSelection( Text text ) {
     Point newValue = text.getSelection();
-    boolean changed = hasChanged( text, PROP_SELECTION, newValue, ZERO_SELECTION );
+    boolean changed = hasChanged( text, PROP_SELECTION_ID, newValue, ZERO_SELECTION );
     if( !changed ) {
-      changed = hasChanged( text, PROP_TEXT, text.getText() ) && !newValue.equals( ZERO_SELECTION );
+      changed =    hasChanged( text, PROP_TEXT_ID, text.getText() )
+                && !newValue.equals( ZERO_SELECTION );
     }
     if( changed ) {
       RemoteObject remoteObject = getRemoteObject( text );
@@ -16,6 +16,7 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_MOD
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.EVENT_SELECTION;
 import static org.eclipse.rap.rwt.remote.JsonMapping.readPoint;
 import static org.eclipse.swt.internal.events.EventLCAUtil.isListening;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -31,7 +32,9 @@ import org.eclipse.swt.widgets.Text;
 public class TextOperationHandler extends ControlOperationHandler<Text> {
 
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
 
   public TextOperationHandler( Text text ) {
     super( text );
@@ -76,7 +79,7 @@ public class TextOperationHandler extends ControlOperationHandler<Text> {
             if( !text.isDisposed() ) {
               setText( text, stringValue );
               // since text is set in process action, preserved values have to be replaced
-              getAdapter( text ).preserve( PROP_TEXT, stringValue );
+              getAdapter( text ).preserve( PROP_TEXT_ID, stringValue );
             }
           }
         } );
@@ -103,7 +106,7 @@ public class TextOperationHandler extends ControlOperationHandler<Text> {
             if( !text.isDisposed() ) {
               text.setSelection( selection );
               // since selection is set in process action, preserved values have to be replaced
-              getAdapter( text ).preserve( PROP_SELECTION, text.getSelection() );
+              getAdapter( text ).preserve( PROP_SELECTION_ID, text.getSelection() );
             }
           }
         } );
@@ -20,6 +20,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -45,26 +46,33 @@ public final class ToolItemLCA extends WidgetLCA<ToolItem> {
   };
 
   private static final String PROP_VISIBLE = "visible";
+  private static final int PROP_VISIBLE_ID = getPropertyId( PROP_VISIBLE );
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MNEMONIC_INDEX = "mnemonicIndex";
   private static final String PROP_IMAGE = "image";
+  private static final int PROP_IMAGE_ID = getPropertyId( PROP_IMAGE );
   private static final String PROP_HOT_IMAGE = "hotImage";
+  private static final int PROP_HOT_IMAGE_ID = getPropertyId( PROP_HOT_IMAGE );
   private static final String PROP_CONTROL = "control";
+  private static final int PROP_CONTROL_ID = getPropertyId( PROP_CONTROL );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_BADGE = "badge";
+  private static final int PROP_BADGE_ID = getPropertyId( PROP_BADGE );
 
   @Override
   public void preserveValues( ToolItem item ) {
     WidgetLCAUtil.preserveBounds( item, item.getBounds() );
     WidgetLCAUtil.preserveEnabled( item, item.getEnabled() );
     WidgetLCAUtil.preserveToolTipText( item, item.getToolTipText() );
-    preserveProperty( item, PROP_VISIBLE, isVisible( item ) );
-    preserveProperty( item, PROP_TEXT, item.getText() );
-    preserveProperty( item, PROP_IMAGE, getImage( item ) );
-    preserveProperty( item, PROP_HOT_IMAGE, item.getHotImage() );
-    preserveProperty( item, PROP_CONTROL, item.getControl() );
-    preserveProperty( item, PROP_SELECTION, item.getSelection() );
-    preserveProperty( item, PROP_BADGE, getBadge( item ) );
+    preserveProperty( item, PROP_VISIBLE_ID, isVisible( item ) );
+    preserveProperty( item, PROP_TEXT_ID, item.getText() );
+    preserveProperty( item, PROP_IMAGE_ID, getImage( item ) );
+    preserveProperty( item, PROP_HOT_IMAGE_ID, item.getHotImage() );
+    preserveProperty( item, PROP_CONTROL_ID, item.getControl() );
+    preserveProperty( item, PROP_SELECTION_ID, item.getSelection() );
+    preserveProperty( item, PROP_BADGE_ID, getBadge( item ) );
   }
 
   @Override
@@ -92,12 +100,12 @@ public final class ToolItemLCA extends WidgetLCA<ToolItem> {
     WidgetLCAUtil.renderData( item );
     renderText( item );
     renderMnemonicIndex( item );
-    renderProperty( item, PROP_VISIBLE, isVisible( item ), true );
-    renderProperty( item, PROP_IMAGE, getImage( item ), null );
-    renderProperty( item, PROP_HOT_IMAGE, item.getHotImage(), null );
-    renderProperty( item, PROP_CONTROL, item.getControl(), null );
-    renderProperty( item, PROP_SELECTION, item.getSelection(), false );
-    renderProperty( item, PROP_BADGE, getBadge( item ), null );
+    renderProperty( item, PROP_VISIBLE_ID, isVisible( item ), true );
+    renderProperty( item, PROP_IMAGE_ID, getImage( item ), null );
+    renderProperty( item, PROP_HOT_IMAGE_ID, item.getHotImage(), null );
+    renderProperty( item, PROP_CONTROL_ID, item.getControl(), null );
+    renderProperty( item, PROP_SELECTION_ID, item.getSelection(), false );
+    renderProperty( item, PROP_BADGE_ID, getBadge( item ), null );
     if( !isSeparator( item ) ) {
       renderListenSelection( item );
     }
@@ -105,7 +113,7 @@ public final class ToolItemLCA extends WidgetLCA<ToolItem> {
 
   private static void renderText( ToolItem item ) {
     String newValue = item.getText();
-    if( hasChanged( item, PROP_TEXT, newValue, "" ) ) {
+    if( hasChanged( item, PROP_TEXT_ID, newValue, "" ) ) {
       String text = MnemonicUtil.removeAmpersandControlCharacters( newValue );
       getRemoteObject( item ).set( PROP_TEXT, text );
     }
@@ -113,7 +121,7 @@ public final class ToolItemLCA extends WidgetLCA<ToolItem> {
 
   private static void renderMnemonicIndex( ToolItem item ) {
     String text = item.getText();
-    if( hasChanged( item, PROP_TEXT, text, "" ) ) {
+    if( hasChanged( item, PROP_TEXT_ID, text, "" ) ) {
       int mnemonicIndex = MnemonicUtil.findMnemonicCharacterIndex( text );
       if( mnemonicIndex != -1 ) {
         getRemoteObject( item ).set( PROP_MNEMONIC_INDEX, mnemonicIndex );
@@ -11,14 +11,15 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets.tooltipkit;
 
-import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
-import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.getStyles;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderListenSelection;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
+import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -40,11 +41,17 @@ public final class ToolTipLCA extends WidgetLCA<ToolTip> {
   };
 
   private static final String PROP_AUTO_HIDE = "autoHide";
+  private static final int PROP_AUTO_HIDE_ID = getPropertyId( PROP_AUTO_HIDE );
   private static final String PROP_TEXT = "text";
+  private static final int PROP_TEXT_ID = getPropertyId( PROP_TEXT );
   private static final String PROP_MESSAGE = "message";
+  private static final int PROP_MESSAGE_ID = getPropertyId( PROP_MESSAGE );
   private static final String PROP_LOCATION = "location";
+  private static final int PROP_LOCATION_ID = getPropertyId( PROP_LOCATION );
   private static final String PROP_VISIBLE = "visible";
+  private static final int PROP_VISIBLE_ID = getPropertyId( PROP_VISIBLE );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
+  private static final int PROP_MARKUP_ENABLED_ID = getPropertyId( PROP_MARKUP_ENABLED );
 
   private static final Point DEFAULT_LOCATION = new Point( 0, 0 );
 
@@ -52,11 +59,11 @@ public final class ToolTipLCA extends WidgetLCA<ToolTip> {
   public void preserveValues( ToolTip toolTip ) {
     WidgetLCAUtil.preserveRoundedBorder( toolTip );
     WidgetLCAUtil.preserveBackgroundGradient( toolTip );
-    preserveProperty( toolTip, PROP_AUTO_HIDE, toolTip.getAutoHide() );
-    preserveProperty( toolTip, PROP_TEXT, toolTip.getText() );
-    preserveProperty( toolTip, PROP_MESSAGE, toolTip.getMessage() );
-    preserveProperty( toolTip, PROP_LOCATION, getLocation( toolTip ) );
-    preserveProperty( toolTip, PROP_VISIBLE, toolTip.isVisible() );
+    preserveProperty( toolTip, PROP_AUTO_HIDE_ID, toolTip.getAutoHide() );
+    preserveProperty( toolTip, PROP_TEXT_ID, toolTip.getText() );
+    preserveProperty( toolTip, PROP_MESSAGE_ID, toolTip.getMessage() );
+    preserveProperty( toolTip, PROP_LOCATION_ID, getLocation( toolTip ) );
+    preserveProperty( toolTip, PROP_VISIBLE_ID, toolTip.isVisible() );
   }
 
   @Override
@@ -65,7 +72,7 @@ public final class ToolTipLCA extends WidgetLCA<ToolTip> {
     remoteObject.setHandler( new ToolTipOperationHandler( toolTip ) );
     remoteObject.set( "parent", getId( toolTip.getParent() ) );
     remoteObject.set( "style", createJsonArray( getStyles( toolTip, ALLOWED_STYLES ) ) );
-    renderProperty( toolTip, PROP_MARKUP_ENABLED, isMarkupEnabledFor( toolTip ), false );
+    renderProperty( toolTip, PROP_MARKUP_ENABLED_ID, isMarkupEnabledFor( toolTip ), false );
   }
 
   @Override
@@ -73,11 +80,11 @@ public final class ToolTipLCA extends WidgetLCA<ToolTip> {
     WidgetLCAUtil.renderCustomVariant( toolTip );
     WidgetLCAUtil.renderRoundedBorder( toolTip );
     WidgetLCAUtil.renderBackgroundGradient( toolTip );
-    renderProperty( toolTip, PROP_AUTO_HIDE, toolTip.getAutoHide(), false );
-    renderProperty( toolTip, PROP_TEXT, toolTip.getText(), "" );
-    renderProperty( toolTip, PROP_MESSAGE, toolTip.getMessage(), "" );
-    renderProperty( toolTip, PROP_LOCATION, getLocation( toolTip ), DEFAULT_LOCATION );
-    renderProperty( toolTip, PROP_VISIBLE, toolTip.isVisible(), false );
+    renderProperty( toolTip, PROP_AUTO_HIDE_ID, toolTip.getAutoHide(), false );
+    renderProperty( toolTip, PROP_TEXT_ID, toolTip.getText(), "" );
+    renderProperty( toolTip, PROP_MESSAGE_ID, toolTip.getMessage(), "" );
+    renderProperty( toolTip, PROP_LOCATION_ID, getLocation( toolTip ), DEFAULT_LOCATION );
+    renderProperty( toolTip, PROP_VISIBLE_ID, toolTip.isVisible(), false );
     renderListenSelection( toolTip );
   }
 
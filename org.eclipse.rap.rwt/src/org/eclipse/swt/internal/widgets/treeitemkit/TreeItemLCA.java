@@ -15,6 +15,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preservePrope
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.renderProperty;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -43,36 +44,47 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   private static final String TYPE = "rwt.widgets.GridItem";
 
   static final String PROP_INDEX = "index";
+  static final int PROP_INDEX_ID = getPropertyId( PROP_INDEX );
   static final String PROP_ITEM_COUNT = "itemCount";
+  static final int PROP_ITEM_COUNT_ID = getPropertyId( PROP_ITEM_COUNT );
   static final String PROP_TEXTS = "texts";
+  static final int PROP_TEXTS_ID = getPropertyId( PROP_TEXTS );
   static final String PROP_IMAGES = "images";
+  static final int PROP_IMAGES_ID = getPropertyId( PROP_IMAGES );
   static final String PROP_CELL_BACKGROUNDS = "cellBackgrounds";
+  static final int PROP_CELL_BACKGROUNDS_ID = getPropertyId( PROP_CELL_BACKGROUNDS );
   static final String PROP_CELL_FOREGROUNDS = "cellForegrounds";
+  static final int PROP_CELL_FOREGROUNDS_ID = getPropertyId( PROP_CELL_FOREGROUNDS );
   static final String PROP_CELL_FONTS = "cellFonts";
+  static final int PROP_CELL_FONTS_ID = getPropertyId( PROP_CELL_FONTS );
   static final String PROP_EXPANDED = "expanded";
+  static final int PROP_EXPANDED_ID = getPropertyId( PROP_EXPANDED );
   static final String PROP_CHECKED = "checked";
+  static final int PROP_CHECKED_ID = getPropertyId( PROP_CHECKED );
   static final String PROP_GRAYED = "grayed";
+  static final int PROP_GRAYED_ID = getPropertyId( PROP_GRAYED );
   private static final String PROP_CACHED = "cached";
+  private static final int PROP_CACHED_ID = getPropertyId( PROP_CACHED );
 
   private static final int DEFAULT_ITEM_COUNT = 0;
 
   @Override
   public void preserveValues( TreeItem item ) {
-    preserveProperty( item, PROP_INDEX, getIndex( item ) );
-    preserveProperty( item, PROP_CACHED, isCached( item ) );
+    preserveProperty( item, PROP_INDEX_ID, getIndex( item ) );
+    preserveProperty( item, PROP_CACHED_ID, isCached( item ) );
     if( isCached( item ) ) {
-      preserveProperty( item, PROP_ITEM_COUNT, item.getItemCount() );
-      preserveProperty( item, PROP_TEXTS, getTexts( item ) );
-      preserveProperty( item, PROP_IMAGES, getImages( item ) );
+      preserveProperty( item, PROP_ITEM_COUNT_ID, item.getItemCount() );
+      preserveProperty( item, PROP_TEXTS_ID, getTexts( item ) );
+      preserveProperty( item, PROP_IMAGES_ID, getImages( item ) );
       WidgetLCAUtil.preserveBackground( item, getUserBackground( item ) );
       WidgetLCAUtil.preserveForeground( item, getUserForeground( item ) );
       WidgetLCAUtil.preserveFont( item, getUserFont( item ) );
-      preserveProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ) );
-      preserveProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ) );
-      preserveProperty( item, PROP_CELL_FONTS, getCellFonts( item ) );
-      preserveProperty( item, PROP_EXPANDED, item.getExpanded() );
-      preserveProperty( item, PROP_CHECKED, item.getChecked() );
-      preserveProperty( item, PROP_GRAYED, item.getGrayed() );
+      preserveProperty( item, PROP_CELL_BACKGROUNDS_ID, getCellBackgrounds( item ) );
+      preserveProperty( item, PROP_CELL_FOREGROUNDS_ID, getCellForegrounds( item ) );
+      preserveProperty( item, PROP_CELL_FONTS_ID, getCellFonts( item ) );
+      preserveProperty( item, PROP_EXPANDED_ID, item.getExpanded() );
+      preserveProperty( item, PROP_CHECKED_ID, item.getChecked() );
+      preserveProperty( item, PROP_GRAYED_ID, item.getGrayed() );
     }
   }
 
@@ -86,7 +98,7 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
 
   @Override
   public void renderChanges( final TreeItem item ) throws IOException {
-    renderProperty( item, PROP_INDEX, getIndex( item ), -1 );
+    renderProperty( item, PROP_INDEX_ID, getIndex( item ), -1 );
     if( wasCleared( item ) ) {
       renderClear( item );
     } else if( isCached( item ) ) {
@@ -109,20 +121,20 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   }
 
   private static void renderProperties( TreeItem item ) {
-    renderProperty( item, PROP_ITEM_COUNT, item.getItemCount(), DEFAULT_ITEM_COUNT );
-    renderProperty( item, PROP_TEXTS, getTexts( item ), null );
-    renderProperty( item, PROP_IMAGES, getImages( item ), null );
+    renderProperty( item, PROP_ITEM_COUNT_ID, item.getItemCount(), DEFAULT_ITEM_COUNT );
+    renderProperty( item, PROP_TEXTS_ID, getTexts( item ), null );
+    renderProperty( item, PROP_IMAGES_ID, getImages( item ), null );
     WidgetLCAUtil.renderBackground( item, getUserBackground( item ) );
     WidgetLCAUtil.renderForeground( item, getUserForeground( item ) );
     WidgetLCAUtil.renderFont( item, getUserFont( item ) );
     WidgetLCAUtil.renderCustomVariant( item );
     WidgetLCAUtil.renderData( item );
-    renderProperty( item, PROP_CELL_BACKGROUNDS, getCellBackgrounds( item ), null );
-    renderProperty( item, PROP_CELL_FOREGROUNDS, getCellForegrounds( item ), null );
-    renderProperty( item, PROP_CELL_FONTS, getCellFonts( item ), null );
-    renderProperty( item, PROP_EXPANDED, item.getExpanded(), false );
-    renderProperty( item, PROP_CHECKED, item.getChecked(), false );
-    renderProperty( item, PROP_GRAYED, item.getGrayed(), false );
+    renderProperty( item, PROP_CELL_BACKGROUNDS_ID, getCellBackgrounds( item ), null );
+    renderProperty( item, PROP_CELL_FOREGROUNDS_ID, getCellForegrounds( item ), null );
+    renderProperty( item, PROP_CELL_FONTS_ID, getCellFonts( item ), null );
+    renderProperty( item, PROP_EXPANDED_ID, item.getExpanded(), false );
+    renderProperty( item, PROP_CHECKED_ID, item.getChecked(), false );
+    renderProperty( item, PROP_GRAYED_ID, item.getGrayed(), false );
   }
 
   @Override
@@ -157,7 +169,7 @@ public final class TreeItemLCA extends WidgetLCA<TreeItem> {
   private static boolean wasCached( TreeItem item ) {
     RemoteAdapter adapter = WidgetUtil.getAdapter( item );
     if( adapter.isInitialized() ) {
-      return Boolean.TRUE.equals( adapter.getPreserved( PROP_CACHED ) );
+      return Boolean.TRUE.equals( adapter.getPreserved( PROP_CACHED_ID ) );
     }
     return false;
   }
@@ -11,6 +11,7 @@
 package org.eclipse.swt.internal.widgets.treeitemkit;
 
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetLCAUtil.preserveProperty;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -23,6 +24,7 @@ public class TreeItemOperationHandler extends WidgetOperationHandler<TreeItem> {
 
   private static final String PROP_CHECKED = "checked";
   private static final String PROP_EXPANDED = "expanded";
+  private static final int PROP_EXPANDED_ID = getPropertyId( PROP_EXPANDED );
 
   public TreeItemOperationHandler( TreeItem item ) {
     super( item );
@@ -58,7 +60,7 @@ public class TreeItemOperationHandler extends WidgetOperationHandler<TreeItem> {
         @Override
         public void run() {
           item.setExpanded( expanded.asBoolean() );
-          preserveProperty( item, PROP_EXPANDED, item.getExpanded() );
+          preserveProperty( item, PROP_EXPANDED_ID, item.getExpanded() );
         }
       } );
     }
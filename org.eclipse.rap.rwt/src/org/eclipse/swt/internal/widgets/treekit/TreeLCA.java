@@ -23,6 +23,7 @@ import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.createRemoteObject;
 import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.swt.internal.widgets.MarkupUtil.isMarkupEnabledFor;
+import static org.eclipse.swt.internal.widgets.PreservedValues.getPropertyId;
 
 import java.io.IOException;
 
@@ -62,28 +63,48 @@ public final class TreeLCA extends WidgetLCA<Tree> {
   };
 
   private static final String PROP_ITEM_COUNT = "itemCount";
+  private static final int PROP_ITEM_COUNT_ID = getPropertyId( PROP_ITEM_COUNT );
   private static final String PROP_ITEM_HEIGHT = "itemHeight";
+  private static final int PROP_ITEM_HEIGHT_ID = getPropertyId( PROP_ITEM_HEIGHT );
   private static final String PROP_ITEM_METRICS = "itemMetrics";
+  private static final int PROP_ITEM_METRICS_ID = getPropertyId( PROP_ITEM_METRICS );
   private static final String PROP_COLUMN_COUNT = "columnCount";
+  private static final int PROP_COLUMN_COUNT_ID = getPropertyId( PROP_COLUMN_COUNT );
   private static final String PROP_COLUMN_ORDER = "columnOrder";
+  private static final int PROP_COLUMN_ORDER_ID = getPropertyId( PROP_COLUMN_ORDER );
   private static final String PROP_FIXED_COLUMNS = "fixedColumns";
+  private static final int PROP_FIXED_COLUMNS_ID = getPropertyId( PROP_FIXED_COLUMNS );
   private static final String PROP_TREE_COLUMN = "treeColumn";
+  private static final int PROP_TREE_COLUMN_ID = getPropertyId( PROP_TREE_COLUMN );
   private static final String PROP_HEADER_HEIGHT = "headerHeight";
+  private static final int PROP_HEADER_HEIGHT_ID = getPropertyId( PROP_HEADER_HEIGHT );
   private static final String PROP_HEADER_VISIBLE = "headerVisible";
+  private static final int PROP_HEADER_VISIBLE_ID = getPropertyId( PROP_HEADER_VISIBLE );
   private static final String PROP_HEADER_FOREGROUND = "headerForeground";
+  private static final int PROP_HEADER_FOREGROUND_ID = getPropertyId( PROP_HEADER_FOREGROUND );
   private static final String PROP_HEADER_BACKGROUND = "headerBackground";
+  private static final int PROP_HEADER_BACKGROUND_ID = getPropertyId( PROP_HEADER_BACKGROUND );
   private static final String PROP_LINES_VISIBLE = "linesVisible";
+  private static final int PROP_LINES_VISIBLE_ID = getPropertyId( PROP_LINES_VISIBLE );
   private static final String PROP_TOP_ITEM_INDEX = "topItemIndex";
+  private static final int PROP_TOP_ITEM_INDEX_ID = getPropertyId( PROP_TOP_ITEM_INDEX );
   private static final String PROP_FOCUS_ITEM = "focusItem";
+  private static final int PROP_FOCUS_ITEM_ID = getPropertyId( PROP_FOCUS_ITEM );
   private static final String PROP_SCROLL_LEFT = "scrollLeft";
+  private static final int PROP_SCROLL_LEFT_ID = getPropertyId( PROP_SCROLL_LEFT );
   private static final String PROP_SELECTION = "selection";
+  private static final int PROP_SELECTION_ID = getPropertyId( PROP_SELECTION );
   private static final String PROP_SORT_DIRECTION = "sortDirection";
+  private static final int PROP_SORT_DIRECTION_ID = getPropertyId( PROP_SORT_DIRECTION );
   private static final String PROP_SORT_COLUMN = "sortColumn";
+  private static final int PROP_SORT_COLUMN_ID = getPropertyId( PROP_SORT_COLUMN );
   private static final String PROP_SETDATA_LISTENER = "SetData";
   private static final String PROP_EXPAND_LISTENER = "Expand";
   private static final String PROP_COLLAPSE_LISTENER = "Collapse";
   private static final String PROP_ENABLE_CELL_TOOLTIP = "enableCellToolTip";
+  private static final int PROP_ENABLE_CELL_TOOLTIP_ID = getPropertyId( PROP_ENABLE_CELL_TOOLTIP );
   private static final String PROP_CELL_TOOLTIP_TEXT = "cellToolTipText";
+  private static final int PROP_CELL_TOOLTIP_TEXT_ID = getPropertyId( PROP_CELL_TOOLTIP_TEXT );
   private static final String PROP_MARKUP_ENABLED = "markupEnabled";
 
   private static final int ZERO = 0 ;
@@ -93,26 +114,26 @@ public final class TreeLCA extends WidgetLCA<Tree> {
 
   @Override
   public void preserveValues( Tree tree ) {
-    preserveProperty( tree, PROP_ITEM_COUNT, tree.getItemCount() );
-    preserveProperty( tree, PROP_ITEM_HEIGHT, tree.getItemHeight() );
-    preserveProperty( tree, PROP_ITEM_METRICS, getItemMetrics( tree ) );
-    preserveProperty( tree, PROP_COLUMN_COUNT, tree.getColumnCount() );
-    preserveProperty( tree, PROP_COLUMN_ORDER, getColumnOrder( tree ) );
-    preserveProperty( tree, PROP_FIXED_COLUMNS, getFixedColumns( tree ) );
-    preserveProperty( tree, PROP_TREE_COLUMN, getTreeColumn( tree ) );
-    preserveProperty( tree, PROP_HEADER_HEIGHT, tree.getHeaderHeight() );
-    preserveProperty( tree, PROP_HEADER_VISIBLE, tree.getHeaderVisible() );
-    preserveProperty( tree, PROP_HEADER_FOREGROUND, tree.getHeaderForeground() );
-    preserveProperty( tree, PROP_HEADER_BACKGROUND, tree.getHeaderBackground() );
-    preserveProperty( tree, PROP_LINES_VISIBLE, tree.getLinesVisible() );
-    preserveProperty( tree, PROP_TOP_ITEM_INDEX, getTopItemIndex( tree ) );
-    preserveProperty( tree, PROP_FOCUS_ITEM, getFocusItem( tree ) );
-    preserveProperty( tree, PROP_SCROLL_LEFT, getScrollLeft( tree ) );
-    preserveProperty( tree, PROP_SELECTION, getSelection( tree ) );
-    preserveProperty( tree, PROP_SORT_DIRECTION, getSortDirection( tree ) );
-    preserveProperty( tree, PROP_SORT_COLUMN, tree.getSortColumn() );
-    preserveProperty( tree, PROP_ENABLE_CELL_TOOLTIP, CellToolTipUtil.isEnabledFor( tree ) );
-    preserveProperty( tree, PROP_CELL_TOOLTIP_TEXT, null );
+    preserveProperty( tree, PROP_ITEM_COUNT_ID, tree.getItemCount() );
+    preserveProperty( tree, PROP_ITEM_HEIGHT_ID, tree.getItemHeight() );
+    preserveProperty( tree, PROP_ITEM_METRICS_ID, getItemMetrics( tree ) );
+    preserveProperty( tree, PROP_COLUMN_COUNT_ID, tree.getColumnCount() );
+    preserveProperty( tree, PROP_COLUMN_ORDER_ID, getColumnOrder( tree ) );
+    preserveProperty( tree, PROP_FIXED_COLUMNS_ID, getFixedColumns( tree ) );
+    preserveProperty( tree, PROP_TREE_COLUMN_ID, getTreeColumn( tree ) );
+    preserveProperty( tree, PROP_HEADER_HEIGHT_ID, tree.getHeaderHeight() );
+    preserveProperty( tree, PROP_HEADER_VISIBLE_ID, tree.getHeaderVisible() );
+    preserveProperty( tree, PROP_HEADER_FOREGROUND_ID, tree.getHeaderForeground() );
+    preserveProperty( tree, PROP_HEADER_BACKGROUND_ID, tree.getHeaderBackground() );
+    preserveProperty( tree, PROP_LINES_VISIBLE_ID, tree.getLinesVisible() );
+    preserveProperty( tree, PROP_TOP_ITEM_INDEX_ID, getTopItemIndex( tree ) );
+    preserveProperty( tree, PROP_FOCUS_ITEM_ID, getFocusItem( tree ) );
+    preserveProperty( tree, PROP_SCROLL_LEFT_ID, getScrollLeft( tree ) );
+    preserveProperty( tree, PROP_SELECTION_ID, getSelection( tree ) );
+    preserveProperty( tree, PROP_SORT_DIRECTION_ID, getSortDirection( tree ) );
+    preserveProperty( tree, PROP_SORT_COLUMN_ID, tree.getSortColumn() );
+    preserveProperty( tree, PROP_ENABLE_CELL_TOOLTIP_ID, CellToolTipUtil.isEnabledFor( tree ) );
+    preserveProperty( tree, PROP_CELL_TOOLTIP_TEXT_ID, null );
   }
 
   @Override
@@ -153,35 +174,37 @@ public final class TreeLCA extends WidgetLCA<Tree> {
   public void renderChanges( final Tree tree ) throws IOException {
     ControlLCAUtil.renderChanges( tree );
     WidgetLCAUtil.renderCustomVariant( tree );
-    renderProperty( tree, PROP_ITEM_COUNT, tree.getItemCount(), ZERO );
-    renderProperty( tree, PROP_ITEM_HEIGHT, tree.getItemHeight(), ZERO );
+    renderProperty( tree, PROP_ITEM_COUNT_ID, tree.getItemCount(), ZERO );
+    renderProperty( tree, PROP_ITEM_HEIGHT_ID, tree.getItemHeight(), ZERO );
     renderItemMetrics( tree );
-    renderProperty( tree, PROP_COLUMN_COUNT, tree.getColumnCount(), ZERO );
-    renderProperty( tree, PROP_COLUMN_ORDER, getColumnOrder( tree ), DEFAULT_COLUMN_ORDER );
-    renderProperty( tree, PROP_FIXED_COLUMNS, getFixedColumns( tree ), -1 );
-    renderProperty( tree, PROP_TREE_COLUMN, getTreeColumn( tree ), ZERO );
-    renderProperty( tree, PROP_HEADER_HEIGHT, tree.getHeaderHeight(), ZERO );
-    renderProperty( tree, PROP_HEADER_VISIBLE, tree.getHeaderVisible(), false );
-    renderProperty( tree, PROP_HEADER_FOREGROUND, tree.getHeaderForeground(), null );
-    renderProperty( tree, PROP_HEADER_BACKGROUND, tree.getHeaderBackground(), null );
-    renderProperty( tree, PROP_LINES_VISIBLE, tree.getLinesVisible(), false );
-    renderProperty( tree, PROP_SORT_DIRECTION, getSortDirection( tree ), DEFAULT_SORT_DIRECTION );
+    renderProperty( tree, PROP_COLUMN_COUNT_ID, tree.getColumnCount(), ZERO );
+    renderProperty( tree, PROP_COLUMN_ORDER_ID, getColumnOrder( tree ), DEFAULT_COLUMN_ORDER );
+    renderProperty( tree, PROP_FIXED_COLUMNS_ID, getFixedColumns( tree ), -1 );
+    renderProperty( tree, PROP_TREE_COLUMN_ID, getTreeColumn( tree ), ZERO );
+    renderProperty( tree, PROP_HEADER_HEIGHT_ID, tree.getHeaderHeight(), ZERO );
+    renderProperty( tree, PROP_HEADER_VISIBLE_ID, tree.getHeaderVisible(), false );
+    renderProperty( tree, PROP_HEADER_FOREGROUND_ID, tree.getHeaderForeground(), null );
+    renderProperty( tree, PROP_HEADER_BACKGROUND_ID, tree.getHeaderBackground(), null );
+    renderProperty( tree, PROP_LINES_VISIBLE_ID, tree.getLinesVisible(), false );
+    renderProperty( tree, PROP_SORT_DIRECTION_ID, getSortDirection( tree ),
+                    DEFAULT_SORT_DIRECTION );
     renderAfterItems( tree, new Runnable() {
       @Override
       public void run() {
-        renderProperty( tree, PROP_TOP_ITEM_INDEX, getTopItemIndex( tree ), ZERO );
-        renderProperty( tree, PROP_SCROLL_LEFT, getScrollLeft( tree ), ZERO );
+        renderProperty( tree, PROP_TOP_ITEM_INDEX_ID, getTopItemIndex( tree ), ZERO );
+        renderProperty( tree, PROP_SCROLL_LEFT_ID, getScrollLeft( tree ), ZERO );
         if( tree.getSelectionCount() > 0 ) {
-          renderProperty( tree, PROP_FOCUS_ITEM, getFocusItem( tree ), null );
+          renderProperty( tree, PROP_FOCUS_ITEM_ID, getFocusItem( tree ), null );
         }
-        renderProperty( tree, PROP_SELECTION, getSelection( tree ), DEFAULT_SELECTION );
-        renderProperty( tree, PROP_SORT_COLUMN, tree.getSortColumn(), null );
+        renderProperty( tree, PROP_SELECTION_ID, getSelection( tree ), DEFAULT_SELECTION );
+        renderProperty( tree, PROP_SORT_COLUMN_ID, tree.getSortColumn(), null );
       }
     } );
     renderListenSelection( tree );
     renderListenDefaultSelection( tree );
-    renderProperty( tree, PROP_ENABLE_CELL_TOOLTIP, CellToolTipUtil.isEnabledFor( tree ), false );
-    renderProperty( tree, PROP_CELL_TOOLTIP_TEXT, getAndResetCellToolTipText( tree ), null );
+    renderProperty( tree, PROP_ENABLE_CELL_TOOLTIP_ID, CellToolTipUtil.isEnabledFor( tree ),
+                    false );
+    renderProperty( tree, PROP_CELL_TOOLTIP_TEXT_ID, getAndResetCellToolTipText( tree ), null );
   }
 
   @Override
@@ -272,7 +295,7 @@ public final class TreeLCA extends WidgetLCA<Tree> {
 
   private static void renderItemMetrics( Tree tree ) {
     ItemMetrics[] itemMetrics = getItemMetrics( tree );
-    if( hasChanged( tree, PROP_ITEM_METRICS, itemMetrics ) ) {
+    if( hasChanged( tree, PROP_ITEM_METRICS_ID, itemMetrics ) ) {
       JsonArray metrics = new JsonArray();
       for( int i = 0; i < itemMetrics.length; i++ ) {
         metrics.add( new JsonArray().add( i )
@@ -87,7 +87,7 @@ public abstract class Control extends Widget implements Drawable {
 
     @Override
     public void setTabIndex( int index ) {
-      if( takesFocus() ) {
+      if( takesFocus() && ( index != tabIndex || !getRemoteAdapter().isInitialized() ) ) {
         getRemoteAdapter().preserveTabIndex( tabIndex );
         tabIndex = index;
       }
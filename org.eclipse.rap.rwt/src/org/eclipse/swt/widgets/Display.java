@@ -241,6 +241,7 @@ public class Display extends Device implements Adaptable {
   private Widget[] skinList;
   private int skinCount;
   private boolean beep;
+  private boolean trackChanges;
 
   /* Display Data */
   private Object data;
@@ -807,7 +808,7 @@ public class Display extends Device implements Adaptable {
     return null;
   }
 
-  private ApplicationContextImpl getApplicationContext() {
+  ApplicationContextImpl getApplicationContext() {
     return ( ApplicationContextImpl )uiSession.getApplicationContext();
   }
 
@@ -2393,6 +2394,10 @@ public class Display extends Device implements Adaptable {
 
   }
 
+  boolean isTrackingChanges() {
+    return trackChanges;
+  }
+
   private final class DisplayAdapter implements IDisplayAdapter {
 
     @Override
@@ -2467,6 +2472,36 @@ public class Display extends Device implements Adaptable {
       beep = false;
     }
 
+    @Override
+    public void setChangeTracking( boolean enabled ) {
+      trackChanges = enabled;
+    }
+
+    @Override
+    public boolean isChangeTracking() {
+      return trackChanges;
+    }
+
+    @Override
+    public int getAsyncQueueDepth() {
+      return synchronizer.getMessageCount();
+    }
+
+    @Override
+    public long getAsyncExecCount() {
+      return synchronizer.getExecutedCount();
+    }
+
+    @Override
+    public long getAverageAsyncExecLatency() {
+      return synchronizer.getAverageLatency();
+    }
+
+    @Override
+    public long getMaxAsyncExecLatency() {
+      return synchronizer.getMaxLatency();
+    }
+
     @Override
     public void notifyListeners( int eventType, Event event ) {
       Display.this.notifyListeners( eventType, event );
@@ -24,6 +24,7 @@ class RunnableLock implements SerializableCompatibility {
 	
   Runnable runnable;
 	transient Thread thread;
+	transient long enqueueTime;
 	Throwable throwable;
 	
 RunnableLock (Runnable runnable) {
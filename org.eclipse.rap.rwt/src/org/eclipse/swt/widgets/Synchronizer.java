@@ -11,6 +11,9 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -44,14 +47,21 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
+// RAP lock-free queue, producers must not contend with the UI thread on every enqueue
+//  int messageCount;
+//  RunnableLock [] messages;
+  AtomicInteger messageCount = new AtomicInteger ();
+  ConcurrentLinkedQueue<RunnableLock> messages = new ConcurrentLinkedQueue<> ();
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
   Object messageLock = new SerializableLock();
   Thread syncThread;
-  static final int GROW_SIZE = 4;
   static final int MESSAGE_LIMIT = 64;
+// RAP statistics on the time between enqueueing and running a runnable
+  transient volatile long executedCount;
+  transient volatile long totalLatency;
+  transient volatile long maxLatency;
+// END RAP
 
   //TEMPORARY CODE
   static final boolean IS_CARBON = "carbon".equals (SWT.getPlatform ());
@@ -68,35 +78,35 @@ public Synchronizer (Display display) {
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  lock.enqueueTime = System.nanoTime ();
+  // the count is incremented before the lock is queued so that it never drops below zero
+  boolean wake = messageCount.getAndIncrement () == 0;
+  messages.offer (lock);
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
-    }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
+  if( wake ) {
+    updateHasRunnables();
   }
+  runnableAdded( lock.runnable );
+// END RAP
   if (wake) {
     display.wakeThread ();
   }
 }
 
+// RAP Transitions between an empty and a non-empty queue may be reported by different
+// threads in any order, the current state is therefore read under the lock.
+private void updateHasRunnables() {
+  RWT.getUISession( display ).exec( new Runnable() {
+    @Override
+    public void run() {
+      synchronized( messageLock ) {
+        ServerPushManager.getInstance().setHasRunnables( messageCount.get() > 0 );
+      }
+    }
+  } );
+}
+// END RAP
+
 @SuppressWarnings( "unused" )
 protected void runnableAdded( Runnable runnable ) {
 }
@@ -124,9 +134,20 @@ protected void asyncExec (Runnable runnable) {
 }
 
 int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
-  }
+  return messageCount.get ();
+}
+
+long getExecutedCount () {
+  return executedCount;
+}
+
+long getAverageLatency () {
+  long count = executedCount;
+  return count == 0 ? 0 : totalLatency / count;
+}
+
+long getMaxLatency () {
+  return maxLatency;
 }
 
 void releaseSynchronizer () {
@@ -143,36 +164,23 @@ void releaseSynchronizer () {
   }
   // END RAP
 //	display = null;
-  messages = null;
-  messageLock = null;
+// RAP keep the queue and its lock, a producer racing with dispose must not fail
+//  messages = null;
+//  messageLock = null;
   syncThread = null;
 }
 
 RunnableLock removeFirst () {
-  synchronized (messageLock) {
-    if (messageCount == 0) {
-      return null;
-    }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
-    }
+  RunnableLock lock = messages.poll ();
+  if (lock == null) {
+    return null;
+  }
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
-    }
-// END RAP
-    return lock;
+  if( messageCount.decrementAndGet() == 0 ) {
+    updateHasRunnables();
   }
+// END RAP
+  return lock;
 }
 
 boolean runAsyncMessages () {
@@ -181,12 +189,18 @@ boolean runAsyncMessages () {
 
 boolean runAsyncMessages (boolean all) {
   boolean run = false;
+// RAP Run the runnables that are already queued as one batch, bounded to MESSAGE_LIMIT so
+// that runnables added while the batch is running can not starve pending events
+  int batch = Math.min (Math.max (1, messageCount.get ()), MESSAGE_LIMIT);
   do {
     RunnableLock lock = removeFirst ();
     if (lock == null) {
       return run;
     }
     run = true;
+    batch--;
+    recordLatency (lock);
+// END RAP
     synchronized (lock) {
       syncThread = lock.thread;
       try {
@@ -203,10 +217,23 @@ boolean runAsyncMessages (boolean all) {
         lock.notifyAll ();
       }
     }
-  } while (all);
+  } while (all || batch > 0);
   return run;
 }
 
+private void recordLatency (RunnableLock lock) {
+  // the enqueue time is not meaningful for runnables that were queued before deserialization
+  if (lock.enqueueTime != 0) {
+    long latency = Math.max (0, System.nanoTime () - lock.enqueueTime);
+    // only the UI thread records statistics, concurrent readers need visibility only
+    totalLatency += latency;
+    executedCount++;
+    if (latency > maxLatency) {
+      maxLatency = latency;
+    }
+  }
+}
+
 /**
  * Causes the <code>run()</code> method of the runnable to
  * be invoked by the user-interface thread at the next
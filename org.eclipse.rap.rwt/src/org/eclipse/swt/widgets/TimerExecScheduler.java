@@ -15,12 +15,11 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
@@ -28,12 +27,15 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 
 
+/*
+ * Schedules the runnables of Display#timerExec() on the scheduler that is shared by all UI
+ * sessions of the application, instead of using a timer thread per display.
+ */
 class TimerExecScheduler implements SerializableCompatibility {
 
   final Display display;
   final ServerPushManager serverPushManager;
   private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
@@ -43,9 +45,8 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void schedule( int milliseconds, Runnable runnable ) {
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      task.schedule( getScheduler(), milliseconds );
     }
   }
 
@@ -58,21 +59,15 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
+      for( TimerExecTask task : new ArrayList<>( tasks ) ) {
+        task.cancel();
       }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
-    }
-  }
-
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  ApplicationScheduler getScheduler() {
+    return display.getApplicationContext().getScheduler();
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
@@ -104,7 +99,7 @@ class TimerExecScheduler implements SerializableCompatibility {
     return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
       tasks.remove( task );
     }
@@ -113,9 +108,9 @@ class TimerExecScheduler implements SerializableCompatibility {
   private void rescheduleTasks() {
     synchronized( display.getDeviceLock() ) {
       if( tasks.size() > 0 ) {
-        initializeTimer();
+        ApplicationScheduler scheduler = getScheduler();
         for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+          task.reschedule( scheduler );
         }
       }
     }
@@ -10,15 +10,20 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.rap.rwt.internal.application.ApplicationScheduler;
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long scheduledExecutionTime;
+  // incremented whenever the task is (re)scheduled, to ignore executions of a replaced schedule
+  private int generation;
+  private transient ScheduledFuture<?> future;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -26,25 +31,62 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.activateServerPushFor( this );
   }
 
-  @Override
-  public void run() {
+  void schedule( ApplicationScheduler applicationScheduler, long delay ) {
     synchronized( scheduler.display.getDeviceLock() ) {
-      scheduler.removeTask( this );
-      if( !scheduler.display.isDisposed() ) {
-        scheduler.display.asyncExec( runnable );
-      }
+      cancelFuture();
+      scheduledExecutionTime = System.currentTimeMillis() + delay;
+      final int scheduledGeneration = ++generation;
+      future = applicationScheduler.schedule( new Runnable() {
+        @Override
+        public void run() {
+          execute( scheduledGeneration );
+        }
+      }, delay );
     }
-    scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
-  public boolean cancel() {
+  void reschedule( ApplicationScheduler applicationScheduler ) {
+    long delay = Math.max( 0, scheduledExecutionTime - System.currentTimeMillis() );
+    schedule( applicationScheduler, delay );
+  }
+
+  boolean cancel() {
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    synchronized( scheduler.display.getDeviceLock() ) {
+      generation++;
+      return cancelFuture();
+    }
   }
 
   Runnable getRunnable() {
     return runnable;
   }
 
+  long scheduledExecutionTime() {
+    return scheduledExecutionTime;
+  }
+
+  private void execute( int scheduledGeneration ) {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      if( scheduledGeneration != generation ) {
+        return;
+      }
+      future = null;
+      scheduler.removeTask( this );
+      if( !scheduler.display.isDisposed() ) {
+        scheduler.display.asyncExec( runnable );
+      }
+    }
+    scheduler.serverPushManager.deactivateServerPushFor( this );
+  }
+
+  private boolean cancelFuture() {
+    boolean result = false;
+    if( future != null ) {
+      result = future.cancel( false );
+      future = null;
+    }
+    return result;
+  }
+
 }
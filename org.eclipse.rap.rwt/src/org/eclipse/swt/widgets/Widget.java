@@ -18,6 +18,7 @@ import org.eclipse.rap.rwt.Adaptable;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.CurrentPhase;
+import org.eclipse.rap.rwt.internal.lifecycle.DirtyWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetDataUtil;
@@ -158,6 +159,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     display = parent.display;
     reskinWidget();
     remoteAdapter = new ParentHolderRemoteAdapter( parent );
+    if( isTrackingChanges() ) {
+      markParentDirty( parent );
+    }
   }
 
   /**
@@ -845,6 +849,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
       }
       if( !hasState( RELEASED ) ) {
         addState( RELEASED );
+        if( isTrackingChanges() ) {
+          markParentDirty( getAdapter( RemoteAdapter.class ).getParent() );
+        }
         releaseParent();
         releaseWidget();
         getAdapter( RemoteAdapter.class ).markDisposed( this );
@@ -958,6 +965,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     if( hasState( DISPOSED ) ) {
       error( SWT.ERROR_WIDGET_DISPOSED );
     }
+    if( isTrackingChanges() ) {
+      markDirty();
+    }
   }
 
   /*
@@ -1037,6 +1047,39 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     }
   }
 
+  private boolean isTrackingChanges() {
+    return display != null && display.isTrackingChanges();
+  }
+
+  /*
+   * Preserves the values of this widget, its parent and its shell before they are changed for the
+   * first time in the current request. The parent and the shell are included as some of their
+   * rendered properties (e.g. item count, active control) depend on the state of their children.
+   */
+  private void markDirty() {
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )ensureRemoteAdapter();
+    if( !adapter.isDirty() || !adapter.hasPreservedValues() ) {
+      DirtyWidgets.markDirty( this );
+      Widget parent = adapter.getParent();
+      if( parent != null && !parent.isDisposed() ) {
+        DirtyWidgets.markDirty( parent );
+        while( parent != null && !( parent instanceof Shell ) ) {
+          parent = parent.getAdapter( RemoteAdapter.class ).getParent();
+        }
+        if( parent != null && !parent.isDisposed() ) {
+          DirtyWidgets.markDirty( parent );
+        }
+      }
+    }
+  }
+
+  private static void markParentDirty( Widget parent ) {
+    if( parent != null && !parent.isDisposed() ) {
+      DirtyWidgets.markDirty( parent );
+      ( ( WidgetRemoteAdapter )parent.getAdapter( RemoteAdapter.class ) ).markDirtyDescendants();
+    }
+  }
+
   private RemoteAdapter ensureRemoteAdapter() {
     if( remoteAdapter == null ) {
       remoteAdapter = createRemoteAdapter( null );
@@ -15,6 +15,8 @@ rwt.client.ServerPush = function() {
   this._retryCount = 0;
   this._active = false;
   this._running = false;
+  this._transport = "longpolling";
+  this._eventSource = null;
 };
 
 rwt.client.ServerPush.getInstance = function() {
@@ -25,12 +27,79 @@ rwt.client.ServerPush.prototype = {
 
   setActive : function( active ) {
     this._active = active;
+    if( !active ) {
+      this._closeEventSource();
+    }
+  },
+
+  setTransport : function( transport ) {
+    this._transport = transport;
   },
 
   sendServerPushRequest : function() {
     if( this._active && !this._running ) {
       this._running = true;
-      this._createRequest().send();
+      if( this._usesEventStream() ) {
+        this._openEventSource();
+      } else {
+        this._createRequest().send();
+      }
+    }
+  },
+
+  _usesEventStream : function() {
+    return this._transport === "eventstream" && !!window.EventSource;
+  },
+
+  _openEventSource : function() {
+    var connection = rwt.remote.Connection.getInstance();
+    var url = connection.getUrl();
+    url += url.indexOf( "?" ) === -1 ? "?" : "&";
+    url += "servicehandler=org.eclipse.rap.serverpush&transport=eventstream";
+    url += "&cid=" + connection.getConnectionId();
+    this._eventSource = new window.EventSource( url );
+    this._eventSource.onopen = rwt.util.Functions.bind( this._handleEventSourceOpen, this );
+    this._eventSource.onmessage = rwt.util.Functions.bind( this._handleEvent, this );
+    this._eventSource.onerror = rwt.util.Functions.bind( this._handleEventSourceError, this );
+    this._eventSource.addEventListener( "close",
+                                        rwt.util.Functions.bind( this._handleEventSourceClose, this ) );
+  },
+
+  _closeEventSource : function() {
+    if( this._eventSource ) {
+      this._eventSource.close();
+      this._eventSource = null;
+      this._running = false;
+    }
+  },
+
+  _handleEventSourceOpen : function() {
+    this._retryCount = 0;
+  },
+
+  _handleEvent : function() {
+    this._retryCount = 0;
+    this._sendUIRequest();
+  },
+
+  // The server sends a close event before it ends the stream on purpose, e.g. when server push
+  // is deactivated. A new stream is opened after the next response if server push is still active.
+  _handleEventSourceClose : function() {
+    this._retryCount = 0;
+    this._closeEventSource();
+  },
+
+  // Any other end of the stream is a failure, the browser would reconnect on its own. After
+  // repeated failures, long polling is used instead.
+  _handleEventSourceError : function() {
+    this._closeEventSource();
+    if( this._retryCount < 3 ) {
+      var delay = 1000 * this._retryCount++;
+      rwt.client.Timer.once( this.sendServerPushRequest, this, delay );
+    } else {
+      this._transport = "longpolling";
+      this._retryCount = 0;
+      this.sendServerPushRequest();
     }
   },
 
@@ -18,6 +18,7 @@ rwt.remote.HandlerRegistry.add( "rwt.client.ServerPush", {
   service : true,
 
   properties : [
+    "transport",
     "active"
   ]
 